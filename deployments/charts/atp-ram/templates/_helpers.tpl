@@ -147,6 +147,8 @@ LOCALE_RESOLVER: "{{ .Values.LOCALE_RESOLVER }}"
 LOG_LEVEL: "{{ .Values.LOG_LEVEL }}"
 LOG_RECORDS_CONTEXT_VARIABLES_DATE_EXPIRE_SECONDS: "{{ .Values.LOG_RECORDS_CONTEXT_VARIABLES_DATE_EXPIRE_SECONDS }}"
 LOG_RECORDS_DATE_EXPIRE_SECONDS: "{{ .Values.LOG_RECORDS_DATE_EXPIRE_SECONDS }}"
+LOG_RECORD_PARENTS_STATUSES_AGGREGATION_ENABLED: "{{ .Values.LOG_RECORD_PARENTS_STATUSES_AGGREGATION_ENABLED }}"
+LOG_RECORD_PARENTS_STATUSES_FLUSH_DELAY_MS: "{{ .Values.LOG_RECORD_PARENTS_STATUSES_FLUSH_DELAY_MS }}"
 MAIL_HOST: "{{ .Values.MAIL_HOST }}"
 MAIL_SENDER_URL: "{{ .Values.MAIL_SENDER_URL }}"
 MAIL_SSL: "{{ .Values.MAIL_SSL }}"
@@ -0,0 +1,44 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.model;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Counters of test runs of execution request needed to decide whether it is completed.
+ */
+@Data
+@NoArgsConstructor
+public class ExecutionRequestTestRunsSummary {
+
+    private UUID executionRequestId;
+    private long inProgressCount;
+    private long notStartedCount;
+    private Timestamp lastFinishDate;
+    /**
+     * Any test case id of test runs, null if test runs have no test cases.
+     */
+    private UUID testCaseId;
+
+    public boolean hasTestCases() {
+        return testCaseId != null;
+    }
+}
@@ -26,4 +26,9 @@ import lombok.Getter;
 public class ExtendedFileData {
     private FileData fileData;
     private UUID logRecordId;
+    private GridFsFileResource resource;
+
+    public ExtendedFileData(FileData fileData, UUID logRecordId) {
+        this(fileData, logRecordId, null);
+    }
 }
@@ -0,0 +1,86 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.model;
+
+import java.io.InputStream;
+
+import org.springframework.core.io.AbstractResource;
+
+import com.mongodb.client.gridfs.GridFSBucket;
+import com.mongodb.client.gridfs.model.GridFSFile;
+import lombok.Getter;
+
+/**
+ * File stored in GridFS as resource. Each {@link #getInputStream()} opens new download stream,
+ * so content is read chunk by chunk and byte ranges are served by skipping chunks
+ * instead of loading the whole file into memory.
+ */
+public class GridFsFileResource extends AbstractResource {
+
+    private final GridFSBucket gridFsBucket;
+    @Getter
+    private final GridFSFile gridFsFile;
+    @Getter
+    private final String contentType;
+    @Getter
+    private final String source;
+
+    /**
+     * Create resource of GridFS file.
+     *
+     * @param gridFsBucket bucket of the file
+     * @param gridFsFile   file descriptor
+     * @param contentType  content type from file metadata
+     * @param source       source name from file metadata
+     */
+    public GridFsFileResource(GridFSBucket gridFsBucket, GridFSFile gridFsFile, String contentType, String source) {
+        this.gridFsBucket = gridFsBucket;
+        this.gridFsFile = gridFsFile;
+        this.contentType = contentType;
+        this.source = source;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return gridFsBucket.openDownloadStream(gridFsFile.getObjectId());
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public long contentLength() {
+        return gridFsFile.getLength();
+    }
+
+    @Override
+    public long lastModified() {
+        return gridFsFile.getUploadDate().getTime();
+    }
+
+    @Override
+    public String getFilename() {
+        return source;
+    }
+
+    @Override
+    public String getDescription() {
+        return "GridFS file [" + gridFsFile.getObjectId() + "]";
+    }
+}
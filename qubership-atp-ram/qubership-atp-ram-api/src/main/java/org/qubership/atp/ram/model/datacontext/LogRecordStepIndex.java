@@ -0,0 +1,227 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.model.datacontext;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.springframework.util.CollectionUtils.isEmpty;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.qubership.atp.ram.enums.TestingStatuses;
+import org.qubership.atp.ram.models.LogRecord;
+import org.qubership.atp.ram.models.logrecords.parts.ValidationTable;
+import org.qubership.atp.ram.models.logrecords.parts.ValidationTableLine;
+
+/**
+ * Hierarchy of log records of test runs, built in one pass over a cursor.
+ * Log records are addressed by compact int positions in the order of the cursor:
+ * children of each log record and top level log records of each test run are kept as arrays of positions,
+ * log records with validation params and failed log records with meta info are marked in bit sets.
+ */
+public class LogRecordStepIndex {
+
+    private static final int[] NO_STEPS = new int[0];
+
+    private final List<LogRecord> steps = new ArrayList<>();
+    private final Map<UUID, Integer> positions = new HashMap<>();
+    private final BitSet validationSteps = new BitSet();
+    private final BitSet failedSteps = new BitSet();
+    private final Map<UUID, int[]> topLevelSteps = new HashMap<>();
+    private int[][] children;
+
+    private LogRecordStepIndex() {
+    }
+
+    /**
+     * Build index of log records, the stream is consumed and closed.
+     *
+     * @param logRecords log records ordered as their nodes should be ordered in tree
+     * @return index of log records
+     */
+    public static LogRecordStepIndex build(Stream<LogRecord> logRecords) {
+        LogRecordStepIndex index = new LogRecordStepIndex();
+        try (Stream<LogRecord> stream = logRecords) {
+            stream.forEach(index::add);
+        }
+        index.link();
+        return index;
+    }
+
+    /**
+     * Check log record has validation labels or validation table with labels.
+     *
+     * @param logRecord log record
+     * @return true if log record has validation params
+     */
+    public static boolean hasValidationParams(LogRecord logRecord) {
+        if (!isEmpty(logRecord.getValidationLabels())) {
+            return true;
+        }
+        final ValidationTable validationTable = logRecord.getValidationTable();
+        if (isNull(validationTable) || isEmpty(validationTable.getSteps())) {
+            return false;
+        }
+        for (ValidationTableLine step : validationTable.getSteps()) {
+            if (!isEmpty(step.getValidationLabels())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check log record is failed and has meta info.
+     *
+     * @param logRecord log record
+     * @return true if log record is failed with meta info
+     */
+    public static boolean isFailedWithMetaInfo(LogRecord logRecord) {
+        return nonNull(logRecord.getMetaInfo()) && TestingStatuses.FAILED.equals(logRecord.getTestingStatus());
+    }
+
+    private void add(LogRecord logRecord) {
+        int position = steps.size();
+        steps.add(logRecord);
+        positions.put(logRecord.getUuid(), position);
+        if (hasValidationParams(logRecord)) {
+            validationSteps.set(position);
+        }
+        if (isFailedWithMetaInfo(logRecord)) {
+            failedSteps.set(position);
+        }
+    }
+
+    /**
+     * Parents can follow their children in cursor, so links are resolved when all positions are known.
+     * Children of log records absent in index are not reachable and skipped.
+     */
+    private void link() {
+        final int size = steps.size();
+        final int[] parents = new int[size];
+        final int[] childrenCounts = new int[size];
+        final Map<UUID, Integer> topLevelCounts = new HashMap<>();
+        for (int position = 0; position < size; position++) {
+            LogRecord step = steps.get(position);
+            UUID parentId = step.getParentRecordId();
+            Integer parent = isNull(parentId) ? null : positions.get(parentId);
+            if (isNull(parentId)) {
+                parents[position] = -1;
+                topLevelCounts.merge(step.getTestRunId(), 1, Integer::sum);
+            } else if (isNull(parent)) {
+                parents[position] = -2;
+            } else {
+                parents[position] = parent;
+                childrenCounts[parent]++;
+            }
+        }
+        children = new int[size][];
+        for (int position = 0; position < size; position++) {
+            children[position] = childrenCounts[position] == 0 ? NO_STEPS : new int[childrenCounts[position]];
+            childrenCounts[position] = 0;
+        }
+        topLevelCounts.forEach((testRunId, count) -> topLevelSteps.put(testRunId, new int[count]));
+        topLevelCounts.replaceAll((testRunId, count) -> 0);
+        for (int position = 0; position < size; position++) {
+            int parent = parents[position];
+            if (parent >= 0) {
+                children[parent][childrenCounts[parent]++] = position;
+            } else if (parent == -1) {
+                UUID testRunId = steps.get(position).getTestRunId();
+                topLevelSteps.get(testRunId)[topLevelCounts.merge(testRunId, 1, Integer::sum) - 1] = position;
+            }
+        }
+    }
+
+    /**
+     * Get top level log records of test run.
+     *
+     * @param testRunId test run id
+     * @return top level log records
+     */
+    public List<LogRecord> getTopLevelSteps(UUID testRunId) {
+        return toSteps(topLevelSteps.getOrDefault(testRunId, NO_STEPS));
+    }
+
+    /**
+     * Get children of log record.
+     *
+     * @param logRecordId log record id
+     * @return children log records
+     */
+    public List<LogRecord> getChildren(UUID logRecordId) {
+        Integer position = positions.get(logRecordId);
+        return isNull(position) ? Collections.emptyList() : toSteps(children[position]);
+    }
+
+    /**
+     * Get count of children of log record.
+     *
+     * @param logRecordId log record id
+     * @return count of children
+     */
+    public int getChildrenCount(UUID logRecordId) {
+        Integer position = positions.get(logRecordId);
+        return isNull(position) ? 0 : children[position].length;
+    }
+
+    /**
+     * Get log records with validation params grouped by test runs.
+     *
+     * @return log records by test run ids
+     */
+    public Map<UUID, List<LogRecord>> getValidationStepsByTestRun() {
+        return groupByTestRun(validationSteps);
+    }
+
+    /**
+     * Get failed log records with meta info grouped by test runs.
+     *
+     * @return log records by test run ids
+     */
+    public Map<UUID, List<LogRecord>> getFailedStepsByTestRun() {
+        return groupByTestRun(failedSteps);
+    }
+
+    public int size() {
+        return steps.size();
+    }
+
+    private List<LogRecord> toSteps(int[] stepPositions) {
+        List<LogRecord> result = new ArrayList<>(stepPositions.length);
+        for (int position : stepPositions) {
+            result.add(steps.get(position));
+        }
+        return result;
+    }
+
+    private Map<UUID, List<LogRecord>> groupByTestRun(BitSet marks) {
+        Map<UUID, List<LogRecord>> result = new HashMap<>();
+        for (int position = marks.nextSetBit(0); position >= 0; position = marks.nextSetBit(position + 1)) {
+            LogRecord step = steps.get(position);
+            result.computeIfAbsent(step.getTestRunId(), testRunId -> new ArrayList<>()).add(step);
+        }
+        return result;
+    }
+}
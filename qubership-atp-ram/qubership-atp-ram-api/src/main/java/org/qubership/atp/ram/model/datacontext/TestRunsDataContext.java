@@ -37,4 +37,5 @@ public class TestRunsDataContext {
     private Map<UUID, TestCaseLabelResponse> testRunTestCasesMap;
     private Map<UUID, String> rootCausesMap;
     private Map<String, String> testRunDslNamesMap;
+    private LogRecordStepIndex logRecordStepIndex;
 }
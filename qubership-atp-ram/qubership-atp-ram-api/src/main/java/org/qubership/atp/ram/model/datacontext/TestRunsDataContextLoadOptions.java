@@ -26,6 +26,7 @@ public class TestRunsDataContextLoadOptions {
     private boolean includeRunTestCasesMap;
     private boolean includeRootCausesMap;
     private boolean includeTestRunDslNamesMap;
+    private boolean includeLogRecordStepIndex;
 
     public TestRunsDataContextLoadOptions includeTestRunMap() {
         this.includeRunMap = true;
@@ -61,4 +62,9 @@ public class TestRunsDataContextLoadOptions {
         this.includeTestRunDslNamesMap = true;
         return this;
     }
+
+    public TestRunsDataContextLoadOptions includeLogRecordStepIndex(boolean condition) {
+        this.includeLogRecordStepIndex = condition;
+        return this;
+    }
 }
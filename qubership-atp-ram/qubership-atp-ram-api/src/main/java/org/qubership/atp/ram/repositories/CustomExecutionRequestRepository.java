@@ -17,9 +17,11 @@
 package org.qubership.atp.ram.repositories;
 
 import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
+import org.qubership.atp.ram.enums.ExecutionStatuses;
 import org.qubership.atp.ram.models.ExecutionRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.core.query.CriteriaDefinition;
@@ -41,4 +43,6 @@ public interface CustomExecutionRequestRepository {
                                                                      Pageable page);
 
     void updateLogRecordsCount(UUID executionRequestId, int logRecordsCount);
+
+    void updateExecutionStatusByIds(Collection<UUID> executionRequestIds, ExecutionStatuses executionStatus);
 }
@@ -0,0 +1,61 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.repositories;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.qubership.atp.ram.models.ExecutionRequestStatistics;
+
+public interface CustomExecutionRequestStatisticsRepository {
+
+    /**
+     * Increment counters of execution request statistics in one update.
+     * Statistics created by this update are stale, because they contain only increments.
+     *
+     * @param executionRequestId execution request id
+     * @param increments         increments by paths of counters
+     */
+    void increment(UUID executionRequestId, Map<String, Integer> increments);
+
+    /**
+     * Mark statistics of execution requests to be recalculated from test runs.
+     * Version of statistics is increased, so that recalculation started before is not stored.
+     *
+     * @param executionRequestIds execution request ids
+     */
+    void markStale(Collection<UUID> executionRequestIds);
+
+    /**
+     * Replace statistics by recalculated ones if they were not changed since recalculation was started.
+     *
+     * @param statistics      recalculated statistics
+     * @param expectedVersion version of statistics before recalculation, negative if there were no statistics
+     * @return true if statistics were replaced
+     */
+    boolean replaceIfVersion(ExecutionRequestStatistics statistics, long expectedVersion);
+
+    /**
+     * Find ids of execution requests with stale statistics.
+     *
+     * @param limit max count of ids
+     * @return execution request ids
+     */
+    List<UUID> findStaleExecutionRequestIds(int limit);
+}
@@ -16,7 +16,9 @@
 
 package org.qubership.atp.ram.repositories;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import org.qubership.atp.ram.model.IssueDto;
@@ -31,4 +33,8 @@ public interface CustomIssueRepository {
     UUID getProjectIdByIssueId(UUID issueId);
 
     List<Issue> getCreatedIssuesByLogRecordsMessage(List<UUID> logRecords, UUID executionRequestId);
+
+    void upsertIssues(UUID executionRequestId, Collection<Issue> issues, int batchSize);
+
+    Set<UUID> findLinkedLogRecordIds(UUID executionRequestId, Collection<UUID> logRecordIds);
 }
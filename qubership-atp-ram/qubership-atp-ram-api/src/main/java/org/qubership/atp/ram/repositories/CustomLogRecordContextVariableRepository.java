@@ -0,0 +1,106 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.repositories;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+import org.qubership.atp.ram.dto.response.ContextVariablesResponse;
+import org.qubership.atp.ram.models.LogRecordContextVariableObject;
+
+/**
+ * Partial reads of context variables stored split into not modified and modified groups
+ * and access to chains of context variables stored as deltas between steps.
+ */
+public interface CustomLogRecordContextVariableRepository {
+
+    /**
+     * Find counts of not modified and modified context variables without variables themselves.
+     *
+     * @param id   log record id
+     * @param type context variables document type
+     * @return document with counts only, document without groups if context variables are not split,
+     *         null if document is absent
+     */
+    <T extends LogRecordContextVariableObject> T findCountsById(UUID id, Class<T> type);
+
+    /**
+     * Find slices of not modified and modified context variables by positions in groups.
+     * Group is not loaded if its limit is not positive.
+     *
+     * @param id               log record id
+     * @param type             context variables document type
+     * @param notModifiedSkip  number of not modified variables to skip
+     * @param notModifiedLimit number of not modified variables to return
+     * @param modifiedSkip     number of modified variables to skip
+     * @param modifiedLimit    number of modified variables to return
+     * @return document with sliced groups
+     */
+    <T extends LogRecordContextVariableObject> T findSliceById(UUID id, Class<T> type,
+                                                               int notModifiedSkip, int notModifiedLimit,
+                                                               int modifiedSkip, int modifiedLimit);
+
+    /**
+     * Filter not modified and modified context variables on database side,
+     * variables are matched by "contains ignore case" strategy.
+     *
+     * @param id          log record id
+     * @param type        context variables document type
+     * @param parameters  names of context variables, any of them should match
+     * @param beforeValue before value
+     * @param afterValue  after value
+     * @return filtered groups or null if document is absent
+     */
+    ContextVariablesResponse findFilteredById(UUID id, Class<? extends LogRecordContextVariableObject> type,
+                                              List<String> parameters, String beforeValue, String afterValue);
+
+    /**
+     * Find the latest document of test run written before specified step date.
+     *
+     * @param testRunId test run id
+     * @param stepDate  step date of current document
+     * @param type      context variables document type
+     * @return document of previous step or null
+     */
+    <T extends LogRecordContextVariableObject> T findPreviousInTestRun(UUID testRunId, Timestamp stepDate,
+                                                                       Class<T> type);
+
+    /**
+     * Find documents of delta chain started from keyframe, including keyframe itself.
+     *
+     * @param keyframeId    keyframe document id
+     * @param maxDeltaDepth max depth of delta in chain
+     * @param type          context variables document type
+     * @return documents of chain
+     */
+    <T extends LogRecordContextVariableObject> List<T> findAllByKeyframeId(UUID keyframeId, int maxDeltaDepth,
+                                                                           Class<T> type);
+
+    /**
+     * Find deltas based on specified document.
+     *
+     * @param baseId base document id
+     * @param type   context variables document type
+     * @return delta documents
+     */
+    <T extends LogRecordContextVariableObject> List<T> findAllByBaseId(UUID baseId, Class<T> type);
+
+    <T extends LogRecordContextVariableObject> T findById(UUID id, Class<T> type);
+
+    void save(LogRecordContextVariableObject document);
+}
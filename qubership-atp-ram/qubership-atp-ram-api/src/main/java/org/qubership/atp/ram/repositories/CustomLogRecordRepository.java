@@ -18,6 +18,7 @@ package org.qubership.atp.ram.repositories;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.qubership.atp.ram.enums.ExecutionStatuses;
@@ -52,4 +53,23 @@ public interface CustomLogRecordRepository {
     LogRecord findLastOrcLogRecordByTestRunAndExecutionStatus(UUID testRunId, ExecutionStatuses status);
 
     UUID getProjectIdByLogRecordId(UUID logRecordId);
+
+    /**
+     * Insert log records with a single unordered bulk write.
+     * Log records which already exist (duplicate id) are skipped.
+     *
+     * @param logRecords log records to insert
+     * @return count of inserted log records
+     */
+    int insertAllUnordered(Collection<LogRecord> logRecords);
+
+    /**
+     * Raise testing status of log records in one unordered bulk write.
+     * Status of log record is changed only if it has lower priority than the new one,
+     * see {@link TestingStatuses#compareAndGetPriority}.
+     * Last updated date of changed log records is moved as well, so they are returned by polling queries.
+     *
+     * @param logRecordStatuses new testing statuses by log record ids
+     */
+    void updateTestingStatusesByPriority(Map<UUID, TestingStatuses> logRecordStatuses);
 }
@@ -0,0 +1,50 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.repositories;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+
+public interface CustomTestPlanDailyStatisticsRepository {
+
+    /**
+     * Add test runs of execution request to daily statistics of test plan in one upsert.
+     * Execution request already counted in statistics of the day is skipped.
+     *
+     * @param projectId          project id
+     * @param testPlanId         test plan id
+     * @param day                start of UTC day
+     * @param executionRequestId execution request id
+     * @param increments         increments by paths of counters
+     * @return true if execution request was added, false if it was already counted
+     */
+    boolean addExecutionRequest(UUID projectId, UUID testPlanId, Date day, UUID executionRequestId,
+                                Map<String, Long> increments);
+
+    /**
+     * Move test run of counted execution request from one root cause counter to another.
+     * Nothing is changed if execution request is not counted yet.
+     *
+     * @param executionRequestId   execution request id
+     * @param day                  start of UTC day of test run, or null for the last day of execution request
+     * @param previousRootCauseKey counter key of previous root cause
+     * @param rootCauseKey         counter key of new root cause
+     * @return true if statistics were updated
+     */
+    boolean moveRootCause(UUID executionRequestId, Date day, String previousRootCauseKey, String rootCauseKey);
+}
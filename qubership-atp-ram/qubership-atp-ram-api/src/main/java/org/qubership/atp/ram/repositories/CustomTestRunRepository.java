@@ -17,15 +17,19 @@
 package org.qubership.atp.ram.repositories;
 
 import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.qubership.atp.ram.dto.response.BaseEntityResponse;
 import org.qubership.atp.ram.dto.response.CompareTreeTestRunResponse;
 import org.qubership.atp.ram.dto.response.PaginationResponse;
 import org.qubership.atp.ram.enums.ExecutionStatuses;
 import org.qubership.atp.ram.enums.TestingStatuses;
+import org.qubership.atp.ram.model.ExecutionRequestTestRunsSummary;
 import org.qubership.atp.ram.models.AnalyzedTestRunSortedColumns;
 import org.qubership.atp.ram.models.TestRun;
 import org.qubership.atp.ram.models.TestRunSearchRequest;
@@ -61,6 +65,88 @@ public interface CustomTestRunRepository {
     void updateStatusesAndFinishDateByTestRunId(UUID testRunId, ExecutionStatuses executionStatus,
                                                 TestingStatuses testingStatus, Timestamp finishDate, long duration);
 
+    /**
+     * Raise testing status of test runs in one unordered bulk write.
+     * Status of test run is changed only if it is empty or has lower priority than the new one,
+     * see {@link TestRun#updateTestingStatus(TestingStatuses)}.
+     *
+     * @param testRunStatuses new testing statuses by test run ids
+     */
+    void updateTestingStatusesByPriority(Map<UUID, TestingStatuses> testRunStatuses);
+
+    /**
+     * Set execution status for all test runs with specified ids in one update,
+     * skipping test runs which are already in the excluded status.
+     *
+     * @param testRunIds      test run ids
+     * @param executionStatus new execution status
+     * @param excludedStatus  test runs in this status are not updated
+     */
+    void updateExecutionStatusByIdsAndStatusNot(Collection<UUID> testRunIds, ExecutionStatuses executionStatus,
+                                                ExecutionStatuses excludedStatus);
+
+    /**
+     * Move last activity date of test runs forward with $max in one update,
+     * older dates never override newer ones.
+     *
+     * @param testRunIds   test run ids
+     * @param lastActivity date of activity
+     */
+    void updateLastActivityByIds(Collection<UUID> testRunIds, Timestamp lastActivity);
+
+    /**
+     * Find test runs in specified execution status without activity since the date.
+     * Test runs without last activity (created before it was tracked) are matched by finish or start date.
+     * Only id, execution request id, start, finish and last activity dates are returned.
+     *
+     * @param executionStatus execution status
+     * @param date            activity threshold
+     * @return inactive test runs
+     */
+    List<TestRun> findAllByExecutionStatusAndInactiveSince(ExecutionStatuses executionStatus, Timestamp date);
+
+    /**
+     * Set statuses, finish date and duration of test runs in one unordered bulk write.
+     * Duration is calculated from start date of each test run. Test runs which have left
+     * the expected execution status meanwhile are not updated.
+     *
+     * @param testRuns                test runs with start dates
+     * @param expectedExecutionStatus only test runs in this status are updated
+     * @param executionStatus         new execution status
+     * @param testingStatus           new testing status
+     * @param finishDate              finish date
+     * @return count of modified test runs
+     */
+    int updateStatusesAndFinishDateByTestRuns(Collection<TestRun> testRuns, ExecutionStatuses expectedExecutionStatus,
+                                              ExecutionStatuses executionStatus, TestingStatuses testingStatus,
+                                              Timestamp finishDate);
+
+    /**
+     * Set date until which failed log records of test runs are folded into issues.
+     *
+     * @param testRunIds           test run ids
+     * @param issuesCalculatedDate watermark of issues calculation
+     */
+    void updateIssuesCalculatedDateByIds(Collection<UUID> testRunIds, Timestamp issuesCalculatedDate);
+
+    /**
+     * Mark test runs as sent to TSG in one unordered bulk write.
+     * FDR link is set only for test runs which have it, link of other test runs is kept.
+     *
+     * @param fdrLinks FDR links by test run ids, value may be null
+     */
+    void updateFdrWasSentByIds(Map<UUID, String> fdrLinks);
+
+    /**
+     * Count in progress and not started test runs of execution requests in one aggregation.
+     * Execution requests without test runs are absent in result.
+     *
+     * @param executionRequestIds execution request ids
+     * @return test runs counters by execution requests
+     */
+    List<ExecutionRequestTestRunsSummary> getTestRunsSummaryByExecutionRequestIds(
+            Collection<UUID> executionRequestIds);
+
     List<TestRun> findTestRunsByExecutionRequestAndHasLogRecordsWithFile(UUID executionRequestId, FileType fileType);
 
     List<TestRun> findTestRunsByExecutionRequestIdAndNamesAndLabelIds(UUID executionRequestId,
@@ -68,6 +154,20 @@ public interface CustomTestRunRepository {
 
     List<TestRun> findTestRunsIdNameByExecutionRequestIdAndLabelIds(UUID executionRequestId, List<UUID> labelIds);
 
+    /**
+     * Stream short test runs of execution request ordered by name, with fields required to place them
+     * into label template and calculate statuses of label nodes.
+     * Filters are applied only when they are not null.
+     *
+     * @param executionRequestId execution request id
+     * @param testingStatuses    testing statuses filter
+     * @param rootCauseIds       failure reasons filter
+     * @return stream of test runs, should be closed after use
+     */
+    Stream<TestRun> streamShortTestRunsByExecutionRequestIdOrderByName(UUID executionRequestId,
+                                                                       Set<TestingStatuses> testingStatuses,
+                                                                       Set<UUID> rootCauseIds);
+
     UUID findProjectIdByTestRunId(UUID testRunId);
 
     UUID findProjectIdByTestCaseId(UUID testCaseId);
@@ -86,6 +86,9 @@ public interface ExecutionRequestRepository extends MongoRepository<ExecutionReq
     @Query(fields = "{'uuid': 1}")
     List<ExecutionRequest> findRequestsIdByExecutionStatusIn(List<ExecutionStatuses> executionStatuses);
 
+    @Query(fields = "{'uuid': 1, 'executionStatus': 1, 'startDate': 1}")
+    List<ExecutionRequest> findExecutionStatusAndStartDateByUuidIn(Collection<UUID> uuids);
+
     List<ExecutionRequest> findAllByTestScopeId(UUID scopeId);
 
     @Query(fields = "{'name': 1, 'startDate': 1, 'previousExecutionRequestId': 1}")
@@ -20,34 +20,45 @@ import static java.util.Objects.isNull;
 
 import java.io.ByteArrayOutputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.bson.types.ObjectId;
 import org.qubership.atp.ram.exceptions.internal.RamReportGridFsFileNotFoundException;
 import org.qubership.atp.ram.model.ExtendedFileData;
 import org.qubership.atp.ram.model.FileData;
 import org.qubership.atp.ram.model.GridFsFileData;
-import org.qubership.atp.ram.models.LogRecord;
+import org.qubership.atp.ram.model.GridFsFileResource;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Repository;
 
 import com.google.common.base.Strings;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.gridfs.GridFSBucket;
+import com.mongodb.client.gridfs.GridFSDownloadStream;
 import com.mongodb.client.gridfs.model.GridFSFile;
 import com.mongodb.client.gridfs.model.GridFSUploadOptions;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -66,58 +77,100 @@ public class GridFsRepository {
     private static final String HTML = "html";
     private static final String EXECUTION_REQUEST_ID = "executionRequestId";
     private static final String METADATA_REPORT_ID = "metadata.reportId";
+    private static final String METADATA_EXECUTION_REQUEST_ID = "metadata.executionRequestId";
     private static final String SNAPSHOT_SOURCE = "snapshotSource";
     private static final String TEST_RUN_ID = "testRunId";
     private static final String TEST_RUN_UUID = "testRunUuid";
 
+    private static final String ID = "_id";
+    private static final String LENGTH = "length";
+    private static final String FILES_ID = "files_id";
+    private static final String FILES_COLLECTION_NAME = "fs.files";
+    private static final String CHUNKS_COLLECTION_NAME = "fs.chunks";
+
     private final GridFSBucket gridFsBucket;
+    private final MongoDatabase gridFsDatabase;
 
     @Value("${gridfs.chunk.size}")
     private Integer chunkSizeBytes;
 
     /**
-     * This method retrieves screen shot fro GridFS system.
+     * Find files where metadata.logRecordUuid is in list without downloading their content.
+     * Content of each file is read from its {@link ExtendedFileData#getResource()} when needed.
      *
-     * @param logRecordsIds of steps, which for you would like get List of FileData
-     * @return {@link Optional#empty()} if ScreenShot not found for specified logRecordUuid or
-     *      {@link FileData} if it present in database.
+     * @param logRecordsIds of steps, which for you would like get files
+     * @return files with metadata and resources to stream content
      */
-    public @NotNull List<ExtendedFileData> getAllFilesWhereMetadataLogRecordIdInList(List<UUID> logRecordsIds) {
+    public @NotNull List<ExtendedFileData> getAllFileResourcesWhereMetadataLogRecordIdInList(
+            List<UUID> logRecordsIds) {
         Document filter = getMetadataLogRecordIdsInFilter(logRecordsIds);
 
-        List<GridFSFile> gridFsFiles = new ArrayList<>();
-        gridFsFiles = gridFsBucket.find(filter).into(gridFsFiles);
-
-        List<ExtendedFileData> result = gridFsFiles.parallelStream().map(file -> {
-            log.debug("File was found {}", file.getFilename());
+        List<ExtendedFileData> result = new ArrayList<>();
+        gridFsBucket.find(filter).forEach((Consumer<? super GridFSFile>) file -> {
             UUID logRecordId = Objects.requireNonNull(file.getMetadata()).get(LOG_RECORD_UUID, UUID.class);
-            return new ExtendedFileData(createFileDataFromFileInDb(file), logRecordId);
-        }).collect(Collectors.toList());
-
-        if (result.isEmpty()) {
-            log.debug("Cannot find any files");
-        }
+            GridFsFileResource resource = createFileResource(file);
+            FileData fileData = new FileData(null, resource.getContentType(), resource.getSource());
+            result.add(new ExtendedFileData(fileData, logRecordId, resource));
+        });
+        log.debug("Found {} files for log records", result.size());
         return result;
     }
 
-    private FileData createFileDataFromFileInDb(GridFSFile file) {
-        ByteArrayOutputStream bos = downloadFileFromDbToByteStream(file);
-        return composeFileDataFromGridFsFileAndItsContent(file, bos);
+    /**
+     * Find file where metadata.logRecordUuid equals logRecordUuid without downloading its content.
+     *
+     * @param logRecordUuid of step, which for you would like get file
+     * @return {@link Optional#empty()} if file not found or resource to stream its content
+     */
+    public Optional<GridFsFileResource> getFileResource(UUID logRecordUuid) {
+        return Optional.ofNullable(findByFilter(getFilter(logRecordUuid))).map(this::createFileResource);
     }
 
-    private ByteArrayOutputStream downloadFileFromDbToByteStream(GridFSFile file) {
-        ByteArrayOutputStream bos = new ByteArrayOutputStream();
-        gridFsBucket.downloadToStream(file.getObjectId(), bos);
-        return bos;
+    /**
+     * Find file where metadata.logRecordUuid equals logRecordUuid and metadata.snapshotSource equals filename
+     * without downloading its content.
+     *
+     * @param logRecordUuid of step, which for you would like get file
+     * @param filename      file name
+     * @return {@link Optional#empty()} if file not found or resource to stream its content
+     */
+    public Optional<GridFsFileResource> getFileResourceByFileName(UUID logRecordUuid, String filename) {
+        Document filter = getFilter(logRecordUuid).append(METADATA_SOURCE, filename);
+        return Optional.ofNullable(findByFilter(filter)).map(this::createFileResource);
+    }
+
+    private GridFsFileResource createFileResource(GridFSFile file) {
+        FileData fileData = new FileData();
+        addMetadataToFileDataIfItExists(file, fileData);
+        return new GridFsFileResource(gridFsBucket, file, fileData.getContentType(), fileData.getSource());
     }
 
-    private FileData composeFileDataFromGridFsFileAndItsContent(GridFSFile file, ByteArrayOutputStream bos) {
+    private FileData createFileDataFromFileInDb(GridFSFile file) {
         FileData fileData = new FileData();
-        fileData.setContent(bos.toByteArray());
+        fileData.setContent(downloadFileContent(file));
         addMetadataToFileDataIfItExists(file, fileData);
         return fileData;
     }
 
+    /**
+     * Read content of file into array of its exact length, without intermediate buffers.
+     */
+    private byte[] downloadFileContent(GridFSFile file) {
+        byte[] content = new byte[Math.toIntExact(file.getLength())];
+        try (GridFSDownloadStream downloadStream = gridFsBucket.openDownloadStream(file.getObjectId())) {
+            downloadStream.readNBytes(content, 0, content.length);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read file " + file.getObjectId(), e);
+        }
+        return content;
+    }
+
+    private ByteArrayOutputStream downloadFileFromDbToByteStream(GridFSFile file) {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        gridFsBucket.downloadToStream(file.getObjectId(), bos);
+        return bos;
+    }
+
     private void addMetadataToFileDataIfItExists(GridFSFile file, FileData fileData) {
         Document metadata = file.getMetadata();
         if (isNull(metadata)) {
@@ -173,22 +226,61 @@ public class GridFsRepository {
     }
 
     /**
-     * Get count of screenshots for TR.
+     * Find log records having at least one file, with one aggregation over fs.files grouped by log record.
      *
-     * @param logRecords all LogRecords from TR.
-     * @return count of screenshots.
+     * @param logRecordIds ids of log records to check
+     * @return ids of log records with files
      */
-    public int getCountScreen(List<LogRecord> logRecords) {
-        AtomicInteger countOfScreenshots = new AtomicInteger(0);
-        Document filter = new Document();
-        logRecords.parallelStream().forEach(logRecord -> {
-            filter.append(METADATA_LOG_RECORD_UUID, logRecord.getUuid());
-            GridFSFile res = findByFilter(filter);
-            if (Objects.nonNull(res)) {
-                countOfScreenshots.incrementAndGet();
-            }
-        });
-        return countOfScreenshots.get();
+    public Set<UUID> findLogRecordIdsWithFiles(Collection<UUID> logRecordIds) {
+        Set<UUID> result = new HashSet<>();
+        if (logRecordIds.isEmpty()) {
+            return result;
+        }
+        List<Bson> pipeline = Arrays.asList(
+                Aggregates.match(Filters.in(METADATA_LOG_RECORD_UUID, logRecordIds)),
+                Aggregates.group("$" + METADATA_LOG_RECORD_UUID));
+        gridFsDatabase.getCollection(FILES_COLLECTION_NAME).aggregate(pipeline)
+                .forEach((Consumer<? super Document>) document -> result.add(document.get(ID, UUID.class)));
+        return result;
+    }
+
+    /**
+     * Delete files of log records with their chunks by bulk deletes.
+     *
+     * @param logRecordIds ids of log records
+     * @return count of reclaimed bytes
+     */
+    public long deleteFilesByLogRecordIds(Collection<UUID> logRecordIds) {
+        return deleteFiles(Filters.in(METADATA_LOG_RECORD_UUID, logRecordIds));
+    }
+
+    /**
+     * Delete reports of execution requests with their chunks by bulk deletes.
+     *
+     * @param executionRequestIds ids of execution requests
+     * @return count of reclaimed bytes
+     */
+    public long deleteFilesByExecutionRequestIds(Collection<UUID> executionRequestIds) {
+        return deleteFiles(Filters.in(METADATA_EXECUTION_REQUEST_ID, executionRequestIds));
+    }
+
+    /**
+     * Chunks are deleted before files, so files of interrupted deletion are found and deleted next time.
+     */
+    private long deleteFiles(Bson filter) {
+        MongoCollection<Document> filesCollection = gridFsDatabase.getCollection(FILES_COLLECTION_NAME);
+        List<Object> fileIds = new ArrayList<>();
+        long length = 0;
+        for (Document file : filesCollection.find(filter).projection(Projections.include(LENGTH))) {
+            fileIds.add(file.get(ID));
+            length += file.get(LENGTH, Number.class).longValue();
+        }
+        if (fileIds.isEmpty()) {
+            return 0;
+        }
+        gridFsDatabase.getCollection(CHUNKS_COLLECTION_NAME).deleteMany(Filters.in(FILES_ID, fileIds));
+        filesCollection.deleteMany(Filters.in(ID, fileIds));
+        return length;
     }
 
     private Optional<FileData> getFileDataByFilter(UUID logRecordUuid, Document filter) {
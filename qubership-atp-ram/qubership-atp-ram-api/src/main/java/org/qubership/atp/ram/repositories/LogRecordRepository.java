@@ -59,6 +59,13 @@ public interface LogRecordRepository extends MongoRepository<LogRecord, UUID> {
             + "'parentRecordId': 1, 'duration': 1, 'isSection': 1, 'isCompaund': 1}")
     List<LogRecord> findLogRecordsWithSpecificFieldsByTestRunIdOrderByStartDateAsc(UUID testRunId);
 
+    @Query(fields = "{'uuid': 1, 'testingStatus': 1, 'testRunId': 1, 'name': 1, 'message': 1, "
+            + "'parentRecordId': 1, 'isSection': 1}")
+    Stream<LogRecord> findLogRecordsForFdrByTestRunIdInOrderByStartDateAsc(Collection<UUID> testRunIds);
+
+    @Query(fields = "{'testRunId': 1}")
+    Stream<LogRecord> findTestRunIdByTestRunIdInAndNameContaining(Collection<UUID> testRunIds, String name);
+
     @Query(fields = "{'uuid': 1, 'testingStatus': 1, 'type': 1, 'preview': 1}")
     Stream<LogRecord> findLogRecordsWithPreviewByTestRunIdOrderByStartDateAsc(UUID testRunId);
 
@@ -70,6 +77,15 @@ public interface LogRecordRepository extends MongoRepository<LogRecord, UUID> {
     @Query(fields = "{'uuid': 1}")
     List<LogRecord> findAllUuidByTestRunId(UUID testRunId);
 
+    @Query(fields = "{'uuid': 1, 'testRunId': 1}")
+    List<LogRecord> findAllUuidAndTestRunIdByUuidIn(Collection<UUID> uuids);
+
+    @Query(fields = "{'uuid': 1, 'testRunId': 1}")
+    Stream<LogRecord> findAllUuidAndTestRunIdByTestRunIdIn(Collection<UUID> testRunIds);
+
+    @Query(fields = "{'uuid': 1, 'testRunId': 1, 'parentRecordId': 1}")
+    List<LogRecord> findAllUuidAndTestRunIdAndParentRecordIdByUuidIn(Collection<UUID> uuids);
+
     @Query(fields = "{'uuid': 1, 'startDate': 1, 'endDate': 1}")
     LogRecord findFirstByTestRunIdAndExecutionStatusOrderByCreatedDateStampDesc(UUID testRunId,
                                                                                  ExecutionStatuses status);
@@ -93,8 +109,6 @@ public interface LogRecordRepository extends MongoRepository<LogRecord, UUID> {
 
     List<LogRecord> findAllByTestRunIdAndNameContains(UUID testRunId, String searchValue);
 
-    Stream<LogRecord> findAllByTestRunIdAndNameRegex(UUID testRunId, String searchValue);
-
     List<LogRecord> findAllByParentRecordIdOrderByStartDateAsc(UUID parentId);
 
     List<LogRecord> findAllByTestRunIdAndType(UUID testRunId, TypeAction type);
@@ -127,6 +141,20 @@ public interface LogRecordRepository extends MongoRepository<LogRecord, UUID> {
                     + "'validationTable': 1, 'testingStatus': 1, 'parentRecordId': 1, 'metaInfo': 1}")
     Stream<LogRecord> findLogRecordsWithValidationParamsAndFailureByTestRunIds(Collection<UUID> testRunIds);
 
+    @Query(fields = "{'name': 1, 'testingStatus': 1, 'executionStatus': 1, 'parentRecordId': 1, 'type': 1, "
+            + "'testRunId': 1, 'rootCause': 1, 'validationLabels': 1, 'validationTable': 1, 'metaInfo': 1}")
+    Stream<LogRecord> findStepsByTestRunIdInOrderByCreatedDateStampAsc(Collection<UUID> testRunIds);
+
+    @Query(fields = "{'uuid': 1, 'parentRecordId': 1, 'isSection': 1, 'testingStatus': 1}")
+    Stream<LogRecord> findChildStepsByParentRecordIdIn(Collection<UUID> parentRecordIds);
+
+    @Query(fields = "{'name': 1, 'testingStatus': 1, 'executionStatus': 1, 'parentRecordId': 1, 'message': 1, "
+            + "'type': 1, 'testRunId':1, 'metaInfo':1, 'rootCause': 1, 'isSection': 1}")
+    List<LogRecord> findLogRecordsForTreeByParentRecordIdInOrderByCreatedDateStampAsc(
+            Collection<UUID> parentRecordIds);
+
+    Stream<LogRecord> findAllByTestRunIdInAndNameRegex(Collection<UUID> testRunIds, String searchValue);
+
     void deleteByUuid(UUID uuid);
 
     void deleteAllByUuidIn(List<UUID> uuid);
@@ -145,9 +173,20 @@ public interface LogRecordRepository extends MongoRepository<LogRecord, UUID> {
 
     Long countAllByTestRunIdInAndTestingStatus(Collection<UUID> testRunIds, TestingStatuses testingStatuses);
 
+    @Query(fields = "{'uuid': 1, 'lastUpdated': 1}")
+    LogRecord findFirstByTestRunIdInOrderByLastUpdatedDesc(Collection<UUID> testRunIds);
+
     Stream<LogRecord> findAllByTestRunIdInAndTestingStatus(Collection<UUID> testRunIds,
                                                            TestingStatuses testingStatuses);
 
+    @Query(fields = "{'uuid': 1, 'name': 1, 'message': 1, 'testRunId': 1}")
+    Stream<LogRecord> findFailedMessagesByTestRunIdInAndTestingStatus(Collection<UUID> testRunIds,
+                                                                      TestingStatuses testingStatuses);
+
+    Stream<LogRecord> findAllByTestRunIdInAndTestingStatusAndLastUpdatedAfter(Collection<UUID> testRunIds,
+                                                                            TestingStatuses testingStatuses,
+                                                                            Date lastUpdated);
+
     Stream<LogRecord> findAllByUuidNotInAndTestRunIdInAndTestingStatus(Collection<UUID> logRecordsId,
                                                                        Collection<UUID> testRunIds,
                                                                        TestingStatuses testingStatuses);
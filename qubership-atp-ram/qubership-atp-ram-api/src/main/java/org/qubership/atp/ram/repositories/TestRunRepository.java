@@ -20,6 +20,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.qubership.atp.ram.enums.ExecutionStatuses;
 import org.qubership.atp.ram.enums.TestingStatuses;
@@ -38,9 +39,6 @@ public interface TestRunRepository extends CustomTestRunRepository, MongoReposit
 
     List<TestRun> findAllByTestCaseIdOrderByStartDateDesc(UUID testCaseId);
 
-    @Query(fields = "{'uuid': 1, 'finishDate': 1, 'startDate': 1}")
-    List<TestRun> findAllByExecutionStatusOrderByStartDateDesc(ExecutionStatuses statuses);
-
     @Query(fields = "{'uuid': 1, 'finishDate': 1, 'startDate': 1}")
     List<TestRun> findAllByExecutionStatusIn(List<ExecutionStatuses> statuses);
 
@@ -48,6 +46,17 @@ public interface TestRunRepository extends CustomTestRunRepository, MongoReposit
 
     List<TestRun> findAllByExecutionRequestId(UUID execReqId);
 
+    @Query(fields = "{'uuid': 1, 'executionStatus': 1, 'executionRequestId': 1}")
+    List<TestRun> findAllExecutionStatusAndExecutionRequestIdByUuidIn(Collection<UUID> uuids);
+
+    @Query(fields = "{'uuid': 1, 'executionRequestId': 1, 'testingStatus': 1, 'executionStatus': 1, "
+            + "'rootCauseId': 1, 'duration': 1}")
+    Stream<TestRun> findStatisticsFieldsByExecutionRequestId(UUID executionRequestId);
+
+    @Query(fields = "{'uuid': 1, 'executionRequestId': 1, 'testingStatus': 1, 'executionStatus': 1, "
+            + "'rootCauseId': 1, 'duration': 1}")
+    List<TestRun> findStatisticsFieldsByUuidIn(Collection<UUID> uuids);
+
     @Query(fields = "{'uuid': 1, 'rootCauseId': 1}")
     List<TestRun> findAllTestRunRootCausesByExecutionRequestId(UUID execReqId);
 
@@ -106,6 +115,9 @@ public interface TestRunRepository extends CustomTestRunRepository, MongoReposit
     @Query(fields = "{'uuid': 1, 'name': 1, 'testingStatus': 1, 'executionStatus': 1}")
     List<TestRun> findShortTestRunsByUuidIn(Collection<UUID> ids);
 
+    @Query(fields = "{'uuid': 1, 'name': 1, 'testingStatus': 1, 'executionStatus': 1}")
+    List<TestRun> findShortTestRunsByExecutionRequestId(UUID executionRequestId);
+
     List<TestRun> findAllByExecutionRequestIdOrderByStartDateAsc(UUID requestId);
 
     @Query(fields = "{'passedRate': 1, 'warningRate': 1, 'failedRate': 1, 'testingStatus': 1}")
@@ -150,7 +162,7 @@ public interface TestRunRepository extends CustomTestRunRepository, MongoReposit
     List<TestRun> findTestRunsIdByExecutionRequestIdAndTestingStatus(UUID executionRequestId,
                                                                  TestingStatuses testingStatus);
 
-    @Query(fields = "{'uuid':1}")
+    @Query(fields = "{'uuid': 1, 'issuesCalculatedDate': 1}")
     List<TestRun> findTestRunsByExecutionRequestIdAndTestingStatusIn(UUID executionRequestId,
                                                                      List<TestingStatuses> testingStatuses);
 
@@ -158,7 +170,7 @@ public interface TestRunRepository extends CustomTestRunRepository, MongoReposit
     List<TestRun> findTestRunsUuidErIdByTestingStatusAndUuidIn(TestingStatuses testingStatuses,
                                                                             List<UUID> testRunIds);
 
-    @Query(fields = "{'uuid': 1, 'executionRequestId': 1}")
+    @Query(fields = "{'uuid': 1, 'executionRequestId': 1, 'issuesCalculatedDate': 1}")
     List<TestRun> findTestRunsUuidErIdByTestingStatusInAndUuidIn(List<TestingStatuses> testingStatuses,
                                                                  List<UUID> testRunIds);
 
@@ -183,4 +195,13 @@ public interface TestRunRepository extends CustomTestRunRepository, MongoReposit
 
     @Query(fields = "{'executionRequestId': 1}")
     List<TestRun> findErByUuidIn(List<UUID> testRunId);
+
+    @Query(fields = "{'uuid': 1, 'executionRequestId': 1, 'rootCauseId': 1, 'finishDate': 1}")
+    List<TestRun> findRootCausesByUuidIn(List<UUID> testRunIds);
+
+    @Query(fields = "{'testingStatus': 1, 'rootCauseId': 1, 'startDate': 1, 'finishDate': 1}")
+    List<TestRun> findChartFieldsByExecutionRequestIdIn(Collection<UUID> executionRequestIds);
+
+    @Query(fields = "{'lastActivity': 1}")
+    TestRun findLastActivityByUuid(UUID uuid);
 }
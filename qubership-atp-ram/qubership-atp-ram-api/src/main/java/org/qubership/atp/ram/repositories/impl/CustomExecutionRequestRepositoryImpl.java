@@ -19,9 +19,11 @@ package org.qubership.atp.ram.repositories.impl;
 import static org.qubership.atp.ram.repositories.impl.FieldConstants._ID;
 
 import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
+import org.qubership.atp.ram.enums.ExecutionStatuses;
 import org.qubership.atp.ram.models.ExecutionRequest;
 import org.qubership.atp.ram.repositories.CustomExecutionRequestRepository;
 import org.springframework.data.domain.Pageable;
@@ -31,6 +33,7 @@ import org.springframework.data.mongodb.core.query.CriteriaDefinition;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.CollectionUtils;
 
 import com.mongodb.client.result.UpdateResult;
 import lombok.RequiredArgsConstructor;
@@ -89,4 +92,17 @@ public class CustomExecutionRequestRepositoryImpl implements CustomExecutionRequ
         log.debug("ER: {} was update with params failedLogrecordsCounter: {} result: {}",
                 executionRequestId, logRecordsCount, updateResult);
     }
+
+    @Override
+    public void updateExecutionStatusByIds(Collection<UUID> executionRequestIds,
+                                           ExecutionStatuses executionStatus) {
+        if (CollectionUtils.isEmpty(executionRequestIds)) {
+            return;
+        }
+        Query idsQuery = new Query().addCriteria(Criteria.where(_ID).in(executionRequestIds));
+        Update update = new Update().set(ExecutionRequest.EXECUTION_STATUS_FIELD, executionStatus);
+        UpdateResult updateResult = mongoTemplate.updateMulti(idsQuery, update, ExecutionRequest.class);
+        log.debug("ERs: {} were updated with executionStatus: {} result: {}",
+                executionRequestIds, executionStatus, updateResult);
+    }
 }
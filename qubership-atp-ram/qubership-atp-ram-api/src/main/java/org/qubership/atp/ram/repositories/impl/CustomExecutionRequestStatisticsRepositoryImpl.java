@@ -0,0 +1,93 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.repositories.impl;
+
+import static org.qubership.atp.ram.models.ExecutionRequestStatistics.STALE_FIELD;
+import static org.qubership.atp.ram.models.ExecutionRequestStatistics.VERSION_FIELD;
+import static org.qubership.atp.ram.repositories.impl.FieldConstants._ID;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.qubership.atp.ram.models.ExecutionRequestStatistics;
+import org.qubership.atp.ram.repositories.CustomExecutionRequestStatisticsRepository;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.CollectionUtils;
+
+import com.mongodb.client.result.UpdateResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RequiredArgsConstructor
+@Slf4j
+@Repository
+public class CustomExecutionRequestStatisticsRepositoryImpl implements CustomExecutionRequestStatisticsRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void increment(UUID executionRequestId, Map<String, Integer> increments) {
+        if (CollectionUtils.isEmpty(increments)) {
+            return;
+        }
+        Update update = new Update().inc(VERSION_FIELD, 1).setOnInsert(STALE_FIELD, true);
+        increments.forEach(update::inc);
+        mongoTemplate.upsert(new Query(where(_ID).is(executionRequestId)), update, ExecutionRequestStatistics.class);
+    }
+
+    @Override
+    public void markStale(Collection<UUID> executionRequestIds) {
+        if (CollectionUtils.isEmpty(executionRequestIds)) {
+            return;
+        }
+        UpdateResult result = mongoTemplate.updateMulti(new Query(where(_ID).in(executionRequestIds)),
+                new Update().set(STALE_FIELD, true).inc(VERSION_FIELD, 1), ExecutionRequestStatistics.class);
+        log.debug("Statistics of execution requests {} are marked as stale. {}", executionRequestIds, result);
+    }
+
+    @Override
+    public boolean replaceIfVersion(ExecutionRequestStatistics statistics, long expectedVersion) {
+        if (expectedVersion < 0) {
+            try {
+                mongoTemplate.insert(statistics);
+                return true;
+            } catch (DuplicateKeyException e) {
+                return false;
+            }
+        }
+        Query query = new Query(where(_ID).is(statistics.getExecutionRequestId())
+                .and(VERSION_FIELD).is(expectedVersion));
+        return mongoTemplate.findAndReplace(query, statistics) != null;
+    }
+
+    @Override
+    public List<UUID> findStaleExecutionRequestIds(int limit) {
+        Query query = new Query(where(STALE_FIELD).is(true)).limit(limit);
+        query.fields().include(_ID);
+        return mongoTemplate.find(query, ExecutionRequestStatistics.class).stream()
+                .map(ExecutionRequestStatistics::getExecutionRequestId)
+                .collect(Collectors.toList());
+    }
+}
@@ -16,6 +16,7 @@
 
 package org.qubership.atp.ram.repositories.impl;
 
+import static java.util.Objects.nonNull;
 import static org.qubership.atp.ram.repositories.impl.FieldConstants.FAIL_PATTERN;
 import static org.qubership.atp.ram.repositories.impl.FieldConstants.FAIL_REASON;
 import static org.qubership.atp.ram.repositories.impl.FieldConstants._ID;
@@ -23,10 +24,13 @@ import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.qubership.atp.ram.model.IssueDto;
 import org.qubership.atp.ram.models.ExecutionRequest;
@@ -41,11 +45,13 @@ import org.qubership.atp.ram.repositories.operations.CustomLookupOperation;
 import org.qubership.atp.ram.utils.SortUtils;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.MongoExpression;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
 import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
 import org.springframework.data.mongodb.core.aggregation.AggregationPipeline;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
 import org.springframework.data.mongodb.core.aggregation.ArrayOperators;
 import org.springframework.data.mongodb.core.aggregation.CountOperation;
 import org.springframework.data.mongodb.core.aggregation.LookupOperation;
@@ -53,8 +59,13 @@ import org.springframework.data.mongodb.core.aggregation.MatchOperation;
 import org.springframework.data.mongodb.core.aggregation.ProjectionOperation;
 import org.springframework.data.mongodb.core.aggregation.SetOperators;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.schema.JsonSchemaObject;
 import org.springframework.stereotype.Repository;
 
+import com.google.common.collect.Iterators;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -448,4 +459,72 @@ public class CustomIssueRepositoryImpl implements CustomIssueRepository {
                 .aggregate(Aggregation.newAggregation(aggregationOperations), ISSUE_COLLECTION_NAME, Issue.class)
                 .getMappedResults();
     }
+
+    /**
+     * Find which of specified log records are already linked to issues of execution request.
+     */
+    @Override
+    public Set<UUID> findLinkedLogRecordIds(UUID executionRequestId, Collection<UUID> logRecordIds) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(where(Issue.EXECUTION_REQUEST_ID_FIELD).is(executionRequestId)
+                        .and(Issue.LOG_RECORD_IDS_FIELD).in(logRecordIds)),
+                Aggregation.project(Issue.LOG_RECORD_IDS_FIELD),
+                Aggregation.unwind(Issue.LOG_RECORD_IDS_FIELD),
+                Aggregation.match(where(Issue.LOG_RECORD_IDS_FIELD).in(logRecordIds)),
+                Aggregation.group(_ID).addToSet(Issue.LOG_RECORD_IDS_FIELD).as(Issue.LOG_RECORD_IDS_FIELD));
+
+        return mongoTemplate.aggregate(aggregation, ISSUE_COLLECTION_NAME, Issue.class)
+                .getMappedResults()
+                .stream()
+                .flatMap(issue -> issue.getLogRecordIds().stream())
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Upsert issues with bulk operations. Issue is identified by execution request and fail pattern
+     * or, for issues without fail pattern, by message. Linked log records and test runs are added to
+     * the ones of existing issue, other fields are set on insert only.
+     * Count of failed test runs is recalculated for all issues of execution request at the end.
+     */
+    @Override
+    public void upsertIssues(UUID executionRequestId, Collection<Issue> issues, int batchSize) {
+        Iterators.partition(issues.iterator(), batchSize).forEachRemaining(batch -> {
+            BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Issue.class);
+            batch.forEach(issue -> bulkOperations.upsert(getIssueKeyQuery(executionRequestId, issue),
+                    getIssueUpsert(issue)));
+            bulkOperations.execute();
+        });
+        AggregationUpdate failedTestRunsCountUpdate = AggregationUpdate.update()
+                .set(Issue.FAILED_TEST_RUNS_COUNT_FIELD)
+                .toValue(ArrayOperators.Size.lengthOfArray(Issue.FAILED_TEST_RUNS_IDS_FIELD));
+        mongoTemplate.updateMulti(new Query(where(Issue.EXECUTION_REQUEST_ID_FIELD).is(executionRequestId)
+                        .and(Issue.FAILED_TEST_RUNS_IDS_FIELD).type(JsonSchemaObject.Type.ARRAY)),
+                failedTestRunsCountUpdate, Issue.class);
+        log.debug("Upserted {} issues for execution request {}", issues.size(), executionRequestId);
+    }
+
+    private Query getIssueKeyQuery(UUID executionRequestId, Issue issue) {
+        Criteria criteria = where(Issue.EXECUTION_REQUEST_ID_FIELD).is(executionRequestId);
+        if (nonNull(issue.getFailPatternId())) {
+            criteria.and(Issue.FAIL_PATTERN_ID_FIELD).is(issue.getFailPatternId());
+        } else {
+            criteria.and(Issue.FAIL_PATTERN_ID_FIELD).is(null).and(Issue.MESSAGE_FIELD).is(issue.getMessage());
+        }
+        return new Query(criteria);
+    }
+
+    private Update getIssueUpsert(Issue issue) {
+        Update update = new Update()
+                .setOnInsert(_ID, UUID.randomUUID())
+                .setOnInsert(Issue.JIRA_TICKETS_FIELD, issue.getJiraTickets())
+                .setOnInsert(Issue.JIRA_DEFECTS_FIELD, issue.getJiraDefects())
+                .setOnInsert(Issue.FAIL_REASON_ID_FIELD, issue.getFailReasonId())
+                .setOnInsert(Issue.PRIORITY_FIELD, issue.getPriority());
+        if (nonNull(issue.getFailPatternId())) {
+            update.setOnInsert(Issue.MESSAGE_FIELD, issue.getMessage());
+        }
+        update.addToSet(Issue.LOG_RECORD_IDS_FIELD).each(issue.getLogRecordIds().toArray());
+        update.addToSet(Issue.FAILED_TEST_RUNS_IDS_FIELD).each(issue.getFailedTestRunIds().toArray());
+        return update;
+    }
 }
@@ -0,0 +1,189 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.repositories.impl;
+
+import static org.apache.commons.collections.CollectionUtils.isEmpty;
+import static org.qubership.atp.ram.models.LogRecordContextVariableObject.BASE_ID_FIELD;
+import static org.qubership.atp.ram.models.LogRecordContextVariableObject.DELTA_DEPTH_FIELD;
+import static org.qubership.atp.ram.models.LogRecordContextVariableObject.KEYFRAME_ID_FIELD;
+import static org.qubership.atp.ram.models.LogRecordContextVariableObject.MODIFIED_FIELD;
+import static org.qubership.atp.ram.models.LogRecordContextVariableObject.NOT_MODIFIED_FIELD;
+import static org.qubership.atp.ram.models.LogRecordContextVariableObject.STEP_DATE_FIELD;
+import static org.qubership.atp.ram.models.LogRecordContextVariableObject.TEST_RUN_ID_FIELD;
+import static org.qubership.atp.ram.models.logrecords.parts.ContextVariablesGroup.COUNT_FIELD;
+import static org.qubership.atp.ram.models.logrecords.parts.ContextVariablesGroup.VARIABLES_FIELD;
+import static org.qubership.atp.ram.repositories.impl.FieldConstants.NAME;
+import static org.qubership.atp.ram.repositories.impl.FieldConstants._ID;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.qubership.atp.ram.dto.response.ContextVariablesResponse;
+import org.qubership.atp.ram.models.LogRecordContextVariableObject;
+import org.qubership.atp.ram.repositories.CustomLogRecordContextVariableRepository;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
+import org.springframework.data.mongodb.core.aggregation.ArrayOperators;
+import org.springframework.data.mongodb.core.aggregation.BooleanOperators;
+import org.springframework.data.mongodb.core.aggregation.ProjectionOperation;
+import org.springframework.data.mongodb.core.aggregation.StringOperators;
+import org.springframework.data.mongodb.core.query.Field;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RequiredArgsConstructor
+@Repository
+@Slf4j
+public class CustomLogRecordContextVariableRepositoryImpl implements CustomLogRecordContextVariableRepository {
+
+    private static final String VARIABLE = "variable";
+    private static final String BEFORE_VALUE = "beforeValue";
+    private static final String AFTER_VALUE = "afterValue";
+    private static final String IGNORE_CASE_OPTION = "i";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public <T extends LogRecordContextVariableObject> T findCountsById(UUID id, Class<T> type) {
+        Query query = new Query(where(_ID).is(id));
+        query.fields()
+                .include(NOT_MODIFIED_FIELD + "." + COUNT_FIELD)
+                .include(MODIFIED_FIELD + "." + COUNT_FIELD);
+        return mongoTemplate.findOne(query, type);
+    }
+
+    @Override
+    public <T extends LogRecordContextVariableObject> T findSliceById(UUID id, Class<T> type,
+                                                                      int notModifiedSkip, int notModifiedLimit,
+                                                                      int modifiedSkip, int modifiedLimit) {
+        Query query = new Query(where(_ID).is(id));
+        Field fields = query.fields();
+        sliceGroup(fields, NOT_MODIFIED_FIELD, notModifiedSkip, notModifiedLimit);
+        sliceGroup(fields, MODIFIED_FIELD, modifiedSkip, modifiedLimit);
+        return mongoTemplate.findOne(query, type);
+    }
+
+    private static void sliceGroup(Field fields, String group, int skip, int limit) {
+        String variablesField = group + "." + VARIABLES_FIELD;
+        if (limit > 0) {
+            fields.slice(variablesField, skip, limit);
+        } else {
+            fields.exclude(variablesField);
+        }
+    }
+
+    /**
+     * Example of generated query:
+     * [
+     * { "$match": { "_id": JUUID("...") } },
+     * { "$project": {
+     * "notModified": { "$filter": {
+     * "input": "$notModified.variables",
+     * "as": "variable",
+     * "cond": { "$and": [
+     * { "$or": [ { "$regexMatch": { "input": "$$variable.name", "regex": "\\Qparam\\E", "options": "i" } } ] },
+     * { "$regexMatch": { "input": "$$variable.beforeValue", "regex": "\\Qvalue\\E", "options": "i" } }
+     * ] }
+     * } },
+     * "modified": { "$filter": { ... } }
+     * } }
+     * ]
+     */
+    @Override
+    public ContextVariablesResponse findFilteredById(UUID id, Class<? extends LogRecordContextVariableObject> type,
+                                                     List<String> parameters, String beforeValue,
+                                                     String afterValue) {
+        List<AggregationExpression> conditions = new ArrayList<>();
+        if (!isEmpty(parameters)) {
+            conditions.add(BooleanOperators.Or.or(parameters.stream()
+                    .map(parameter -> containsIgnoreCase(NAME, parameter))
+                    .toArray()));
+        }
+        if (StringUtils.isNotEmpty(beforeValue)) {
+            conditions.add(containsIgnoreCase(BEFORE_VALUE, beforeValue));
+        }
+        if (StringUtils.isNotEmpty(afterValue)) {
+            conditions.add(containsIgnoreCase(AFTER_VALUE, afterValue));
+        }
+        ProjectionOperation projection = filterGroup(Aggregation.project(), NOT_MODIFIED_FIELD, conditions);
+        projection = filterGroup(projection, MODIFIED_FIELD, conditions);
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(where(_ID).is(id)),
+                projection);
+        log.debug("Aggregation query '{}'", aggregation);
+        return mongoTemplate.aggregate(aggregation, mongoTemplate.getCollectionName(type),
+                ContextVariablesResponse.class).getUniqueMappedResult();
+    }
+
+    private static ProjectionOperation filterGroup(ProjectionOperation projection, String group,
+                                                   List<AggregationExpression> conditions) {
+        String variablesField = group + "." + VARIABLES_FIELD;
+        if (conditions.isEmpty()) {
+            return projection.and(variablesField).as(group);
+        }
+        return projection.and(ArrayOperators.Filter.filter(variablesField)
+                .as(VARIABLE)
+                .by(BooleanOperators.And.and(conditions.toArray())))
+                .as(group);
+    }
+
+    private static AggregationExpression containsIgnoreCase(String field, String value) {
+        return StringOperators.valueOf(VARIABLE + "." + field)
+                .regexMatch(Pattern.quote(value))
+                .options(IGNORE_CASE_OPTION);
+    }
+
+    @Override
+    public <T extends LogRecordContextVariableObject> T findPreviousInTestRun(UUID testRunId, Timestamp stepDate,
+                                                                              Class<T> type) {
+        Query query = new Query(where(TEST_RUN_ID_FIELD).is(testRunId).and(STEP_DATE_FIELD).lt(stepDate))
+                .with(Sort.by(Sort.Direction.DESC, STEP_DATE_FIELD));
+        return mongoTemplate.findOne(query, type);
+    }
+
+    @Override
+    public <T extends LogRecordContextVariableObject> List<T> findAllByKeyframeId(UUID keyframeId, int maxDeltaDepth,
+                                                                                  Class<T> type) {
+        Query query = new Query(where(KEYFRAME_ID_FIELD).is(keyframeId).and(DELTA_DEPTH_FIELD).lte(maxDeltaDepth));
+        return mongoTemplate.find(query, type);
+    }
+
+    @Override
+    public <T extends LogRecordContextVariableObject> List<T> findAllByBaseId(UUID baseId, Class<T> type) {
+        return mongoTemplate.find(new Query(where(BASE_ID_FIELD).is(baseId)), type);
+    }
+
+    @Override
+    public <T extends LogRecordContextVariableObject> T findById(UUID id, Class<T> type) {
+        return mongoTemplate.findById(id, type);
+    }
+
+    @Override
+    public void save(LogRecordContextVariableObject document) {
+        mongoTemplate.save(document);
+    }
+}
@@ -21,6 +21,7 @@ import static org.springframework.data.mongodb.core.query.Criteria.where;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -38,7 +39,10 @@ import org.qubership.atp.ram.models.LogRecord;
 import org.qubership.atp.ram.models.RamObject;
 import org.qubership.atp.ram.models.logrecords.parts.FileType;
 import org.qubership.atp.ram.repositories.CustomLogRecordRepository;
+import org.qubership.atp.ram.utils.StreamUtils;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
@@ -47,9 +51,11 @@ import org.springframework.data.mongodb.core.aggregation.LookupOperation;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.CollectionUtils;
 
+import com.mongodb.bulk.BulkWriteResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -65,6 +71,7 @@ public class CustomLogRecordRepositoryImpl implements CustomLogRecordRepository,
             LogRecord.class.getAnnotation(Document.class).collection();
 
     private static final long SINGLE_LIMIT = 1;
+    private static final int DUPLICATE_KEY_ERROR_CODE = 11000;
 
     /**
      * Filter log records by lookup.
@@ -679,4 +686,41 @@ public class CustomLogRecordRepositoryImpl implements CustomLogRecordRepository,
         );
         return result.map(RamObject::getUuid).orElse(null);
     }
+
+    @Override
+    public int insertAllUnordered(Collection<LogRecord> logRecords) {
+        if (CollectionUtils.isEmpty(logRecords)) {
+            return 0;
+        }
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LogRecord.class);
+        bulkOperations.insert(new ArrayList<>(logRecords));
+        try {
+            return bulkOperations.execute().getInsertedCount();
+        } catch (BulkOperationException e) {
+            boolean onlyDuplicates = e.getErrors().stream()
+                    .allMatch(error -> error.getCode() == DUPLICATE_KEY_ERROR_CODE);
+            if (!onlyDuplicates) {
+                throw e;
+            }
+            log.debug("{} of {} log records already exist and were skipped", e.getErrors().size(),
+                    logRecords.size());
+            return e.getResult().getInsertedCount();
+        }
+    }
+
+    @Override
+    public void updateTestingStatusesByPriority(Map<UUID, TestingStatuses> logRecordStatuses) {
+        if (CollectionUtils.isEmpty(logRecordStatuses)) {
+            return;
+        }
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LogRecord.class);
+        StreamUtils.groupKeysByValue(logRecordStatuses).forEach((status, logRecordIds) ->
+                bulkOperations.updateMulti(
+                        new Query(where(_ID).in(logRecordIds)
+                                .and(TESTING_STATUS).in(TestingStatuses.getLowerPriorityStatuses(status))),
+                        new Update().set(TESTING_STATUS, status).currentDate(LAST_UPDATED)));
+        BulkWriteResult result = bulkOperations.execute();
+        log.debug("Testing statuses of {} log records were raised, modified: {}", logRecordStatuses.size(),
+                result.getModifiedCount());
+    }
 }
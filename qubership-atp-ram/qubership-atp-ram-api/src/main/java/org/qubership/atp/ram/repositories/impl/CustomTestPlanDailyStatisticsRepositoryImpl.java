@@ -0,0 +1,92 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.repositories.impl;
+
+import static java.util.Objects.nonNull;
+import static org.qubership.atp.ram.models.TestPlanDailyStatistics.DAY_FIELD;
+import static org.qubership.atp.ram.models.TestPlanDailyStatistics.EXECUTION_REQUESTS_COUNT_FIELD;
+import static org.qubership.atp.ram.models.TestPlanDailyStatistics.EXECUTION_REQUEST_IDS_FIELD;
+import static org.qubership.atp.ram.models.TestPlanDailyStatistics.PROJECT_ID_FIELD;
+import static org.qubership.atp.ram.models.TestPlanDailyStatistics.ROOT_CAUSES_FIELD;
+import static org.qubership.atp.ram.models.TestPlanDailyStatistics.TEST_PLAN_ID_FIELD;
+import static org.qubership.atp.ram.repositories.impl.FieldConstants._ID;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+
+import org.qubership.atp.ram.models.TestPlanDailyStatistics;
+import org.qubership.atp.ram.repositories.CustomTestPlanDailyStatisticsRepository;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Repository
+public class CustomTestPlanDailyStatisticsRepositoryImpl implements CustomTestPlanDailyStatisticsRepository {
+
+    private static final int MAX_UPSERT_ATTEMPTS = 2;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public boolean addExecutionRequest(UUID projectId, UUID testPlanId, Date day, UUID executionRequestId,
+                                       Map<String, Long> increments) {
+        Query query = new Query(where(_ID).is(TestPlanDailyStatistics.buildId(testPlanId, day))
+                .and(EXECUTION_REQUEST_IDS_FIELD).ne(executionRequestId));
+        Update update = new Update()
+                .setOnInsert(PROJECT_ID_FIELD, projectId)
+                .setOnInsert(TEST_PLAN_ID_FIELD, testPlanId)
+                .setOnInsert(DAY_FIELD, day)
+                .addToSet(EXECUTION_REQUEST_IDS_FIELD, executionRequestId)
+                .inc(EXECUTION_REQUESTS_COUNT_FIELD, 1);
+        increments.forEach(update::inc);
+        // upsert fails with duplicate key if statistics of the day already contain execution request
+        // or if they were inserted concurrently, in the last case the second attempt updates them
+        for (int attempt = 1; ; attempt++) {
+            try {
+                mongoTemplate.upsert(query, update, TestPlanDailyStatistics.class);
+                return true;
+            } catch (DuplicateKeyException e) {
+                if (attempt >= MAX_UPSERT_ATTEMPTS) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean moveRootCause(UUID executionRequestId, Date day, String previousRootCauseKey,
+                                 String rootCauseKey) {
+        Criteria criteria = where(EXECUTION_REQUEST_IDS_FIELD).is(executionRequestId);
+        if (nonNull(day)) {
+            criteria.and(DAY_FIELD).is(day);
+        }
+        Query query = new Query(criteria).with(Sort.by(Sort.Direction.DESC, DAY_FIELD));
+        Update update = new Update()
+                .inc(ROOT_CAUSES_FIELD + "." + previousRootCauseKey, -1)
+                .inc(ROOT_CAUSES_FIELD + "." + rootCauseKey, 1);
+        return nonNull(mongoTemplate.findAndModify(query, update, TestPlanDailyStatistics.class));
+    }
+}
@@ -23,19 +23,24 @@ import static org.springframework.util.CollectionUtils.isEmpty;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import org.qubership.atp.ram.dto.response.BaseEntityResponse;
 import org.qubership.atp.ram.dto.response.CompareTreeTestRunResponse;
 import org.qubership.atp.ram.dto.response.PaginationResponse;
 import org.qubership.atp.ram.enums.ExecutionStatuses;
 import org.qubership.atp.ram.enums.TestingStatuses;
+import org.qubership.atp.ram.model.ExecutionRequestTestRunsSummary;
 import org.qubership.atp.ram.models.AnalyzedTestRunSortedColumns;
 import org.qubership.atp.ram.models.ExecutionRequest;
 import org.qubership.atp.ram.models.LogRecord;
@@ -44,11 +49,16 @@ import org.qubership.atp.ram.models.TestRun;
 import org.qubership.atp.ram.models.TestRunSearchRequest;
 import org.qubership.atp.ram.models.logrecords.parts.FileType;
 import org.qubership.atp.ram.repositories.CustomTestRunRepository;
+import org.qubership.atp.ram.utils.StreamUtils;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
 import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
 import org.springframework.data.mongodb.core.aggregation.GraphLookupOperation;
 import org.springframework.data.mongodb.core.aggregation.LookupOperation;
 import org.springframework.data.mongodb.core.mapping.Document;
@@ -58,6 +68,7 @@ import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
 import com.mongodb.BasicDBObject;
+import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.result.UpdateResult;
 import lombok.extern.slf4j.Slf4j;
 
@@ -84,6 +95,12 @@ public class CustomTestRunRepositoryImpl extends CustomRamObjectImpl implements
     private static final String TESTCASE_NAME = "testCaseName";
     private static final String TESTING_STATUS = "testingStatus";
     private static final String ROOT_CAUSE_ID = "rootCauseId";
+    private static final String ISSUES_CALCULATED_DATE = "issuesCalculatedDate";
+    private static final String FDR_WAS_SENT = "fdrWasSent";
+    private static final String FDR_LINK = "fdrLink";
+    private static final String IN_PROGRESS_COUNT = "inProgressCount";
+    private static final String NOT_STARTED_COUNT = "notStartedCount";
+    private static final String LAST_FINISH_DATE = "lastFinishDate";
     private static final String COMMENT_TEXT = "comment.text";
     private static final String $_ID = OPERATOR + ID;
     private static final String LOG_RECORD_TEST_RUN_ID = "testRunId";
@@ -256,6 +273,27 @@ public class CustomTestRunRepositoryImpl extends CustomRamObjectImpl implements
         return mongoTemplate.find(query, TestRun.class);
     }
 
+    @Override
+    public Stream<TestRun> streamShortTestRunsByExecutionRequestIdOrderByName(UUID executionRequestId,
+                                                                              Set<TestingStatuses> testingStatuses,
+                                                                              Set<UUID> rootCauseIds) {
+        Query query = new Query(where(EXECUTION_REQUEST_ID).is(executionRequestId));
+        if (testingStatuses != null) {
+            query.addCriteria(where(TESTING_STATUS).in(testingStatuses));
+        }
+        if (rootCauseIds != null) {
+            query.addCriteria(where(ROOT_CAUSE_ID).in(rootCauseIds));
+        }
+        query.fields().include(ID);
+        query.fields().include(NAME);
+        query.fields().include(TESTCASE_ID);
+        query.fields().include(LABEL_IDS);
+        query.fields().include(TESTING_STATUS);
+        query.fields().include(DURATION);
+        query.with(Sort.by(Sort.Direction.ASC, NAME));
+        return mongoTemplate.stream(query, TestRun.class);
+    }
+
     /**
      * Find project id by test run id.
      * db.testrun.aggregate([
@@ -412,6 +450,157 @@ public class CustomTestRunRepositoryImpl extends CustomRamObjectImpl implements
                 testRunId, executionStatus, testingStatus, finishDate, duration, updateResult);
     }
 
+    @Override
+    public void updateTestingStatusesByPriority(Map<UUID, TestingStatuses> testRunStatuses) {
+        if (isEmpty(testRunStatuses)) {
+            return;
+        }
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TestRun.class);
+        StreamUtils.groupKeysByValue(testRunStatuses).forEach((status, testRunIds) -> {
+            List<TestingStatuses> replacedStatuses = new ArrayList<>(TestingStatuses.getLowerPriorityStatuses(status));
+            replacedStatuses.add(null);
+            bulkOperations.updateMulti(
+                    new Query(where(_ID).in(testRunIds).and(TESTING_STATUS).in(replacedStatuses)),
+                    new Update().set(TESTING_STATUS, status));
+        });
+        BulkWriteResult result = bulkOperations.execute();
+        log.debug("Testing statuses of {} test runs were raised, modified: {}", testRunStatuses.size(),
+                result.getModifiedCount());
+    }
+
+    @Override
+    public void updateFdrWasSentByIds(Map<UUID, String> fdrLinks) {
+        if (isEmpty(fdrLinks)) {
+            return;
+        }
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TestRun.class);
+        List<UUID> testRunsWithoutLink = new ArrayList<>();
+        fdrLinks.forEach((testRunId, fdrLink) -> {
+            if (Objects.isNull(fdrLink)) {
+                testRunsWithoutLink.add(testRunId);
+            } else {
+                bulkOperations.updateOne(new Query(where(_ID).is(testRunId)),
+                        new Update().set(FDR_WAS_SENT, true).set(FDR_LINK, fdrLink));
+            }
+        });
+        if (!testRunsWithoutLink.isEmpty()) {
+            bulkOperations.updateMulti(new Query(where(_ID).in(testRunsWithoutLink)),
+                    new Update().set(FDR_WAS_SENT, true));
+        }
+        BulkWriteResult result = bulkOperations.execute();
+        log.debug("FDRs of {} test runs were marked as sent, modified: {}", fdrLinks.size(),
+                result.getModifiedCount());
+    }
+
+    @Override
+    public void updateExecutionStatusByIdsAndStatusNot(Collection<UUID> testRunIds,
+                                                       ExecutionStatuses executionStatus,
+                                                       ExecutionStatuses excludedStatus) {
+        if (isEmpty(testRunIds)) {
+            return;
+        }
+        Query query = new Query(where(_ID).in(testRunIds).and(EXECUTION_STATUS).ne(excludedStatus));
+        Update update = new Update().set(EXECUTION_STATUS, executionStatus);
+
+        UpdateResult updateResult = mongoTemplate.updateMulti(query, update, TestRun.class);
+        log.debug("TestRuns: {} were updated with executionStatus: {} (skipped in status {}). {}",
+                testRunIds, executionStatus, excludedStatus, updateResult);
+    }
+
+    @Override
+    public void updateLastActivityByIds(Collection<UUID> testRunIds, Timestamp lastActivity) {
+        if (isEmpty(testRunIds)) {
+            return;
+        }
+        Query query = new Query(where(_ID).in(testRunIds));
+        Update update = new Update().max(TestRun.LAST_ACTIVITY_FIELD, lastActivity);
+
+        UpdateResult updateResult = mongoTemplate.updateMulti(query, update, TestRun.class);
+        log.trace("TestRuns: {} were updated with lastActivity: {}. {}", testRunIds, lastActivity, updateResult);
+    }
+
+    @Override
+    public List<TestRun> findAllByExecutionStatusAndInactiveSince(ExecutionStatuses executionStatus, Timestamp date) {
+        Criteria withoutLastActivity = where(TestRun.LAST_ACTIVITY_FIELD).is(null);
+        Query query = new Query(where(EXECUTION_STATUS).is(executionStatus).orOperator(
+                where(TestRun.LAST_ACTIVITY_FIELD).lt(date),
+                new Criteria().andOperator(withoutLastActivity, where(FINISH_DATE).lt(date)),
+                new Criteria().andOperator(withoutLastActivity, where(FINISH_DATE).is(null),
+                        where(START_DATE).lt(date))));
+        query.fields()
+                .include(EXECUTION_REQUEST_ID)
+                .include(START_DATE)
+                .include(FINISH_DATE)
+                .include(TestRun.LAST_ACTIVITY_FIELD);
+        return mongoTemplate.find(query, TestRun.class);
+    }
+
+    @Override
+    public int updateStatusesAndFinishDateByTestRuns(Collection<TestRun> testRuns,
+                                                     ExecutionStatuses expectedExecutionStatus,
+                                                     ExecutionStatuses executionStatus,
+                                                     TestingStatuses testingStatus,
+                                                     Timestamp finishDate) {
+        if (isEmpty(testRuns)) {
+            return 0;
+        }
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TestRun.class);
+        testRuns.forEach(testRun -> {
+            long duration = Objects.isNull(testRun.getStartDate()) ? 0
+                    : TimeUnit.MILLISECONDS.toSeconds(finishDate.getTime() - testRun.getStartDate().getTime());
+            bulkOperations.updateOne(
+                    new Query(where(_ID).is(testRun.getUuid()).and(EXECUTION_STATUS).is(expectedExecutionStatus)),
+                    new Update()
+                            .set(EXECUTION_STATUS, executionStatus)
+                            .set(TESTING_STATUS, testingStatus)
+                            .set(FINISH_DATE, finishDate)
+                            .set(DURATION, duration));
+        });
+        BulkWriteResult result = bulkOperations.execute();
+        log.debug("{} of {} test runs were updated with executionStatus: {}, testingStatus: {}, finishDate: {}",
+                result.getModifiedCount(), testRuns.size(), executionStatus, testingStatus, finishDate);
+        return result.getModifiedCount();
+    }
+
+    @Override
+    public void updateIssuesCalculatedDateByIds(Collection<UUID> testRunIds, Timestamp issuesCalculatedDate) {
+        if (isEmpty(testRunIds)) {
+            return;
+        }
+        Query query = new Query(where(_ID).in(testRunIds));
+        Update update = new Update().set(ISSUES_CALCULATED_DATE, issuesCalculatedDate);
+
+        UpdateResult updateResult = mongoTemplate.updateMulti(query, update, TestRun.class);
+        log.debug("TestRuns: {} were updated with issuesCalculatedDate: {}. {}",
+                testRunIds, issuesCalculatedDate, updateResult);
+    }
+
+    @Override
+    public List<ExecutionRequestTestRunsSummary> getTestRunsSummaryByExecutionRequestIds(
+            Collection<UUID> executionRequestIds) {
+        if (isEmpty(executionRequestIds)) {
+            return Collections.emptyList();
+        }
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(where(EXECUTION_REQUEST_ID).in(executionRequestIds)),
+                Aggregation.group(EXECUTION_REQUEST_ID)
+                        .sum(countOfExecutionStatus(ExecutionStatuses.IN_PROGRESS)).as(IN_PROGRESS_COUNT)
+                        .sum(countOfExecutionStatus(ExecutionStatuses.NOT_STARTED)).as(NOT_STARTED_COUNT)
+                        .max(FINISH_DATE).as(LAST_FINISH_DATE)
+                        .max(TESTCASE_ID).as(TESTCASE_ID),
+                project(IN_PROGRESS_COUNT, NOT_STARTED_COUNT, LAST_FINISH_DATE, TESTCASE_ID)
+                        .and(EXECUTION_REQUEST_ID).previousOperation());
+        return mongoTemplate.aggregate(aggregation, TEST_RUN_COLLECTION_NAME, ExecutionRequestTestRunsSummary.class)
+                .getMappedResults();
+    }
+
+    private static AggregationExpression countOfExecutionStatus(ExecutionStatuses executionStatus) {
+        return ConditionalOperators
+                .when(ComparisonOperators.Eq.valueOf(EXECUTION_STATUS).equalToValue(executionStatus.name()))
+                .then(1)
+                .otherwise(0);
+    }
+
     private List<AggregationOperation> getTestRunsGroupedByTestCases(List<UUID> executionRequestIds) {
         List<AggregationOperation> aggregationOperations = new ArrayList<>();
         aggregationOperations.add(
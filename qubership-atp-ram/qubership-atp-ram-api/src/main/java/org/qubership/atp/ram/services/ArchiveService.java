@@ -16,18 +16,15 @@
 
 package org.qubership.atp.ram.services;
 
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.UUID;
 
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
 import org.qubership.atp.ram.model.ExtendedFileData;
-import org.qubership.atp.ram.model.FileData;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -40,61 +37,36 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ArchiveService {
 
-    private static final String STORAGE_PATH = "./tmp/archives";
     private final ObjectMapper objectMapper;
     private final FileNamesService fileNamesService;
 
     /**
-     * Create zip archive with specified files in it.
+     * Write zip archive with specified files directly to output stream.
+     * Files are written one by one and content of each file is copied from its resource,
+     * so neither the files nor the archive are held in memory or on disk.
      *
-     * @param files              list of FileData to store to archive
-     * @param executionRequestId id of execution request to form proper archive name
-     * @return path to created archive
+     * @param files              list of files with resources to store to archive
+     * @param executionRequestId id of execution request
+     * @param outputStream       stream to write archive to, it is not closed
      * @throws IOException if something is wrong with writing to archive
      */
-    public File writeFileDataToArchive(List<ExtendedFileData> files, UUID executionRequestId) throws IOException {
+    public void writeFilesToArchive(List<ExtendedFileData> files, UUID executionRequestId,
+                                    OutputStream outputStream) throws IOException {
         logFileNamesAndExecutionRequestIdIfNecessary(files, executionRequestId);
-        createFolderForTempArchivesIfNecessary();
-
-        String archivePath = STORAGE_PATH + "/all_" + executionRequestId.toString() + ".zip";
-        FileOutputStream fos = getArchiveFileOutputStream(archivePath);
-        writeEachFileDataToArchive(files, fos);
-
-        return new File(archivePath);
-    }
-
-    private void writeEachFileDataToArchive(List<ExtendedFileData> extendedFilesList,
-                                            FileOutputStream fos) throws IOException {
-        try (ZipArchiveOutputStream zipOutputStream = new ZipArchiveOutputStream(fos)) {
-            for (ExtendedFileData extendedFile : extendedFilesList) {
-                writeExtendedFileToArchive(zipOutputStream, extendedFile);
-            }
-        }
-    }
-
-    private void writeExtendedFileToArchive(ZipArchiveOutputStream zipOutputStream,
-                                            ExtendedFileData potFile) {
-        FileData file = potFile.getFileData();
-        writeToZipFile(file.getContent(), zipOutputStream, file.getSource());
-    }
-
-    private FileOutputStream getArchiveFileOutputStream(String archivePath) throws IOException {
-        FileOutputStream fos;
-        File archive = new File(archivePath);
-        if (archive.createNewFile()) {
-            fos = new FileOutputStream(archivePath);
-        } else {
-            log.error("Cannot create archive to store files at path: {}", archivePath);
-            throw new IOException("Cannot create archive to store files at path: " + archivePath);
+        ZipArchiveOutputStream zipOutputStream = new ZipArchiveOutputStream(outputStream);
+        for (ExtendedFileData file : files) {
+            writeFileToArchive(zipOutputStream, file);
         }
-        return fos;
+        zipOutputStream.finish();
     }
 
-    private void createFolderForTempArchivesIfNecessary() throws IOException {
-        if (Files.notExists(Path.of(STORAGE_PATH)) && !new File(STORAGE_PATH).mkdirs()) {
-            log.error("Cannot create folder for temp archives at path: {}", STORAGE_PATH);
-            throw new IOException("Cannot create folder structure to path: " + STORAGE_PATH);
+    private void writeFileToArchive(ZipArchiveOutputStream zipOutputStream, ExtendedFileData file)
+            throws IOException {
+        zipOutputStream.putArchiveEntry(new ZipArchiveEntry(file.getFileData().getSource()));
+        try (InputStream content = file.getResource().getInputStream()) {
+            content.transferTo(zipOutputStream);
         }
+        zipOutputStream.closeArchiveEntry();
     }
 
     private void logFileNamesAndExecutionRequestIdIfNecessary(List<ExtendedFileData> files, UUID executionRequestId) {
@@ -106,7 +78,7 @@ public class ArchiveService {
     private void logFileNamesAndExecutionRequestId(List<ExtendedFileData> files, UUID executionRequestId) {
         try {
             List<String> fileNames = fileNamesService.getFileNamesFromFilesList(files);
-            log.info("writeFileDataToArchive Writing files: '{}', executionRequestId: '{}'",
+            log.info("writeFilesToArchive Writing files: '{}', executionRequestId: '{}'",
                     objectMapper.writeValueAsString(fileNames),
                     executionRequestId.toString());
         } catch (JsonProcessingException exception) {
@@ -114,16 +86,4 @@ public class ArchiveService {
         }
 
     }
-
-    private void writeToZipFile(byte[] content, ZipArchiveOutputStream zipStream, String entryName) {
-        try {
-            ZipArchiveEntry zipEntry = new ZipArchiveEntry(entryName);
-            zipStream.putArchiveEntry(zipEntry);
-            zipStream.write(content, 0, content.length);
-
-            zipStream.closeArchiveEntry();
-        } catch (IOException e) {
-            log.error("Error while writing file {} to zip. Exception:", entryName, e);
-        }
-    }
 }
@@ -29,6 +29,8 @@ import java.util.UUID;
 import org.qubership.atp.integration.configuration.model.KafkaMailResponse;
 import org.qubership.atp.integration.configuration.model.KafkaMailResponseStatus;
 import org.qubership.atp.integration.configuration.model.MailResponse;
+import org.qubership.atp.ram.dto.event.ExecutionRequestEvent;
+import org.qubership.atp.ram.dto.event.WebSocketEventType;
 import org.qubership.atp.ram.enums.TestingStatuses;
 import org.qubership.atp.ram.models.ExecutionRequestDetails;
 import org.qubership.atp.ram.repositories.ExecutionRequestDetailsRepository;
@@ -52,6 +54,7 @@ public class ExecutionRequestDetailsService extends CrudService<ExecutionRequest
 
     private final ExecutionRequestDetailsRepository detailsRepository;
     private final ExecutionRequestReportingService reportingService;
+    private final WebSocketNotificationService notificationService;
 
     @Override
     protected MongoRepository<ExecutionRequestDetails, UUID> repository() {
@@ -181,6 +184,7 @@ public class ExecutionRequestDetailsService extends CrudService<ExecutionRequest
                     details.setMessage(message);
                     details.setDate(new Date());
                     detailsRepository.save(details);
+                    sendDetailsUpdate(details);
                     log.debug("Details for mail response successfully created");
                 }
             }
@@ -207,9 +211,23 @@ public class ExecutionRequestDetailsService extends CrudService<ExecutionRequest
         details.setMessage(message);
         details.setDate(new Date());
         detailsRepository.save(details);
+        sendDetailsUpdate(details);
         log.debug("Details for mail response successfully created");
     }
 
+    /**
+     * Notify clients of all replicas about new details of execution request. Mail responses are consumed
+     * by one replica only, while clients of the execution request can be connected to any of them.
+     */
+    private void sendDetailsUpdate(ExecutionRequestDetails details) {
+        try {
+            notificationService.sendEvent(new ExecutionRequestEvent<>(
+                    WebSocketEventType.EXECUTION_REQUEST_DETAILS_UPDATE, details.getExecutionRequestId(), details));
+        } catch (Exception e) {
+            log.error("Failed to send details update of execution request '{}'", details.getExecutionRequestId(), e);
+        }
+    }
+
     /**
      * Deleted ExecutionRequestConfig.
      */
@@ -34,14 +34,21 @@ public class ExecutionRequestNotificationService {
 
     private final WebSocketNotificationService notificationService;
     private final TestRunService testRunService;
+    private final ExecutionRequestStatusSubscriptionService subscriptionService;
 
     /**
      * Send execution request status update event.
+     * Ignored when status updates are pushed to subscribers of execution request topic by
+     * {@link ExecutionRequestStatusSubscriptionService}.
      *
      * @param executionRequestId execution request id
      * @param request filter request
      */
     public void sendStatusUpdate(UUID executionRequestId, StatusUpdateRequest request) {
+        if (subscriptionService.isEnabled()) {
+            log.debug("Status updates for execution request '{}' are pushed to subscribers", executionRequestId);
+            return;
+        }
         log.info("Send status update event for execution request '{}' with filter: {}", executionRequestId, request);
         StatusUpdateResponse statusUpdateResponse = testRunService.getStatusUpdate(request);
         ExecutionRequestEvent<StatusUpdateResponse> event = new ExecutionRequestEvent<>(
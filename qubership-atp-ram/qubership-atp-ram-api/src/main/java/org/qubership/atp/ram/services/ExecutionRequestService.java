@@ -24,7 +24,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -40,7 +39,6 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import org.apache.commons.lang3.StringUtils;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.PropertyMap;
 import org.qubership.atp.auth.springbootstarter.exceptions.AtpEntityNotFoundException;
@@ -64,6 +62,7 @@ import org.qubership.atp.ram.entities.ComparisonTestRun;
 import org.qubership.atp.ram.enums.DefaultSuiteNames;
 import org.qubership.atp.ram.enums.ExecutionRequestWidgets;
 import org.qubership.atp.ram.enums.ExecutionStatuses;
+import org.qubership.atp.ram.enums.Flags;
 import org.qubership.atp.ram.enums.TestingStatuses;
 import org.qubership.atp.ram.exceptions.executionrequests.RamExecutionRequestIdNotFoundException;
 import org.qubership.atp.ram.model.BaseSearchRequest;
@@ -74,6 +73,7 @@ import org.qubership.atp.ram.models.EnvironmentsInfo;
 import org.qubership.atp.ram.models.ExecutionRequest;
 import org.qubership.atp.ram.models.ExecutionRequestConfig;
 import org.qubership.atp.ram.models.ExecutionRequestRatesResponse;
+import org.qubership.atp.ram.models.ExecutionRequestStatistics;
 import org.qubership.atp.ram.models.InitialExecutionRequest;
 import org.qubership.atp.ram.models.Label;
 import org.qubership.atp.ram.models.LogRecord;
@@ -88,6 +88,8 @@ import org.qubership.atp.ram.models.response.PaginatedResponse;
 import org.qubership.atp.ram.repositories.CustomExecutionRequestRepository;
 import org.qubership.atp.ram.repositories.ExecutionRequestConfigRepository;
 import org.qubership.atp.ram.repositories.ExecutionRequestRepository;
+import org.qubership.atp.ram.services.failpatterns.FailedMessageDictionary;
+import org.qubership.atp.ram.services.failpatterns.FailedMessageDictionaryService;
 import org.qubership.atp.ram.services.filtering.ExecutionRequestFilteringService;
 import org.qubership.atp.ram.services.sorting.ExecutionRequestSortingService;
 import org.qubership.atp.ram.utils.ListUtils;
@@ -148,6 +150,9 @@ public class ExecutionRequestService extends CrudService<ExecutionRequest> {
     private final LabelsService labelsService;
     private final LockManager lockManager;
     private final RootCauseService rootCauseService;
+    private final FailedMessageDictionaryService failedMessageDictionaryService;
+    private final ExecutionRequestStatisticsService executionRequestStatisticsService;
+    private final TestPlanDailyStatisticsService testPlanDailyStatisticsService;
 
     @Value("${limit.testresults.catalog.dashboard}")
     private int limit;
@@ -215,6 +220,10 @@ public class ExecutionRequestService extends CrudService<ExecutionRequest> {
         return testRunService.findAllByExecutionRequestId(executionRequestId);
     }
 
+    public List<TestRun> getChartTestRuns(Collection<UUID> executionRequestIds) {
+        return testRunService.getChartTestRunsByExecutionRequestIds(executionRequestIds);
+    }
+
     /**
      * Get all Test Run ids by Execution Request id.
      *
@@ -837,6 +846,13 @@ public class ExecutionRequestService extends CrudService<ExecutionRequest> {
         return compTestRuns;
     }
 
+    /**
+     * Returns list of ERs with filled only uuid, executionStatus and startDate fields.
+     */
+    public List<ExecutionRequest> getExecutionStatusAndStartDateByIds(Collection<UUID> executionRequestIds) {
+        return repository.findExecutionStatusAndStartDateByUuidIn(executionRequestIds);
+    }
+
     /**
      * Returns list of ERs with filled only requestUuid field.
      */
@@ -871,6 +887,8 @@ public class ExecutionRequestService extends CrudService<ExecutionRequest> {
         log.debug("Start calculate duration for ER {}", executionRequestId);
         calculateDuration(er);
         save(er);
+        executionRequestStatisticsService.markStale(Collections.singletonList(executionRequestId));
+        testPlanDailyStatisticsService.addExecutionRequest(er, testRuns);
         log.debug("Execution Request: {} was finished and calculate issues.", executionRequestId);
     }
 
@@ -1246,9 +1264,7 @@ public class ExecutionRequestService extends CrudService<ExecutionRequest> {
         final Executor executor =
                 new Executor(executionRequest.getExecutorId(), executionRequest.getExecutorName());
         response.setExecutor(executor.getUsername());
-        final List<TestRun> testRuns = getAllTestRuns(executionRequestId);
-        final Map<TestingStatuses, TestingStatusesStat> stats =
-                rateCalculator.calculateTestRunsTestingStatusStats(executionRequest, testRuns);
+        final Map<TestingStatuses, TestingStatusesStat> stats = getTestingStatusStats(executionRequest);
         setStatusStat(response, TestingStatuses.PASSED, stats,
                 ExecutionRequestRatesResponse::setPassedRateCount, ExecutionRequestRatesResponse::setPassedRate);
         setStatusStat(response, TestingStatuses.WARNING, stats,
@@ -1263,6 +1279,36 @@ public class ExecutionRequestService extends CrudService<ExecutionRequest> {
         return response;
     }
 
+    /**
+     * Get testing status stats from execution request statistics, if they are enabled and applicable,
+     * otherwise calculate them from test runs.
+     * Statistics are not applicable if some test runs are ignored in pass rate by execution request flags
+     * or some test runs have no statuses yet.
+     */
+    private Map<TestingStatuses, TestingStatusesStat> getTestingStatusStats(ExecutionRequest executionRequest) {
+        if (executionRequestStatisticsService.isEnabled() && !isPassRateFilteredByFlags(executionRequest)) {
+            ExecutionRequestStatistics statistics = executionRequestStatisticsService.get(executionRequest.getUuid());
+            if (!hasCountsWithoutStatus(statistics.getTestingStatuses())
+                    && !hasCountsWithoutStatus(statistics.getExecutionStatuses())) {
+                return RateCalculator.calculateTestingStatusStats(
+                        ExecutionRequestStatisticsService.getTestingStatusCounts(statistics));
+            }
+        }
+        final List<TestRun> testRuns = getAllTestRuns(executionRequest.getUuid());
+        return rateCalculator.calculateTestRunsTestingStatusStats(executionRequest, testRuns);
+    }
+
+    private boolean isPassRateFilteredByFlags(ExecutionRequest executionRequest) {
+        Set<UUID> flagIds = executionRequest.getFlagIds();
+        return nonNull(executionRequest.getTestScopeId()) && nonNull(flagIds)
+                && (flagIds.contains(Flags.IGNORE_PREREQUISITE_IN_PASS_RATE.getId())
+                || flagIds.contains(Flags.IGNORE_VALIDATION_IN_PASS_RATE.getId()));
+    }
+
+    private boolean hasCountsWithoutStatus(Map<String, Integer> counts) {
+        return counts.getOrDefault(ExecutionRequestStatistics.NONE_KEY, 0) > 0;
+    }
+
     private void setStatusStat(ExecutionRequestRatesResponse response,
                                TestingStatuses status,
                                Map<TestingStatuses, TestingStatusesStat> statsMap,
@@ -1288,13 +1334,15 @@ public class ExecutionRequestService extends CrudService<ExecutionRequest> {
         List<TestRun> allFailedTestRuns = getAllFailedTestRuns(executionRequestId);
         Set<UUID> allFailedTestRunIds = StreamUtils.extractIds(allFailedTestRuns);
         log.debug("Found failed test runs: {}", allFailedTestRunIds);
-        List<LogRecord> allFailedLogRecords = testRunService.getAllFailedLogRecords(allFailedTestRunIds);
-        log.debug("Found failed log records: {}", allFailedLogRecords.size());
+        FailedMessageDictionary dictionary = failedMessageDictionaryService.getDictionary(executionRequestId);
+        log.debug("Found failed log records: {}", dictionary.getLogRecordsCount());
         Pattern pattern = Pattern.compile(request.getRegex());
-        List<LogRecord> matchedLogRecords = allFailedLogRecords.stream()
-                .filter(logRecord -> !StringUtils.isEmpty(logRecord.getMessage()))
-                .filter(logRecord -> pattern.matcher(logRecord.getMessage()).find())
-                .sorted(Comparator.comparing(LogRecord::getMessage))
+        List<LogRecord> matchedLogRecords = failedMessageDictionaryService
+                .findMatchingMessages(executionRequestId, dictionary, pattern)
+                .stream()
+                .flatMap(message -> dictionary.getPostings(message).stream()
+                        .filter(posting -> allFailedTestRunIds.contains(posting.getTestRunId()))
+                        .map(posting -> toLogRecord(message, posting)))
                 .collect(Collectors.toList());
         log.debug("Matched log records: {}", StreamUtils.extractIds(matchedLogRecords));
         Integer page = request.getPage();
@@ -1316,6 +1364,15 @@ public class ExecutionRequestService extends CrudService<ExecutionRequest> {
         return new LogRecordRegexSearchResponse(logRecords, matchedLogRecords.size());
     }
 
+    private LogRecord toLogRecord(String message, FailedMessageDictionary.Posting posting) {
+        LogRecord logRecord = new LogRecord();
+        logRecord.setUuid(posting.getLogRecordId());
+        logRecord.setName(posting.getLogRecordName());
+        logRecord.setMessage(message);
+        logRecord.setTestRunId(posting.getTestRunId());
+        return logRecord;
+    }
+
     /**
      * Get map of Test Runs with ER Id's as keys.
      *
@@ -0,0 +1,389 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.services;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.qubership.atp.ram.models.ExecutionRequestStatistics.DURATIONS_FIELD;
+import static org.qubership.atp.ram.models.ExecutionRequestStatistics.EXECUTION_STATUSES_FIELD;
+import static org.qubership.atp.ram.models.ExecutionRequestStatistics.NONE_KEY;
+import static org.qubership.atp.ram.models.ExecutionRequestStatistics.NOT_PASSED_ROOT_CAUSES_FIELD;
+import static org.qubership.atp.ram.models.ExecutionRequestStatistics.ROOT_CAUSES_FIELD;
+import static org.qubership.atp.ram.models.ExecutionRequestStatistics.TESTING_STATUSES_FIELD;
+import static org.qubership.atp.ram.models.ExecutionRequestStatistics.TEST_RUNS_COUNT_FIELD;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.qubership.atp.ram.enums.ExecutionStatuses;
+import org.qubership.atp.ram.enums.TestingStatuses;
+import org.qubership.atp.ram.models.ExecutionRequestStatistics;
+import org.qubership.atp.ram.models.TestRun;
+import org.qubership.atp.ram.repositories.ExecutionRequestStatisticsRepository;
+import org.qubership.atp.ram.repositories.LogRecordRepository;
+import org.qubership.atp.ram.repositories.TestRunRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+
+import com.google.common.collect.Lists;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maintains {@link ExecutionRequestStatistics} rollups, so that rates and charts of execution requests
+ * are read from one document instead of all test runs.
+ * Saved test runs are applied by increments of counters, see {@link TestRunStatisticsListener}.
+ * Changes with unknown previous state of test runs mark rollups as stale. Stale rollups are recalculated
+ * from test runs on read and by scheduled reconciliation, so recalculation is only a repair path.
+ * Save of test run and increment of its rollup are not atomic, so a recalculation stored between them
+ * counts the test run twice. Rollups are marked stale when execution request is finished,
+ * so that final counters are recalculated when test runs are not saved anymore.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ExecutionRequestStatisticsService {
+
+    /**
+     * Upper bounds of test run duration histogram buckets in seconds.
+     */
+    static final long[] DURATION_BUCKETS_SEC = {60, 300, 900, 1800, 3600, 10800};
+    static final String DURATION_BUCKET_INFINITY = "inf";
+
+    private final ExecutionRequestStatisticsRepository statisticsRepository;
+    private final TestRunRepository testRunRepository;
+    private final LogRecordRepository logRecordRepository;
+
+    @Value("${atp.ram.execution.request.statistics.enabled:true}")
+    private boolean enabled;
+
+    @Value("${atp.ram.execution.request.statistics.reconcile.batch.size:50}")
+    private int reconcileBatchSize = 50;
+
+    @Value("${atp.ram.execution.request.statistics.test.runs.batch.size:1000}")
+    private int testRunsBatchSize = 1000;
+
+    @Value("${atp.ram.execution.request.statistics.reconcile.attempts:3}")
+    private int reconcileAttempts = 3;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Apply saved test run to statistics of its execution request.
+     *
+     * @param previous key of test run before save, null if test run is new
+     * @param testRun  saved test run
+     */
+    public void onTestRunSaved(TestRunStatisticsKey previous, TestRun testRun) {
+        UUID executionRequestId = testRun.getExecutionRequestId();
+        if (!enabled || isNull(executionRequestId)) {
+            return;
+        }
+        TestRunStatisticsKey current = TestRunStatisticsKey.of(testRun);
+        if (current.equals(previous)) {
+            return;
+        }
+        Map<String, Integer> increments = new HashMap<>();
+        if (isNull(previous)) {
+            increments.put(TEST_RUNS_COUNT_FIELD, 1);
+        } else {
+            addIncrements(increments, previous, -1);
+        }
+        addIncrements(increments, current, 1);
+        try {
+            statisticsRepository.increment(executionRequestId, increments);
+        } catch (Exception e) {
+            log.error("Failed to update statistics of execution request '{}' by test run '{}'",
+                    executionRequestId, testRun.getUuid(), e);
+        }
+    }
+
+    /**
+     * Mark statistics of execution requests to be recalculated, e.g. when test runs are changed by bulk updates
+     * or saved without known previous state, or when execution requests are finished.
+     *
+     * @param executionRequestIds execution request ids
+     */
+    public void markStale(Collection<UUID> executionRequestIds) {
+        if (!enabled || CollectionUtils.isEmpty(executionRequestIds)) {
+            return;
+        }
+        try {
+            statisticsRepository.markStale(executionRequestIds);
+        } catch (Exception e) {
+            log.error("Failed to mark statistics of execution requests {} as stale", executionRequestIds, e);
+        }
+    }
+
+    /**
+     * Calculate increments of statistics for raising of test run testing statuses by priority,
+     * see {@link TestRunRepository#updateTestingStatusesByPriority(Map)}.
+     * Should be called before the update, while previous statuses are stored.
+     *
+     * @param testRunStatuses new testing statuses by test run ids
+     * @return increments by execution request ids
+     */
+    public Map<UUID, Map<String, Integer>> getRaisedTestingStatusesIncrements(
+            Map<UUID, TestingStatuses> testRunStatuses) {
+        Map<UUID, Map<String, Integer>> incrementsByExecutionRequest = new HashMap<>();
+        if (!enabled || CollectionUtils.isEmpty(testRunStatuses)) {
+            return incrementsByExecutionRequest;
+        }
+        testRunRepository.findStatisticsFieldsByUuidIn(testRunStatuses.keySet()).forEach(testRun -> {
+            TestingStatuses previousStatus = testRun.getTestingStatus();
+            TestingStatuses status = testRunStatuses.get(testRun.getUuid());
+            boolean isRaised = isNull(previousStatus)
+                    || TestingStatuses.getLowerPriorityStatuses(status).contains(previousStatus);
+            if (isRaised && nonNull(testRun.getExecutionRequestId())) {
+                TestRunStatisticsKey previous = TestRunStatisticsKey.of(testRun);
+                testRun.setTestingStatus(status);
+                Map<String, Integer> increments = incrementsByExecutionRequest
+                        .computeIfAbsent(testRun.getExecutionRequestId(), id -> new HashMap<>());
+                addIncrements(increments, previous, -1);
+                addIncrements(increments, TestRunStatisticsKey.of(testRun), 1);
+            }
+        });
+        return incrementsByExecutionRequest;
+    }
+
+    /**
+     * Increment statistics of execution requests.
+     *
+     * @param incrementsByExecutionRequest increments by execution request ids
+     */
+    public void increment(Map<UUID, Map<String, Integer>> incrementsByExecutionRequest) {
+        incrementsByExecutionRequest.forEach((executionRequestId, increments) -> {
+            try {
+                increments.values().removeIf(value -> value == 0);
+                statisticsRepository.increment(executionRequestId, increments);
+            } catch (Exception e) {
+                log.error("Failed to update statistics of execution request '{}'", executionRequestId, e);
+            }
+        });
+    }
+
+    /**
+     * Get statistics of execution request, statistics are recalculated if they do not exist yet or are stale.
+     *
+     * @param executionRequestId execution request id
+     * @return statistics
+     */
+    public ExecutionRequestStatistics get(UUID executionRequestId) {
+        return statisticsRepository.findById(executionRequestId)
+                .filter(statistics -> !statistics.isStale())
+                .orElseGet(() -> reconcile(executionRequestId));
+    }
+
+    /**
+     * Get statistics of execution requests, statistics are recalculated if they do not exist yet or are stale.
+     *
+     * @param executionRequestIds execution request ids
+     * @return statistics by execution request ids
+     */
+    public Map<UUID, ExecutionRequestStatistics> getAll(Collection<UUID> executionRequestIds) {
+        Map<UUID, ExecutionRequestStatistics> statisticsMap = new HashMap<>();
+        statisticsRepository.findAllByExecutionRequestIdIn(executionRequestIds).stream()
+                .filter(statistics -> !statistics.isStale())
+                .forEach(statistics -> statisticsMap.put(statistics.getExecutionRequestId(), statistics));
+        executionRequestIds.stream()
+                .filter(executionRequestId -> !statisticsMap.containsKey(executionRequestId))
+                .forEach(executionRequestId -> statisticsMap.put(executionRequestId, reconcile(executionRequestId)));
+        return statisticsMap;
+    }
+
+    /**
+     * Get counts of test runs by testing statuses, test runs without status are not counted.
+     *
+     * @param statistics statistics of execution request
+     * @return counts by testing statuses
+     */
+    public static Map<TestingStatuses, Integer> getTestingStatusCounts(ExecutionRequestStatistics statistics) {
+        Map<TestingStatuses, Integer> counts = new EnumMap<>(TestingStatuses.class);
+        statistics.getTestingStatuses().forEach((status, count) -> {
+            if (!NONE_KEY.equals(status) && count > 0) {
+                counts.put(TestingStatuses.valueOf(status), count);
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Get counts of test runs by root cause ids, test runs without root cause are counted by null key.
+     *
+     * @param rootCauses root causes counters of statistics
+     * @return counts by root cause ids
+     */
+    public static Map<UUID, Integer> getRootCauseCounts(Map<String, Integer> rootCauses) {
+        Map<UUID, Integer> counts = new HashMap<>();
+        rootCauses.forEach((rootCauseId, count) -> {
+            if (count > 0) {
+                counts.put(NONE_KEY.equals(rootCauseId) ? null : UUID.fromString(rootCauseId), count);
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Recalculate statistics of execution request from its test runs.
+     * Recalculated statistics are not stored if they were incremented or marked stale during recalculation,
+     * then recalculation is repeated up to configured count of attempts. If all attempts fail,
+     * statistics stay stale and are recalculated again later, recalculated ones are returned anyway.
+     *
+     * @param executionRequestId execution request id
+     * @return recalculated statistics
+     */
+    public ExecutionRequestStatistics reconcile(UUID executionRequestId) {
+        final int attempts = Math.max(reconcileAttempts, 1);
+        ExecutionRequestStatistics statistics = null;
+        for (int attempt = 1; attempt <= attempts; attempt++) {
+            long expectedVersion = statisticsRepository.findById(executionRequestId)
+                    .map(ExecutionRequestStatistics::getVersion)
+                    .orElse(-1L);
+            statistics = calculate(executionRequestId);
+            statistics.setVersion(Math.max(expectedVersion, 0));
+            statistics.setReconciledWhen(new Date());
+            if (statisticsRepository.replaceIfVersion(statistics, expectedVersion)) {
+                return statistics;
+            }
+            log.debug("Statistics of execution request '{}' were changed during recalculation, attempt {} of {}",
+                    executionRequestId, attempt, attempts);
+        }
+        return statistics;
+    }
+
+    private ExecutionRequestStatistics calculate(UUID executionRequestId) {
+        Map<String, Integer> counters = new HashMap<>();
+        List<UUID> testRunIds = new ArrayList<>();
+        try (Stream<TestRun> testRuns = testRunRepository.findStatisticsFieldsByExecutionRequestId(
+                executionRequestId)) {
+            testRuns.forEach(testRun -> {
+                testRunIds.add(testRun.getUuid());
+                counters.merge(TEST_RUNS_COUNT_FIELD, 1, Integer::sum);
+                addIncrements(counters, TestRunStatisticsKey.of(testRun), 1);
+            });
+        }
+        ExecutionRequestStatistics statistics = toStatistics(executionRequestId, counters);
+        long failedLogRecordsCount = 0;
+        for (List<UUID> batch : Lists.partition(testRunIds, testRunsBatchSize)) {
+            Long count = logRecordRepository.countAllByTestRunIdInAndTestingStatus(batch, TestingStatuses.FAILED);
+            failedLogRecordsCount += isNull(count) ? 0 : count;
+        }
+        statistics.setFailedLogRecordsCount(failedLogRecordsCount);
+        return statistics;
+    }
+
+    /**
+     * Recalculate stale statistics by batches.
+     */
+    @Scheduled(fixedDelayString = "${atp.ram.execution.request.statistics.reconcile.delay.ms:30000}")
+    public void reconcileStale() {
+        if (!enabled) {
+            return;
+        }
+        List<UUID> executionRequestIds;
+        try {
+            executionRequestIds = statisticsRepository.findStaleExecutionRequestIds(reconcileBatchSize);
+        } catch (Exception e) {
+            log.error("Failed to find stale statistics of execution requests", e);
+            return;
+        }
+        executionRequestIds.forEach(executionRequestId -> {
+            try {
+                reconcile(executionRequestId);
+            } catch (Exception e) {
+                log.error("Failed to recalculate statistics of execution request '{}'", executionRequestId, e);
+            }
+        });
+    }
+
+    private static void addIncrements(Map<String, Integer> increments, TestRunStatisticsKey key, int increment) {
+        increments.merge(path(TESTING_STATUSES_FIELD, key.getTestingStatus()), increment, Integer::sum);
+        increments.merge(path(EXECUTION_STATUSES_FIELD, key.getExecutionStatus()), increment, Integer::sum);
+        increments.merge(path(ROOT_CAUSES_FIELD, key.getRootCauseId()), increment, Integer::sum);
+        if (TestingStatuses.PASSED != key.getTestingStatus()) {
+            increments.merge(path(NOT_PASSED_ROOT_CAUSES_FIELD, key.getRootCauseId()), increment, Integer::sum);
+        }
+        if (nonNull(key.getDurationBucket())) {
+            increments.merge(DURATIONS_FIELD + "." + key.getDurationBucket(), increment, Integer::sum);
+        }
+    }
+
+    private static String path(String field, Object key) {
+        return field + "." + (isNull(key) ? NONE_KEY : key instanceof Enum ? ((Enum<?>) key).name() : key);
+    }
+
+    private static ExecutionRequestStatistics toStatistics(UUID executionRequestId, Map<String, Integer> counters) {
+        ExecutionRequestStatistics statistics = new ExecutionRequestStatistics();
+        statistics.setExecutionRequestId(executionRequestId);
+        Map<String, Map<String, Integer>> fields = new HashMap<>();
+        fields.put(TESTING_STATUSES_FIELD, statistics.getTestingStatuses());
+        fields.put(EXECUTION_STATUSES_FIELD, statistics.getExecutionStatuses());
+        fields.put(ROOT_CAUSES_FIELD, statistics.getRootCauses());
+        fields.put(NOT_PASSED_ROOT_CAUSES_FIELD, statistics.getNotPassedRootCauses());
+        fields.put(DURATIONS_FIELD, statistics.getDurations());
+        counters.forEach((path, count) -> {
+            int separatorIndex = path.indexOf('.');
+            if (separatorIndex < 0) {
+                statistics.setTestRunsCount(count);
+            } else {
+                fields.get(path.substring(0, separatorIndex)).put(path.substring(separatorIndex + 1), count);
+            }
+        });
+        return statistics;
+    }
+
+    static String getDurationBucket(long durationSec) {
+        if (durationSec <= 0) {
+            return null;
+        }
+        for (long bucket : DURATION_BUCKETS_SEC) {
+            if (durationSec <= bucket) {
+                return String.valueOf(bucket);
+            }
+        }
+        return DURATION_BUCKET_INFINITY;
+    }
+
+    /**
+     * Fields of test run counted in statistics.
+     */
+    @Data
+    public static class TestRunStatisticsKey {
+
+        private final TestingStatuses testingStatus;
+        private final ExecutionStatuses executionStatus;
+        private final UUID rootCauseId;
+        private final String durationBucket;
+
+        public static TestRunStatisticsKey of(TestRun testRun) {
+            return new TestRunStatisticsKey(testRun.getTestingStatus(), testRun.getExecutionStatus(),
+                    testRun.getRootCauseId(), getDurationBucket(testRun.getDuration()));
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.services;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.springframework.util.CollectionUtils.isEmpty;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.qubership.atp.ram.dto.event.ExecutionRequestEvent;
+import org.qubership.atp.ram.dto.event.WebSocketEventType;
+import org.qubership.atp.ram.dto.response.StatusUpdateResponse;
+import org.qubership.atp.ram.dto.response.StatusUpdateResponse.BaseStatusUpdateResponse;
+import org.qubership.atp.ram.dto.response.StatusUpdateResponse.TestRunStatusUpdateResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pushes status updates of execution requests to their websocket topics.
+ * Subscriptions to topics are tracked by STOMP session events. On each tick statuses of every subscribed
+ * execution request are loaded once and only test runs changed since the previous tick are sent to the topic,
+ * so database load doesn't depend on number of viewers. After a new subscription statuses of all test runs
+ * are sent once, so a late subscriber gets the current state; log records are sent only when updated
+ * since the previous tick, the tree itself is loaded by clients via REST.
+ * Each replica pushes updates to its own subscribers, so the events are not relayed to other replicas.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ExecutionRequestStatusSubscriptionService {
+
+    private static final String DESTINATION_PREFIX =
+            WebSocketEventType.EXECUTION_REQUEST_STATUS_UPDATE.getDestinationPrefix() + "/";
+    private static final String SUBSCRIPTION_KEY_DELIMITER = ":";
+
+    private final TestRunService testRunService;
+    private final WebSocketNotificationService notificationService;
+
+    private final Map<UUID, Subscribers> subscribersByExecutionRequest = new ConcurrentHashMap<>();
+    private final Map<String, UUID> executionRequestBySubscription = new ConcurrentHashMap<>();
+
+    @Value("${atp.ram.execution.request.status.push.enabled:true}")
+    private boolean enabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Start tracking of execution request topic subscription.
+     *
+     * @param event STOMP subscribe event
+     */
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        if (!enabled) {
+            return;
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        UUID executionRequestId = parseExecutionRequestId(accessor.getDestination());
+        if (nonNull(executionRequestId)) {
+            subscribe(executionRequestId, accessor.getSessionId(), accessor.getSubscriptionId());
+        }
+    }
+
+    /**
+     * Stop tracking of execution request topic subscription.
+     *
+     * @param event STOMP unsubscribe event
+     */
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        unsubscribe(getSubscriptionKey(accessor.getSessionId(), accessor.getSubscriptionId()));
+    }
+
+    /**
+     * Stop tracking of all subscriptions of closed session.
+     *
+     * @param event STOMP session disconnect event
+     */
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        String sessionKeyPrefix = getSubscriptionKey(event.getSessionId(), "");
+        new ArrayList<>(executionRequestBySubscription.keySet()).stream()
+                .filter(subscriptionKey -> subscriptionKey.startsWith(sessionKeyPrefix))
+                .forEach(this::unsubscribe);
+    }
+
+    void subscribe(UUID executionRequestId, String sessionId, String subscriptionId) {
+        String subscriptionKey = getSubscriptionKey(sessionId, subscriptionId);
+        executionRequestBySubscription.put(subscriptionKey, executionRequestId);
+        subscribersByExecutionRequest.compute(executionRequestId, (id, subscribers) -> {
+            Subscribers executionRequestSubscribers = isNull(subscribers) ? new Subscribers() : subscribers;
+            executionRequestSubscribers.subscriptionKeys.add(subscriptionKey);
+            executionRequestSubscribers.snapshotRequested.set(true);
+            return executionRequestSubscribers;
+        });
+        log.debug("Session {} subscribed to status updates of execution request {}", sessionId, executionRequestId);
+    }
+
+    void unsubscribe(String subscriptionKey) {
+        UUID executionRequestId = executionRequestBySubscription.remove(subscriptionKey);
+        if (isNull(executionRequestId)) {
+            return;
+        }
+        subscribersByExecutionRequest.computeIfPresent(executionRequestId, (id, subscribers) -> {
+            subscribers.subscriptionKeys.remove(subscriptionKey);
+            return subscribers.subscriptionKeys.isEmpty() ? null : subscribers;
+        });
+        log.debug("Subscription {} to status updates of execution request {} is removed", subscriptionKey,
+                executionRequestId);
+    }
+
+    /**
+     * Push status updates of all subscribed execution requests.
+     */
+    @Scheduled(fixedDelayString = "${atp.ram.execution.request.status.push.delay.ms:2000}")
+    public void publishAll() {
+        subscribersByExecutionRequest.forEach((executionRequestId, subscribers) -> {
+            try {
+                publish(executionRequestId, subscribers);
+            } catch (Exception e) {
+                log.error("Failed to push status update for execution request {}", executionRequestId, e);
+            }
+        });
+    }
+
+    /**
+     * Send statuses of test runs changed since the previous tick, or of all test runs after a new subscription.
+     * Changes of the same test run are coalesced to its latest status.
+     */
+    private void publish(UUID executionRequestId, Subscribers subscribers) {
+        boolean isSnapshot = subscribers.snapshotRequested.getAndSet(false);
+        StatusUpdateResponse statusUpdate = testRunService.getStatusUpdate(executionRequestId, subscribers.lastLoaded);
+        List<TestRunStatusUpdateResponse> changedTestRuns = statusUpdate.getTestRuns().stream()
+                // known statuses are updated for every test run, also when the snapshot is sent
+                .filter(testRun -> subscribers.isChanged(testRun) || isSnapshot)
+                .collect(Collectors.toList());
+        subscribers.lastLoaded = statusUpdate.getLastLoaded();
+        if (changedTestRuns.isEmpty()) {
+            return;
+        }
+        log.debug("Push status update of {} test runs to {} subscribers of execution request {}",
+                changedTestRuns.size(), subscribers.subscriptionKeys.size(), executionRequestId);
+        notificationService.sendLocalEvent(new ExecutionRequestEvent<>(
+                WebSocketEventType.EXECUTION_REQUEST_STATUS_UPDATE, executionRequestId,
+                new StatusUpdateResponse(statusUpdate.getLastLoaded(), changedTestRuns)));
+    }
+
+    private static UUID parseExecutionRequestId(String destination) {
+        if (isNull(destination) || !destination.startsWith(DESTINATION_PREFIX)) {
+            return null;
+        }
+        try {
+            return UUID.fromString(destination.substring(DESTINATION_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            log.warn("Unexpected execution request topic destination: {}", destination);
+            return null;
+        }
+    }
+
+    private static String getSubscriptionKey(String sessionId, String subscriptionId) {
+        return sessionId + SUBSCRIPTION_KEY_DELIMITER + subscriptionId;
+    }
+
+    private static class Subscribers {
+        private final Set<String> subscriptionKeys = ConcurrentHashMap.newKeySet();
+        private final Map<UUID, BaseStatusUpdateResponse> testRunStatuses = new HashMap<>();
+        private final AtomicBoolean snapshotRequested = new AtomicBoolean(true);
+        private volatile Date lastLoaded = new Date();
+
+        private boolean isChanged(TestRunStatusUpdateResponse testRun) {
+            BaseStatusUpdateResponse status = new BaseStatusUpdateResponse(testRun.getId(),
+                    testRun.getExecutionStatus(), testRun.getTestingStatus());
+            BaseStatusUpdateResponse previousStatus = testRunStatuses.put(testRun.getId(), status);
+            return !status.equals(previousStatus) || !isEmpty(testRun.getLogRecords());
+        }
+    }
+}
@@ -44,6 +44,7 @@ import org.qubership.atp.ram.models.Project;
 import org.qubership.atp.ram.models.RootCause;
 import org.qubership.atp.ram.repositories.CustomFailPatternRepository;
 import org.qubership.atp.ram.repositories.FailPatternRepository;
+import org.qubership.atp.ram.services.failpatterns.FailPatternMatcherCache;
 import org.qubership.atp.ram.utils.StreamUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -66,12 +67,28 @@ public class FailPatternService extends CrudService<FailPattern> {
     private final FailPatternRepository repository;
     private final CustomFailPatternRepository customRepository;
     private final ModelMapper modelMapper;
+    private final FailPatternMatcherCache failPatternMatcherCache;
 
     @Override
     protected MongoRepository<FailPattern, UUID> repository() {
         return repository;
     }
 
+    @Override
+    public FailPattern save(FailPattern failPattern) {
+        FailPattern savedFailPattern = super.save(failPattern);
+        failPatternMatcherCache.invalidate(savedFailPattern.getProjectId());
+        return savedFailPattern;
+    }
+
+    @Override
+    public List<FailPattern> saveAll(List<FailPattern> failPatterns) {
+        List<FailPattern> savedFailPatterns = super.saveAll(failPatterns);
+        StreamUtils.extractIds(savedFailPatterns, FailPattern::getProjectId)
+                .forEach(failPatternMatcherCache::invalidate);
+        return savedFailPatterns;
+    }
+
     /**
      * Update or insert Fail Pattern.
      */
@@ -126,7 +143,11 @@ public class FailPatternService extends CrudService<FailPattern> {
      */
     public void deleteByUuid(UUID failPatternId) {
         log.info("deleting Fail Pattern {}", failPatternId);
+        FailPattern failPattern = repository.findProjectByUuid(failPatternId);
         repository.deleteByUuid(failPatternId);
+        if (nonNull(failPattern)) {
+            failPatternMatcherCache.invalidate(failPattern.getProjectId());
+        }
     }
 
     /**
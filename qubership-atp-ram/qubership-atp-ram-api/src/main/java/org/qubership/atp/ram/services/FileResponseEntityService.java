@@ -19,6 +19,7 @@ package org.qubership.atp.ram.services;
 import java.util.Arrays;
 
 import org.qubership.atp.ram.model.FileData;
+import org.qubership.atp.ram.model.GridFsFileResource;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.ContentDisposition;
@@ -26,6 +27,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -51,12 +53,48 @@ public class FileResponseEntityService {
                 .body(new ByteArrayResource(fileData.getContent()));
     }
 
+    /**
+     * Build octet stream response entity for file streamed from storage.
+     * Content length and requested byte ranges are served from the resource by Spring MVC.
+     *
+     * @param resource the file resource
+     * @return the response entity
+     */
+    public ResponseEntity<Resource> buildOctetStreamResponseEntity(GridFsFileResource resource) {
+        if (resource == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok()
+                .headers(getHeaders(resource.getSource(), MediaType.APPLICATION_OCTET_STREAM))
+                .body(resource);
+    }
+
+    /**
+     * Build octet stream response entity which content is written to response by the body.
+     *
+     * @param fileName name of the file
+     * @param body     writer of the file content
+     * @return the response entity
+     */
+    public ResponseEntity<StreamingResponseBody> buildOctetStreamResponseEntity(String fileName,
+                                                                                StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .headers(getHeaders(fileName, MediaType.APPLICATION_OCTET_STREAM))
+                .body(body);
+    }
+
     private HttpHeaders getHeaders(FileData fileData, MediaType contentType) {
+        HttpHeaders headers = getHeaders(fileData.getSource(), contentType);
+        headers.setContentLength(fileData.getContent().length);
+        return headers;
+    }
+
+    private HttpHeaders getHeaders(String fileName, MediaType contentType) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(contentType);
-        headers.setContentLength(fileData.getContent().length);
         headers.setAccessControlExposeHeaders(Arrays.asList(HttpHeaders.CONTENT_DISPOSITION));
-        headers.setContentDisposition(ContentDisposition.builder(ATTACHMENT).filename(fileData.getSource()).build());
+        headers.setContentDisposition(ContentDisposition.builder(ATTACHMENT).filename(fileName).build());
         return headers;
     }
 }
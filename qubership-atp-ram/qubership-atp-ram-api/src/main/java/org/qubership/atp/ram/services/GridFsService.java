@@ -25,11 +25,13 @@ import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.Base64;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.qubership.atp.ram.enums.FileContentType;
 import org.qubership.atp.ram.exceptions.internal.RamGridFsFileNotFoundException;
@@ -37,6 +39,7 @@ import org.qubership.atp.ram.exceptions.logrecords.RamLogRecordFileAsStringExcep
 import org.qubership.atp.ram.model.ExtendedFileData;
 import org.qubership.atp.ram.model.FileData;
 import org.qubership.atp.ram.model.GridFsFileData;
+import org.qubership.atp.ram.model.GridFsFileResource;
 import org.qubership.atp.ram.models.LogRecord;
 import org.qubership.atp.ram.repositories.GridFsRepository;
 import org.qubership.atp.ram.repositories.LogRecordRepository;
@@ -49,12 +52,15 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 
 import com.google.common.base.Strings;
+import com.google.common.collect.Iterators;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
 @Slf4j
 public class GridFsService {
 
+    private static final int COUNT_SCREENS_BATCH_SIZE = 10000;
+
     private final GridFsRepository repository;
     private final LogRecordRepository lrRepository;
 
@@ -158,6 +164,25 @@ public class GridFsService {
         return new String(fileData.getContent(), StandardCharsets.UTF_8);
     }
 
+    /**
+     * Find file in storage and return it as resource, which content is streamed from storage.
+     *
+     * @param logRecordId id of logRecord
+     * @param filename    name of the file, file is found by logRecord only if it is empty
+     * @return resource of the file
+     */
+    public GridFsFileResource getFileResource(UUID logRecordId, String filename) {
+        LogRecord logRecord = lrRepository.findByUuid(logRecordId);
+        Optional<GridFsFileResource> file = Strings.isNullOrEmpty(filename)
+                ? repository.getFileResource(logRecord.getUuid())
+                : repository.getFileResourceByFileName(logRecord.getUuid(), UrlParamsUtils.decodeUrlPath(filename));
+        return file.orElseThrow(() -> {
+            log.error("File with id {} was deleted because the storage time is over, LogRecord id {}.",
+                    logRecord.getSnapshotId(), logRecord.getUuid());
+            return new RamGridFsFileNotFoundException();
+        });
+    }
+
     private FileData composeFileDataWithLogRecordByFileName(LogRecord logRecord, String filename) {
         Optional<FileData> file = repository.getFileDataByFileName(logRecord.getUuid(), filename);
         return file.orElseThrow(() -> {
@@ -176,9 +201,9 @@ public class GridFsService {
         });
     }
 
-    public List<ExtendedFileData> downloadFilesByLogRecords(List<LogRecord> logRecords) {
+    public List<ExtendedFileData> getFileResourcesByLogRecords(List<LogRecord> logRecords) {
         List<UUID> logRecordsIds = StreamUtils.extractIdsToList(logRecords);
-        return repository.getAllFilesWhereMetadataLogRecordIdInList(logRecordsIds);
+        return repository.getAllFileResourcesWhereMetadataLogRecordIdInList(logRecordsIds);
     }
 
     public void removeFilesByRecordUuidList(List<UUID> logRecordUuidList) {
@@ -250,16 +275,30 @@ public class GridFsService {
     }
 
     /**
-     * Get count of screenshots for TR.
+     * Get count of screenshots for TR-s, i.e. count of log records with at least one file.
+     * Log records of all TR-s are read by one query and files are grouped by log record
+     * in one aggregation per batch of log records.
      *
-     * @param logRecords all LogRecords from TR.
-     * @return count of screenshots.
+     * @param testRunIds ids of TR-s
+     * @return count of screenshots by TR id, 0 for TR-s without screenshots
      */
-    public int getCountScreen(List<LogRecord> logRecords) {
-        return repository.getCountScreen(logRecords);
+    public Map<UUID, Integer> getCountScreensByTestRunIds(Collection<UUID> testRunIds) {
+        Map<UUID, Integer> countScreens = new HashMap<>();
+        testRunIds.forEach(testRunId -> countScreens.put(testRunId, 0));
+        if (testRunIds.isEmpty()) {
+            return countScreens;
+        }
+        try (Stream<LogRecord> logRecords = lrRepository.findAllUuidAndTestRunIdByTestRunIdIn(testRunIds)) {
+            Iterators.partition(logRecords.iterator(), COUNT_SCREENS_BATCH_SIZE).forEachRemaining(batch -> {
+                Map<UUID, UUID> testRunIdsByLogRecordIds = new HashMap<>();
+                batch.forEach(logRecord -> testRunIdsByLogRecordIds.put(logRecord.getUuid(), logRecord.getTestRunId()));
+                repository.findLogRecordIdsWithFiles(testRunIdsByLogRecordIds.keySet()).forEach(logRecordId ->
+                        countScreens.merge(testRunIdsByLogRecordIds.get(logRecordId), 1, Integer::sum));
+            });
+        }
+        return countScreens;
     }
 
-
     /**
      * Delete files which created earlier than expired period.
      */
@@ -16,21 +16,24 @@
 
 package org.qubership.atp.ram.services;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.qubership.atp.ram.utils.StreamUtils.extractIds;
 
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.function.Predicate;
-import java.util.function.Supplier;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.regex.Pattern;
-import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -57,6 +60,8 @@ import org.qubership.atp.ram.repositories.CustomExecutionRequestRepository;
 import org.qubership.atp.ram.repositories.CustomIssueRepository;
 import org.qubership.atp.ram.repositories.ExecutionRequestRepository;
 import org.qubership.atp.ram.repositories.IssueRepository;
+import org.qubership.atp.ram.services.failpatterns.FailPatternMatcher;
+import org.qubership.atp.ram.services.failpatterns.FailPatternMatcherCache;
 import org.qubership.atp.ram.utils.StreamUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
@@ -66,12 +71,20 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.google.common.base.Strings;
 import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Streams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
 @Slf4j
 public class IssueService extends CrudService<Issue> {
 
+    // log records are saved with time of the node which processed them, so watermark is shifted back
+    private static final long ISSUES_CALCULATED_DATE_OVERLAP_MS = 5000;
+
     @Value("${atp.ram.regexp.timeout.sec}")
     private int regexpTimeout;
 
@@ -82,6 +95,7 @@ public class IssueService extends CrudService<Issue> {
     private final CustomIssueRepository customIssueRepository;
     private final TestRunService testRunService;
     private final FailPatternService failPatternService;
+    private final FailPatternMatcherCache failPatternMatcherCache;
     private final LogRecordService logRecordService;
     private final ExecutionRequestDetailsService executionRequestDetailsService;
     private final ModelMapper modelMapper;
@@ -95,7 +109,7 @@ public class IssueService extends CrudService<Issue> {
      */
     public IssueService(IssueRepository repository, CustomIssueRepository customIssueRepository,
                         @Lazy TestRunService testRunService, FailPatternService failPatternService,
-                        LogRecordService logRecordService,
+                        FailPatternMatcherCache failPatternMatcherCache, LogRecordService logRecordService,
                         ExecutionRequestDetailsService executionRequestDetailsService,
                         ModelMapper modelMapper, ExecutionRequestRepository executionRequestRepository,
                         CustomExecutionRequestRepository customExecutionRequestRepository,
@@ -104,6 +118,7 @@ public class IssueService extends CrudService<Issue> {
         this.customIssueRepository = customIssueRepository;
         this.testRunService = testRunService;
         this.failPatternService = failPatternService;
+        this.failPatternMatcherCache = failPatternMatcherCache;
         this.logRecordService = logRecordService;
         this.executionRequestDetailsService = executionRequestDetailsService;
         this.modelMapper = modelMapper;
@@ -115,6 +130,35 @@ public class IssueService extends CrudService<Issue> {
     @Value("${atp.ram.services.issues_creating.lock.duration.sec:300}")
     private Integer lockDurationForCreatingIssuesSec;
 
+    @Value("${atp.ram.services.issues_calculation.partitioned.enabled:false}")
+    private boolean partitionedCalculationEnabled;
+
+    @Value("${atp.ram.services.issues_calculation.parallelism:4}")
+    private int calculationParallelism;
+
+    private ExecutorService calculationExecutor;
+
+    /**
+     * Init executor for partitioned issues calculation, if it is enabled.
+     */
+    @PostConstruct
+    public void initCalculationExecutor() {
+        if (partitionedCalculationEnabled) {
+            calculationExecutor = Executors.newFixedThreadPool(calculationParallelism,
+                    new ThreadFactoryBuilder().setNameFormat("issues-calculation-%d").setDaemon(true).build());
+        }
+    }
+
+    /**
+     * Stop executor for partitioned issues calculation, if it was created.
+     */
+    @PreDestroy
+    public void shutdownCalculationExecutor() {
+        if (nonNull(calculationExecutor)) {
+            calculationExecutor.shutdownNow();
+        }
+    }
+
     public Issue create(Issue issue) {
         return repository.save(issue);
     }
@@ -211,8 +255,7 @@ public class IssueService extends CrudService<Issue> {
                 TestRun::getExecutionRequestId);
         log.debug("Start recalculate issues for failed Test Runs from Execution Request ids [{}]",
                 testRunMap.keySet());
-        testRunMap.forEach((uuid, testRuns) ->
-                calculateIssuesForExecution(uuid, StreamUtils.extractIdsToList(testRuns)));
+        testRunMap.forEach(this::calculateIssuesForTestRunsIncrementally);
     }
 
 
@@ -227,13 +270,16 @@ public class IssueService extends CrudService<Issue> {
 
         long failedLogrecordsCounter = executionRequest.getFailedLogrecordsCounter();
 
-        List<UUID> testRunIds = getTestRunIdsForIssueCalculation(executionRequestId);
+        List<TestRun> testRuns = getTestRunsForIssueCalculation(executionRequestId);
 
-        Long updatedFailedLogrecordsCounter = logRecordService.countAllFailedLrByTestRunIds(testRunIds);
+        Long updatedFailedLogrecordsCounter =
+                logRecordService.countAllFailedLrByTestRunIds(StreamUtils.extractIdsToList(testRuns));
 
         if (failedLogrecordsCounter != updatedFailedLogrecordsCounter) {
             try {
-                calculateIssuesForExecution(executionRequestId, testRunIds);
+                calculateIssuesForTestRunsIncrementally(executionRequestId, testRuns);
+                customExecutionRequestRepository.updateLogRecordsCount(executionRequestId,
+                        Math.toIntExact(updatedFailedLogrecordsCounter));
                 log.debug("Complete recalculating Top Issues for ER {}", executionRequestId);
                 return;
             } catch (Exception e) {
@@ -247,6 +293,7 @@ public class IssueService extends CrudService<Issue> {
 
     /**
      * Recalculate them using current failed patterns.
+     * Issues are rebuilt from all failed LR-s of ER, so it is used as repair of incrementally calculated issues.
      *
      * @param executionRequestId ID of ER
      */
@@ -260,19 +307,70 @@ public class IssueService extends CrudService<Issue> {
         repository.deleteAllById(issueIds);
         log.debug("Issues has been deleted");
 
-        List<UUID> testRunIds = getTestRunIdsForIssueCalculation(executionRequestId);
+        List<UUID> testRunIds = StreamUtils.extractIdsToList(getTestRunsForIssueCalculation(executionRequestId));
         log.debug("Found not passed test runs: {}", testRunIds);
 
         UUID projectId = executionRequestRepository.findProjectIdByUuid(executionRequestId).getProjectId();
 
+        Timestamp issuesCalculatedDate = getIssuesCalculatedDate();
         calculateIssuesForExecution(executionRequestId, testRunIds, projectId);
+        testRunService.updateIssuesCalculatedDate(testRunIds, issuesCalculatedDate);
     }
 
-    private List<UUID> getTestRunIdsForIssueCalculation(UUID executionRequestId) {
+    /**
+     * Fold failed LR-s of TR-s which were updated after previous calculation into issues of ER.
+     * TR-s with the same calculated date are processed with one query, LR-s already linked to issues are skipped.
+     *
+     * @param executionRequestId ID of ER
+     * @param testRuns           TR-s with fields 'uuid' and 'issues calculated date'
+     */
+    public void calculateIssuesForTestRunsIncrementally(UUID executionRequestId, List<TestRun> testRuns) {
+        if (testRuns.isEmpty()) {
+            return;
+        }
+        UUID projectId = executionRequestRepository.findProjectIdByUuid(executionRequestId).getProjectId();
+        List<FailPattern> patternByProjectId = failPatternService.findPatternByProjectId(projectId);
+        FailPatternMatcher failPatternMatcher = failPatternMatcherCache.getMatcher(projectId, patternByProjectId);
+        Map<Timestamp, List<UUID>> testRunIdsByCalculatedDate = new HashMap<>();
+        testRuns.forEach(testRun -> testRunIdsByCalculatedDate
+                .computeIfAbsent(testRun.getIssuesCalculatedDate(), date -> new ArrayList<>())
+                .add(testRun.getUuid()));
+        Timestamp issuesCalculatedDate = getIssuesCalculatedDate();
+        lockManager.executeWithLock("calculateIssuesForExecution_" + executionRequestId.toString(),
+                lockDurationForCreatingIssuesSec,
+                () -> {
+                    testRunIdsByCalculatedDate.forEach((calculatedDate, testRunIds) -> {
+                        try (Stream<LogRecord> logRecords = logRecordService
+                                .getAllFailedLogRecordsByTestRunIdsUpdatedAfterStream(testRunIds, calculatedDate)) {
+                            analyzeFailedLogRecords(executionRequestId,
+                                    excludeLinkedLogRecords(executionRequestId, logRecords), failPatternMatcher);
+                        }
+                    });
+                    testRunService.updateIssuesCalculatedDate(StreamUtils.extractIdsToList(testRuns),
+                            issuesCalculatedDate);
+                });
+        log.debug("Issues of ER {} were calculated incrementally for TR-s by calculated dates {}",
+                executionRequestId, testRunIdsByCalculatedDate.keySet());
+    }
+
+    private Stream<LogRecord> excludeLinkedLogRecords(UUID executionRequestId, Stream<LogRecord> logRecords) {
+        return Streams.stream(Iterators.partition(logRecords.iterator(), logRecordStep))
+                .flatMap(partOfLogRecords -> {
+                    Set<UUID> linkedLogRecordIds = customIssueRepository.findLinkedLogRecordIds(executionRequestId,
+                            extractIds(partOfLogRecords));
+                    return partOfLogRecords.stream()
+                            .filter(logRecord -> !linkedLogRecordIds.contains(logRecord.getUuid()));
+                });
+    }
+
+    private Timestamp getIssuesCalculatedDate() {
+        return new Timestamp(System.currentTimeMillis() - ISSUES_CALCULATED_DATE_OVERLAP_MS);
+    }
+
+    private List<TestRun> getTestRunsForIssueCalculation(UUID executionRequestId) {
         List<TestingStatuses> testRunStatuses = getTestRunStatusesForIssueCalculation();
-        List<TestRun> testRuns = testRunService.getTestRunsIdByExecutionRequestIdAndTestingStatuses(executionRequestId,
+        return testRunService.getTestRunsIdByExecutionRequestIdAndTestingStatuses(executionRequestId,
                 testRunStatuses);
-        return StreamUtils.extractIdsToList(testRuns);
     }
 
     private List<TestRun> getTestRunsWithUuidAndErIdForIssueCalculation(List<UUID> testRunIds) {
@@ -302,6 +400,10 @@ public class IssueService extends CrudService<Issue> {
      * @param projectId          ID of project
      */
     public void calculateIssuesForExecution(UUID executionRequestId, List<UUID> testRunIds, UUID projectId) {
+        if (partitionedCalculationEnabled) {
+            calculateIssuesForExecutionPartitioned(executionRequestId, testRunIds, projectId);
+            return;
+        }
         List<Issue> createdIssues = repository.findShortByExecutionRequestId(executionRequestId);
         List<UUID> linkedLogRecordsId = createdIssues.stream()
                 .flatMap(issue -> issue.getLogRecordIds().stream()).collect(Collectors.toList());
@@ -309,21 +411,84 @@ public class IssueService extends CrudService<Issue> {
                 logRecordService.getAllFailedLogRecordsByTestRunIdsStream(testRunIds, linkedLogRecordsId);
         Long failedLrsCount = logRecordService.countAllFailedLrByTestRunIds(testRunIds);
         List<FailPattern> patternByProjectId = failPatternService.findPatternByProjectId(projectId);
+        FailPatternMatcher failPatternMatcher = failPatternMatcherCache.getMatcher(projectId, patternByProjectId);
         lockManager.executeWithLock("calculateIssuesForExecution_" + executionRequestId.toString(),
                 lockDurationForCreatingIssuesSec,
                 () -> {
-                    analyzeFailedLogRecords(executionRequestId, failedLogRecordsInExecutionRequest, patternByProjectId);
+                    analyzeFailedLogRecords(executionRequestId, failedLogRecordsInExecutionRequest, failPatternMatcher);
                     customExecutionRequestRepository.updateLogRecordsCount(executionRequestId,
                             Math.toIntExact(failedLrsCount));
                 });
     }
 
+    /**
+     * Calculate issues for parts of test runs in parallel, merge them and upsert with bulk operations.
+     * Lock is held only while issues are written.
+     *
+     * @param executionRequestId ID of ER
+     * @param testRunIds         ID of TR-s
+     * @param projectId          ID of project
+     */
+    private void calculateIssuesForExecutionPartitioned(UUID executionRequestId, List<UUID> testRunIds,
+                                                        UUID projectId) {
+        Set<UUID> linkedLogRecordsId = repository.findShortByExecutionRequestId(executionRequestId).stream()
+                .flatMap(issue -> issue.getLogRecordIds().stream()).collect(Collectors.toSet());
+        Long failedLrsCount = logRecordService.countAllFailedLrByTestRunIds(testRunIds);
+        List<FailPattern> patternByProjectId = failPatternService.findPatternByProjectId(projectId);
+        FailPatternMatcher failPatternMatcher = failPatternMatcherCache.getMatcher(projectId, patternByProjectId);
+
+        int partitionSize = Math.max(1, (testRunIds.size() + calculationParallelism - 1) / calculationParallelism);
+        List<CompletableFuture<IssueWorkingSet>> partitions = Lists.partition(testRunIds, partitionSize).stream()
+                .map(partTestRunIds -> CompletableFuture.supplyAsync(() ->
+                        analyzeFailedLogRecordsPartition(executionRequestId, partTestRunIds, linkedLogRecordsId,
+                                failPatternMatcher), calculationExecutor))
+                .toList();
+        IssueWorkingSet issues = new IssueWorkingSet();
+        partitions.forEach(partition -> issues.merge(partition.join()));
+        log.debug("Calculated {} issues in {} partitions for ER {}", issues.getIssues().size(), partitions.size(),
+                executionRequestId);
+
+        lockManager.executeWithLock("calculateIssuesForExecution_" + executionRequestId.toString(),
+                lockDurationForCreatingIssuesSec,
+                () -> {
+                    customIssueRepository.upsertIssues(executionRequestId, issues.getIssues(), logRecordStep);
+                    issues.getIssues().forEach(issue ->
+                            testRunService.updateFieldRootCauseIdByTestRunsIds(issue.getFailedTestRunIds(),
+                                    issue.getFailReasonId()));
+                    customExecutionRequestRepository.updateLogRecordsCount(executionRequestId,
+                            Math.toIntExact(failedLrsCount));
+                });
+    }
+
+    private IssueWorkingSet analyzeFailedLogRecordsPartition(UUID executionRequestId, List<UUID> testRunIds,
+                                                             Set<UUID> linkedLogRecordsId,
+                                                             FailPatternMatcher failPatternMatcher) {
+        IssueWorkingSet issues = new IssueWorkingSet();
+        try (Stream<LogRecord> logRecords =
+                     logRecordService.getAllFailedLogRecordsByTestRunIdsStream(testRunIds, linkedLogRecordsId)) {
+            logRecords.forEach(logRecord -> {
+                String message = logRecord.getMessage();
+                List<FailPattern> matchingPatterns =
+                        findMatchingFailPatterns(executionRequestId, message, failPatternMatcher);
+                matchingPatterns.forEach(failPattern -> issues.link(
+                        issues.getOrCreateByFailPattern(failPattern.getUuid(),
+                                () -> createIssue(logRecord, executionRequestId, failPattern)),
+                        logRecord));
+                if (matchingPatterns.isEmpty() && !Strings.isNullOrEmpty(message)) {
+                    issues.link(issues.getOrCreateByMessage(message, () -> createIssue(logRecord, executionRequestId)),
+                            logRecord);
+                }
+            });
+        }
+        return issues;
+    }
+
     private void createdIssues(UUID executionRequestId,
                                Stream<LogRecord> failedLogRecordsInExecutionRequest,
                                List<FailPattern> patternByProjectId,
                                List<Issue> createdIssues) {
         analyzeFailedLogRecords(executionRequestId, failedLogRecordsInExecutionRequest,
-                patternByProjectId);
+                failPatternMatcherCache.buildMatcher(patternByProjectId));
     }
 
     /**
@@ -346,13 +511,12 @@ public class IssueService extends CrudService<Issue> {
     }
 
     private void analyzeFailedLogRecords(UUID executionRequestId, Stream<LogRecord> logRecords,
-                                         List<FailPattern> failPatterns) {
+                                         FailPatternMatcher failPatternMatcher) {
         try {
-            Map<Pattern, FailPattern> compiledPatterns = collectCompiledPatternsToMap(failPatterns);
             Iterators.partition(logRecords.iterator(), logRecordStep)
                     .forEachRemaining(partOfLogRecords -> {
                         List<Issue> createdIssues =
-                            prepareIssueByLogRecord(partOfLogRecords, compiledPatterns, executionRequestId);
+                            prepareIssueByLogRecord(partOfLogRecords, failPatternMatcher, executionRequestId);
                         saveAll(createdIssues);
                         createdIssues.forEach(issue ->
                                 testRunService.updateFieldRootCauseIdByTestRunsIds(issue.getFailedTestRunIds(),
@@ -360,9 +524,9 @@ public class IssueService extends CrudService<Issue> {
                         log.trace("Created issues: {}", createdIssues);
                     });
         } catch (Exception e) {
-            log.error("Analyze failed Log Records finished with error, Fail Patterns: {}, "
+            log.error("Analyze failed Log Records finished with error, Fail Patterns count: {}, "
                             + "Log Records: {}, Execution Request ids: {}",
-                    failPatterns, logRecords, executionRequestId, e);
+                    failPatternMatcher.getPatterns().size(), logRecords, executionRequestId, e);
             throw e;
         }
     }
@@ -372,17 +536,17 @@ public class IssueService extends CrudService<Issue> {
      * Create issue by log record.
      *
      * @param logRecords list of {@link LogRecord}
-     * @param compiledPatterns compiled failed patterns
+     * @param failPatternMatcher matcher of compiled failed patterns
      * @param executionRequestId ER id
      */
-    private List<Issue> prepareIssueByLogRecord(List<LogRecord> logRecords, Map<Pattern, FailPattern> compiledPatterns,
+    private List<Issue> prepareIssueByLogRecord(List<LogRecord> logRecords, FailPatternMatcher failPatternMatcher,
                                                 UUID executionRequestId) {
         Map<UUID, LogRecordWithFailPatternsDto> logRecordsWithPatterns = new HashMap<>();
         List<LogRecord> logRecordsWithoutPatterns = new ArrayList<>();
         logRecords.forEach(logRecord -> {
             String message = logRecord.getMessage();
             List<FailPattern> matchingPatterns = findMatchingFailPatterns(executionRequestId,
-                    message, compiledPatterns);
+                    message, failPatternMatcher);
             if (matchingPatterns.isEmpty() && !Strings.isNullOrEmpty(message)) {
                 logRecordsWithoutPatterns.add(logRecord);
             } else {
@@ -400,24 +564,20 @@ public class IssueService extends CrudService<Issue> {
 
     private List<Issue> updateCreatedIssuesAndCreateNewByMessage(List<LogRecord> logRecords, UUID executionRequestId) {
         if (!logRecords.isEmpty()) {
-            List<Issue> createdIssues = new ArrayList<>(customIssueRepository
+            IssueWorkingSet issues = new IssueWorkingSet();
+            issues.addAll(customIssueRepository
                     .getCreatedIssuesByLogRecordsMessage(logRecords
                             .stream()
                             .map(RamObject::getUuid)
                             .collect(Collectors.toList()), executionRequestId));
-            List<UUID> updatedLogRecords = createdIssues.stream()
-                    .flatMap(issue -> issue.getLogRecordIds().stream())
-                    .toList();
-            List<Issue> newIssues = new ArrayList<>();
+            Set<UUID> updatedLogRecords = issues.getLinkedLogRecordIds();
             logRecords.stream()
                     .filter(logRecord -> !updatedLogRecords.contains(logRecord.getUuid()))
-                    .forEach(logRecord ->
-                            addIssueToList(
-                                    issue -> issue.getMessage().equals(logRecord.getMessage()),
-                                    () -> createIssue(logRecord, executionRequestId),
-                                    newIssues, logRecord));
-            createdIssues.addAll(newIssues);
-            return createdIssues;
+                    .forEach(logRecord -> issues.link(
+                            issues.getOrCreateByMessage(logRecord.getMessage(),
+                                    () -> createIssue(logRecord, executionRequestId)),
+                            logRecord));
+            return new ArrayList<>(issues.getIssues());
         } else {
             return new ArrayList<>();
         }
@@ -427,51 +587,30 @@ public class IssueService extends CrudService<Issue> {
             Map<UUID, LogRecordWithFailPatternsDto> logRecordsWithPatterns,
             UUID executionRequestId) {
         Collection<LogRecordWithFailPatternsDto> values = logRecordsWithPatterns.values();
-        List<Issue> createdIssues = new ArrayList<>(repository
-                .findByExecutionRequestIdAndFailPatternIdIn(
-                        executionRequestId,
-                        values
-                                .stream()
-                                .flatMap(entity -> entity.getFailPatterns().stream())
-                                .map(FailPattern::getUuid)
-                                .collect(Collectors.toList())
-                        ));
+        Map<UUID, List<LogRecord>> logRecordsByFailPatternId = new HashMap<>();
+        values.forEach(entity -> entity.getFailPatterns().forEach(failPattern ->
+                logRecordsByFailPatternId.computeIfAbsent(failPattern.getUuid(), id -> new ArrayList<>())
+                        .add(entity.getLogRecord())));
+        List<Issue> createdIssues = repository.findByExecutionRequestIdAndFailPatternIdIn(
+                executionRequestId, new ArrayList<>(logRecordsByFailPatternId.keySet()));
+        IssueWorkingSet issues = new IssueWorkingSet();
+        issues.addAll(createdIssues);
         createdIssues.forEach(issue ->
-            values.stream()
-                    .filter(entity -> entity.getFailPatterns().stream()
-                            .anyMatch(pattern -> pattern.getUuid().equals(issue.getFailPatternId())))
-                    .forEach(entity -> updateExistingIssue(issue, entity.getLogRecord())));
+                logRecordsByFailPatternId.getOrDefault(issue.getFailPatternId(), Collections.emptyList())
+                        .forEach(logRecord -> issues.link(issue, logRecord)));
 
-        List<UUID> updatedLogRecords = createdIssues.stream()
-                .flatMap(issue -> issue.getLogRecordIds().stream())
-                .toList();
-        List<Issue> newIssues = new ArrayList<>();
+        Set<UUID> updatedLogRecords = issues.getLinkedLogRecordIds();
         values.stream()
                 .filter(logRecordDto -> !updatedLogRecords.contains(logRecordDto.getLogRecord().getUuid()))
                 .forEach(logRecordDto ->
                     logRecordDto.getFailPatterns().forEach(failPattern -> {
                         LogRecord logRecord = logRecordDto.getLogRecord();
-                        addIssueToList(
-                                issue -> issue.getFailPatternId().equals(failPattern.getUuid()),
-                                () -> createIssue(logRecord, executionRequestId, failPattern),
-                                newIssues, logRecord);
+                        issues.link(
+                                issues.getOrCreateByFailPattern(failPattern.getUuid(),
+                                        () -> createIssue(logRecord, executionRequestId, failPattern)),
+                                logRecord);
                     }));
-        createdIssues.addAll(newIssues);
-        return createdIssues;
-    }
-
-    private Map<Pattern, FailPattern> collectCompiledPatternsToMap(List<FailPattern> failPatterns) {
-        final Map<Pattern, FailPattern> compiledFailPatternsMap = new HashMap<>();
-        failPatterns.forEach(failPattern -> {
-            try {
-                compiledFailPatternsMap.put(Pattern.compile(failPattern.getRule()), failPattern);
-            } catch (PatternSyntaxException e) {
-                log.error("Could not parse pattern {}", failPattern.getUuid(), e);
-            }
-        });
-        log.debug("Compiled patterns: {}", compiledFailPatternsMap);
-
-        return compiledFailPatternsMap;
+        return new ArrayList<>(issues.getIssues());
     }
 
     /**
@@ -496,7 +635,7 @@ public class IssueService extends CrudService<Issue> {
                 .stream()
                 .flatMap(testRun -> logRecordService.getAllFailedLogRecordsByTestRunId(testRun.getUuid()).stream())
                 .toList();
-        List<Issue> createdIssues = new ArrayList<>();
+        IssueWorkingSet createdIssues = new IssueWorkingSet();
         Pattern compiledFailPattern = Pattern.compile(failPattern.getRule());
         logRecords.forEach(logRecord -> {
             try {
@@ -505,24 +644,24 @@ public class IssueService extends CrudService<Issue> {
                         .find();
                 if (!isMatching) {
                     if (!Strings.isNullOrEmpty(logRecord.getMessage())) {
-                        addIssueToList(
-                                issue -> issue.getMessage().equals(logRecord.getMessage()),
-                                () -> createIssue(logRecord, executionRequestId),
-                                createdIssues, logRecord);
+                        createdIssues.link(
+                                createdIssues.getOrCreateByMessage(logRecord.getMessage(),
+                                        () -> createIssue(logRecord, executionRequestId)),
+                                logRecord);
                     }
                 } else {
-                    addIssueToList(
-                            issue -> issue.getFailPatternId().equals(failPattern.getUuid()),
-                            () -> createIssue(logRecord, executionRequestId, failPattern),
-                            createdIssues, logRecord);
+                    createdIssues.link(
+                            createdIssues.getOrCreateByFailPattern(failPattern.getUuid(),
+                                    () -> createIssue(logRecord, executionRequestId, failPattern)),
+                            logRecord);
                 }
             } catch (StackOverflowError error) {
                 processStackOverflowErrorDuringPatternMatch(executionRequestId, error,
                         Pattern.compile(failPattern.getRule()), logRecord.getMessage());
             }
         });
-        log.debug("Final issue list: {}, Execution Request ids: {}", createdIssues, executionRequestId);
-        repository.saveAll(createdIssues);
+        log.debug("Final issue list: {}, Execution Request ids: {}", createdIssues.getIssues(), executionRequestId);
+        repository.saveAll(createdIssues.getIssues());
     }
 
     /**
@@ -560,17 +699,17 @@ public class IssueService extends CrudService<Issue> {
                 .stream()
                 .flatMap(testRun -> logRecordService.getAllFailedLogRecordsByTestRunId(testRun.getUuid()).stream())
                 .toList();
-        List<Issue> createdIssues = new ArrayList<>();
+        IssueWorkingSet createdIssues = new IssueWorkingSet();
         logRecords.forEach(logRecord -> {
             if (!Strings.isNullOrEmpty(logRecord.getMessage())) {
-                addIssueToList(
-                        issue -> issue.getMessage().equals(logRecord.getMessage()),
-                        () -> createIssue(logRecord, executionRequestId),
-                        createdIssues, logRecord);
+                createdIssues.link(
+                        createdIssues.getOrCreateByMessage(logRecord.getMessage(),
+                                () -> createIssue(logRecord, executionRequestId)),
+                        logRecord);
             }
         });
-        log.debug("Final issue list: {}, Execution Request id: {}", createdIssues, executionRequestId);
-        repository.saveAll(createdIssues);
+        log.debug("Final issue list: {}, Execution Request id: {}", createdIssues.getIssues(), executionRequestId);
+        repository.saveAll(createdIssues.getIssues());
     }
 
     private void purgeOldPatternIssues(UUID failPatternId, UUID executionRequestId) {
@@ -619,14 +758,19 @@ public class IssueService extends CrudService<Issue> {
 
     /**
      * Find fail pattern matching.
+     * Only candidates selected by the matcher are checked by full regexp.
      */
     public List<FailPattern> findMatchingFailPatterns(UUID executionRequestId, String message,
-                                                      Map<Pattern, FailPattern> compiledPatterns) {
+                                                      FailPatternMatcher failPatternMatcher) {
         List<FailPattern> matchedFailPatterns = new ArrayList<>();
-        compiledPatterns.keySet().forEach(pattern -> {
+        if (isNull(message)) {
+            return matchedFailPatterns;
+        }
+        failPatternMatcher.findCandidates(message).forEach(compiledFailPattern -> {
+            Pattern pattern = compiledFailPattern.getPattern();
             try {
-                if (nonNull(message) && pattern.matcher(new TimeoutRegexCharSequence(message, regexpTimeout)).find()) {
-                    matchedFailPatterns.add(compiledPatterns.get(pattern));
+                if (pattern.matcher(new TimeoutRegexCharSequence(message, regexpTimeout)).find()) {
+                    matchedFailPatterns.add(compiledFailPattern.getFailPattern());
                 }
             } catch (StackOverflowError error) {
                 processStackOverflowErrorDuringPatternMatch(executionRequestId, error, pattern, message);
@@ -647,40 +791,6 @@ public class IssueService extends CrudService<Issue> {
         executionRequestDetailsService.createDetails(executionRequestId, TestingStatuses.WARNING, errorMessage);
     }
 
-    private void addIssueToList(Predicate<Issue> issueCheck, Supplier<Issue> newIssueSupplier,
-                                List<Issue> createdIssues, LogRecord logRecord) {
-        final Issue existingIssue = createdIssues
-                .stream()
-                .filter(issueCheck)
-                .findFirst()
-                .orElseGet(() -> {
-                    Issue newIssue = newIssueSupplier.get();
-                    createdIssues.add(newIssue);
-
-                    return newIssue;
-                });
-
-        updateExistingIssue(existingIssue, logRecord);
-    }
-
-    private void updateExistingIssue(Issue existingIssue, LogRecord logRecord) {
-        final List<UUID> testRuns = existingIssue.getFailedTestRunIds();
-
-        final UUID logRecordTestRunId = logRecord.getTestRunId();
-        if (!testRuns.contains(logRecordTestRunId)) {
-            testRuns.add(logRecordTestRunId);
-            existingIssue.setFailedTestRunsCount(existingIssue.getFailedTestRunsCount() + 1);
-        }
-
-        final List<UUID> logRecords = existingIssue.getLogRecordIds();
-        final UUID logRecordId = logRecord.getUuid();
-        if (!logRecords.contains(logRecordId)) {
-            logRecords.add(logRecordId);
-        }
-
-        log.debug("Updated Test Runs and Log Records with issue: {}", existingIssue);
-    }
-
     private List<IssueResponse> getResponses(List<Issue> issues) {
         final Set<UUID> issueFailPatternIds = extractIds(issues, Issue::getFailPatternId);
         final List<FailPattern> failPatterns = failPatternService.getFailPatternsByIds(issueFailPatternIds);
@@ -0,0 +1,189 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.services;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.qubership.atp.ram.models.Issue;
+import org.qubership.atp.ram.models.LogRecord;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Issues of execution request under calculation.
+ * Issues are indexed by fail pattern id or, for issues without fail pattern, by message,
+ * and ids of linked test runs and log records are kept in sets,
+ * so linking a log record to its issue doesn't depend on the number of issues and linked records.
+ */
+@Slf4j
+public class IssueWorkingSet {
+
+    private final List<Issue> issues = new ArrayList<>();
+    private final Map<String, Issue> issuesByMessage = new HashMap<>();
+    private final Map<UUID, Issue> issuesByFailPatternId = new HashMap<>();
+    private final Map<Issue, LinkedIds> linkedIdsByIssue = new IdentityHashMap<>();
+    private final Set<UUID> linkedLogRecordIds = new HashSet<>();
+
+    /**
+     * Add already existing issues.
+     *
+     * @param existingIssues issues
+     */
+    public void addAll(Collection<Issue> existingIssues) {
+        existingIssues.forEach(this::add);
+    }
+
+    /**
+     * Get issue without fail pattern by message or create new one.
+     *
+     * @param message          log record message
+     * @param newIssueSupplier supplier of new issue
+     * @return issue
+     */
+    public Issue getOrCreateByMessage(String message, Supplier<Issue> newIssueSupplier) {
+        Issue issue = issuesByMessage.get(message);
+        return isNull(issue) ? add(newIssueSupplier.get()) : issue;
+    }
+
+    /**
+     * Get issue by fail pattern or create new one.
+     *
+     * @param failPatternId    fail pattern id
+     * @param newIssueSupplier supplier of new issue
+     * @return issue
+     */
+    public Issue getOrCreateByFailPattern(UUID failPatternId, Supplier<Issue> newIssueSupplier) {
+        Issue issue = issuesByFailPatternId.get(failPatternId);
+        return isNull(issue) ? add(newIssueSupplier.get()) : issue;
+    }
+
+    /**
+     * Get issue by fail pattern id.
+     *
+     * @param failPatternId fail pattern id
+     * @return issue or null
+     */
+    public Issue getByFailPattern(UUID failPatternId) {
+        return issuesByFailPatternId.get(failPatternId);
+    }
+
+    /**
+     * Link log record and its test run to the issue.
+     *
+     * @param issue     issue of the working set
+     * @param logRecord log record
+     */
+    public void link(Issue issue, LogRecord logRecord) {
+        LinkedIds linkedIds = linkedIdsByIssue.get(issue);
+        linkTestRun(issue, linkedIds, logRecord.getTestRunId());
+        linkLogRecord(issue, linkedIds, logRecord.getUuid());
+        log.debug("Updated Test Runs and Log Records with issue: {}", issue);
+    }
+
+    /**
+     * Merge issues calculated separately, e.g. for another part of test runs.
+     * Issues with the same fail pattern or message are merged into one.
+     *
+     * @param other issues to merge into this working set
+     */
+    public void merge(IssueWorkingSet other) {
+        other.issues.forEach(issue -> {
+            Issue existingIssue = nonNull(issue.getFailPatternId())
+                    ? issuesByFailPatternId.get(issue.getFailPatternId())
+                    : issuesByMessage.get(issue.getMessage());
+            if (isNull(existingIssue)) {
+                add(issue);
+                return;
+            }
+            LinkedIds linkedIds = linkedIdsByIssue.get(existingIssue);
+            issue.getFailedTestRunIds().forEach(testRunId -> linkTestRun(existingIssue, linkedIds, testRunId));
+            issue.getLogRecordIds().forEach(logRecordId -> linkLogRecord(existingIssue, linkedIds, logRecordId));
+        });
+    }
+
+    /**
+     * Get ids of log records linked to any issue.
+     *
+     * @return snapshot of log record ids
+     */
+    public Set<UUID> getLinkedLogRecordIds() {
+        return new HashSet<>(linkedLogRecordIds);
+    }
+
+    /**
+     * Get all issues in order they were added.
+     *
+     * @return issues
+     */
+    public List<Issue> getIssues() {
+        return issues;
+    }
+
+    private void linkTestRun(Issue issue, LinkedIds linkedIds, UUID testRunId) {
+        if (linkedIds.testRunIds.add(testRunId)) {
+            issue.getFailedTestRunIds().add(testRunId);
+            issue.setFailedTestRunsCount(issue.getFailedTestRunsCount() + 1);
+        }
+    }
+
+    private void linkLogRecord(Issue issue, LinkedIds linkedIds, UUID logRecordId) {
+        if (linkedIds.logRecordIds.add(logRecordId)) {
+            issue.getLogRecordIds().add(logRecordId);
+            linkedLogRecordIds.add(logRecordId);
+        }
+    }
+
+    private Issue add(Issue issue) {
+        if (isNull(issue.getFailedTestRunIds())) {
+            issue.setFailedTestRunIds(new ArrayList<>());
+        }
+        if (isNull(issue.getLogRecordIds())) {
+            issue.setLogRecordIds(new ArrayList<>());
+        }
+        issues.add(issue);
+        if (nonNull(issue.getFailPatternId())) {
+            issuesByFailPatternId.putIfAbsent(issue.getFailPatternId(), issue);
+        } else if (nonNull(issue.getMessage())) {
+            issuesByMessage.putIfAbsent(issue.getMessage(), issue);
+        }
+        linkedIdsByIssue.put(issue, new LinkedIds(issue));
+        linkedLogRecordIds.addAll(issue.getLogRecordIds());
+        return issue;
+    }
+
+    private static class LinkedIds {
+        private final Set<UUID> testRunIds;
+        private final Set<UUID> logRecordIds;
+
+        private LinkedIds(Issue issue) {
+            this.testRunIds = new HashSet<>(issue.getFailedTestRunIds());
+            this.logRecordIds = new HashSet<>(issue.getLogRecordIds());
+        }
+    }
+}
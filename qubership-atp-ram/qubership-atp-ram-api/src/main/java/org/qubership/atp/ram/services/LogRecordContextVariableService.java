@@ -16,28 +16,251 @@
 
 package org.qubership.atp.ram.services;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.apache.commons.collections.CollectionUtils.isEmpty;
 import static org.qubership.atp.ram.utils.ListUtils.applyPagination;
 
+import java.sql.Timestamp;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.qubership.atp.ram.dto.response.ContextVariablesResponse;
 import org.qubership.atp.ram.enums.ContextVariablesActiveTab;
+import org.qubership.atp.ram.models.LogRecordContextVariableObject;
 import org.qubership.atp.ram.models.logrecords.parts.ContextVariable;
+import org.qubership.atp.ram.models.logrecords.parts.ContextVariablesGroup;
+import org.qubership.atp.ram.repositories.CustomLogRecordContextVariableRepository;
+import org.qubership.atp.ram.utils.ContextVariablesDeltaUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
 @Service
+@Slf4j
+@RequiredArgsConstructor
 public class LogRecordContextVariableService {
 
+    private static final int MAX_DELTA_CHAIN_LENGTH = 10_000;
+
+    private final CustomLogRecordContextVariableRepository contextVariableRepository;
+
+    @Value("${atp.ram.logrecord.context.variables.split.enabled:true}")
+    private boolean splitEnabled;
+
+    @Value("${atp.ram.logrecord.context.variables.delta.enabled:false}")
+    private boolean deltaEnabled;
+
+    @Value("${atp.ram.logrecord.context.variables.delta.keyframe.interval:20}")
+    private int keyframeInterval;
+
+    public boolean isDeltaEnabled() {
+        return deltaEnabled;
+    }
+
+    /**
+     * Set context variables of step to document. If delta is enabled, only variables changed relative to
+     * the previous step of the same test run are stored, with full keyframe every {@link #keyframeInterval} steps.
+     * Deltas based on the document are converted to keyframes before it is overwritten.
+     *
+     * @param context          context variables document
+     * @param contextVariables context variables
+     * @param testRunId        test run of log record
+     * @param type             context variables document type
+     */
+    public void setContextVariables(LogRecordContextVariableObject context, List<ContextVariable> contextVariables,
+                                    UUID testRunId, Class<? extends LogRecordContextVariableObject> type) {
+        if (nonNull(context.getKeyframeId())) {
+            convertDependentDeltasToKeyframes(context.getId(), type);
+        }
+        if (!deltaEnabled || isNull(testRunId) || isNull(contextVariables)) {
+            setContextVariables(context, contextVariables);
+            ContextVariablesDeltaUtils.setKeyframe(context, null);
+            return;
+        }
+        if (isNull(context.getStepDate())) {
+            context.setStepDate(new Timestamp(System.currentTimeMillis()));
+        }
+        LogRecordContextVariableObject base =
+                contextVariableRepository.findPreviousInTestRun(testRunId, context.getStepDate(), type);
+        List<ContextVariable> baseContextVariables = isNull(base) ? null : getAllContextVariables(base, type);
+        if (!ContextVariablesDeltaUtils.setDelta(context, contextVariables, base, baseContextVariables,
+                keyframeInterval)) {
+            setContextVariables(context, contextVariables);
+            ContextVariablesDeltaUtils.setKeyframe(context, testRunId);
+        }
+    }
+
+    /**
+     * Get all context variables of document, restoring them from the chain of deltas if needed.
+     *
+     * @param document context variables document
+     * @param type     context variables document type
+     * @return all context variables of step
+     */
+    public List<ContextVariable> getAllContextVariables(LogRecordContextVariableObject document,
+                                                        Class<? extends LogRecordContextVariableObject> type) {
+        if (!document.isDelta()) {
+            return document.collectContextVariables();
+        }
+        Map<UUID, LogRecordContextVariableObject> chain = new HashMap<>();
+        contextVariableRepository
+                .findAllByKeyframeId(document.getKeyframeId(), ContextVariablesDeltaUtils.getDeltaDepth(document),
+                        type)
+                .forEach(chainDocument -> chain.put(chainDocument.getId(), chainDocument));
+        Deque<LogRecordContextVariableObject> deltas = new ArrayDeque<>();
+        LogRecordContextVariableObject current = document;
+        while (nonNull(current) && current.isDelta() && deltas.size() < MAX_DELTA_CHAIN_LENGTH) {
+            deltas.push(current);
+            UUID baseId = current.getBaseId();
+            current = chain.containsKey(baseId) ? chain.get(baseId) : contextVariableRepository.findById(baseId, type);
+            if (isNull(current)) {
+                log.error("Base document '{}' of context variables '{}' is not found", baseId, document.getId());
+            }
+        }
+        List<ContextVariable> result = isNull(current) || current.isDelta()
+                ? new ArrayList<>() : current.collectContextVariables();
+        while (!deltas.isEmpty()) {
+            LogRecordContextVariableObject delta = deltas.pop();
+            result = ContextVariablesDeltaUtils.apply(result, delta.getContextVariables(), delta.getRemovedNames());
+        }
+        return result;
+    }
+
+    private void convertDependentDeltasToKeyframes(UUID baseId, Class<? extends LogRecordContextVariableObject> type) {
+        contextVariableRepository.findAllByBaseId(baseId, type).forEach(delta -> {
+            List<ContextVariable> contextVariables = getAllContextVariables(delta, type);
+            setContextVariables(delta, contextVariables);
+            ContextVariablesDeltaUtils.setKeyframe(delta, delta.getTestRunId());
+            contextVariableRepository.save(delta);
+        });
+    }
+
+    /**
+     * Set context variables to document. If split is enabled, variables are stored
+     * as sorted not modified and modified groups, so they can be paginated and filtered on database side.
+     *
+     * @param context          context variables document
+     * @param contextVariables context variables
+     */
+    public void setContextVariables(LogRecordContextVariableObject context, List<ContextVariable> contextVariables) {
+        if (splitEnabled && nonNull(contextVariables)) {
+            ContextVariablesResponse splitVariables = splitContextVariables(contextVariables);
+            context.setNotModified(new ContextVariablesGroup(splitVariables.getNotModified()));
+            context.setModified(new ContextVariablesGroup(splitVariables.getModified()));
+            context.setContextVariables(null);
+        } else {
+            context.setContextVariables(contextVariables);
+            context.setNotModified(null);
+            context.setModified(null);
+        }
+    }
+
+    /**
+     * Get counts of not modified and modified context variables.
+     *
+     * @param id   log record id
+     * @param type context variables document type
+     * @return document with counts, document without groups if variables are not split, null if it is absent
+     */
+    public LogRecordContextVariableObject getCounts(UUID id, Class<? extends LogRecordContextVariableObject> type) {
+        return contextVariableRepository.findCountsById(id, type);
+    }
+
+    /**
+     * Get page of context variables stored split into groups. Only variables of requested page are loaded.
+     * Not modified variables go first, modified ones continue the same pages when both tabs are active.
+     *
+     * @param id         log record id
+     * @param type       context variables document type
+     * @param counts     document with counts of groups
+     * @param page       number of page for pagination
+     * @param size       size of 1 page for pagination
+     * @param activeTabs active tabs
+     * @return paginated context variables and total count of context variables
+     */
+    public ContextVariablesResponse getPagedContextVariables(UUID id,
+                                                             Class<? extends LogRecordContextVariableObject> type,
+                                                             LogRecordContextVariableObject counts,
+                                                             int page, int size,
+                                                             List<ContextVariablesActiveTab> activeTabs) {
+        int notModifiedCount = getCount(counts.getNotModified());
+        int modifiedCount = getCount(counts.getModified());
+        int totalCount = notModifiedCount + modifiedCount;
+
+        ContextVariablesResponse response = new ContextVariablesResponse();
+        response.setTotalPageCount((int) Math.ceil(totalCount / (double) size));
+        response.setTotalItemCount(totalCount);
+
+        boolean notModifiedActive = activeTabs.contains(ContextVariablesActiveTab.NOT_MODIFIED);
+        boolean modifiedActive = activeTabs.contains(ContextVariablesActiveTab.MODIFIED);
+        int pageStart = page * size;
+        int pageEnd = pageStart + size;
+        int modifiedShift = notModifiedActive ? notModifiedCount : 0;
+
+        int notModifiedLimit = notModifiedActive ? Math.min(pageEnd, notModifiedCount) - pageStart : 0;
+        int modifiedSkip = Math.max(pageStart - modifiedShift, 0);
+        int modifiedLimit = modifiedActive ? Math.min(pageEnd - modifiedShift, modifiedCount) - modifiedSkip : 0;
+        if (notModifiedLimit <= 0 && modifiedLimit <= 0) {
+            return response;
+        }
+
+        LogRecordContextVariableObject slice = contextVariableRepository.findSliceById(id, type,
+                pageStart, notModifiedLimit, modifiedSkip, modifiedLimit);
+        if (isNull(slice)) {
+            return response;
+        }
+        if (notModifiedLimit > 0) {
+            response.setNotModified(getVariables(slice.getNotModified()));
+        }
+        if (modifiedLimit > 0) {
+            response.setModified(getVariables(slice.getModified()));
+        }
+        return response;
+    }
+
+    /**
+     * Filter context variables stored split into groups on database side.
+     *
+     * @param id          log record id
+     * @param type        context variables document type
+     * @param parameters  parameter names
+     * @param beforeValue before value
+     * @param afterValue  after value
+     * @return result response
+     */
+    public ContextVariablesResponse filterAndSplitContextVariables(UUID id,
+                                                                   Class<? extends LogRecordContextVariableObject> type,
+                                                                   List<String> parameters,
+                                                                   String beforeValue,
+                                                                   String afterValue) {
+        ContextVariablesResponse response =
+                contextVariableRepository.findFilteredById(id, type, parameters, beforeValue, afterValue);
+        return isNull(response) ? new ContextVariablesResponse() : response;
+    }
+
+    private static int getCount(ContextVariablesGroup group) {
+        return isNull(group) ? 0 : group.getCount();
+    }
+
+    private static List<ContextVariable> getVariables(ContextVariablesGroup group) {
+        return isNull(group) || isNull(group.getVariables()) ? new ArrayList<>() : group.getVariables();
+    }
+
     /**
      * Get context variables of logrecord.
      *
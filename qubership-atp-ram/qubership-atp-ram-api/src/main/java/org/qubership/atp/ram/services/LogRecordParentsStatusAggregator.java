@@ -0,0 +1,195 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.services;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.qubership.atp.ram.enums.TestingStatuses;
+import org.qubership.atp.ram.models.LogRecord;
+import org.qubership.atp.ram.repositories.CustomLogRecordRepository;
+import org.qubership.atp.ram.repositories.LogRecordRepository;
+import org.qubership.atp.ram.repositories.TestRunRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Coalesces propagation of child log record statuses to their parents.
+ * Child statuses are merged in memory per test run by {@link TestingStatuses#compareAndGetPriority}
+ * and flushed up the parent chain with one bulk update per level of hierarchy,
+ * on timer or when the test run is finished. Statuses of a failed flush are put back and retried on the next one.
+ *
+ * <p>Pending statuses live in memory of the replica that received the log records, so the test run stop handled
+ * by another replica does not flush them and they are lost if the replica crashes. Aggregation is therefore
+ * disabled by default and is intended for single-replica deployments only.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class LogRecordParentsStatusAggregator {
+
+    private static final int MAX_HIERARCHY_DEPTH = 100;
+
+    private final LogRecordRepository logRecordRepository;
+    private final CustomLogRecordRepository customLogRecordRepository;
+    private final TestRunRepository testRunRepository;
+    private final ExecutionRequestStatisticsService executionRequestStatisticsService;
+
+    private final Map<UUID, PendingStatuses> pendingStatusesByTestRun = new ConcurrentHashMap<>();
+
+    @Value("${atp.ram.logrecord.parents.statuses.aggregation.enabled:false}")
+    private boolean enabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Register status of saved log record to be propagated to its parent log record or test run.
+     *
+     * @param logRecord saved log record
+     */
+    public void add(LogRecord logRecord) {
+        TestingStatuses testingStatus = logRecord.getTestingStatus();
+        UUID testRunId = logRecord.getTestRunId();
+        if (isNull(testingStatus) || isNull(testRunId)) {
+            return;
+        }
+        UUID parentId = logRecord.getParentRecordId();
+        // compute() keeps merge atomic against removal of the same test run in flush()
+        pendingStatusesByTestRun.compute(testRunId, (id, pendingStatuses) -> {
+            PendingStatuses statuses = isNull(pendingStatuses) ? new PendingStatuses() : pendingStatuses;
+            if (isNull(parentId)) {
+                statuses.testRunStatuses.merge(testRunId, testingStatus, TestingStatuses::compareAndGetPriority);
+            } else {
+                statuses.parentStatuses.merge(parentId, testingStatus, TestingStatuses::compareAndGetPriority);
+            }
+            return statuses;
+        });
+    }
+
+    /**
+     * Flush pending statuses of all test runs.
+     */
+    @Scheduled(fixedDelayString = "${atp.ram.logrecord.parents.statuses.flush.delay.ms:2000}")
+    @PreDestroy
+    public void flushAll() {
+        flush(new ArrayList<>(pendingStatusesByTestRun.keySet()));
+    }
+
+    /**
+     * Flush pending statuses of specified test runs, e.g. before test runs are finished.
+     *
+     * @param testRunIds test run ids
+     */
+    public void flush(Collection<UUID> testRunIds) {
+        Map<UUID, PendingStatuses> flushedStatuses = new HashMap<>();
+        Map<UUID, TestingStatuses> logRecordStatuses = new HashMap<>();
+        Map<UUID, TestingStatuses> testRunStatuses = new HashMap<>();
+        testRunIds.forEach(testRunId -> {
+            PendingStatuses pendingStatuses = pendingStatusesByTestRun.remove(testRunId);
+            if (nonNull(pendingStatuses)) {
+                flushedStatuses.put(testRunId, pendingStatuses);
+                mergeAll(logRecordStatuses, pendingStatuses.parentStatuses);
+                mergeAll(testRunStatuses, pendingStatuses.testRunStatuses);
+            }
+        });
+        if (logRecordStatuses.isEmpty() && testRunStatuses.isEmpty()) {
+            return;
+        }
+        try {
+            Map<UUID, TestingStatuses> resolvedLogRecordStatuses =
+                    resolveParentsChain(logRecordStatuses, testRunStatuses);
+            customLogRecordRepository.updateTestingStatusesByPriority(resolvedLogRecordStatuses);
+            Map<UUID, Map<String, Integer>> statisticsIncrements =
+                    executionRequestStatisticsService.getRaisedTestingStatusesIncrements(testRunStatuses);
+            testRunRepository.updateTestingStatusesByPriority(testRunStatuses);
+            executionRequestStatisticsService.increment(statisticsIncrements);
+            log.debug("Flushed statuses of {} parent log records and {} test runs",
+                    resolvedLogRecordStatuses.size(), testRunStatuses.size());
+        } catch (Exception e) {
+            log.error("Failed to flush parent statuses for test runs {}, retry on next flush",
+                    flushedStatuses.keySet(), e);
+            flushedStatuses.forEach(this::restore);
+        }
+    }
+
+    /**
+     * Put statuses of failed flush back, merged by priority with statuses added in the meantime.
+     * Updates only raise statuses, so writing the same statuses again on retry is safe.
+     */
+    private void restore(UUID testRunId, PendingStatuses failedStatuses) {
+        pendingStatusesByTestRun.merge(testRunId, failedStatuses, (pendingStatuses, failed) -> {
+            mergeAll(pendingStatuses.parentStatuses, failed.parentStatuses);
+            mergeAll(pendingStatuses.testRunStatuses, failed.testRunStatuses);
+            return pendingStatuses;
+        });
+    }
+
+    /**
+     * Walk up the parent chain level by level, merging statuses of siblings on the way,
+     * and collect statuses of root test runs.
+     */
+    private Map<UUID, TestingStatuses> resolveParentsChain(Map<UUID, TestingStatuses> parentStatuses,
+                                                          Map<UUID, TestingStatuses> testRunStatuses) {
+        Map<UUID, TestingStatuses> resolvedStatuses = new HashMap<>();
+        Map<UUID, TestingStatuses> currentLevel = parentStatuses;
+        int depth = 0;
+        while (!currentLevel.isEmpty() && depth++ < MAX_HIERARCHY_DEPTH) {
+            Map<UUID, TestingStatuses> nextLevel = new HashMap<>();
+            List<LogRecord> parents =
+                    logRecordRepository.findAllUuidAndTestRunIdAndParentRecordIdByUuidIn(currentLevel.keySet());
+            for (LogRecord parent : parents) {
+                TestingStatuses status = currentLevel.get(parent.getUuid());
+                resolvedStatuses.merge(parent.getUuid(), status, TestingStatuses::compareAndGetPriority);
+                if (isNull(parent.getParentRecordId())) {
+                    testRunStatuses.merge(parent.getTestRunId(), status, TestingStatuses::compareAndGetPriority);
+                } else {
+                    nextLevel.merge(parent.getParentRecordId(), status, TestingStatuses::compareAndGetPriority);
+                }
+            }
+            currentLevel = nextLevel;
+        }
+        if (!currentLevel.isEmpty()) {
+            log.warn("Log records hierarchy is deeper than {} levels, statuses of {} are not propagated",
+                    MAX_HIERARCHY_DEPTH, currentLevel.keySet());
+        }
+        return resolvedStatuses;
+    }
+
+    private static void mergeAll(Map<UUID, TestingStatuses> target, Map<UUID, TestingStatuses> source) {
+        source.forEach((id, status) -> target.merge(id, status, TestingStatuses::compareAndGetPriority));
+    }
+
+    private static class PendingStatuses {
+        private final Map<UUID, TestingStatuses> parentStatuses = new HashMap<>();
+        private final Map<UUID, TestingStatuses> testRunStatuses = new HashMap<>();
+    }
+}
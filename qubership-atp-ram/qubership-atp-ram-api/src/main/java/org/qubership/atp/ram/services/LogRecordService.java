@@ -26,6 +26,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -70,6 +71,7 @@ import org.qubership.atp.ram.model.LogRecordFilteringRequest;
 import org.qubership.atp.ram.model.LogRecordWithChildrenResponse;
 import org.qubership.atp.ram.model.LogRecordWithParentListResponse;
 import org.qubership.atp.ram.model.SubstepScreenshotResponse;
+import org.qubership.atp.ram.model.datacontext.LogRecordStepIndex;
 import org.qubership.atp.ram.models.AkbRecord;
 import org.qubership.atp.ram.models.BrowserConsoleLogsTable;
 import org.qubership.atp.ram.models.ExecutionRequest;
@@ -96,11 +98,13 @@ import org.qubership.atp.ram.repositories.LogRecordMessageParametersRepository;
 import org.qubership.atp.ram.repositories.LogRecordRepository;
 import org.qubership.atp.ram.repositories.LogRecordStepContextVariableRepository;
 import org.qubership.atp.ram.repositories.TestRunRepository;
+import org.qubership.atp.ram.services.failpatterns.FailedMessageDictionaryService;
 import org.qubership.atp.ram.utils.PathsGenerator;
 import org.qubership.atp.ram.utils.SourceShot;
 import org.qubership.atp.ram.utils.StepPath;
 import org.qubership.atp.ram.utils.StreamUtils;
 import org.qubership.atp.ram.utils.TimeUtils;
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
@@ -144,6 +148,8 @@ public class LogRecordService extends CrudService<LogRecord> {
     private final CatalogueService catalogueService;
     private final LogRecordContextVariableService contextVariableService;
     private final BrowserConsoleLogService browserConsoleLogService;
+    private final LogRecordParentsStatusAggregator parentsStatusAggregator;
+    private final FailedMessageDictionaryService failedMessageDictionaryService;
 
     /**
      * Init invertStatusMap.
@@ -187,7 +193,8 @@ public class LogRecordService extends CrudService<LogRecord> {
      */
     public List<ContextVariable> getStepContextVariablesOfLogRecord(UUID id) {
         LogRecordStepContextVariable stepContext = logRecordStepContextRepository.getById(id);
-        return isNull(stepContext) ? Collections.EMPTY_LIST : stepContext.getContextVariables();
+        return isNull(stepContext) ? Collections.EMPTY_LIST
+                : collectContextVariables(stepContext, LogRecordStepContextVariable.class);
     }
 
     /**
@@ -203,26 +210,49 @@ public class LogRecordService extends CrudService<LogRecord> {
         }
         return logRecordContextVariables
                 .stream()
-                .flatMap(logRecordContextVariable -> logRecordContextVariable.getContextVariables().stream())
+                .flatMap(logRecordContextVariable ->
+                        collectContextVariables(logRecordContextVariable, LogRecordContextVariable.class).stream())
                 .collect(Collectors.toList());
     }
 
-    private List<ContextVariable> getContextVariables(UUID id, LogRecordContextVariableCommonRepository repository) {
+    private List<ContextVariable> getContextVariables(UUID id, LogRecordContextVariableCommonRepository repository,
+                                                      Class<? extends LogRecordContextVariableObject> type) {
 
         LogRecordContextVariableObject logRecordContextVariables = repository.getById(id);
         if (logRecordContextVariables == null) {
             return Collections.emptyList();
         }
 
-        return logRecordContextVariables.getContextVariables();
+        return collectContextVariables(logRecordContextVariables, type);
+    }
+
+    private List<ContextVariable> collectContextVariables(LogRecordContextVariableObject logRecordContextVariables,
+                                                          Class<? extends LogRecordContextVariableObject> type) {
+        return logRecordContextVariables.isDelta()
+                ? contextVariableService.getAllContextVariables(logRecordContextVariables, type)
+                : logRecordContextVariables.collectContextVariables();
     }
 
     private Object getContextVariables(UUID id, Integer page, Integer size,
                                        List<ContextVariablesActiveTab> activeTabs,
-                                       LogRecordContextVariableCommonRepository repository) {
-        List<ContextVariable> contextVariables = getContextVariables(id, repository);
+                                       LogRecordContextVariableCommonRepository repository,
+                                       Class<? extends LogRecordContextVariableObject> type) {
+        if (isNull(page) || isNull(size) || isEmpty(activeTabs)) {
+            return Collections.emptyList();
+        }
+        LogRecordContextVariableObject counts = contextVariableService.getCounts(id, type);
+        if (isNull(counts)) {
+            return Collections.emptyList();
+        }
+        if (counts.hasSplitContextVariables()) {
+            ContextVariablesResponse response =
+                    contextVariableService.getPagedContextVariables(id, type, counts, page, size, activeTabs);
+            return response.getTotalItemCount() == 0 ? Collections.emptyList() : response;
+        }
 
-        if (isEmpty(contextVariables) || isNull(page) || isNull(size) || isEmpty(activeTabs)) {
+        List<ContextVariable> contextVariables = getContextVariables(id, repository, type);
+
+        if (isEmpty(contextVariables)) {
             return Collections.emptyList();
         } else {
             Collections.sort(contextVariables);
@@ -241,7 +271,8 @@ public class LogRecordService extends CrudService<LogRecord> {
      */
     public Object getContextVariables(UUID id, Integer page, Integer size,
                                       List<ContextVariablesActiveTab> activeTabs) {
-        return getContextVariables(id, page, size, activeTabs, logRecordContextRepository);
+        return getContextVariables(id, page, size, activeTabs, logRecordContextRepository,
+                LogRecordContextVariable.class);
     }
 
     /**
@@ -251,7 +282,7 @@ public class LogRecordService extends CrudService<LogRecord> {
      * @return List of paginated context variables and total caount of context variables.
      */
     public List<ContextVariable> getAllContextVariables(UUID id) {
-        return getContextVariables(id, logRecordContextRepository);
+        return getContextVariables(id, logRecordContextRepository, LogRecordContextVariable.class);
     }
 
     /**
@@ -265,15 +296,25 @@ public class LogRecordService extends CrudService<LogRecord> {
      */
     public Object getStepContextVariables(UUID id, Integer page, Integer size,
                                           List<ContextVariablesActiveTab> activeTabs) {
-        return getContextVariables(id, page, size, activeTabs, logRecordStepContextRepository);
+        return getContextVariables(id, page, size, activeTabs, logRecordStepContextRepository,
+                LogRecordStepContextVariable.class);
     }
 
     private ContextVariablesResponse filterContextVariables(UUID id,
                                                             List<String> parameters,
                                                             String beforeValue,
                                                             String afterValue,
-                                                            LogRecordContextVariableCommonRepository repository) {
-        List<ContextVariable> contextVariables = getContextVariables(id, repository);
+                                                            LogRecordContextVariableCommonRepository repository,
+                                                            Class<? extends LogRecordContextVariableObject> type) {
+        LogRecordContextVariableObject counts = contextVariableService.getCounts(id, type);
+        if (isNull(counts)) {
+            return new ContextVariablesResponse();
+        }
+        if (counts.hasSplitContextVariables()) {
+            return contextVariableService.filterAndSplitContextVariables(id, type, parameters, beforeValue,
+                    afterValue);
+        }
+        List<ContextVariable> contextVariables = getContextVariables(id, repository, type);
         if (isEmpty(contextVariables)) {
             return new ContextVariablesResponse();
         }
@@ -295,7 +336,8 @@ public class LogRecordService extends CrudService<LogRecord> {
                                                            List<String> parameters,
                                                            String beforeValue,
                                                            String afterValue) {
-        return filterContextVariables(id, parameters, beforeValue, afterValue, logRecordContextRepository);
+        return filterContextVariables(id, parameters, beforeValue, afterValue, logRecordContextRepository,
+                LogRecordContextVariable.class);
     }
 
     /**
@@ -311,7 +353,8 @@ public class LogRecordService extends CrudService<LogRecord> {
                                                                List<String> parameters,
                                                                String beforeValue,
                                                                String afterValue) {
-        return filterContextVariables(id, parameters, beforeValue, afterValue, logRecordStepContextRepository);
+        return filterContextVariables(id, parameters, beforeValue, afterValue, logRecordStepContextRepository,
+                LogRecordStepContextVariable.class);
     }
 
     public void delete(UUID uuid) {
@@ -329,10 +372,27 @@ public class LogRecordService extends CrudService<LogRecord> {
     @Override
     public LogRecord save(LogRecord logRecord) {
         LogRecord logRecordUpd = repository.save(logRecord);
-        updateAllParentsStatuses(logRecordUpd);
+        if (nonNull(logRecordUpd.getTestRunId())) {
+            testRunRepository.updateLastActivityByIds(Collections.singletonList(logRecordUpd.getTestRunId()),
+                    new Timestamp(System.currentTimeMillis()));
+        }
+        if (parentsStatusAggregator.isEnabled()) {
+            parentsStatusAggregator.add(logRecordUpd);
+        } else {
+            updateAllParentsStatuses(logRecordUpd);
+        }
         return logRecordUpd;
     }
 
+    /**
+     * Flush pending parents statuses of log records of specified test runs.
+     *
+     * @param testRunIds test run ids
+     */
+    public void flushParentsStatuses(Collection<UUID> testRunIds) {
+        parentsStatusAggregator.flush(testRunIds);
+    }
+
     /**
      * Find {@link LogRecord} by uuid or throw NPE if LR doesn't exist.
      *
@@ -472,23 +532,15 @@ public class LogRecordService extends CrudService<LogRecord> {
      * @deprecated use LogRecordLoggingController instead of this.
      */
     public void saveCountScreenshots(UUID executionRequestUuid, List<TestRun> testRuns) {
-        int numberOfScreen = 0;
-        Map<UUID, String> trIdAndNumberOfScreens = new HashMap<>();
-        for (TestRun testRun : testRuns) {
-            UUID testRunId = testRun.getUuid();
-            try {
-                List<LogRecord> logRecords = getAllLogRecordsUuidByTestRunId(testRunId);
-                if (!logRecords.isEmpty()) {
-                    numberOfScreen = gridFsService.getCountScreen(logRecords);
-                }
-                trIdAndNumberOfScreens.put(testRunId, String.valueOf(numberOfScreen));
-                testRun.setNumberOfScreens(numberOfScreen);
-            } catch (Exception e) {
-                log.error("Error in calculating screenshots count for Test Run {}.", testRunId, e);
-            }
+        try {
+            Map<UUID, Integer> countScreens =
+                    gridFsService.getCountScreensByTestRunIds(StreamUtils.extractIds(testRuns));
+            testRuns.forEach(testRun -> testRun.setNumberOfScreens(countScreens.getOrDefault(testRun.getUuid(), 0)));
+            log.trace("Number of screens for ER {}: {}", executionRequestUuid, countScreens);
+        } catch (Exception e) {
+            log.error("Error in calculating screenshots count for Execution Request {}.", executionRequestUuid, e);
         }
         testRunRepository.saveAll(testRuns);
-        log.trace("Number of screens for ER {}: {}", executionRequestUuid, trIdAndNumberOfScreens);
     }
 
     /**
@@ -759,6 +811,24 @@ public class LogRecordService extends CrudService<LogRecord> {
         return repository.findLogRecordsWithSpecificFieldsByTestRunIdOrderByStartDateAsc(testRunId);
     }
 
+    /**
+     * Returns stream of LogRecords with id, status, name, message, parent id, is section and testRun id
+     * for several TestRuns ordered by start date. Stream should be closed by caller.
+     */
+    public Stream<LogRecord> findLogRecordsForFdrByTestRunIds(Collection<UUID> testRunIds) {
+        return repository.findLogRecordsForFdrByTestRunIdInOrderByStartDateAsc(testRunIds);
+    }
+
+    /**
+     * Returns ids of TestRuns which have LogRecords with name containing specified text.
+     */
+    public Set<UUID> findTestRunIdsWithLogRecordNameContaining(Collection<UUID> testRunIds, String name) {
+        try (Stream<LogRecord> logRecords =
+                     repository.findTestRunIdByTestRunIdInAndNameContaining(testRunIds, name)) {
+            return logRecords.map(LogRecord::getTestRunId).collect(Collectors.toSet());
+        }
+    }
+
     /**
      * Returns names of LogRecords (@Link LogRecord) for TestRun.
      */
@@ -846,11 +916,6 @@ public class LogRecordService extends CrudService<LogRecord> {
         return repository.findAllTestingStatusByTestRunId(testRunId);
     }
 
-    public List<LogRecord> getAllFailedLogRecordsByTestRunIds(Collection<UUID> testRunsIds) {
-        return repository.findAllByTestRunIdInAndTestingStatus(testRunsIds, TestingStatuses.FAILED)
-                .collect(Collectors.toList());
-    }
-
     public List<LogRecord> getAllNotStartedLogRecordsByTestRunId(UUID testRunId) {
         return repository.findAllByTestRunIdAndTestingStatus(testRunId, TestingStatuses.NOT_STARTED);
     }
@@ -878,8 +943,9 @@ public class LogRecordService extends CrudService<LogRecord> {
         return repository.findAllByTestRunIdAndNameContains(testRunId, searchValue);
     }
 
-    public Stream<LogRecord> getAllMatchesLogRecordsByTestRunIdCaseInsensitive(UUID testRunId, String searchValue) {
-        return repository.findAllByTestRunIdAndNameRegex(testRunId, "(?i)\\Q" + searchValue + "\\E");
+    public Stream<LogRecord> getAllMatchesLogRecordsByTestRunIdsCaseInsensitive(Collection<UUID> testRunIds,
+                                                                                String searchValue) {
+        return repository.findAllByTestRunIdInAndNameRegex(testRunIds, "(?i)\\Q" + searchValue + "\\E");
     }
 
     /**
@@ -990,6 +1056,52 @@ public class LogRecordService extends CrudService<LogRecord> {
         return repository.findLogRecordsWithValidationParamsAndFailureByTestRunIds(testRunIds);
     }
 
+    /**
+     * Find log records of test runs with fields of tree nodes, validation params and meta info,
+     * in order of creation.
+     *
+     * @param testRunIds test run ids
+     * @return stream of log records
+     */
+    public Stream<LogRecord> findStepsByTestRunIds(Collection<UUID> testRunIds) {
+        return repository.findStepsByTestRunIdInOrderByCreatedDateStampAsc(testRunIds);
+    }
+
+    /**
+     * Get index of log records under specified sibling log records, e.g. children of expanded tree node.
+     * Without all levels only children of the log records are loaded with id, parent, section and status,
+     * which is enough to count them. With all levels the whole subtree is loaded level by level
+     * with fields of tree nodes.
+     *
+     * @param logRecords       log records to index subtrees of
+     * @param includeAllLevels load all levels of subtrees instead of the first one
+     * @return index of log records and their subtrees
+     */
+    public LogRecordStepIndex getSubtreeStepIndex(List<LogRecord> logRecords, boolean includeAllLevels) {
+        if (isEmpty(logRecords)) {
+            return LogRecordStepIndex.build(Stream.empty());
+        }
+        if (!includeAllLevels) {
+            return LogRecordStepIndex.build(Stream.concat(logRecords.stream(),
+                    repository.findChildStepsByParentRecordIdIn(StreamUtils.extractIds(logRecords))));
+        }
+        Set<UUID> indexedIds = new HashSet<>(StreamUtils.extractIds(logRecords));
+        List<LogRecord> steps = new ArrayList<>(logRecords);
+        Set<UUID> parentIds = StreamUtils.extractIds(logRecords);
+        while (!parentIds.isEmpty()) {
+            Set<UUID> levelIds = new HashSet<>();
+            for (LogRecord step : repository.findLogRecordsForTreeByParentRecordIdInOrderByCreatedDateStampAsc(
+                    parentIds)) {
+                if (indexedIds.add(step.getUuid())) {
+                    steps.add(step);
+                    levelIds.add(step.getUuid());
+                }
+            }
+            parentIds = levelIds;
+        }
+        return LogRecordStepIndex.build(steps.stream());
+    }
+
     /**
      * Finds child Log Records by name.
      *
@@ -1058,17 +1170,30 @@ public class LogRecordService extends CrudService<LogRecord> {
     }
 
     private void updateContextVariables(UUID logRecordId, UpdateLogRecordContextVariablesRequest request,
-                                        LogRecordContextVariableCommonRepository repository) {
+                                        LogRecordContextVariableCommonRepository repository,
+                                        Class<? extends LogRecordContextVariableObject> type) {
         log.info("Update context variables for log record '{}'", logRecordId);
         LogRecordContextVariableObject context = repository.getById(logRecordId);
         if (context == null) {
-            context = new LogRecordContextVariable();
+            context = BeanUtils.instantiateClass(type);
+            context.setId(logRecordId);
+            context.setCreatedDate(new Timestamp(System.currentTimeMillis()));
         }
-        context.setContextVariables(request.getContextVariables());
+        // test run is needed only to find the previous step the delta is based on
+        UUID testRunId = contextVariableService.isDeltaEnabled() ? getTestRunId(logRecordId) : null;
+        contextVariableService.setContextVariables(context, request.getContextVariables(), testRunId, type);
         log.debug("Update log record '{}' with data: {}", logRecordId, context);
         repository.save(context);
     }
 
+    private UUID getTestRunId(UUID logRecordId) {
+        return repository.findAllUuidAndTestRunIdByUuidIn(Collections.singletonList(logRecordId))
+                .stream()
+                .findFirst()
+                .map(LogRecord::getTestRunId)
+                .orElse(null);
+    }
+
     /**
      * Update log record context variables.
      *
@@ -1076,7 +1201,7 @@ public class LogRecordService extends CrudService<LogRecord> {
      * @param request     update request
      */
     public void updateContextVariables(UUID logRecordId, UpdateLogRecordContextVariablesRequest request) {
-        updateContextVariables(logRecordId, request, logRecordContextRepository);
+        updateContextVariables(logRecordId, request, logRecordContextRepository, LogRecordContextVariable.class);
     }
 
     /**
@@ -1086,7 +1211,8 @@ public class LogRecordService extends CrudService<LogRecord> {
      * @param request     update request
      */
     public void updateStepContextVariables(UUID logRecordId, UpdateLogRecordContextVariablesRequest request) {
-        updateContextVariables(logRecordId, request, logRecordStepContextRepository);
+        updateContextVariables(logRecordId, request, logRecordStepContextRepository,
+                LogRecordStepContextVariable.class);
     }
 
     /**
@@ -1243,15 +1369,7 @@ public class LogRecordService extends CrudService<LogRecord> {
 
         Pattern pattern = Pattern.compile(request.getNewPattern());
 
-        List<LogRecord> logRecords = testRunRepository.findAllByExecutionRequestId(executionRequestId)
-                .stream()
-                .flatMap(testRun -> getAllFailedLogRecordsByTestRunId(testRun.getUuid()).stream())
-                .toList();
-
-        long countAfterUpdateRule = logRecords.stream()
-                .filter(logRecord -> !StringUtils.isEmpty(logRecord.getMessage())
-                        && pattern.matcher(logRecord.getMessage()).find())
-                .count();
+        long countAfterUpdateRule = failedMessageDictionaryService.countMatchingLogRecords(executionRequestId, pattern);
 
         long countBeforeUpdateRule;
         if (isNull(failPatternId)) {
@@ -1300,14 +1418,15 @@ public class LogRecordService extends CrudService<LogRecord> {
     }
 
     private List<String> searchContextVariableParameters(UUID logRecordId, String name,
-                                                         LogRecordContextVariableCommonRepository repository) {
+                                                         LogRecordContextVariableCommonRepository repository,
+                                                         Class<? extends LogRecordContextVariableObject> type) {
         log.info("Search context variable parameters for log record '{}' by name: {}", logRecordId, name);
         LogRecordContextVariableObject context = repository.getById(logRecordId);
         if (context == null) {
             return Collections.emptyList();
         }
 
-        List<ContextVariable> contextVariables = context.getContextVariables();
+        List<ContextVariable> contextVariables = collectContextVariables(context, type);
         if (isEmpty(contextVariables)) {
             return Collections.emptyList();
         }
@@ -1331,7 +1450,8 @@ public class LogRecordService extends CrudService<LogRecord> {
      * @return result parameter names list
      */
     public List<String> searchContextVariableParameters(UUID logRecordId, String name) {
-        return searchContextVariableParameters(logRecordId, name, logRecordContextRepository);
+        return searchContextVariableParameters(logRecordId, name, logRecordContextRepository,
+                LogRecordContextVariable.class);
     }
 
     /**
@@ -1342,7 +1462,8 @@ public class LogRecordService extends CrudService<LogRecord> {
      * @return the list
      */
     public List<String> searchStepContextVariableParameters(UUID logRecordId, String name) {
-        return searchContextVariableParameters(logRecordId, name, logRecordContextRepository);
+        return searchContextVariableParameters(logRecordId, name, logRecordContextRepository,
+                LogRecordContextVariable.class);
     }
 
     /**
@@ -1468,4 +1589,20 @@ public class LogRecordService extends CrudService<LogRecord> {
         return repository.findAllByUuidNotInAndTestRunIdInAndTestingStatus(logRecordsIdForExclude, testRunsIds,
                 TestingStatuses.FAILED);
     }
+
+    /**
+     * Get failed LR-s by TR-s id which were updated after specified date.
+     *
+     * @param testRunsIds  for find LR-s
+     * @param updatedAfter lower bound of LR-s last updated date, all failed LR-s are returned if null
+     * @return stream of {@link LogRecord}
+     */
+    public Stream<LogRecord> getAllFailedLogRecordsByTestRunIdsUpdatedAfterStream(Collection<UUID> testRunsIds,
+                                                                                  Date updatedAfter) {
+        if (isNull(updatedAfter)) {
+            return repository.findAllByTestRunIdInAndTestingStatus(testRunsIds, TestingStatuses.FAILED);
+        }
+        return repository.findAllByTestRunIdInAndTestingStatusAndLastUpdatedAfter(testRunsIds,
+                TestingStatuses.FAILED, updatedAfter);
+    }
 }
@@ -16,10 +16,8 @@
 
 package org.qubership.atp.ram.services;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -27,8 +25,6 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
-import org.qubership.atp.ram.exceptions.potfiles.RamPotFilesArchiveDataCreationException;
-import org.qubership.atp.ram.model.ArchiveData;
 import org.qubership.atp.ram.model.ExtendedFileData;
 import org.qubership.atp.ram.model.LogRecordWithParentResponse;
 import org.qubership.atp.ram.models.LogRecord;
@@ -42,7 +38,6 @@ import org.qubership.atp.ram.repositories.LogRecordRepository;
 import org.qubership.atp.ram.repositories.TestRunRepository;
 import org.qubership.atp.ram.utils.StreamUtils;
 import org.springframework.stereotype.Service;
-import org.springframework.util.FileCopyUtils;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -125,12 +120,13 @@ public class PotService {
     }
 
     /**
-     * Create temp archive with pot files, store it's content to heap and delete temp archive.
+     * Get pot files of ER with unique names to be written to archive.
+     * Content of the files isn't downloaded, it is streamed from storage when the archive is written.
      *
      * @param executionRequestId id of ER
-     * @return archive data
+     * @return pot files with resources
      */
-    public ArchiveData getArchiveWithPotsFiles(UUID executionRequestId) {
+    public List<ExtendedFileData> getPotsFilesForArchive(UUID executionRequestId) {
         List<TestRun> testRuns = testRunRepository.findTestRunsIdNameByExecutionRequestId(executionRequestId);
         List<UUID> testRunsIds = StreamUtils.extractIdsToList(testRuns);
         List<LogRecord> logRecords =
@@ -142,24 +138,32 @@ public class PotService {
         Map<UUID, TestRun> testRunMap = StreamUtils.toIdEntityMap(testRuns);
         Map<UUID, LogRecord> logRecordMap = StreamUtils.toIdEntityMap(logRecords);
 
-        List<ExtendedFileData> files = gridFsService.downloadFilesByLogRecords(potRecords);
+        List<ExtendedFileData> files = gridFsService.getFileResourcesByLogRecords(potRecords);
         fileNamesService.renameFilesInPlaceIfCollisionsOccurs(files, logRecordMap, testRunMap);
-        File archive;
-        byte[] archiveContent;
-        String archiveName;
-        try {
-            archive = archiveService.writeFileDataToArchive(files, executionRequestId);
+        return files;
+    }
 
-            archiveName = archive.getName();
+    public String getPotsFilesArchiveName(UUID executionRequestId) {
+        return "all_" + executionRequestId + ".zip";
+    }
 
-            archiveContent = FileCopyUtils.copyToByteArray(archive);
-            Files.delete(Path.of(archive.getAbsolutePath()));
+    /**
+     * Write archive with pot files to output stream file by file.
+     *
+     * @param executionRequestId id of ER
+     * @param files              pot files from {@link #getPotsFilesForArchive(UUID)}
+     * @param outputStream       stream to write archive to
+     * @throws IOException if archive cannot be written, rethrown to abort the already committed response
+     *                     instead of completing it with a truncated archive
+     */
+    public void writeArchiveWithPotsFiles(UUID executionRequestId, List<ExtendedFileData> files,
+                                          OutputStream outputStream) throws IOException {
+        try {
+            archiveService.writeFilesToArchive(files, executionRequestId, outputStream);
         } catch (IOException exception) {
-            log.error("Failed to create POT files archive data", exception);
-            throw new RamPotFilesArchiveDataCreationException();
+            log.error("Failed to write POT files archive for ER {}", executionRequestId, exception);
+            throw exception;
         }
-
-        return new ArchiveData(archiveContent, archiveName);
     }
 
     /**
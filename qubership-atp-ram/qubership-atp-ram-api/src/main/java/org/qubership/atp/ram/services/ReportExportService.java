@@ -16,11 +16,14 @@
 
 package org.qubership.atp.ram.services;
 
+import static java.util.Objects.isNull;
+import static org.apache.commons.collections.CollectionUtils.isEmpty;
 import static org.apache.commons.collections.CollectionUtils.isNotEmpty;
 import static org.springframework.http.HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS;
 import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -31,8 +34,15 @@ import org.qubership.atp.ram.dto.response.LabelNodeReportResponse;
 import org.qubership.atp.ram.dto.response.LabelNodeReportResponse.TestRunNodeResponse;
 import org.qubership.atp.ram.enums.ExecutionRequestWidgets;
 import org.qubership.atp.ram.model.TestCaseWidgetCsvExportLine;
+import org.qubership.atp.ram.model.datacontext.TestRunsDataContext;
+import org.qubership.atp.ram.model.datacontext.TestRunsDataContextLoadOptions;
 import org.qubership.atp.ram.models.ExecutionRequest;
 import org.qubership.atp.ram.models.TestCaseWidgetReportRequest;
+import org.qubership.atp.ram.models.TestRun;
+import org.qubership.atp.ram.models.ValidationLabelConfigTemplate;
+import org.qubership.atp.ram.models.WidgetConfigTemplate;
+import org.qubership.atp.ram.utils.StreamUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.opencsv.CSVWriter;
@@ -48,6 +58,13 @@ public class ReportExportService {
     private final ReportService reportService;
     private final ExecutionRequestService executionRequestService;
     private final WidgetConfigTemplateService widgetConfigTemplateService;
+    private final TestRunService testRunService;
+
+    @Value("${atp.ram.report.export.testcases.batches.enabled:false}")
+    private boolean batchExportEnabled;
+
+    @Value("${atp.ram.report.export.testcases.batch.size:500}")
+    private int exportBatchSize = 500;
 
     private static final String TEST_CASES_CSV_FILE_NAME_SUFFIX = "Test_Cases.";
     private static final String CSV_EXT = ".csv";
@@ -58,12 +75,12 @@ public class ReportExportService {
 
     /**
      * Export 'Test cases' widget into CSV file.
+     * When export by batches is enabled and supported for the widget, full test run nodes are built
+     * and written by batches, otherwise the whole widget tree is built before export.
      */
     public void exportTestCasesWidgetIntoCsv(UUID executionRequestId, UUID labelTemplateId,
                                              UUID validationTemplateId, boolean isExecutionRequestsSummary,
                                              HttpServletResponse response, TestCaseWidgetReportRequest request) {
-        final LabelNodeReportResponse nodes = reportService.getTestCasesForExecutionRequest(executionRequestId,
-                labelTemplateId, validationTemplateId, isExecutionRequestsSummary, request);
         final UUID widgetId = ExecutionRequestWidgets.TEST_CASES.getWidgetId();
         final Map<String, Boolean> columnVisibilityMap =
                 widgetConfigTemplateService.getWidgetColumnVisibilityMap(executionRequestId, widgetId);
@@ -78,24 +95,96 @@ public class ReportExportService {
         try (CSVWriter writer = new CSVWriter(response.getWriter(), CSV_EXPORT_SEPARATOR, CSVWriter.NO_QUOTE_CHARACTER,
                 CSVWriter.DEFAULT_ESCAPE_CHARACTER,
                 CSVWriter.DEFAULT_LINE_END)) {
-            final List<String> validationLabels = nodes.getValidationLabelsOrder();
-            setHeaders(writer, validationLabels, columnVisibilityMap);
-            final AtomicInteger depth = new AtomicInteger(0);
-            final List<LabelNodeReportResponse> children = nodes.getChildren();
-
-            if (isNotEmpty(children)) {
-                children.forEach(node -> printLabelNode(node, writer, validationLabels, columnVisibilityMap, depth));
+            final WidgetConfigTemplate.Filters filters = batchExportEnabled
+                    ? reportService.resolveWidgetConfigFilters(request, executionRequest)
+                    : null;
+            if (isBatchExportSupported(executionRequest, isExecutionRequestsSummary, filters)) {
+                exportTestCasesWidgetByBatches(executionRequest, labelTemplateId, validationTemplateId, filters,
+                        writer, columnVisibilityMap);
             } else {
-                final List<TestRunNodeResponse> testRunNodes = nodes.getTestRuns();
-                if (isNotEmpty(testRunNodes)) {
-                    testRunNodes.forEach(testRunNode ->
-                            printTestRunNode(testRunNode, writer, validationLabels, depth, columnVisibilityMap));
-                }
+                final LabelNodeReportResponse nodes = reportService.getTestCasesForExecutionRequest(
+                        executionRequestId, labelTemplateId, validationTemplateId, isExecutionRequestsSummary,
+                        request);
+                printTestCasesWidget(nodes, writer, columnVisibilityMap);
             }
 
             response.flushBuffer();
         } catch (Exception e) {
-            log.error("Failed to export csv file for Test Case widget for ER with id '{}'", executionRequestId);
+            log.error("Failed to export csv file for Test Case widget for ER with id '{}'", executionRequestId, e);
+        }
+    }
+
+    private void printTestCasesWidget(LabelNodeReportResponse nodes, CSVWriter writer,
+                                      Map<String, Boolean> columnVisibilityMap) {
+        final List<String> validationLabels = nodes.getValidationLabelsOrder();
+        setHeaders(writer, validationLabels, columnVisibilityMap);
+        final AtomicInteger depth = new AtomicInteger(0);
+        final List<LabelNodeReportResponse> children = nodes.getChildren();
+
+        if (isNotEmpty(children)) {
+            children.forEach(node -> printLabelNode(node, writer, validationLabels, columnVisibilityMap, depth));
+        } else {
+            final List<TestRunNodeResponse> testRunNodes = nodes.getTestRuns();
+            if (isNotEmpty(testRunNodes)) {
+                testRunNodes.forEach(testRunNode ->
+                        printTestRunNode(testRunNode, writer, validationLabels, depth, columnVisibilityMap));
+            }
+        }
+    }
+
+    /**
+     * Export by batches is not supported for test scope runs and for summary of reruns, as well as
+     * for filters by first and final statuses, which require details of all reruns.
+     */
+    private boolean isBatchExportSupported(ExecutionRequest executionRequest, boolean isExecutionRequestsSummary,
+                                           WidgetConfigTemplate.Filters filters) {
+        return batchExportEnabled
+                && !isExecutionRequestsSummary
+                && isNull(executionRequest.getTestScopeId())
+                && (isNull(filters) || isEmpty(filters.getFirstStatuses()) && isEmpty(filters.getFinalStatuses()));
+    }
+
+    /**
+     * Export 'Test cases' widget without holding all full test run nodes in memory.
+     * The whole tree of short test runs is built first to calculate label rows and validation label
+     * columns, so memory still grows with count of test runs. Full test runs are then loaded and
+     * written in the tree order by batches.
+     */
+    private void exportTestCasesWidgetByBatches(ExecutionRequest executionRequest, UUID labelTemplateId,
+                                                UUID validationTemplateId, WidgetConfigTemplate.Filters filters,
+                                                CSVWriter writer, Map<String, Boolean> columnVisibilityMap) {
+        final ValidationLabelConfigTemplate validationTemplate =
+                reportService.resolveTestCasesValidationTemplate(executionRequest, validationTemplateId);
+        final LabelNodeReportResponse nodes = reportService.getShortTestCasesForExecutionRequest(executionRequest,
+                labelTemplateId, validationTemplate, filters, exportBatchSize);
+        final List<String> validationLabels = nodes.getValidationLabelsOrder();
+        setHeaders(writer, validationLabels, columnVisibilityMap);
+
+        final PendingRows rows = new PendingRows(executionRequest.getUuid(), validationTemplate,
+                testRunService.getRootCauseNamesMap(), writer, validationLabels, columnVisibilityMap);
+        final List<LabelNodeReportResponse> children = nodes.getChildren();
+        if (isNotEmpty(children)) {
+            children.forEach(node -> addLabelNodeRows(node, rows, 0));
+        } else if (isNotEmpty(nodes.getTestRuns())) {
+            nodes.getTestRuns().forEach(testRunNode -> addTestRunNodeRow(testRunNode, rows, 0));
+        }
+        rows.flush();
+    }
+
+    private void addLabelNodeRows(LabelNodeReportResponse node, PendingRows rows, int depth) {
+        rows.addLabelNode(node, depth);
+        if (isNotEmpty(node.getChildren())) {
+            node.getChildren().forEach(childLabelNode -> addLabelNodeRows(childLabelNode, rows, depth + 1));
+        }
+        if (isNotEmpty(node.getTestRuns())) {
+            node.getTestRuns().forEach(testRunNode -> addTestRunNodeRow(testRunNode, rows, depth + 1));
+        }
+    }
+
+    private void addTestRunNodeRow(TestRunNodeResponse node, PendingRows rows, int depth) {
+        rows.addTestRunNode(node, depth);
+        if (rows.getTestRunsCount() >= exportBatchSize) {
+            rows.flush();
         }
     }
 
@@ -152,4 +241,74 @@ public class ReportExportService {
                 new TestCaseWidgetCsvExportLine(node, validationLabels, columnVisibilityMap, depth.get());
         writer.writeNext(line.getContent());
     }
+
+    /**
+     * Rows waiting for full test run data to be written in the original order.
+     */
+    @RequiredArgsConstructor
+    private class PendingRows {
+
+        private final UUID executionRequestId;
+        private final ValidationLabelConfigTemplate validationTemplate;
+        private final Map<UUID, String> rootCausesMap;
+        private final CSVWriter writer;
+        private final List<String> validationLabels;
+        private final Map<String, Boolean> columnVisibilityMap;
+
+        private final List<PendingRow> rows = new ArrayList<>();
+        private final List<UUID> testRunIds = new ArrayList<>();
+
+        void addLabelNode(LabelNodeReportResponse node, int depth) {
+            rows.add(new PendingRow(node, null, depth));
+        }
+
+        void addTestRunNode(TestRunNodeResponse node, int depth) {
+            rows.add(new PendingRow(null, node, depth));
+            testRunIds.add(node.getUuid());
+        }
+
+        int getTestRunsCount() {
+            return testRunIds.size();
+        }
+
+        void flush() {
+            final Map<UUID, TestRunNodeResponse> testRunNodesMap = loadTestRunNodes();
+            rows.forEach(row -> {
+                final TestCaseWidgetCsvExportLine line = isNull(row.testRunNode)
+                        ? new TestCaseWidgetCsvExportLine(row.labelNode, validationLabels, columnVisibilityMap,
+                                row.depth)
+                        : new TestCaseWidgetCsvExportLine(
+                                testRunNodesMap.getOrDefault(row.testRunNode.getUuid(), row.testRunNode),
+                                validationLabels, columnVisibilityMap, row.depth);
+                writer.writeNext(line.getContent());
+            });
+            rows.clear();
+            testRunIds.clear();
+        }
+
+        private Map<UUID, TestRunNodeResponse> loadTestRunNodes() {
+            if (testRunIds.isEmpty()) {
+                return Collections.emptyMap();
+            }
+            final List<TestRun> testRuns = testRunService.getByIds(testRunIds);
+            final TestRunsDataContextLoadOptions options = new TestRunsDataContextLoadOptions()
+                    .includeRunFailedLogRecordsMap()
+                    .includeRunValidationLogRecordsMap()
+                    .includeTestRunDslNamesMap();
+            final TestRunsDataContext dataContext = testRunService.getTestRunsDataContext(testRuns, options, false);
+            dataContext.setExecutionRequestId(executionRequestId);
+            dataContext.setRootCausesMap(rootCausesMap);
+
+            return StreamUtils.toKeyEntityMap(
+                    testRunService.getTestRunNodeWithFailedLogRecords(testRuns, validationTemplate, dataContext),
+                    TestRunNodeResponse::getUuid);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class PendingRow {
+        private final LabelNodeReportResponse labelNode;
+        private final TestRunNodeResponse testRunNode;
+        private final int depth;
+    }
 }
@@ -61,6 +61,7 @@ import org.qubership.atp.ram.models.EnvironmentsInfo;
 import org.qubership.atp.ram.models.ExecutionRequest;
 import org.qubership.atp.ram.models.FinalRunData;
 import org.qubership.atp.ram.models.LabelTemplate;
+import org.qubership.atp.ram.models.LogRecord;
 import org.qubership.atp.ram.models.RerunDetails;
 import org.qubership.atp.ram.models.Scope;
 import org.qubership.atp.ram.models.SystemInfo;
@@ -77,6 +78,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.google.common.base.Strings;
+import com.google.common.collect.Lists;
 import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -210,12 +212,8 @@ public class ReportService {
         Map<UUID, RerunDetails> rerunDetailsMapping = new HashMap<>();
         ExecutionRequest executionRequest = executionRequestRepository.findByUuid(erId);
         final UUID testCasesWidgetId = ExecutionRequestWidgets.TEST_CASES.getWidgetId();
-        validationTemplateId = isNull(validationTemplateId) ? widgetConfigService.getValidationTemplateIdByErWidget(
-                executionRequest, testCasesWidgetId) : validationTemplateId;
-        ValidationLabelConfigTemplate validationTemplate = null;
-        if (nonNull(validationTemplateId)) {
-            validationTemplate = validationLabelConfigTemplateService.get(validationTemplateId);
-        }
+        ValidationLabelConfigTemplate validationTemplate =
+                resolveTestCasesValidationTemplate(executionRequest, validationTemplateId);
 
         WidgetConfigTemplate.Filters widgetConfigFilters = resolveWidgetConfigFilters(request, executionRequest);
         List<TestRun> testRuns;
@@ -285,7 +283,9 @@ public class ReportService {
                         unknownTestRuns, validationTemplate, dataContext);
                 rootNode.setTestRuns(testRunsForDefaultNode);
                 List<LabelTemplate.LabelTemplateNode> labelNodes = filledTemplate.getLabelNodes();
-                fillLabelReportsNode(labelNodes, rootNode, validationTemplate, testRuns, dataContext);
+                fillLabelReportsNode(labelNodes, rootNode, testRuns, nodeTestRuns ->
+                        testRunService.getTestRunNodeWithFailedLogRecords(nodeTestRuns, validationTemplate,
+                                dataContext));
             }
         }
 
@@ -297,6 +297,125 @@ public class ReportService {
         return rootNode;
     }
 
+    /**
+     * Generate tree of test cases for export by batches.
+     * Label nodes are complete, while test run nodes contain only name, status, duration and statuses
+     * of validation labels, which are required to calculate label nodes and columns of validation labels.
+     * Test runs are read by cursor in short form, their validation log records are read by batches.
+     * Test scope runs and reran details are not supported.
+     *
+     * @param executionRequest   execution request
+     * @param labelTemplateId    label template id, widget one is used if null
+     * @param validationTemplate validation labels template
+     * @param filters            widget config filters by testing statuses and failure reasons
+     * @param batchSize          count of test runs to read validation log records for at once
+     * @return tree of short test cases mapped to filled {@link LabelTemplate}
+     */
+    public LabelNodeReportResponse getShortTestCasesForExecutionRequest(ExecutionRequest executionRequest,
+                                                                        UUID labelTemplateId,
+                                                                        ValidationLabelConfigTemplate
+                                                                                validationTemplate,
+                                                                        WidgetConfigTemplate.Filters filters,
+                                                                        int batchSize) {
+        List<TestRun> testRuns;
+        try (Stream<TestRun> testRunsStream = testRunService.streamShortTestRunsByExecutionRequestId(
+                executionRequest.getUuid(),
+                isNull(filters) ? null : filters.getTestingStatuses(),
+                isNull(filters) ? null : filters.getFailureReasons())) {
+            testRuns = testRunsStream.collect(Collectors.toList());
+        }
+        if (isNull(labelTemplateId)) {
+            labelTemplateId = widgetConfigService.defineLabelTemplateId(executionRequest,
+                    ExecutionRequestWidgets.TEST_CASES.getWidgetId());
+        }
+
+        LabelNodeReportResponse rootNode = new LabelNodeReportResponse();
+        if (isNull(labelTemplateId)) {
+            rootNode.setTestRuns(getShortTestRunNodes(testRuns, validationTemplate, batchSize));
+        } else {
+            LabelTemplate labelTemplate = labelTemplateNodeService.getLabelTemplate(labelTemplateId);
+            rootNode.setLabelTemplateId(labelTemplate.getUuid());
+            rootNode.setLabelTemplateName(labelTemplate.getName());
+            LabelTemplate filledTemplate =
+                    labelTemplateNodeService.populateLabelTemplateWithTestRuns(testRuns, labelTemplate);
+            Set<UUID> labeledTestRunIds = new HashSet<>();
+            collectLabeledTestRunIds(filledTemplate.getLabelNodes(), labeledTestRunIds);
+            List<TestRun> labeledTestRuns = filterList(testRuns, labeledTestRunIds);
+            if (labeledTestRuns.isEmpty()) {
+                // test runs of unknown node are shown only if there are no test runs in labels
+                Set<UUID> unknownTestRunIds = filledTemplate.getUnknownNode().getTestRunIds();
+                rootNode.setTestRuns(getShortTestRunNodes(filterList(testRuns, unknownTestRunIds),
+                        validationTemplate, batchSize));
+            }
+            Map<UUID, TestRunNodeResponse> testRunNodesMap = StreamUtils.toKeyEntityMap(
+                    getShortTestRunNodes(labeledTestRuns, validationTemplate, batchSize), TestRunNodeResponse::getUuid);
+            fillLabelReportsNode(filledTemplate.getLabelNodes(), rootNode, labeledTestRuns, nodeTestRuns ->
+                    nodeTestRuns.stream()
+                            .map(testRun -> testRunNodesMap.get(testRun.getUuid()))
+                            .collect(Collectors.toList()));
+        }
+
+        setValidationLabelsOrder(rootNode, validationTemplate);
+        removeEmptyNodes(rootNode);
+
+        return rootNode;
+    }
+
+    /**
+     * Resolve validation labels template of test cases widget.
+     *
+     * @param executionRequest     execution request
+     * @param validationTemplateId validation template id, widget one is used if null
+     * @return validation labels template or null if it is not defined
+     */
+    public ValidationLabelConfigTemplate resolveTestCasesValidationTemplate(ExecutionRequest executionRequest,
+                                                                            UUID validationTemplateId) {
+        validationTemplateId = isNull(validationTemplateId) ? widgetConfigService.getValidationTemplateIdByErWidget(
+                executionRequest, ExecutionRequestWidgets.TEST_CASES.getWidgetId()) : validationTemplateId;
+        if (nonNull(validationTemplateId)) {
+            return validationLabelConfigTemplateService.get(validationTemplateId);
+        }
+        return null;
+    }
+
+    private List<TestRunNodeResponse> getShortTestRunNodes(List<TestRun> testRuns,
+                                                           ValidationLabelConfigTemplate validationTemplate,
+                                                           int batchSize) {
+        List<TestRunNodeResponse> testRunNodes = new ArrayList<>(testRuns.size());
+        Lists.partition(testRuns, batchSize).forEach(batch -> {
+            Map<UUID, List<LogRecord>> validationLogRecordsMap =
+                    testRunService.getTestRunValidationLogRecordsMap(batch);
+            batch.forEach(testRun -> {
+                TestRunNodeResponse testRunNode = new TestRunNodeResponse();
+                testRunNode.setUuid(testRun.getUuid());
+                testRunNode.setName(testRun.getName());
+                testRunNode.setTestingStatus(testRun.getTestingStatus());
+                testRunNode.setDuration(testRun.getDuration());
+                // expected and actual results are not needed to calculate label nodes, so they are not kept
+                testRunNode.setLabelParams(treeNodeService.getTestRunValidationLabels(testRun.getUuid(),
+                                validationTemplate, validationLogRecordsMap)
+                        .stream()
+                        .map(labelParam -> new TestingReportLabelParam(labelParam.getName(), labelParam.getStatus()))
+                        .collect(Collectors.toList()));
+                testRunNodes.add(testRunNode);
+            });
+        });
+        return testRunNodes;
+    }
+
+    private void collectLabeledTestRunIds(List<LabelTemplate.LabelTemplateNode> labelNodes, Set<UUID> testRunIds) {
+        labelNodes.forEach(labelNode -> {
+            if (!LabelTemplate.UNKNOWN.equals(labelNode.getLabelName())) {
+                if (!isEmpty(labelNode.getTestRunIds())) {
+                    testRunIds.addAll(labelNode.getTestRunIds());
+                }
+                if (!isEmpty(labelNode.getChildren())) {
+                    collectLabeledTestRunIds(labelNode.getChildren(), testRunIds);
+                }
+            }
+        });
+    }
+
     /**
      * Resolve widget config filters for test cases widget.
      */
@@ -516,7 +635,9 @@ public class ReportService {
                             scopeGroupTestRuns, labelTemplateId);
 
                     List<LabelTemplate.LabelTemplateNode> labelNodes = filledGroupNodeTemplate.getLabelNodes();
-                    fillLabelReportsNode(labelNodes, node, validationTemplate, scopeGroupTestRuns, dataContext);
+                    fillLabelReportsNode(labelNodes, node, scopeGroupTestRuns, nodeTestRuns ->
+                            testRunService.getTestRunNodeWithFailedLogRecords(nodeTestRuns, validationTemplate,
+                                    dataContext));
 
                     Set<UUID> unknownTestRunIds = filledGroupNodeTemplate.getUnknownNode().getTestRunIds();
                     List<TestRun> unknownTestRuns = filterList(testRuns, unknownTestRunIds);
@@ -587,9 +708,8 @@ public class ReportService {
 
     private void fillLabelReportsNode(List<LabelTemplate.LabelTemplateNode> labelNodes,
                                       LabelNodeReportResponse rootNode,
-                                      ValidationLabelConfigTemplate template,
                                       List<TestRun> testRuns,
-                                      TestRunsDataContext dataContext) {
+                                      Function<List<TestRun>, List<TestRunNodeResponse>> testRunNodesFunc) {
         labelNodes.forEach(labelTemplateNode -> {
             if (!LabelTemplate.UNKNOWN.equals(labelTemplateNode.getLabelName())) {
                 LabelNodeReportResponse reportNode = new LabelNodeReportResponse();
@@ -597,14 +717,13 @@ public class ReportService {
                 reportNode.setLabelName(labelTemplateNode.getLabelName());
                 if (!isEmpty(labelTemplateNode.getTestRunIds())) {
                     List<TestRun> nodeTestRuns = filterList(testRuns, labelTemplateNode.getTestRunIds());
-                    List<TestRunNodeResponse> testRunsForCurrentNode =
-                            testRunService.getTestRunNodeWithFailedLogRecords(nodeTestRuns, template, dataContext);
+                    List<TestRunNodeResponse> testRunsForCurrentNode = testRunNodesFunc.apply(nodeTestRuns);
                     reportNode.setTestRuns(testRunsForCurrentNode);
                 }
                 addNodeToReport(Collections.singletonList(reportNode), rootNode);
 
                 if (!isEmpty(labelTemplateNode.getChildren())) {
-                    fillLabelReportsNode(labelTemplateNode.getChildren(), reportNode, template, testRuns, dataContext);
+                    fillLabelReportsNode(labelTemplateNode.getChildren(), reportNode, testRuns, testRunNodesFunc);
                 }
                 calculateParamsForLabelReportNode(reportNode);
             }
@@ -0,0 +1,213 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.services;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.qubership.atp.ram.models.ExecutionRequestStatistics.NONE_KEY;
+import static org.qubership.atp.ram.models.TestPlanDailyStatistics.DAY_FIELD;
+import static org.qubership.atp.ram.models.TestPlanDailyStatistics.DURATIONS_FIELD;
+import static org.qubership.atp.ram.models.TestPlanDailyStatistics.DURATIONS_SUM_FIELD;
+import static org.qubership.atp.ram.models.TestPlanDailyStatistics.ROOT_CAUSES_FIELD;
+import static org.qubership.atp.ram.models.TestPlanDailyStatistics.TESTING_STATUSES_FIELD;
+import static org.qubership.atp.ram.models.TestPlanDailyStatistics.TEST_RUNS_COUNT_FIELD;
+
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.qubership.atp.ram.models.ExecutionRequest;
+import org.qubership.atp.ram.models.TestPlanDailyStatistics;
+import org.qubership.atp.ram.models.TestRun;
+import org.qubership.atp.ram.repositories.TestPlanDailyStatisticsRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maintains {@link TestPlanDailyStatistics} rollups, so that trends of test plan are read
+ * by one range query over days instead of all execution requests and test runs.
+ * Test runs are added when execution request is finished, root causes changed later are moved between counters.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TestPlanDailyStatisticsService {
+
+    /**
+     * Upper bounds of test run duration histogram buckets in seconds.
+     */
+    static final long[] DURATION_BUCKETS_SEC = {10, 30, 60, 120, 300, 600, 900, 1800, 3600, 7200, 10800, 21600,
+            43200, 86400};
+    static final String DURATION_BUCKET_INFINITY = "inf";
+
+    private final TestPlanDailyStatisticsRepository repository;
+
+    @Value("${atp.ram.test.plan.daily.statistics.enabled:true}")
+    private boolean enabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Add test runs of finished execution request to daily statistics of its test plan.
+     * Execution request is counted once, repeated calls for the same execution request are skipped.
+     *
+     * @param executionRequest finished execution request
+     * @param testRuns         test runs of execution request
+     */
+    public void addExecutionRequest(ExecutionRequest executionRequest, Collection<TestRun> testRuns) {
+        if (!enabled || isNull(executionRequest.getTestPlanId()) || testRuns.isEmpty()) {
+            return;
+        }
+        try {
+            calculateIncrements(executionRequest, testRuns).forEach((day, increments) ->
+                    repository.addExecutionRequest(executionRequest.getProjectId(), executionRequest.getTestPlanId(),
+                            day, executionRequest.getUuid(), increments));
+        } catch (Exception e) {
+            log.error("Failed to add execution request '{}' to daily statistics of test plan '{}'",
+                    executionRequest.getUuid(), executionRequest.getTestPlanId(), e);
+        }
+    }
+
+    /**
+     * Move test run from counter of its previous root cause to counter of the current one in daily statistics,
+     * if its execution request is already counted. Test run without finish date is looked up in the last day
+     * of execution request, as it was counted by finish date of execution request.
+     *
+     * @param testRun             test run with changed root cause
+     * @param previousRootCauseId root cause id of test run before change
+     */
+    public void onRootCauseChanged(TestRun testRun, UUID previousRootCauseId) {
+        if (!enabled || isNull(testRun.getExecutionRequestId())
+                || Objects.equals(previousRootCauseId, testRun.getRootCauseId())) {
+            return;
+        }
+        try {
+            Date day = nonNull(testRun.getFinishDate()) ? getDay(testRun.getFinishDate()) : null;
+            repository.moveRootCause(testRun.getExecutionRequestId(), day, getRootCauseKey(previousRootCauseId),
+                    getRootCauseKey(testRun.getRootCauseId()));
+        } catch (Exception e) {
+            log.error("Failed to move test run '{}' to root cause '{}' in daily statistics",
+                    testRun.getUuid(), testRun.getRootCauseId(), e);
+        }
+    }
+
+    /**
+     * Get daily statistics of test plan for period, sorted by day.
+     *
+     * @param testPlanId test plan id
+     * @param from       start of period
+     * @param to         end of period
+     * @return daily statistics
+     */
+    public List<TestPlanDailyStatistics> getStatistics(UUID testPlanId, Date from, Date to) {
+        return repository.findAllByTestPlanIdAndDayBetween(testPlanId, getDay(from), getDay(to), Sort.by(DAY_FIELD));
+    }
+
+    /**
+     * Calculate increments of daily statistics by test runs of execution request.
+     * Test runs are bucketed by UTC day of their finish date, or of execution request finish date
+     * if test run has no finish date.
+     *
+     * @param executionRequest execution request
+     * @param testRuns         test runs of execution request
+     * @return increments by paths of counters for each day
+     */
+    public static Map<Date, Map<String, Long>> calculateIncrements(ExecutionRequest executionRequest,
+                                                                   Collection<TestRun> testRuns) {
+        Map<Date, Map<String, Long>> incrementsByDay = new HashMap<>();
+        for (TestRun testRun : testRuns) {
+            Date finishDate = nonNull(testRun.getFinishDate()) ? testRun.getFinishDate()
+                    : executionRequest.getFinishDate();
+            if (isNull(finishDate)) {
+                continue;
+            }
+            Map<String, Long> increments = incrementsByDay.computeIfAbsent(getDay(finishDate), day -> new HashMap<>());
+            increments.merge(TEST_RUNS_COUNT_FIELD, 1L, Long::sum);
+            increments.merge(path(TESTING_STATUSES_FIELD, testRun.getTestingStatus()), 1L, Long::sum);
+            increments.merge(path(ROOT_CAUSES_FIELD, testRun.getRootCauseId()), 1L, Long::sum);
+            if (testRun.getDuration() > 0) {
+                increments.merge(path(DURATIONS_FIELD, getDurationBucket(testRun.getDuration())), 1L, Long::sum);
+                increments.merge(DURATIONS_SUM_FIELD, testRun.getDuration(), Long::sum);
+            }
+        }
+        return incrementsByDay;
+    }
+
+    /**
+     * Estimate percentile of test run durations by histogram.
+     *
+     * @param durations  durations histogram of statistics
+     * @param percentile percentile, from 0 to 100
+     * @return upper bound of histogram bucket containing percentile in seconds, the last bound
+     *         if percentile is above it, or null if histogram is empty
+     */
+    public static Long getDurationPercentile(Map<String, Integer> durations, double percentile) {
+        long total = durations.values().stream()
+                .mapToLong(Integer::longValue)
+                .sum();
+        if (total == 0) {
+            return null;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long count = 0;
+        for (long bucket : DURATION_BUCKETS_SEC) {
+            count += durations.getOrDefault(String.valueOf(bucket), 0);
+            if (count >= rank) {
+                return bucket;
+            }
+        }
+        return DURATION_BUCKETS_SEC[DURATION_BUCKETS_SEC.length - 1];
+    }
+
+    /**
+     * Get start of UTC day of date.
+     *
+     * @param date date
+     * @return start of day
+     */
+    public static Date getDay(Date date) {
+        return Date.from(date.toInstant().truncatedTo(ChronoUnit.DAYS));
+    }
+
+    static String getDurationBucket(long durationSec) {
+        for (long bucket : DURATION_BUCKETS_SEC) {
+            if (durationSec <= bucket) {
+                return String.valueOf(bucket);
+            }
+        }
+        return DURATION_BUCKET_INFINITY;
+    }
+
+    private static String getRootCauseKey(UUID rootCauseId) {
+        return isNull(rootCauseId) ? NONE_KEY : rootCauseId.toString();
+    }
+
+    private static String path(String field, Object key) {
+        return field + "." + (isNull(key) ? NONE_KEY : key instanceof Enum ? ((Enum<?>) key).name() : key);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+
+package org.qubership.atp.ram.services;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.sql.Timestamp;
+import java.util.Date;
+
+import org.bson.Document;
+import org.qubership.atp.ram.enums.ExecutionStatuses;
+import org.qubership.atp.ram.models.TestRun;
+import org.qubership.atp.ram.repositories.TestRunRepository;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Keeps last activity of in progress test runs saved as whole documents. Last activity is moved forward
+ * by separate updates, so the stored one can be newer than the one of the saved instance loaded earlier,
+ * and replacing the document would move it back and let the test run be terminated by timeout.
+ */
+@Component
+@RequiredArgsConstructor
+public class TestRunLastActivityListener extends AbstractMongoEventListener<TestRun> {
+
+    private final TestRunRepository testRunRepository;
+
+    @Override
+    public void onBeforeSave(BeforeSaveEvent<TestRun> event) {
+        TestRun testRun = event.getSource();
+        Document document = event.getDocument();
+        if (ExecutionStatuses.IN_PROGRESS != testRun.getExecutionStatus() || isNull(document)
+                || isNull(testRun.getUuid())) {
+            return;
+        }
+        TestRun storedTestRun = testRunRepository.findLastActivityByUuid(testRun.getUuid());
+        Timestamp storedLastActivity = isNull(storedTestRun) ? null : storedTestRun.getLastActivity();
+        if (isNull(storedLastActivity) || nonNull(testRun.getLastActivity())
+                && !storedLastActivity.after(testRun.getLastActivity())) {
+            return;
+        }
+        testRun.setLastActivity(storedLastActivity);
+        document.put(TestRun.LAST_ACTIVITY_FIELD, new Date(storedLastActivity.getTime()));
+    }
+}
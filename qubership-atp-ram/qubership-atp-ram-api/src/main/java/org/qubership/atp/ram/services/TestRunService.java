@@ -40,7 +40,6 @@ import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -82,8 +81,10 @@ import org.qubership.atp.ram.enums.ExecutionStatuses;
 import org.qubership.atp.ram.enums.TestingStatuses;
 import org.qubership.atp.ram.model.CaseSearchRequest;
 import org.qubership.atp.ram.model.DatasetListDataSetsResponse;
+import org.qubership.atp.ram.model.ExecutionRequestTestRunsSummary;
 import org.qubership.atp.ram.model.LogRecordFilteringRequest;
 import org.qubership.atp.ram.model.LogRecordWithChildrenResponse;
+import org.qubership.atp.ram.model.datacontext.LogRecordStepIndex;
 import org.qubership.atp.ram.model.datacontext.TestRunsDataContext;
 import org.qubership.atp.ram.model.datacontext.TestRunsDataContextLoadOptions;
 import org.qubership.atp.ram.models.AnalyzedTestRunSortedColumns;
@@ -173,6 +174,9 @@ public class TestRunService extends CrudService<TestRun> {
     private final IssueService issueService;
     private final PatchHelper patchHelper;
     private final LabelsService labelsService;
+    private final WidgetTreeSnapshotService widgetTreeSnapshotService;
+    private final ExecutionRequestStatisticsService executionRequestStatisticsService;
+    private final TestPlanDailyStatisticsService testPlanDailyStatisticsService;
 
     /**
      * Get Test Ru by uuid.
@@ -193,6 +197,22 @@ public class TestRunService extends CrudService<TestRun> {
         return testRunRepository.findAllByUuidIn(ids);
     }
 
+    /**
+     * Stream short test runs of execution request ordered by name, see
+     * {@link TestRunRepository#streamShortTestRunsByExecutionRequestIdOrderByName}.
+     *
+     * @param executionRequestId execution request id
+     * @param testingStatuses    testing statuses filter, not applied if null
+     * @param rootCauseIds       failure reasons filter, not applied if null
+     * @return stream of test runs, should be closed after use
+     */
+    public Stream<TestRun> streamShortTestRunsByExecutionRequestId(UUID executionRequestId,
+                                                                   Set<TestingStatuses> testingStatuses,
+                                                                   Set<UUID> rootCauseIds) {
+        return testRunRepository.streamShortTestRunsByExecutionRequestIdOrderByName(executionRequestId,
+                testingStatuses, rootCauseIds);
+    }
+
     @Override
     protected MongoRepository<TestRun, UUID> repository() {
         return testRunRepository;
@@ -202,9 +222,35 @@ public class TestRunService extends CrudService<TestRun> {
         return testRunRepository.findFirstByTestCaseIdOrderByStartDateDesc(testCaseId);
     }
 
-    public List<TestRun> getAllInProgressTestRuns() {
-        return testRunRepository
-                .findAllByExecutionStatusOrderByStartDateDesc(ExecutionStatuses.IN_PROGRESS);
+    /**
+     * Get in progress test runs without activity since the date.
+     *
+     * @param date activity threshold
+     * @return inactive test runs with start, finish and last activity dates
+     */
+    public List<TestRun> getInProgressTestRunsInactiveSince(Timestamp date) {
+        return testRunRepository.findAllByExecutionStatusAndInactiveSince(ExecutionStatuses.IN_PROGRESS, date);
+    }
+
+    /**
+     * Terminate in progress test runs by timeout in one bulk write.
+     *
+     * @param testRuns   test runs with start dates
+     * @param finishDate finish date
+     * @return count of terminated test runs
+     */
+    public int terminateByTimeout(List<TestRun> testRuns, Timestamp finishDate) {
+        if (testRuns.isEmpty()) {
+            return 0;
+        }
+        int terminatedCount = testRunRepository.updateStatusesAndFinishDateByTestRuns(testRuns,
+                ExecutionStatuses.IN_PROGRESS, ExecutionStatuses.TERMINATED_BY_TIMEOUT, TestingStatuses.STOPPED,
+                finishDate);
+        if (executionRequestStatisticsService.isEnabled()) {
+            executionRequestStatisticsService.markStale(
+                    StreamUtils.extractIds(testRuns, TestRun::getExecutionRequestId));
+        }
+        return terminatedCount;
     }
 
     public LogRecord getLastInProgressLogRecord(UUID testRunId) {
@@ -216,6 +262,7 @@ public class TestRunService extends CrudService<TestRun> {
     }
 
     public void deleteByUuid(UUID uuid) {
+        markExecutionRequestStatisticsStale(Collections.singletonList(uuid));
         testRunRepository.deleteByUuid(uuid);
     }
 
@@ -306,10 +353,6 @@ public class TestRunService extends CrudService<TestRun> {
         return logRecordService.getAllFailedLogRecordsByTestRunId(testRunUuid);
     }
 
-    public List<LogRecord> getAllFailedLogRecords(Set<UUID> testRunIds) {
-        return logRecordService.getAllFailedLogRecordsByTestRunIds(testRunIds);
-    }
-
     public List<LogRecord> getAllTestingStatusLogRecordsByTestRunId(UUID testRunUuid) {
         return logRecordService.getAllTestingStatusLogRecordsByTestRunId(testRunUuid);
     }
@@ -361,11 +404,15 @@ public class TestRunService extends CrudService<TestRun> {
         return testRunRepository.save(testRun);
     }
 
-    public void updateStatusesAndFinishDateTestRuns(UUID testRunId, ExecutionStatuses executionStatus,
-                                                    TestingStatuses testingStatus, Timestamp finishDate,
-                                                    long duration) {
-        testRunRepository.updateStatusesAndFinishDateByTestRunId(testRunId, executionStatus, testingStatus, finishDate,
-                duration);
+    /**
+     * Get test runs of execution requests with fields used by charts only: testing status, root cause,
+     * start and finish dates.
+     *
+     * @param executionRequestIds execution request ids
+     * @return test runs
+     */
+    public List<TestRun> getChartTestRunsByExecutionRequestIds(Collection<UUID> executionRequestIds) {
+        return testRunRepository.findChartFieldsByExecutionRequestIdIn(executionRequestIds);
     }
 
     /**
@@ -448,6 +495,7 @@ public class TestRunService extends CrudService<TestRun> {
         HashSet<String> urlToBrowserOrLogs = JsonHelper
                 .getHashSet(request, "urlToBrowserOrLogs", new HashSet<>());
 
+        logRecordService.flushParentsStatuses(Collections.singletonList(testRunUuid));
         TestRun testRun = testRunRepository.findByUuid(testRunUuid);
         terminateTestRun(testRun);
         log.trace("Test run stopped, uuid = {}, url to browser log = {}.", testRunUuid, urlToBrowserOrLogs);
@@ -473,6 +521,7 @@ public class TestRunService extends CrudService<TestRun> {
         TestRun testRun = getByUuid(uuid);
         testRun.setRootCauseId(rootCauseId);
         save(testRun);
+        invalidateWidgetTreeSnapshots(Collections.singletonList(testRun));
         return testRun;
     }
 
@@ -489,6 +538,7 @@ public class TestRunService extends CrudService<TestRun> {
             save(testRun);
             testRuns.add(testRun);
         });
+        invalidateWidgetTreeSnapshots(testRuns);
         return testRuns;
     }
 
@@ -497,11 +547,20 @@ public class TestRunService extends CrudService<TestRun> {
      */
     public void updateFieldRootCauseIdByTestRunsIds(List<UUID> listTestRunIds, UUID rootCauseId) {
         if (rootCauseId != null) {
+            List<TestRun> testRuns = testRunRepository.findRootCausesByUuidIn(listTestRunIds);
             listTestRunIds.forEach(testRunId -> {
                 Map<String, Object> fieldsToUpdate = new HashMap<>();
                 fieldsToUpdate.put(FieldConstants.ROOT_CAUSE_ID, rootCauseId);
                 updateAnyFieldsForTestRunsByUuid(testRunId, fieldsToUpdate, TestRun.class);
             });
+            testRuns.forEach(testRun -> {
+                UUID previousRootCauseId = testRun.getRootCauseId();
+                testRun.setRootCauseId(rootCauseId);
+                testPlanDailyStatisticsService.onRootCauseChanged(testRun, previousRootCauseId);
+            });
+            invalidateWidgetTreeSnapshots(testRuns);
+            executionRequestStatisticsService.markStale(
+                    StreamUtils.extractIds(testRuns, TestRun::getExecutionRequestId));
         }
     }
 
@@ -520,6 +579,7 @@ public class TestRunService extends CrudService<TestRun> {
 
     void deleteListTestRuns(List<UUID> testRunsUuidList) {
         log.debug("Start deleting the list of Test Runs: {}", testRunsUuidList);
+        markExecutionRequestStatisticsStale(testRunsUuidList);
         testRunRepository.deleteAllByUuidIn(testRunsUuidList);
     }
 
@@ -570,6 +630,22 @@ public class TestRunService extends CrudService<TestRun> {
         return rootCausesAndCount;
     }
 
+    /**
+     * Count in progress and not started TR-s of ER-s in one query.
+     * ER-s without TR-s are absent in result.
+     */
+    public List<ExecutionRequestTestRunsSummary> getTestRunsSummaryByExecutionRequestIds(
+            Collection<UUID> executionRequestIds) {
+        return testRunRepository.getTestRunsSummaryByExecutionRequestIds(executionRequestIds);
+    }
+
+    /**
+     * Returns ids of ER-s of TR-s.
+     */
+    public Set<UUID> getExecutionRequestIdsByTestRunIds(List<UUID> testRunIds) {
+        return StreamUtils.extractIds(testRunRepository.findErByUuidIn(testRunIds), TestRun::getExecutionRequestId);
+    }
+
     /**
      * Return finish date of last TR or 0, if TR is null.
      */
@@ -950,6 +1026,7 @@ public class TestRunService extends CrudService<TestRun> {
      */
     public List<UUID> stopTestRuns(List<UUID> testRunUuids) {
         log.debug("Start of stop Test Runs {}.", testRunUuids);
+        logRecordService.flushParentsStatuses(testRunUuids);
         List<TestRun> testRuns = testRunRepository.findAllByUuidIn(testRunUuids);
         testRuns.forEach(this::terminateTestRun);
         testRunRepository.saveAll(testRuns);
@@ -965,6 +1042,7 @@ public class TestRunService extends CrudService<TestRun> {
      */
     public List<UUID> finishTestRuns(List<UUID> testRunUuids, boolean isDelayed) {
         log.debug("Test runs {} are going to be finished. Delayed: {}", testRunUuids, isDelayed);
+        logRecordService.flushParentsStatuses(testRunUuids);
         List<TestRun> testRuns = testRunRepository.findAllByUuidIn(testRunUuids);
         testRuns.forEach(tr -> finishTestRun(tr, isDelayed));
         testRunRepository.saveAll(testRuns);
@@ -1284,19 +1362,27 @@ public class TestRunService extends CrudService<TestRun> {
             builder.testRunTestCasesMap(new HashMap<>());
         }
 
-        if (options.isIncludeRunValidationLogRecordsMap() && options.isIncludeRunFailedLogRecordsMap()) {
+        if (options.isIncludeLogRecordStepIndex()) {
+            LogRecordStepIndex stepIndex = getLogRecordStepIndex(StreamUtils.extractIds(testRuns));
+            builder.logRecordStepIndex(stepIndex);
+            builder.testRunValidationLogRecordsMap(options.isIncludeRunValidationLogRecordsMap()
+                    ? stepIndex.getValidationStepsByTestRun() : new HashMap<>());
+            builder.testRunFailedLogRecordsMap(options.isIncludeRunFailedLogRecordsMap()
+                    ? stepIndex.getFailedStepsByTestRun() : new HashMap<>());
+        } else if (options.isIncludeRunValidationLogRecordsMap() && options.isIncludeRunFailedLogRecordsMap()) {
             Set<UUID> testRunIds = StreamUtils.extractIds(testRuns);
-
-            Supplier<Stream<LogRecord>> testRunLogRecords =
-                    () -> logRecordService.findLogRecordsWithValidationParamsAndFailureByTestRunIds(testRunIds);
+            List<LogRecord> testRunLogRecords = logRecordService
+                    .findLogRecordsWithValidationParamsAndFailureByTestRunIds(testRunIds)
+                    .collect(Collectors.toList());
 
             List<LogRecord> logRecordsWithValidationParams =
-                    filterLogRecordsWithValidationParams(testRunLogRecords.get());
+                    filterLogRecordsWithValidationParams(testRunLogRecords.stream());
             Map<UUID, List<LogRecord>> logRecordsWithValidationParamsToTestRunMap =
                     StreamUtils.toMapWithListEntitiesValues(logRecordsWithValidationParams, LogRecord::getTestRunId);
             builder.testRunValidationLogRecordsMap(logRecordsWithValidationParamsToTestRunMap);
 
-            List<LogRecord> failedLogRecordsWithMetaInfo = filterFailedLogRecordsWithMetaInfo(testRunLogRecords.get());
+            List<LogRecord> failedLogRecordsWithMetaInfo =
+                    filterFailedLogRecordsWithMetaInfo(testRunLogRecords.stream());
             Map<UUID, List<LogRecord>> failedLogRecordsWithMetaInfoToTestRunMap =
                     StreamUtils.toMapWithListEntitiesValues(failedLogRecordsWithMetaInfo, LogRecord::getTestRunId);
             builder.testRunFailedLogRecordsMap(failedLogRecordsWithMetaInfoToTestRunMap);
@@ -1327,6 +1413,16 @@ public class TestRunService extends CrudService<TestRun> {
         return builder.build();
     }
 
+    /**
+     * Get index of log records hierarchy of test runs, loaded by one query.
+     *
+     * @param testRunIds test run ids
+     * @return log records index
+     */
+    public LogRecordStepIndex getLogRecordStepIndex(Collection<UUID> testRunIds) {
+        return LogRecordStepIndex.build(logRecordService.findStepsByTestRunIds(testRunIds));
+    }
+
     /**
      * Get test run validation log records map for further processing performance.
      *
@@ -1362,24 +1458,7 @@ public class TestRunService extends CrudService<TestRun> {
      */
     public List<LogRecord> filterLogRecordsWithValidationParams(Stream<LogRecord> logRecords) {
         return logRecords
-                .filter(logRecord -> {
-                    final Set<String> validationLabels = logRecord.getValidationLabels();
-                    final ValidationTable validationTable = logRecord.getValidationTable();
-
-                    if (nonNull(validationTable)) {
-                        final List<ValidationTableLine> steps = validationTable.getSteps();
-                        if (!isEmpty(steps)) {
-                            final List<String> validationTableLabels = steps.stream()
-                                    .filter(step -> !isEmpty(step.getValidationLabels()))
-                                    .flatMap(step -> step.getValidationLabels().stream())
-                                    .toList();
-
-                            return !isEmpty(validationLabels) || !isEmpty(validationTableLabels);
-                        }
-                    }
-
-                    return !isEmpty(validationLabels);
-                })
+                .filter(LogRecordStepIndex::hasValidationParams)
                 .collect(Collectors.toList());
     }
 
@@ -1391,8 +1470,7 @@ public class TestRunService extends CrudService<TestRun> {
      */
     public List<LogRecord> filterFailedLogRecordsWithMetaInfo(Stream<LogRecord> logRecords) {
         return logRecords
-                .filter(logRecord -> nonNull(logRecord.getMetaInfo())
-                        && TestingStatuses.FAILED.equals(logRecord.getTestingStatus()))
+                .filter(LogRecordStepIndex::isFailedWithMetaInfo)
                 .collect(Collectors.toList());
     }
 
@@ -1610,12 +1688,7 @@ public class TestRunService extends CrudService<TestRun> {
         List<LogRecord> logRecords = logRecordService.findAllByLastUpdatedAfterAndTestRunIdIn(lastLoaded, testRunIds);
         log.debug("Founded log records: {}", StreamUtils.extractIds(logRecords));
 
-        Map<UUID, List<LogRecord>> testRunToLogRecordMap = logRecords.stream()
-                .collect(Collectors.groupingBy(LogRecord::getTestRunId));
-
-        List<TestRunStatusUpdateResponse> testRunStatusUpdateResponses = testRuns.stream()
-                .map(testRun -> new TestRunStatusUpdateResponse(testRun, testRunToLogRecordMap.get(testRun.getUuid())))
-                .collect(Collectors.toList());
+        List<TestRunStatusUpdateResponse> testRunStatusUpdateResponses = toStatusUpdateResponses(testRuns, logRecords);
         log.debug("Test run status update responses: {}", testRunStatusUpdateResponses);
 
         Date currentLastLoadedDate = new Date();
@@ -1624,6 +1697,34 @@ public class TestRunService extends CrudService<TestRun> {
         return new StatusUpdateResponse(currentLastLoadedDate, testRunStatusUpdateResponses);
     }
 
+    /**
+     * Get statuses of all test runs of execution request with their log records updated after the date.
+     * Last loaded date of response is taken before queries, so no updates are lost between calls.
+     *
+     * @param executionRequestId execution request id
+     * @param lastLoaded         date of previous update
+     * @return status update response
+     */
+    public StatusUpdateResponse getStatusUpdate(UUID executionRequestId, Date lastLoaded) {
+        Date currentLastLoadedDate = new Date();
+        List<TestRun> testRuns = testRunRepository.findShortTestRunsByExecutionRequestId(executionRequestId);
+        List<LogRecord> logRecords = testRuns.isEmpty() ? Collections.emptyList()
+                : logRecordService.findAllByLastUpdatedAfterAndTestRunIdIn(lastLoaded,
+                StreamUtils.extractIdsToList(testRuns));
+        log.debug("Found {} test runs and {} updated log records for execution request {}", testRuns.size(),
+                logRecords.size(), executionRequestId);
+        return new StatusUpdateResponse(currentLastLoadedDate, toStatusUpdateResponses(testRuns, logRecords));
+    }
+
+    private List<TestRunStatusUpdateResponse> toStatusUpdateResponses(List<TestRun> testRuns,
+                                                                      List<LogRecord> logRecords) {
+        Map<UUID, List<LogRecord>> testRunToLogRecordMap = logRecords.stream()
+                .collect(Collectors.groupingBy(LogRecord::getTestRunId));
+        return testRuns.stream()
+                .map(testRun -> new TestRunStatusUpdateResponse(testRun, testRunToLogRecordMap.get(testRun.getUuid())))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Upd testing status test run.
      *
@@ -1652,6 +1753,7 @@ public class TestRunService extends CrudService<TestRun> {
 
         testRun = save(testRun);
         log.debug("testRun = {}", testRun);
+        invalidateWidgetTreeSnapshots(Collections.singletonList(testRun));
 
         return testRun;
     }
@@ -1790,6 +1892,7 @@ public class TestRunService extends CrudService<TestRun> {
                 .collect(Collectors.toList());
 
         testRunRepository.saveAll(updTestRuns);
+        invalidateWidgetTreeSnapshots(updTestRuns);
     }
 
     /**
@@ -1806,7 +1909,7 @@ public class TestRunService extends CrudService<TestRun> {
     }
 
     /**
-     * Get TR-s with field 'uuid'.
+     * Get TR-s with fields: 'uuid' and 'issues calculated date'.
      *
      * @param executionRequestId for search
      * @param testingStatuses    for search
@@ -1831,7 +1934,7 @@ public class TestRunService extends CrudService<TestRun> {
     }
 
     /**
-     * Get TR-s with fields: 'uuid' and 'execution request id'.
+     * Get TR-s with fields: 'uuid', 'execution request id' and 'issues calculated date'.
      *
      * @param testRunIds      for search
      * @param testingStatuses for search
@@ -1842,6 +1945,25 @@ public class TestRunService extends CrudService<TestRun> {
         return testRunRepository.findTestRunsUuidErIdByTestingStatusInAndUuidIn(testingStatuses, testRunIds);
     }
 
+    /**
+     * Set date until which failed log records of TR-s are folded into issues.
+     *
+     * @param testRunIds           TR-s ID-s
+     * @param issuesCalculatedDate watermark of issues calculation
+     */
+    public void updateIssuesCalculatedDate(Collection<UUID> testRunIds, Timestamp issuesCalculatedDate) {
+        testRunRepository.updateIssuesCalculatedDateByIds(testRunIds, issuesCalculatedDate);
+    }
+
+    /**
+     * Mark test runs as sent to TSG and set their FDR links.
+     *
+     * @param fdrLinks FDR links by test run ids, value may be null
+     */
+    public void updateFdrWasSent(Map<UUID, String> fdrLinks) {
+        testRunRepository.updateFdrWasSentByIds(fdrLinks);
+    }
+
     /**
      * Set failure reason to several test runs.
      *
@@ -1857,7 +1979,9 @@ public class TestRunService extends CrudService<TestRun> {
 
         testRuns.forEach(testRun -> testRun.setRootCauseId(failureReasonId));
 
-        return testRunRepository.saveAll(testRuns);
+        List<TestRun> savedTestRuns = testRunRepository.saveAll(testRuns);
+        invalidateWidgetTreeSnapshots(savedTestRuns);
+        return savedTestRuns;
     }
 
     /**
@@ -1876,6 +2000,7 @@ public class TestRunService extends CrudService<TestRun> {
             testRun.setTestingStatus(status);
         }
         testRunRepository.saveAll(testRuns);
+        invalidateWidgetTreeSnapshots(testRuns);
     }
 
     /**
@@ -1892,7 +2017,9 @@ public class TestRunService extends CrudService<TestRun> {
         log.info("Status update for Test Run [{}]. Old status [{}]. New status [{}].", uuid, testRun.getTestingStatus(),
                 testingStatuses);
         updateStatusAndPropagateTestCase(testRun, testingStatuses);
-        return save(testRun);
+        TestRun savedTestRun = save(testRun);
+        invalidateWidgetTreeSnapshots(Collections.singletonList(savedTestRun));
+        return savedTestRun;
     }
 
     /**
@@ -1907,7 +2034,23 @@ public class TestRunService extends CrudService<TestRun> {
                                                        List<String> browserNames) {
         updateStatusAndPropagateTestCase(testRun, testingStatuses);
         testRun.setBrowserNames(browserNames);
-        return save(testRun);
+        TestRun savedTestRun = save(testRun);
+        invalidateWidgetTreeSnapshots(Collections.singletonList(savedTestRun));
+        return savedTestRun;
+    }
+
+    /**
+     * Mark statistics of execution requests as stale for test runs changed or deleted without save of entities.
+     */
+    private void markExecutionRequestStatisticsStale(List<UUID> testRunIds) {
+        if (executionRequestStatisticsService.isEnabled()) {
+            executionRequestStatisticsService.markStale(StreamUtils.extractIds(
+                    testRunRepository.findErByUuidIn(testRunIds), TestRun::getExecutionRequestId));
+        }
+    }
+
+    private void invalidateWidgetTreeSnapshots(Collection<TestRun> testRuns) {
+        widgetTreeSnapshotService.invalidate(StreamUtils.extractIds(testRuns, TestRun::getExecutionRequestId));
     }
 
     private void updateStatusAndPropagateTestCase(TestRun testRun, TestingStatuses testingStatuses) {
@@ -0,0 +1,101 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.services;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.bson.Document;
+import org.qubership.atp.ram.models.TestRun;
+import org.qubership.atp.ram.services.ExecutionRequestStatisticsService.TestRunStatisticsKey;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterConvertEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
+import org.springframework.stereotype.Component;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Applies saved test runs to statistics of execution requests and changed root causes to daily statistics
+ * of test plans. Counted fields of loaded and new test runs are remembered by instance, so that save of the instance
+ * is applied by increments relative to them. Test runs saved without known previous state make statistics stale.
+ * Runs before other listeners to see test runs without generated ids as new ones.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class TestRunStatisticsListener extends AbstractMongoEventListener<TestRun> {
+
+    private static final List<String> STATISTICS_FIELDS =
+            Arrays.asList("executionRequestId", "testingStatus", "executionStatus", "duration");
+
+    private final ExecutionRequestStatisticsService statisticsService;
+    private final TestPlanDailyStatisticsService dailyStatisticsService;
+
+    // weak keys are compared by identity, so instances are tracked until they are collected
+    private final Cache<TestRun, TestRunStatisticsKey> loadedTestRuns = CacheBuilder.newBuilder().weakKeys().build();
+    private final Cache<TestRun, Boolean> newTestRuns = CacheBuilder.newBuilder().weakKeys().build();
+
+    @Override
+    public void onAfterConvert(AfterConvertEvent<TestRun> event) {
+        Document document = event.getDocument();
+        // test runs loaded by projections without counted fields are not tracked
+        if (isEnabled() && nonNull(document) && STATISTICS_FIELDS.stream()
+                .allMatch(document::containsKey)) {
+            loadedTestRuns.put(event.getSource(), TestRunStatisticsKey.of(event.getSource()));
+        }
+    }
+
+    @Override
+    public void onBeforeConvert(BeforeConvertEvent<TestRun> event) {
+        TestRun testRun = event.getSource();
+        if (isEnabled() && isNull(testRun.getUuid())) {
+            newTestRuns.put(testRun, Boolean.TRUE);
+        }
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<TestRun> event) {
+        if (!isEnabled()) {
+            return;
+        }
+        TestRun testRun = event.getSource();
+        TestRunStatisticsKey previous = loadedTestRuns.getIfPresent(testRun);
+        if (nonNull(previous) || nonNull(newTestRuns.asMap().remove(testRun))) {
+            statisticsService.onTestRunSaved(previous, testRun);
+            if (nonNull(previous)) {
+                dailyStatisticsService.onRootCauseChanged(testRun, previous.getRootCauseId());
+            }
+        } else if (nonNull(testRun.getExecutionRequestId())) {
+            statisticsService.markStale(Collections.singletonList(testRun.getExecutionRequestId()));
+        }
+        loadedTestRuns.put(testRun, TestRunStatisticsKey.of(testRun));
+    }
+
+    private boolean isEnabled() {
+        return statisticsService.isEnabled() || dailyStatisticsService.isEnabled();
+    }
+}
@@ -30,6 +30,8 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.UUID;
@@ -57,6 +59,7 @@ import org.qubership.atp.ram.enums.ExecutionRequestWidgets;
 import org.qubership.atp.ram.enums.TestScopeSections;
 import org.qubership.atp.ram.enums.TestingStatuses;
 import org.qubership.atp.ram.model.LogRecordFilteringRequest;
+import org.qubership.atp.ram.model.datacontext.LogRecordStepIndex;
 import org.qubership.atp.ram.model.datacontext.TestRunsDataContext;
 import org.qubership.atp.ram.model.datacontext.TestRunsDataContextLoadOptions;
 import org.qubership.atp.ram.models.ExecutionRequest;
@@ -95,6 +98,7 @@ public class TreeNodeService {
     private final LabelTemplateNodeService labelTemplateNodeService;
     private final WidgetConfigTemplateService widgetConfigTemplateService;
     private final ValidationLabelConfigTemplateService validationLabelConfigTemplateService;
+    private final WidgetTreeSnapshotService widgetTreeSnapshotService;
     private final ObjectMapper objectMapper;
 
     private final BiFunction<TestingReportLabelParam, TestingReportLabelParam, TestingReportLabelParam> statusMergeFunc =
@@ -116,6 +120,7 @@ public class TreeNodeService {
                            @Lazy LabelTemplateNodeService labelTemplateNodeService,
                            @Lazy WidgetConfigTemplateService widgetConfigTemplateService,
                            @Lazy ValidationLabelConfigTemplateService validationLabelConfigTemplateService,
+                           @Lazy WidgetTreeSnapshotService widgetTreeSnapshotService,
                            @Lazy ObjectMapper objectMapper) {
         this.testRunService = testRunService;
         this.executionRequestService = executionRequestService;
@@ -123,6 +128,7 @@ public class TreeNodeService {
         this.labelTemplateNodeService = labelTemplateNodeService;
         this.widgetConfigTemplateService = widgetConfigTemplateService;
         this.validationLabelConfigTemplateService = validationLabelConfigTemplateService;
+        this.widgetTreeSnapshotService = widgetTreeSnapshotService;
         this.objectMapper = objectMapper;
     }
 
@@ -186,7 +192,8 @@ public class TreeNodeService {
         TestRunsDataContextLoadOptions dataContextLoadOptions = new TestRunsDataContextLoadOptions()
                 .includeRunValidationLogRecordsMap(isWidget)
                 .includeRunTestCasesMap()
-                .includeTestRunMap();
+                .includeTestRunMap()
+                .includeLogRecordStepIndex(includeAll);
         TestRunsDataContext dataContext = testRunService.getTestRunsDataContext(testRuns, dataContextLoadOptions,
                 executionRequest.isVirtual());
         final ExecutionRequestTreeNode erRootNode = new ExecutionRequestTreeNode(executionRequest);
@@ -225,8 +232,10 @@ public class TreeNodeService {
         final ExecutionRequestTreeNode executionRequestRootNode = new ExecutionRequestTreeNode(executionRequest);
         if (includeTestRuns) {
             List<TestRun> topLevelTestRuns = testRunService.findAllByExecutionRequestId(executionRequestId);
+            LogRecordStepIndex stepIndex = includeLogRecords
+                    ? testRunService.getLogRecordStepIndex(StreamUtils.extractIds(topLevelTestRuns)) : null;
             List<TreeNode> topLevelTestRunNodes = topLevelTestRuns.stream()
-                    .map(testRun -> getTestRunNode(testRun, includeLogRecords, null))
+                    .map(testRun -> getTestRunNode(testRun, stepIndex, null, null))
                     .sorted(Comparator.comparing(TreeNode::getName))
                     .collect(Collectors.toList());
             executionRequestRootNode.setChildren(topLevelTestRunNodes);
@@ -258,7 +267,7 @@ public class TreeNodeService {
         } else {
             topLevelLabelTreeNodes = getTreeNodes(testRuns, null,
                     includeAll ? testRun -> this.getTestRunNodeIncludeAllSteps(testRun, dataContext)
-                            : testRun -> this.getTestRunNode(testRun, false, null, dataContext));
+                            : testRun -> this.getTestRunNode(testRun, null, null, dataContext));
         }
         erRootNode.getChildren().addAll(topLevelLabelTreeNodes);
         setValidationLabelsOrder(erRootNode, template);
@@ -442,7 +451,7 @@ public class TreeNodeService {
                     scopeGroupTestRuns = sortScopeGroupTestRuns(scopeGroupTestRuns);
                     topLevelLabelTreeNodes = getTreeNodes(scopeGroupTestRuns, null,
                             includeAll ? testRun -> this.getTestRunNodeIncludeAllSteps(testRun, dataContext)
-                                    : testRun -> this.getTestRunNode(testRun, false, null, dataContext));
+                                    : testRun -> this.getTestRunNode(testRun, null, null, dataContext));
                 }
             }
             node.setChildren(topLevelLabelTreeNodes);
@@ -465,11 +474,16 @@ public class TreeNodeService {
                 searchValue);
         Set<TreeNode> treeNodes = new HashSet<>();
         List<TestRun> allTestRuns = testRunService.findAllByExecutionRequestId(executionRequestId);
+        if (allTestRuns.isEmpty()) {
+            return treeNodes;
+        }
         allTestRuns
                 .stream()
                 .filter(testRun -> testRun.getName().toLowerCase().contains(searchValue.toLowerCase()))
                 .forEach(matchedTestRun -> treeNodes.add(new TestRunTreeNode(matchedTestRun)));
-        allTestRuns.forEach(testRun -> treeNodes.addAll(getLogRecordNodesByName(testRun, searchValue)));
+        logRecordService.getAllMatchesLogRecordsByTestRunIdsCaseInsensitive(StreamUtils.extractIds(allTestRuns),
+                        searchValue)
+                .forEach(logRecord -> treeNodes.add(new LogRecordTreeNode(logRecord, executionRequestId)));
         return treeNodes;
     }
 
@@ -498,7 +512,7 @@ public class TreeNodeService {
                 labelTreeNode,
                 testRunIds,
                 includeAll ? testRunId -> getTestRunNodeIncludeAllSteps(testRunsMap.get(testRunId), dataContext)
-                        : testRunId -> getTestRunNode(testRunsMap.get(testRunId), false, null, dataContext)
+                        : testRunId -> getTestRunNode(testRunsMap.get(testRunId), null, null, dataContext)
         );
         log.debug("convertLabelTemplateNodeToTreeNode: will be calculate params {}", isWidget);
         if (isWidget) {
@@ -648,26 +662,21 @@ public class TreeNodeService {
     /**
      * Get testrun node.
      *
-     * @param testRun           root testrun
-     * @param includeLogRecords log records inclusion flag
-     * @param filteringRequest  filters for log records
+     * @param testRun          root testrun
+     * @param stepIndex        index of log records to include, null if log records are not included
+     * @param filteringRequest filters for log records
+     * @param dataContext      data context
      * @return testrun node
      */
-    private TreeNode getTestRunNode(TestRun testRun, boolean includeLogRecords,
-                                    LogRecordFilteringRequest filteringRequest) {
-        return getTestRunNode(testRun, includeLogRecords, filteringRequest, null);
-    }
-
-    private TreeNode getTestRunNode(TestRun testRun, boolean includeLogRecords,
+    private TreeNode getTestRunNode(TestRun testRun, LogRecordStepIndex stepIndex,
                                     LogRecordFilteringRequest filteringRequest,
                                     TestRunsDataContext dataContext) {
-        final UUID testRunId = testRun.getUuid();
         boolean isTestCaseAlive = isTestCaseAlive(dataContext, testRun);
         final TestRunTreeNode testRunTreeNode = new TestRunTreeNode(testRun, isTestCaseAlive);
-        if (includeLogRecords) {
-            List<LogRecord> topLevelLogRecords = testRunService.getTopLevelLogRecords(testRunId, null);
-            List<TreeNode> topLevelLogRecordNodes = topLevelLogRecords.stream()
-                    .map(logRecord -> getLogRecordNode(logRecord, testRun.getExecutionRequestId(), filteringRequest))
+        if (nonNull(stepIndex)) {
+            final UUID executionRequestId = testRun.getExecutionRequestId();
+            List<TreeNode> topLevelLogRecordNodes = stepIndex.getTopLevelSteps(testRun.getUuid()).stream()
+                    .map(logRecord -> getLogRecordNode(logRecord, executionRequestId, filteringRequest, stepIndex))
                     .filter(node -> !node.isLeaf() || filterLogRecordNodeByRequest(node, filteringRequest))
                     .collect(Collectors.toList());
             testRunTreeNode.setChildren(topLevelLogRecordNodes);
@@ -678,14 +687,9 @@ public class TreeNodeService {
     private TreeNode getTestRunNodeIncludeAllSteps(TestRun testRun, TestRunsDataContext dataContext) {
         boolean isTestCaseAlive = isTestCaseAlive(dataContext, testRun);
         final TestRunTreeNode testRunTreeNode = new TestRunTreeNode(testRun, isTestCaseAlive);
-        List<LogRecord> topLevelLogRecords = testRunService.getTopLevelLogRecords(testRun.getUuid(), null);
-        Map<UUID, List<LogRecord>> childrenLogRecords = testRunService.getAllLogRecordsByTestRunId(
-                testRun.getUuid())
-                .stream()
-                .filter(lr -> nonNull(lr.getParentRecordId()))
-                .collect(Collectors.groupingBy(LogRecord::getParentRecordId));
-        List<TreeNode> topLevelLogRecordNodes = topLevelLogRecords.stream()
-                .map(logRecord -> getLogRecordNode(logRecord, childrenLogRecords, testRun.getExecutionRequestId()))
+        final LogRecordStepIndex stepIndex = dataContext.getLogRecordStepIndex();
+        List<TreeNode> topLevelLogRecordNodes = stepIndex.getTopLevelSteps(testRun.getUuid()).stream()
+                .map(logRecord -> getLogRecordNode(logRecord, stepIndex, testRun.getExecutionRequestId()))
                 .collect(Collectors.toList());
         testRunTreeNode.setChildren(topLevelLogRecordNodes);
         return testRunTreeNode;
@@ -702,17 +706,20 @@ public class TreeNodeService {
      * @param logRecord          root logrecord
      * @param executionRequestId execution request id
      * @param filteringRequest   Filtering request
+     * @param stepIndex          index of log records containing subtree of the log record
      * @return logrecord node
      */
     private LogRecordTreeNode getLogRecordNode(LogRecord logRecord, UUID executionRequestId,
-                                               LogRecordFilteringRequest filteringRequest) {
+                                               LogRecordFilteringRequest filteringRequest,
+                                               LogRecordStepIndex stepIndex) {
         final UUID logRecordId = logRecord.getUuid();
         final LogRecordTreeNode logRecordTreeNode = new LogRecordTreeNode(logRecord, executionRequestId);
         if (isFiltersSet(filteringRequest)) {
-            Stream<LogRecord> logRecordChildren = logRecordService.getLogRecordChildren(logRecordId);
-            if (logRecordChildren != null) {
-                List<TreeNode> logRecordChildrenNodes = logRecordChildren
-                        .map(childLogRecord -> getLogRecordNode(childLogRecord, executionRequestId, filteringRequest))
+            List<LogRecord> logRecordChildren = stepIndex.getChildren(logRecordId);
+            if (!logRecordChildren.isEmpty()) {
+                List<TreeNode> logRecordChildrenNodes = logRecordChildren.stream()
+                        .map(childLogRecord ->
+                                getLogRecordNode(childLogRecord, executionRequestId, filteringRequest, stepIndex))
                         .filter(logRecordNode -> {
                                     if (logRecordNode.isLeaf()) {
                                         boolean flag = filterLogRecordNodeByRequest(logRecordNode, filteringRequest);
@@ -734,7 +741,7 @@ public class TreeNodeService {
                 logRecordTreeNode.setLeaf(true);
             }
         } else {
-            long countOfChild = logRecordService.getChildrenCount(logRecord);
+            int countOfChild = stepIndex.getChildrenCount(logRecordId);
             logRecordTreeNode.setChildren(Collections.emptyList());
             if (countOfChild == 0) {
                 logRecordTreeNode.setLeaf(true);
@@ -748,18 +755,18 @@ public class TreeNodeService {
      * Get logRecord node without filtering.
      *
      * @param logRecord          root logrecord
-     * @param childrenLogRecords map of children log records
+     * @param stepIndex          index of log records of test run
      * @param executionRequestId execution request id
      * @return logrecord node
      */
-    private LogRecordTreeNode getLogRecordNode(LogRecord logRecord, Map<UUID, List<LogRecord>> childrenLogRecords,
+    private LogRecordTreeNode getLogRecordNode(LogRecord logRecord, LogRecordStepIndex stepIndex,
                                                UUID executionRequestId) {
         final LogRecordTreeNode logRecordTreeNode = new LogRecordTreeNode(logRecord, executionRequestId);
-        List<LogRecord> logRecordChildren = childrenLogRecords.get(logRecord.getUuid());
+        List<LogRecord> logRecordChildren = stepIndex.getChildren(logRecord.getUuid());
         if (!isEmpty(logRecordChildren)) {
             List<TreeNode> logRecordChildrenNodes = logRecordChildren
                     .stream()
-                    .map(childLogRecord -> getLogRecordNode(childLogRecord, childrenLogRecords, executionRequestId))
+                    .map(childLogRecord -> getLogRecordNode(childLogRecord, stepIndex, executionRequestId))
                     .collect(Collectors.toList());
             logRecordTreeNode.setChildren(logRecordChildrenNodes);
         } else {
@@ -780,20 +787,6 @@ public class TreeNodeService {
                 || !isEmpty(filteringRequest.getTypes()));
     }
 
-    /**
-     * Finds Log Record Tree Nodes by parent Test Run Id and part of Log Record's name.
-     *
-     * @param testRun     parent test run
-     * @param searchValue part of log record name to search
-     */
-    private List<TreeNode> getLogRecordNodesByName(TestRun testRun, String searchValue) {
-        Stream<LogRecord> matchedLogRecords =
-                logRecordService.getAllMatchesLogRecordsByTestRunIdCaseInsensitive(testRun.getUuid(), searchValue);
-        return matchedLogRecords
-                .map(logRecord -> new LogRecordTreeNode(logRecord, testRun.getExecutionRequestId()))
-                .collect(Collectors.toList());
-    }
-
     /**
      * Filter LogRecordNode by filteringRequest.
      *
@@ -825,7 +818,11 @@ public class TreeNodeService {
     public TreeNode getExecutionRequestTestRunLogRecordsTree(UUID testRunId,
                                                              LogRecordFilteringRequest filteringRequest) {
         TestRun testRun = testRunService.getTestRunForNodeTree(testRunId);
-        return getTestRunNode(testRun, true, filteringRequest);
+        final TestRunTreeNode testRunTreeNode = new TestRunTreeNode(testRun, false);
+        List<LogRecord> topLevelLogRecords = testRunService.getTopLevelLogRecords(testRunId, null);
+        testRunTreeNode.setChildren(
+                getLogRecordNodes(topLevelLogRecords, testRun.getExecutionRequestId(), filteringRequest));
+        return testRunTreeNode;
     }
 
     /**
@@ -871,6 +868,25 @@ public class TreeNodeService {
     private TreeNode getExecutionRequestWidgetTree(ExecutionRequest executionRequest, UUID widgetId,
                                                    UUID labelTemplateId, UUID validationTemplateId,
                                                    boolean skipOverride, boolean refresh) {
+        WidgetTreeTemplates templates = resolveWidgetTreeTemplates(executionRequest, widgetId, labelTemplateId,
+                validationTemplateId, skipOverride);
+        return getExecutionRequestTree(executionRequest, templates.labelTemplateId, templates.validationTemplate,
+                true, false);
+    }
+
+    /**
+     * Resolve templates of widget tree: requested ones or taken from widget config of execution request.
+     *
+     * @param executionRequest     execution request
+     * @param widgetId             widget id
+     * @param labelTemplateId      requested label template id
+     * @param validationTemplateId requested validation template id
+     * @param skipOverride         skip override label template id
+     * @return resolved templates
+     */
+    private WidgetTreeTemplates resolveWidgetTreeTemplates(ExecutionRequest executionRequest, UUID widgetId,
+                                                           UUID labelTemplateId, UUID validationTemplateId,
+                                                           boolean skipOverride) {
         log.debug("Get execution request '{}' widget '{}' tree with label template '{}' and validation template '{}'",
                 executionRequest.getUuid(), widgetId, labelTemplateId, validationTemplateId);
         final ExecutionRequestWidgetConfigTemplateResponse confResponse =
@@ -902,17 +918,28 @@ public class TreeNodeService {
                     labelTemplateId = widgetConfig.getLabelTemplateId();
                 }
             }
-            return getExecutionRequestTree(executionRequest, labelTemplateId, validationTemplate, true, false);
+            return new WidgetTreeTemplates(widgetConfig, labelTemplateId, validationTemplate);
         }
         if (isNull(labelTemplateId) && nonNull(widgetConfig)) {
             labelTemplateId = widgetConfig.getLabelTemplateId();
         }
         log.debug("Found label validationTemplate with id '{}' from widget config", labelTemplateId);
-        return getExecutionRequestTree(executionRequest, labelTemplateId, validationTemplate, true, false);
+        return new WidgetTreeTemplates(widgetConfig, labelTemplateId, validationTemplate);
+    }
+
+    /**
+     * Get version of resolved templates to check that widget tree snapshot is built with current templates.
+     */
+    private String getWidgetTreeTemplatesVersion(WidgetTreeTemplates templates) throws JsonProcessingException {
+        LabelTemplate labelTemplate = nonNull(templates.labelTemplateId)
+                ? labelTemplateNodeService.getLabelTemplate(templates.labelTemplateId) : null;
+        return widgetTreeSnapshotService.getTemplatesVersion(templates.widgetConfig, templates.labelTemplateId,
+                labelTemplate, templates.validationTemplate);
     }
 
     /**
      * Get execution request widget test runs tree.
+     * Tree of finished execution request is taken from snapshot if any, otherwise the snapshot is saved.
      *
      * @param executionRequestId   execution request id
      * @param widgetId             widget id
@@ -941,11 +968,50 @@ public class TreeNodeService {
                                                             Long countLr, boolean refresh)
             throws JsonProcessingException {
         final ExecutionRequest executionRequest = executionRequestService.findById(executionRequestId);
-        TreeNode treeNode = getExecutionRequestWidgetTree(executionRequest, widgetId, labelTemplateId,
-                validationTemplateId, skipOverride, refresh);
-        executionRequest.setCountLogRecords(countLr);
-        executionRequestService.save(executionRequest);
-        return Utils.filterAllExceptFields(treeNode, fields, objectMapper, TreeNode.TREE_NODE_JSON_FILTER_NAME);
+        final boolean snapshotable = widgetTreeSnapshotService.isSnapshotable(executionRequest);
+        final UUID snapshotId = widgetTreeSnapshotService.getSnapshotId(executionRequestId, widgetId,
+                labelTemplateId, validationTemplateId, skipOverride, fields);
+        final WidgetTreeTemplates templates = resolveWidgetTreeTemplates(executionRequest, widgetId,
+                labelTemplateId, validationTemplateId, skipOverride);
+        final String templatesVersion = snapshotable ? getWidgetTreeTemplatesVersion(templates) : null;
+        if (snapshotable && !refresh) {
+            Optional<String> snapshot = widgetTreeSnapshotService.find(executionRequest, snapshotId,
+                    templatesVersion);
+            if (snapshot.isPresent()) {
+                log.debug("Widget '{}' tree of execution request '{}' is taken from snapshot", widgetId,
+                        executionRequestId);
+                return snapshot.get();
+            }
+        }
+        TreeNode treeNode = getExecutionRequestTree(executionRequest, templates.labelTemplateId,
+                templates.validationTemplate, true, false);
+        // count stored in finished execution request is reused by next calls, so it should be actual
+        Long countLogRecords = snapshotable ? testRunService.getCountLrsForCurrentEr(executionRequestId) : countLr;
+        if (!Objects.equals(countLogRecords, executionRequest.getCountLogRecords())) {
+            executionRequest.setCountLogRecords(countLogRecords);
+            executionRequestService.save(executionRequest);
+        }
+        String tree = Utils.filterAllExceptFields(treeNode, fields, objectMapper, TreeNode.TREE_NODE_JSON_FILTER_NAME);
+        if (snapshotable) {
+            widgetTreeSnapshotService.save(executionRequest, snapshotId, widgetId, templatesVersion, tree);
+        }
+        return tree;
+    }
+
+    /**
+     * Get count of log records of execution request used as a key of widget tree cache.
+     * Count stored in finished execution request is used instead of counting log records of all its test runs.
+     *
+     * @param executionRequestId execution request id
+     * @return count of log records
+     */
+    public Long getCountLogRecordsForWidgetTree(UUID executionRequestId) {
+        ExecutionRequest executionRequest = executionRequestService.findById(executionRequestId);
+        if (widgetTreeSnapshotService.isSnapshotable(executionRequest)
+                && nonNull(executionRequest.getCountLogRecords())) {
+            return executionRequest.getCountLogRecords();
+        }
+        return testRunService.getCountLrsForCurrentEr(executionRequestId);
     }
 
     private void processValidationLabelTemplate(LogRecord logRecord,
@@ -1015,11 +1081,42 @@ public class TreeNodeService {
         List<LogRecord> childLogRecords =
                 logRecordService.findByTestRunIdAndParentUuid(logRecordParent.getTestRunId(), parentLogRecordId,
                         filteringRequest);
-        List<TreeNode> topLevelLogRecordNodes = childLogRecords.stream()
-                .map(logRecord -> getLogRecordNode(logRecord, executionRequestId, filteringRequest))
+        logRecordTreeNode.setChildren(getLogRecordNodes(childLogRecords, executionRequestId, filteringRequest));
+        return logRecordTreeNode;
+    }
+
+    /**
+     * Get nodes of children of expanded node, only subtrees of these log records are indexed.
+     *
+     * @param logRecords         children log records of expanded node
+     * @param executionRequestId execution request id
+     * @param filteringRequest   filters for log records
+     * @return log record nodes
+     */
+    private List<TreeNode> getLogRecordNodes(List<LogRecord> logRecords, UUID executionRequestId,
+                                             LogRecordFilteringRequest filteringRequest) {
+        LogRecordStepIndex stepIndex =
+                logRecordService.getSubtreeStepIndex(logRecords, isFiltersSet(filteringRequest));
+        return logRecords.stream()
+                .map(logRecord -> getLogRecordNode(logRecord, executionRequestId, filteringRequest, stepIndex))
                 .filter(node -> !node.isLeaf() || filterLogRecordNodeByRequest(node, filteringRequest))
                 .collect(Collectors.toList());
-        logRecordTreeNode.setChildren(topLevelLogRecordNodes);
-        return logRecordTreeNode;
+    }
+
+    /**
+     * Templates of widget tree resolved from request and widget config of execution request.
+     */
+    private static final class WidgetTreeTemplates {
+
+        private final WidgetConfigTemplate.WidgetConfig widgetConfig;
+        private final UUID labelTemplateId;
+        private final ValidationLabelConfigTemplate validationTemplate;
+
+        private WidgetTreeTemplates(WidgetConfigTemplate.WidgetConfig widgetConfig, UUID labelTemplateId,
+                                    ValidationLabelConfigTemplate validationTemplate) {
+            this.widgetConfig = widgetConfig;
+            this.labelTemplateId = labelTemplateId;
+            this.validationTemplate = validationTemplate;
+        }
     }
 }
@@ -17,6 +17,7 @@
 package org.qubership.atp.ram.services;
 
 import org.qubership.atp.ram.dto.event.WebSocketEvent;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Service;
 
@@ -30,18 +31,32 @@ import lombok.extern.slf4j.Slf4j;
 public class WebSocketNotificationService {
 
     private final SimpMessageSendingOperations messagingTemplate;
+    private final ObjectProvider<WebSocketEventRelay> eventRelay;
 
     /**
-     * Send event via web socket.
+     * Send event via web socket to clients of all replicas.
      * Destination should be provided by {@link WebSocketEvent#getDestination()}.
      *
      * @param event event data
      * @param <T> event type
      */
     public <T extends WebSocketEvent<R>, R> void sendEvent(T event) {
+        final String destination = sendLocalEvent(event);
+        eventRelay.ifAvailable(relay -> relay.relay(destination, event));
+    }
+
+    /**
+     * Send event via web socket to clients connected to this replica only.
+     *
+     * @param event event data
+     * @param <T> event type
+     * @return destination of event
+     */
+    public <T extends WebSocketEvent<R>, R> String sendLocalEvent(T event) {
         log.debug("Send event via WS with body: {}", event);
         final String destination = event.getEventType().getDestinationPrefix() + event.getDestination();
         messagingTemplate.convertAndSend(destination, event);
         log.debug("Notification event '{}' has been sent", event);
+        return destination;
     }
 }
@@ -121,7 +121,18 @@ public class WidgetConfigTemplateService extends CrudService<WidgetConfigTemplat
      */
     public Map<String, Boolean> getWidgetColumnVisibilityMap(UUID executionRequestId, UUID widgetId) {
         WidgetConfigTemplate template = getWidgetConfigTemplateForEr(executionRequestId).getTemplate();
+        return getWidgetColumnVisibilityMap(template, widgetId);
+    }
 
+    /**
+     * Get widget column visibility map from widget config template of execution request.
+     * The template is not modified, so it can be shared.
+     *
+     * @param template widget config template of execution request, default template is used if null
+     * @param widgetId widget identifier
+     * @return column visibility map
+     */
+    public Map<String, Boolean> getWidgetColumnVisibilityMap(WidgetConfigTemplate template, UUID widgetId) {
         WidgetConfigTemplate.WidgetConfig widgetConfig;
         if (nonNull(template)) {
             widgetConfig = template.getWidgetConfig(widgetId);
@@ -133,11 +144,8 @@ public class WidgetConfigTemplateService extends CrudService<WidgetConfigTemplat
                 ? widgetConfigColumnVisibilities : Collections.emptyList();
 
         return columnVisibilities.stream()
-                .peek(columnVisibility -> {
-                    String name = columnVisibility.getName();
-                    columnVisibility.setName(name.replaceAll("_", " "));
-                })
-                .collect(Collectors.toMap(ColumnVisibility::getName, ColumnVisibility::isVisible));
+                .collect(Collectors.toMap(columnVisibility -> columnVisibility.getName().replaceAll("_", " "),
+                        ColumnVisibility::isVisible));
     }
 
     /**
@@ -0,0 +1,182 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.services;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.qubership.atp.ram.enums.ExecutionStatuses;
+import org.qubership.atp.ram.models.ExecutionRequest;
+import org.qubership.atp.ram.models.WidgetTreeSnapshot;
+import org.qubership.atp.ram.repositories.WidgetTreeSnapshotRepository;
+import org.qubership.atp.ram.utils.CompressedString;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Stores serialized widget trees of finished execution requests,
+ * so that reports of historical execution requests are not rebuilt from test runs and log records.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class WidgetTreeSnapshotService {
+
+    /**
+     * Version of serialized tree format, should be increased when tree building is changed
+     * to make existing snapshots stale.
+     */
+    static final int FORMAT_VERSION = 1;
+
+    private final WidgetTreeSnapshotRepository widgetTreeSnapshotRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${atp.ram.widget.tree.snapshots.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * Check that widget trees of execution request can be taken from snapshots:
+     * execution request is finished and is not changed by running test runs anymore.
+     *
+     * @param executionRequest execution request
+     * @return true if snapshots can be used
+     */
+    public boolean isSnapshotable(ExecutionRequest executionRequest) {
+        return enabled
+                && nonNull(executionRequest)
+                && ExecutionStatuses.FINISHED.equals(executionRequest.getExecutionStatus())
+                && nonNull(executionRequest.getFinishDate());
+    }
+
+    /**
+     * Get snapshot id built from all parameters the widget tree depends on.
+     *
+     * @param executionRequestId   execution request id
+     * @param widgetId             widget id
+     * @param labelTemplateId      requested label template id
+     * @param validationTemplateId requested validation template id
+     * @param skipOverride         skip override label template id
+     * @param fields               fields filter of serialized tree
+     * @return snapshot id
+     */
+    public UUID getSnapshotId(UUID executionRequestId, UUID widgetId, UUID labelTemplateId,
+                              UUID validationTemplateId, boolean skipOverride, String[] fields) {
+        String[] sortedFields = isNull(fields) ? new String[0] : fields.clone();
+        Arrays.sort(sortedFields);
+        String key = String.join("|", String.valueOf(executionRequestId), String.valueOf(widgetId),
+                String.valueOf(labelTemplateId), String.valueOf(validationTemplateId), String.valueOf(skipOverride),
+                String.join(",", sortedFields));
+        return UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Get version of templates the widget tree is built with, as a hash of their contents.
+     * Templates have no modification dates, so any edit of them is detected by changed content.
+     *
+     * @param templates widget config, label and validation templates, nulls are allowed
+     * @return templates version
+     * @throws JsonProcessingException if templates cannot be serialized
+     */
+    public String getTemplatesVersion(Object... templates) throws JsonProcessingException {
+        return UUID.nameUUIDFromBytes(objectMapper.writeValueAsBytes(templates)).toString();
+    }
+
+    /**
+     * Find serialized widget tree in snapshot if it is not stale for current execution request and templates.
+     *
+     * @param executionRequest execution request
+     * @param snapshotId       snapshot id
+     * @param templatesVersion version of templates from {@link #getTemplatesVersion(Object...)}
+     * @return serialized widget tree or empty
+     */
+    public Optional<String> find(ExecutionRequest executionRequest, UUID snapshotId, String templatesVersion) {
+        Optional<WidgetTreeSnapshot> snapshot = widgetTreeSnapshotRepository.findById(snapshotId)
+                .filter(found -> found.getFormatVersion() == FORMAT_VERSION
+                        && found.getExecutionRequestVersion() == getVersion(executionRequest)
+                        && templatesVersion.equals(found.getTemplatesVersion()));
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new CompressedString(snapshot.get().getTree()).decompress());
+        } catch (UncheckedIOException e) {
+            log.warn("Failed to read widget tree snapshot '{}' of execution request '{}'", snapshotId,
+                    executionRequest.getUuid(), e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Save serialized widget tree of execution request.
+     * Failure to save snapshot does not fail the request, the tree is built again next time.
+     *
+     * @param executionRequest execution request
+     * @param snapshotId       snapshot id
+     * @param widgetId         widget id
+     * @param templatesVersion version of templates the tree is built with
+     * @param tree             serialized widget tree
+     */
+    public void save(ExecutionRequest executionRequest, UUID snapshotId, UUID widgetId, String templatesVersion,
+                     String tree) {
+        try {
+            WidgetTreeSnapshot snapshot = new WidgetTreeSnapshot();
+            snapshot.setId(snapshotId);
+            snapshot.setExecutionRequestId(executionRequest.getUuid());
+            snapshot.setWidgetId(widgetId);
+            snapshot.setExecutionRequestVersion(getVersion(executionRequest));
+            snapshot.setTemplatesVersion(templatesVersion);
+            snapshot.setFormatVersion(FORMAT_VERSION);
+            snapshot.setTree(CompressedString.compress(tree).getBytes());
+            snapshot.setCreatedWhen(new Date());
+            widgetTreeSnapshotRepository.save(snapshot);
+        } catch (Exception e) {
+            log.warn("Failed to save widget tree snapshot '{}' of execution request '{}'", snapshotId,
+                    executionRequest.getUuid(), e);
+        }
+    }
+
+    /**
+     * Delete widget tree snapshots of execution requests, e.g. when test run statuses or root causes are changed.
+     *
+     * @param executionRequestIds execution request ids
+     */
+    public void invalidate(Collection<UUID> executionRequestIds) {
+        if (CollectionUtils.isEmpty(executionRequestIds)) {
+            return;
+        }
+        log.debug("Invalidate widget tree snapshots of execution requests {}", executionRequestIds);
+        widgetTreeSnapshotRepository.deleteAllByExecutionRequestIdIn(executionRequestIds);
+    }
+
+    private static long getVersion(ExecutionRequest executionRequest) {
+        return executionRequest.getFinishDate().getTime();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.services.failpatterns;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Aho-Corasick automaton to find all occurrences of a set of literals in a text in one pass.
+ */
+public class AhoCorasickAutomaton {
+
+    private static final int ROOT = 0;
+
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final List<BitSet> outputs = new ArrayList<>();
+    private final int[] failures;
+    private final int literalsCount;
+
+    /**
+     * Build automaton.
+     *
+     * @param literals literals to search, index of literal in the list is used as literal id
+     */
+    public AhoCorasickAutomaton(List<String> literals) {
+        this.literalsCount = literals.size();
+        addNode();
+        for (int literalId = 0; literalId < literals.size(); literalId++) {
+            addLiteral(literals.get(literalId), literalId);
+        }
+        this.failures = new int[transitions.size()];
+        buildFailures();
+    }
+
+    /**
+     * Find ids of literals occurring in the text.
+     *
+     * @param text text to search in
+     * @return set of literal ids
+     */
+    public BitSet findAll(CharSequence text) {
+        BitSet found = new BitSet(literalsCount);
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            found.or(outputs.get(state));
+        }
+        return found;
+    }
+
+    private int next(int state, char symbol) {
+        Integer nextState = transitions.get(state).get(symbol);
+        while (nextState == null && state != ROOT) {
+            state = failures[state];
+            nextState = transitions.get(state).get(symbol);
+        }
+        return nextState == null ? ROOT : nextState;
+    }
+
+    private void addLiteral(String literal, int literalId) {
+        int state = ROOT;
+        for (int i = 0; i < literal.length(); i++) {
+            char symbol = literal.charAt(i);
+            Integer nextState = transitions.get(state).get(symbol);
+            if (nextState == null) {
+                nextState = addNode();
+                transitions.get(state).put(symbol, nextState);
+            }
+            state = nextState;
+        }
+        outputs.get(state).set(literalId);
+    }
+
+    private int addNode() {
+        transitions.add(new HashMap<>());
+        outputs.add(new BitSet());
+        return transitions.size() - 1;
+    }
+
+    private void buildFailures() {
+        Queue<Integer> queue = new ArrayDeque<>(transitions.get(ROOT).values());
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            transitions.get(state).forEach((symbol, child) -> {
+                int failure = failures[state];
+                Integer failureChild = transitions.get(failure).get(symbol);
+                while (failureChild == null && failure != ROOT) {
+                    failure = failures[failure];
+                    failureChild = transitions.get(failure).get(symbol);
+                }
+                failures[child] = failureChild == null || failureChild == child ? ROOT : failureChild;
+                outputs.get(child).or(outputs.get(failures[child]));
+                queue.add(child);
+            });
+        }
+    }
+}
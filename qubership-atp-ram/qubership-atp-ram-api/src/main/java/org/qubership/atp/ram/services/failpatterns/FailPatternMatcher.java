@@ -0,0 +1,41 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.services.failpatterns;
+
+import java.util.List;
+
+/**
+ * Selects fail patterns which have to be checked by full regexp for a log record message.
+ */
+public interface FailPatternMatcher {
+
+    /**
+     * Find fail patterns which rules may match the message.
+     * Every pattern which rule matches the message has to be returned, false positives are allowed.
+     *
+     * @param message log record message
+     * @return candidate fail patterns in the order they were provided to the matcher
+     */
+    List<CompiledFailPattern> findCandidates(String message);
+
+    /**
+     * Get all fail patterns of the matcher.
+     *
+     * @return compiled fail patterns
+     */
+    List<CompiledFailPattern> getPatterns();
+}
@@ -0,0 +1,109 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.services.failpatterns;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.qubership.atp.ram.models.FailPattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps compiled fail pattern matchers per project.
+ * Cached matcher is reused only while fail patterns of the project are equal to the ones it was built from,
+ * so changes made by other instances are also picked up.
+ */
+@Service
+@Slf4j
+public class FailPatternMatcherCache {
+
+    private final Map<UUID, CachedMatcher> matchersByProject = new ConcurrentHashMap<>();
+
+    @Value("${atp.ram.fail.patterns.matcher.engine:LITERAL_PREFILTER}")
+    private FailPatternMatcherEngine engine = FailPatternMatcherEngine.LITERAL_PREFILTER;
+
+    /**
+     * Get matcher for fail patterns of the project, build it if fail patterns were changed.
+     *
+     * @param projectId    project id
+     * @param failPatterns actual fail patterns of the project
+     * @return fail pattern matcher
+     */
+    public FailPatternMatcher getMatcher(UUID projectId, List<FailPattern> failPatterns) {
+        if (isNull(projectId)) {
+            return buildMatcher(failPatterns);
+        }
+        int failPatternsHash = failPatterns.hashCode();
+        CachedMatcher cachedMatcher = matchersByProject.compute(projectId, (id, cached) ->
+                nonNull(cached) && cached.failPatternsHash == failPatternsHash
+                        && cached.failPatterns.equals(failPatterns)
+                        ? cached
+                        : new CachedMatcher(new ArrayList<>(failPatterns), failPatternsHash,
+                                buildMatcher(failPatterns)));
+        return cachedMatcher.matcher;
+    }
+
+    /**
+     * Drop cached matcher of the project.
+     *
+     * @param projectId project id
+     */
+    public void invalidate(UUID projectId) {
+        if (nonNull(projectId)) {
+            matchersByProject.remove(projectId);
+        }
+    }
+
+    /**
+     * Build matcher for fail patterns, rules which are not valid regexp are skipped.
+     *
+     * @param failPatterns fail patterns
+     * @return fail pattern matcher
+     */
+    public FailPatternMatcher buildMatcher(List<FailPattern> failPatterns) {
+        List<CompiledFailPattern> compiledPatterns = new ArrayList<>();
+        failPatterns.forEach(failPattern -> {
+            try {
+                compiledPatterns.add(new CompiledFailPattern(failPattern, Pattern.compile(failPattern.getRule())));
+            } catch (PatternSyntaxException e) {
+                log.error("Could not parse pattern {}", failPattern.getUuid(), e);
+            }
+        });
+        log.debug("Compiled {} of {} patterns for {} matcher", compiledPatterns.size(), failPatterns.size(), engine);
+        return engine.create(compiledPatterns);
+    }
+
+    @RequiredArgsConstructor
+    private static class CachedMatcher {
+        private final List<FailPattern> failPatterns;
+        // detects changes of fail pattern objects shared with the cached list
+        private final int failPatternsHash;
+        private final FailPatternMatcher matcher;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.services.failpatterns;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Available implementations of {@link FailPatternMatcher}.
+ */
+public enum FailPatternMatcherEngine {
+
+    REGEX_LOOP(RegexLoopFailPatternMatcher::new),
+    LITERAL_PREFILTER(LiteralPrefilterFailPatternMatcher::new);
+
+    private final Function<List<CompiledFailPattern>, FailPatternMatcher> factory;
+
+    FailPatternMatcherEngine(Function<List<CompiledFailPattern>, FailPatternMatcher> factory) {
+        this.factory = factory;
+    }
+
+    public FailPatternMatcher create(List<CompiledFailPattern> patterns) {
+        return factory.apply(patterns);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.services.failpatterns;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.StringUtils;
+import org.qubership.atp.ram.models.LogRecord;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Distinct messages of failed log records of an execution request with postings of log records
+ * and test runs they occur in. Messages are kept in natural order, so each message is matched once
+ * and matched postings are returned sorted by message.
+ */
+public class FailedMessageDictionary {
+
+    private final Map<String, List<Posting>> postingsByMessage;
+    @Getter
+    private final int logRecordsCount;
+
+    private FailedMessageDictionary(Map<String, List<Posting>> postingsByMessage, int logRecordsCount) {
+        this.postingsByMessage = postingsByMessage;
+        this.logRecordsCount = logRecordsCount;
+    }
+
+    /**
+     * Build dictionary from failed log records, records without message are skipped.
+     *
+     * @param logRecords failed log records with uuid, name, message and test run id
+     * @return dictionary
+     */
+    public static FailedMessageDictionary build(Stream<LogRecord> logRecords) {
+        Map<String, List<Posting>> postingsByMessage = new TreeMap<>();
+        int[] logRecordsCount = {0};
+        logRecords
+                .filter(logRecord -> !StringUtils.isEmpty(logRecord.getMessage()))
+                .forEach(logRecord -> {
+                    postingsByMessage.computeIfAbsent(logRecord.getMessage(), message -> new ArrayList<>(1))
+                            .add(new Posting(logRecord.getUuid(), logRecord.getName(), logRecord.getTestRunId()));
+                    logRecordsCount[0]++;
+                });
+        return new FailedMessageDictionary(Collections.unmodifiableMap(postingsByMessage), logRecordsCount[0]);
+    }
+
+    public Set<String> getMessages() {
+        return postingsByMessage.keySet();
+    }
+
+    public int getMessagesCount() {
+        return postingsByMessage.size();
+    }
+
+    public List<Posting> getPostings(String message) {
+        return postingsByMessage.getOrDefault(message, Collections.emptyList());
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Posting {
+        private final UUID logRecordId;
+        private final String logRecordName;
+        private final UUID testRunId;
+    }
+}
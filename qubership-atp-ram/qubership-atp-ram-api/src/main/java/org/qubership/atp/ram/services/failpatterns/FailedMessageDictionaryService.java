@@ -0,0 +1,182 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.services.failpatterns;
+
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.qubership.atp.common.utils.regex.TimeoutRegexCharSequence;
+import org.qubership.atp.common.utils.regex.TimeoutRegexException;
+import org.qubership.atp.ram.enums.TestingStatuses;
+import org.qubership.atp.ram.models.LogRecord;
+import org.qubership.atp.ram.repositories.LogRecordRepository;
+import org.qubership.atp.ram.repositories.TestRunRepository;
+import org.qubership.atp.ram.utils.StreamUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps dictionaries of failed log record messages per execution request for rule previews and regexp searches.
+ * Cached dictionary is reused while test runs of the execution request, count of their failed log records
+ * and the latest update date of their log records are the same as the ones it was built from,
+ * so log records reported or changed after that are also picked up.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class FailedMessageDictionaryService {
+
+    private final LogRecordRepository logRecordRepository;
+    private final TestRunRepository testRunRepository;
+
+    @Value("${atp.ram.failed.messages.dictionary.cache.max.size:100}")
+    private long cacheMaxSize = 100;
+
+    @Value("${atp.ram.failed.messages.dictionary.cache.expire.after.access.sec:600}")
+    private long cacheExpireAfterAccessSec = 600;
+
+    @Value("${atp.ram.failed.messages.dictionary.regexp.timeout.sec:5}")
+    private int regexpTimeout = 5;
+
+    private Cache<UUID, CachedDictionary> dictionariesByExecutionRequest;
+
+    /**
+     * Init cache of dictionaries.
+     */
+    @PostConstruct
+    public void init() {
+        dictionariesByExecutionRequest = CacheBuilder.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterAccess(cacheExpireAfterAccessSec, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * Get dictionary of failed messages of the execution request, build it if log records were changed.
+     *
+     * @param executionRequestId execution request id
+     * @return failed message dictionary
+     */
+    public FailedMessageDictionary getDictionary(UUID executionRequestId) {
+        Set<UUID> testRunIds =
+                StreamUtils.extractIds(testRunRepository.findTestRunsIdByExecutionRequestId(executionRequestId));
+        long failedLogRecordsCount =
+                logRecordRepository.countAllByTestRunIdInAndTestingStatus(testRunIds, TestingStatuses.FAILED);
+        Date lastUpdated = getLastUpdated(testRunIds);
+        CachedDictionary cachedDictionary = dictionariesByExecutionRequest.getIfPresent(executionRequestId);
+        if (nonNull(cachedDictionary) && cachedDictionary.failedLogRecordsCount == failedLogRecordsCount
+                && Objects.equals(cachedDictionary.lastUpdated, lastUpdated)
+                && cachedDictionary.testRunIds.equals(testRunIds)) {
+            return cachedDictionary.dictionary;
+        }
+        // built outside of cache lock, so concurrent requests for other execution requests are not blocked;
+        // concurrent rebuilds for the same execution request are rare and the last one wins
+        cachedDictionary = new CachedDictionary(testRunIds, failedLogRecordsCount, lastUpdated,
+                buildDictionary(executionRequestId, testRunIds));
+        dictionariesByExecutionRequest.put(executionRequestId, cachedDictionary);
+        return cachedDictionary.dictionary;
+    }
+
+    /**
+     * Find distinct messages matching the pattern, each message is matched once.
+     * Messages which can not be matched in time are skipped.
+     *
+     * @param executionRequestId execution request id
+     * @param dictionary         failed message dictionary of the execution request
+     * @param pattern            pattern
+     * @return matched messages in natural order
+     */
+    public List<String> findMatchingMessages(UUID executionRequestId, FailedMessageDictionary dictionary,
+                                             Pattern pattern) {
+        List<String> matchedMessages = new ArrayList<>();
+        for (String message : dictionary.getMessages()) {
+            try {
+                if (pattern.matcher(new TimeoutRegexCharSequence(message, regexpTimeout)).find()) {
+                    matchedMessages.add(message);
+                }
+            } catch (StackOverflowError error) {
+                log.error("StackOverflowError during matching: pattern = {}, Execution Request id {}",
+                        pattern.pattern(), executionRequestId, error);
+            } catch (TimeoutRegexException e) {
+                log.error("Timeout error on regexp processing, pattern:{}, Execution Request id {}",
+                        pattern.pattern(), executionRequestId, e);
+            }
+        }
+        log.debug("Matched {} of {} distinct failed messages of ER '{}' by pattern '{}'",
+                matchedMessages.size(), dictionary.getMessagesCount(), executionRequestId, pattern.pattern());
+        return matchedMessages;
+    }
+
+    /**
+     * Count failed log records which messages match the pattern.
+     * Log records with the same message are counted at once by its postings.
+     *
+     * @param executionRequestId execution request id
+     * @param pattern            pattern
+     * @return count of matched log records
+     */
+    public long countMatchingLogRecords(UUID executionRequestId, Pattern pattern) {
+        FailedMessageDictionary dictionary = getDictionary(executionRequestId);
+        return findMatchingMessages(executionRequestId, dictionary, pattern)
+                .stream()
+                .mapToLong(message -> dictionary.getPostings(message).size())
+                .sum();
+    }
+
+    /**
+     * Latest update date of log records of test runs. It is moved by every change of status or message,
+     * while count of failed log records stays the same when one log record is failed and another one is fixed.
+     */
+    private Date getLastUpdated(Set<UUID> testRunIds) {
+        LogRecord lastUpdatedLogRecord = logRecordRepository.findFirstByTestRunIdInOrderByLastUpdatedDesc(testRunIds);
+        return nonNull(lastUpdatedLogRecord) ? lastUpdatedLogRecord.getLastUpdated() : null;
+    }
+
+    private FailedMessageDictionary buildDictionary(UUID executionRequestId, Set<UUID> testRunIds) {
+        try (Stream<LogRecord> logRecords =
+                     logRecordRepository.findFailedMessagesByTestRunIdInAndTestingStatus(testRunIds,
+                             TestingStatuses.FAILED)) {
+            FailedMessageDictionary dictionary = FailedMessageDictionary.build(logRecords);
+            log.debug("Built failed message dictionary for ER '{}': {} distinct messages of {} log records",
+                    executionRequestId, dictionary.getMessagesCount(), dictionary.getLogRecordsCount());
+            return dictionary;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class CachedDictionary {
+        private final Set<UUID> testRunIds;
+        private final long failedLogRecordsCount;
+        private final Date lastUpdated;
+        private final FailedMessageDictionary dictionary;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.services.failpatterns;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Matcher which prefilters fail patterns by literals required by their rules.
+ * Required literals of all rules are searched in a message in one pass by {@link AhoCorasickAutomaton},
+ * so full regexp is run only for rules which literal occurs in the message
+ * and for rules without any required literal.
+ */
+public class LiteralPrefilterFailPatternMatcher implements FailPatternMatcher {
+
+    private final List<CompiledFailPattern> patterns;
+    private final BitSet patternsWithoutLiteral = new BitSet();
+    private final List<BitSet> patternsByLiteral = new ArrayList<>();
+    private final AhoCorasickAutomaton automaton;
+
+    /**
+     * Build matcher.
+     *
+     * @param patterns compiled fail patterns
+     */
+    public LiteralPrefilterFailPatternMatcher(List<CompiledFailPattern> patterns) {
+        this.patterns = patterns;
+        Map<String, Integer> literalIds = new HashMap<>();
+        List<String> literals = new ArrayList<>();
+        for (int patternIndex = 0; patternIndex < patterns.size(); patternIndex++) {
+            String literal = RegexRequiredLiteralExtractor.extract(patterns.get(patternIndex).getPattern().pattern());
+            if (literal.isEmpty()) {
+                patternsWithoutLiteral.set(patternIndex);
+                continue;
+            }
+            Integer literalId = literalIds.get(literal);
+            if (literalId == null) {
+                literalId = literals.size();
+                literalIds.put(literal, literalId);
+                literals.add(literal);
+                patternsByLiteral.add(new BitSet());
+            }
+            patternsByLiteral.get(literalId).set(patternIndex);
+        }
+        this.automaton = new AhoCorasickAutomaton(literals);
+    }
+
+    @Override
+    public List<CompiledFailPattern> findCandidates(String message) {
+        BitSet candidates = (BitSet) patternsWithoutLiteral.clone();
+        BitSet foundLiterals = automaton.findAll(message);
+        for (int literalId = foundLiterals.nextSetBit(0); literalId >= 0;
+                literalId = foundLiterals.nextSetBit(literalId + 1)) {
+            candidates.or(patternsByLiteral.get(literalId));
+        }
+        List<CompiledFailPattern> result = new ArrayList<>(candidates.cardinality());
+        candidates.stream().forEach(patternIndex -> result.add(patterns.get(patternIndex)));
+        return result;
+    }
+
+    @Override
+    public List<CompiledFailPattern> getPatterns() {
+        return patterns;
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.services.failpatterns;
+
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Matcher without prefiltering: every fail pattern is checked against every message.
+ */
+@RequiredArgsConstructor
+public class RegexLoopFailPatternMatcher implements FailPatternMatcher {
+
+    private final List<CompiledFailPattern> patterns;
+
+    @Override
+    public List<CompiledFailPattern> findCandidates(String message) {
+        return patterns;
+    }
+
+    @Override
+    public List<CompiledFailPattern> getPatterns() {
+        return patterns;
+    }
+}
@@ -0,0 +1,324 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.services.failpatterns;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Extracts a literal which is contained in every text matched by a regexp.
+ * Extraction is conservative: any construction which is not understood is treated as not literal,
+ * so the result is either a required literal or empty string when there is no such literal.
+ * Regexp is read by code points, so a quantifier after a supplementary character applies to the whole character,
+ * as in {@link java.util.regex.Pattern}.
+ */
+public class RegexRequiredLiteralExtractor {
+
+    private final String regex;
+    private int position;
+
+    private RegexRequiredLiteralExtractor(String regex) {
+        this.regex = regex;
+    }
+
+    /**
+     * Extract the longest literal required by regexp.
+     *
+     * @param regex regexp compiled without flags
+     * @return required literal or empty string
+     */
+    public static String extract(String regex) {
+        try {
+            RegexRequiredLiteralExtractor extractor = new RegexRequiredLiteralExtractor(regex);
+            Sequence sequence = extractor.parseSequence();
+            if (extractor.position < regex.length() || sequence.hasAlternation) {
+                return "";
+            }
+            return sequence.literals.stream()
+                    .max(Comparator.comparingInt(String::length))
+                    .orElse("");
+        } catch (UnsupportedRegexException e) {
+            return "";
+        }
+    }
+
+    /**
+     * Parse sequence of items up to the end of regexp or closing parenthesis of current group.
+     */
+    private Sequence parseSequence() {
+        Sequence sequence = new Sequence();
+        StringBuilder literal = new StringBuilder();
+        while (position < regex.length()) {
+            int symbol = regex.codePointAt(position);
+            if (symbol == ')') {
+                break;
+            }
+            position += Character.charCount(symbol);
+            switch (symbol) {
+                case '|':
+                    sequence.hasAlternation = true;
+                    endLiteral(sequence, literal);
+                    break;
+                case '(':
+                    endLiteral(sequence, literal);
+                    parseGroup(sequence);
+                    break;
+                case '[':
+                    endLiteral(sequence, literal);
+                    skipCharacterClass();
+                    skipQuantifier();
+                    break;
+                case '.':
+                case '^':
+                case '$':
+                    endLiteral(sequence, literal);
+                    skipQuantifier();
+                    break;
+                case '?':
+                case '*':
+                case '+':
+                case '{':
+                    // quantifier without literal before it is already handled after the quantified item
+                    throw new UnsupportedRegexException();
+                case '\\':
+                    parseEscape(sequence, literal);
+                    break;
+                default:
+                    appendLiteral(sequence, literal, symbol);
+            }
+        }
+        endLiteral(sequence, literal);
+        return sequence;
+    }
+
+    private void parseGroup(Sequence sequence) {
+        boolean isTransparent = true;
+        if (peek() == '?') {
+            position++;
+            char groupType = next();
+            if (groupType == '<' && peek() != '=' && peek() != '!') {
+                skipUntil('>');
+            } else if (groupType != ':' && groupType != '>') {
+                // lookaround, or inline flags which change the meaning of the rest of regexp
+                if (groupType != '=' && groupType != '!' && groupType != '<') {
+                    throw new UnsupportedRegexException();
+                }
+                if (groupType == '<') {
+                    position++;
+                }
+                isTransparent = false;
+            }
+        }
+        Sequence group = parseSequence();
+        if (next() != ')') {
+            throw new UnsupportedRegexException();
+        }
+        boolean isOptional = skipQuantifier() == 0;
+        if (isTransparent && !isOptional && !group.hasAlternation) {
+            sequence.literals.addAll(group.literals);
+        }
+    }
+
+    private void parseEscape(Sequence sequence, StringBuilder literal) {
+        int escaped = nextCodePoint();
+        if (escaped == 'Q') {
+            int end = regex.indexOf("\\E", position);
+            int literalEnd = end < 0 ? regex.length() : end;
+            for (; position < literalEnd; position++) {
+                literal.append(regex.charAt(position));
+            }
+            position = end < 0 ? regex.length() : end + 2;
+            if (literal.length() > 0) {
+                applyQuantifierToLastSymbol(sequence, literal);
+            }
+        } else if (Character.isLetterOrDigit(escaped)) {
+            // character classes, control characters, boundaries and back references
+            endLiteral(sequence, literal);
+            skipEscapeArguments(escaped);
+            skipQuantifier();
+        } else {
+            appendLiteral(sequence, literal, escaped);
+        }
+    }
+
+    /**
+     * Skip the rest of escape sequence which is not a literal, e.g. name of property in {@code \p{Alpha}}
+     * or hex digits in {@code \x41}. Letters after escape sequence stay literals, as in {@code \bERROR\b}.
+     */
+    private void skipEscapeArguments(int escaped) {
+        if (peek() == '{' && (escaped == 'p' || escaped == 'P' || escaped == 'x' || escaped == 'N'
+                || escaped == 'b')) {
+            skipUntil('}');
+        } else if (escaped == 'k') {
+            if (next() != '<') {
+                throw new UnsupportedRegexException();
+            }
+            skipUntil('>');
+        } else if (escaped == 'p' || escaped == 'P' || escaped == 'c') {
+            nextCodePoint();
+        } else if (escaped == 'x') {
+            skip(2);
+        } else if (escaped == 'u') {
+            skip(4);
+        } else if (escaped == '0') {
+            for (int digits = 0; digits < 3 && peek() >= '0' && peek() <= '7'; digits++) {
+                position++;
+            }
+        } else if (escaped >= '1' && escaped <= '9') {
+            // back reference may take following digits, they are skipped as not literal
+            while (peek() >= '0' && peek() <= '9') {
+                position++;
+            }
+        }
+    }
+
+    private void appendLiteral(Sequence sequence, StringBuilder literal, int symbol) {
+        literal.appendCodePoint(symbol);
+        applyQuantifierToLastSymbol(sequence, literal);
+    }
+
+    private void applyQuantifierToLastSymbol(Sequence sequence, StringBuilder literal) {
+        int start = position;
+        int minOccurrences = skipQuantifier();
+        if (position == start) {
+            return;
+        }
+        if (minOccurrences == 0) {
+            literal.setLength(literal.offsetByCodePoints(literal.length(), -1));
+        }
+        endLiteral(sequence, literal);
+    }
+
+    /**
+     * Skip quantifier if present.
+     *
+     * @return minimal number of occurrences of quantified item
+     */
+    private int skipQuantifier() {
+        if (position >= regex.length()) {
+            return 1;
+        }
+        int minOccurrences;
+        char symbol = peek();
+        if (symbol == '?' || symbol == '*') {
+            position++;
+            minOccurrences = 0;
+        } else if (symbol == '+') {
+            position++;
+            minOccurrences = 1;
+        } else if (symbol == '{') {
+            int start = position + 1;
+            int end = skipUntil('}');
+            minOccurrences = parseMinOccurrences(regex.substring(start, end));
+        } else {
+            return 1;
+        }
+        if (position < regex.length() && (peek() == '?' || peek() == '+')) {
+            position++;
+        }
+        return minOccurrences;
+    }
+
+    private static int parseMinOccurrences(String bounds) {
+        int comma = bounds.indexOf(',');
+        String min = (comma < 0 ? bounds : bounds.substring(0, comma)).trim();
+        try {
+            return Integer.parseInt(min);
+        } catch (NumberFormatException e) {
+            throw new UnsupportedRegexException();
+        }
+    }
+
+    private void skipCharacterClass() {
+        if (peek() == '^') {
+            position++;
+        }
+        if (peek() == ']') {
+            throw new UnsupportedRegexException();
+        }
+        int depth = 1;
+        while (depth > 0) {
+            char symbol = next();
+            if (symbol == '\\') {
+                if (next() == 'Q') {
+                    throw new UnsupportedRegexException();
+                }
+            } else if (symbol == '[') {
+                depth++;
+            } else if (symbol == ']') {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Skip everything up to and including the symbol.
+     *
+     * @return index of the symbol
+     */
+    private int skipUntil(char symbol) {
+        int end = regex.indexOf(symbol, position);
+        if (end < 0) {
+            throw new UnsupportedRegexException();
+        }
+        position = end + 1;
+        return end;
+    }
+
+    private char peek() {
+        return position < regex.length() ? regex.charAt(position) : 0;
+    }
+
+    private char next() {
+        if (position >= regex.length()) {
+            throw new UnsupportedRegexException();
+        }
+        return regex.charAt(position++);
+    }
+
+    private int nextCodePoint() {
+        if (position >= regex.length()) {
+            throw new UnsupportedRegexException();
+        }
+        int codePoint = regex.codePointAt(position);
+        position += Character.charCount(codePoint);
+        return codePoint;
+    }
+
+    private void skip(int count) {
+        if (position + count > regex.length()) {
+            throw new UnsupportedRegexException();
+        }
+        position += count;
+    }
+
+    private static void endLiteral(Sequence sequence, StringBuilder literal) {
+        if (literal.length() > 0) {
+            sequence.literals.add(literal.toString());
+            literal.setLength(0);
+        }
+    }
+
+    private static class Sequence {
+        private final List<String> literals = new ArrayList<>();
+        private boolean hasAlternation;
+    }
+
+    private static class UnsupportedRegexException extends RuntimeException {
+    }
+}
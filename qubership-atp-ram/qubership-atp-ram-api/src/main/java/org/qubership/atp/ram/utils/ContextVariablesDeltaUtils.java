@@ -0,0 +1,161 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.utils;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.qubership.atp.ram.models.LogRecordContextVariableObject;
+import org.qubership.atp.ram.models.logrecords.parts.ContextVariable;
+
+import lombok.Value;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class ContextVariablesDeltaUtils {
+
+    /**
+     * Store context variables to document as delta of base document of previous step.
+     * Delta is not stored if base is not a part of delta chain, chain is already as long as keyframe interval
+     * or delta is bigger than half of variables.
+     *
+     * @param document             document of current step
+     * @param contextVariables     context variables of current step
+     * @param base                 document of previous step
+     * @param baseContextVariables all context variables of previous step
+     * @param keyframeInterval     max number of documents in chain from keyframe
+     * @return true if document became delta, false if it should be stored as keyframe
+     */
+    public boolean setDelta(LogRecordContextVariableObject document, List<ContextVariable> contextVariables,
+                            LogRecordContextVariableObject base, List<ContextVariable> baseContextVariables,
+                            int keyframeInterval) {
+        if (isNull(base) || isNull(base.getKeyframeId()) || getDeltaDepth(base) + 1 >= keyframeInterval) {
+            return false;
+        }
+        Delta delta = diff(baseContextVariables, contextVariables);
+        if (isNull(delta) || delta.size() * 2 > contextVariables.size()) {
+            return false;
+        }
+        document.setContextVariables(delta.getChanged());
+        document.setNotModified(null);
+        document.setModified(null);
+        document.setRemovedNames(delta.getRemovedNames());
+        document.setTestRunId(base.getTestRunId());
+        document.setBaseId(base.getId());
+        document.setKeyframeId(base.getKeyframeId());
+        document.setDeltaDepth(getDeltaDepth(base) + 1);
+        // delta is removed by TTL index together with its keyframe
+        document.setCreatedDate(base.getCreatedDate());
+        return true;
+    }
+
+    /**
+     * Mark document with full set of context variables as keyframe of test run,
+     * or as standalone document if test run is not specified.
+     *
+     * @param document  document with full set of context variables
+     * @param testRunId test run id
+     */
+    public void setKeyframe(LogRecordContextVariableObject document, UUID testRunId) {
+        document.setRemovedNames(null);
+        document.setBaseId(null);
+        document.setTestRunId(testRunId);
+        document.setKeyframeId(isNull(testRunId) ? null : document.getId());
+        document.setDeltaDepth(isNull(testRunId) ? null : 0);
+    }
+
+    public int getDeltaDepth(LogRecordContextVariableObject document) {
+        return isNull(document.getDeltaDepth()) ? 0 : document.getDeltaDepth();
+    }
+
+    /**
+     * Find variables of target set which are added or changed relative to base set and names of removed ones.
+     * Variables are matched by name, so delta is impossible if names are absent or not unique.
+     *
+     * @param base   context variables of previous step
+     * @param target context variables of current step
+     * @return delta or null if target can't be encoded as delta of base
+     */
+    public Delta diff(List<ContextVariable> base, List<ContextVariable> target) {
+        Map<String, ContextVariable> baseByName = toMapByName(base);
+        Map<String, ContextVariable> targetByName = toMapByName(target);
+        if (isNull(baseByName) || isNull(targetByName)) {
+            return null;
+        }
+        List<ContextVariable> changed = targetByName.entrySet().stream()
+                .filter(entry -> !entry.getValue().equals(baseByName.get(entry.getKey())))
+                .map(Map.Entry::getValue)
+                .collect(Collectors.toList());
+        List<String> removedNames = baseByName.keySet().stream()
+                .filter(name -> !targetByName.containsKey(name))
+                .collect(Collectors.toList());
+        return new Delta(changed, removedNames);
+    }
+
+    /**
+     * Restore context variables of step from variables of previous step and delta.
+     *
+     * @param base         context variables of previous step
+     * @param changed      added or changed variables
+     * @param removedNames names of removed variables
+     * @return context variables of step
+     */
+    public List<ContextVariable> apply(List<ContextVariable> base, List<ContextVariable> changed,
+                                       List<String> removedNames) {
+        Map<String, ContextVariable> result = new LinkedHashMap<>();
+        if (nonNull(base)) {
+            base.forEach(variable -> result.put(variable.getName(), variable));
+        }
+        if (nonNull(removedNames)) {
+            removedNames.forEach(result::remove);
+        }
+        if (nonNull(changed)) {
+            changed.forEach(variable -> result.put(variable.getName(), variable));
+        }
+        return new ArrayList<>(result.values());
+    }
+
+    private Map<String, ContextVariable> toMapByName(List<ContextVariable> variables) {
+        Map<String, ContextVariable> result = new LinkedHashMap<>();
+        if (isNull(variables)) {
+            return result;
+        }
+        for (ContextVariable variable : variables) {
+            if (isNull(variable.getName()) || nonNull(result.put(variable.getName(), variable))) {
+                return null;
+            }
+        }
+        return result;
+    }
+
+    @Value
+    public static class Delta {
+        List<ContextVariable> changed;
+        List<String> removedNames;
+
+        public int size() {
+            return changed.size() + removedNames.size();
+        }
+    }
+}
@@ -257,24 +257,44 @@ public class RateCalculator {
                     StreamUtils.extractIds(testRunsWithNullExecutionStatus));
             throw new RamTestRunIllegalNullableExecutionStatusException();
         }
-        int notCountedTestRuns = 0;
         for (TestRun testRun : testRuns) {
             if (isTestRunIgnoredByFlag(testRun, flagIds, prerequisitesCases, validationCases)) {
-                notCountedTestRuns++;
                 continue;
             }
             TestingStatuses testingStatus = testRun.getTestingStatus();
             TestingStatusesStat stat = statusMap.get(testingStatus);
             stat.incrCount();
         }
-        TestingStatusesStat skippedStatusStat = statusMap.get(TestingStatuses.SKIPPED);
-        int skippedCount = isNull(skippedStatusStat) ? 0 : skippedStatusStat.getCount();
-        int actualTotalTestRuns = testRuns.size() - skippedCount - notCountedTestRuns;
+        calculateRates(statusMap);
+        return statusMap;
+    }
+
+    /**
+     * Calculate testing status stats by precalculated counts of test runs,
+     * e.g. taken from execution request statistics.
+     *
+     * @param counts counts of counted test runs by testing statuses
+     * @return result stats
+     */
+    public static Map<TestingStatuses, TestingStatusesStat> calculateTestingStatusStats(
+            Map<TestingStatuses, Integer> counts) {
+        Map<TestingStatuses, TestingStatusesStat> statusMap = Arrays.stream(TestingStatuses.values())
+                .collect(Collectors.toMap(Function.identity(), TestingStatusesStat::new));
+        counts.forEach((status, count) -> statusMap.get(status).setCount(count));
+        calculateRates(statusMap);
+        return statusMap;
+    }
+
+    private static void calculateRates(Map<TestingStatuses, TestingStatusesStat> statusMap) {
+        int totalTestRuns = statusMap.values().stream()
+                .mapToInt(TestingStatusesStat::getCount)
+                .sum();
+        int skippedCount = statusMap.get(TestingStatuses.SKIPPED).getCount();
+        int actualTotalTestRuns = totalTestRuns - skippedCount;
         statusMap.values()
                 .stream()
                 .filter(stat -> TestingStatuses.SKIPPED != stat.getStatus())
                 .forEach(stat -> stat.setRate(calculateRateFloat(stat.getCount(), actualTotalTestRuns)));
-        return statusMap;
     }
 
     @Data
@@ -192,6 +192,20 @@ public class StreamUtils {
                 .collect(Collectors.toMap(RamObject::getUuid, RamObject::getName));
     }
 
+    /**
+     * Invert map grouping its keys by values.
+     *
+     * @param map input map
+     * @param <K> keys type
+     * @param <V> values type
+     * @return map of values to lists of keys
+     */
+    public static <K, V> Map<V, List<K>> groupKeysByValue(Map<K, V> map) {
+        return map.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue,
+                        Collectors.mapping(Map.Entry::getKey, toList())));
+    }
+
     public static <T> Map<UUID, List<T>> toMapWithListEntitiesValues(Iterable<T> entities,
                                                                      Function<T, UUID> keyExtractor) {
         return stream(entities)
@@ -0,0 +1,66 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Common settings of JMH benchmarks, which compare the previous and the current way of the same operation.
+ * Benchmarks override the annotations when they need another time unit, iterations or JVM options.
+ * Benchmarks are not run by tests, run them with {@code main} from test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public abstract class AbstractBenchmark {
+
+    /**
+     * Simulate database round trip by CPU work, so that results show how count of round trips affects
+     * the operation rather than real database timings.
+     *
+     * @param tokens amount of CPU work, see {@link Blackhole#consumeCPU(long)}
+     */
+    protected static void simulateRoundTrip(long tokens) {
+        Blackhole.consumeCPU(tokens);
+    }
+
+    /**
+     * Run all benchmarks of the class with its settings.
+     *
+     * @param benchmarkClass benchmark class
+     * @throws RunnerException if benchmarks fail
+     */
+    protected static void run(Class<? extends AbstractBenchmark> benchmarkClass) throws RunnerException {
+        new Runner(new OptionsBuilder().include(benchmarkClass.getName()).build()).run();
+    }
+}
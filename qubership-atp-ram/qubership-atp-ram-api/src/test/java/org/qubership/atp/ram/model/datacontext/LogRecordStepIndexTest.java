@@ -0,0 +1,89 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.model.datacontext;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+
+import java.util.Collections;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.ram.enums.TestingStatuses;
+import org.qubership.atp.ram.models.LogRecord;
+import org.qubership.atp.ram.models.MetaInfo;
+
+public class LogRecordStepIndexTest {
+
+    private final UUID testRunId = UUID.randomUUID();
+
+    @Test
+    public void build_whenChildPrecedesParentInCursor_shouldLinkChildrenInCursorOrder() {
+        LogRecord parent = logRecord(null);
+        LogRecord firstChild = logRecord(parent.getUuid());
+        LogRecord secondChild = logRecord(parent.getUuid());
+        LogRecord grandChild = logRecord(firstChild.getUuid());
+        LogRecord secondTopLevel = logRecord(null);
+
+        LogRecordStepIndex index = LogRecordStepIndex.build(
+                Stream.of(firstChild, grandChild, parent, secondChild, secondTopLevel));
+
+        Assertions.assertEquals(asList(parent, secondTopLevel), index.getTopLevelSteps(testRunId));
+        Assertions.assertEquals(asList(firstChild, secondChild), index.getChildren(parent.getUuid()));
+        Assertions.assertEquals(singletonList(grandChild), index.getChildren(firstChild.getUuid()));
+        Assertions.assertEquals(0, index.getChildrenCount(secondChild.getUuid()));
+        Assertions.assertEquals(5, index.size());
+    }
+
+    @Test
+    public void build_whenParentIsAbsent_shouldNotTreatChildAsTopLevel() {
+        LogRecord orphan = logRecord(UUID.randomUUID());
+
+        LogRecordStepIndex index = LogRecordStepIndex.build(Stream.of(orphan));
+
+        Assertions.assertEquals(Collections.emptyList(), index.getTopLevelSteps(testRunId));
+        Assertions.assertEquals(Collections.emptyList(), index.getChildren(UUID.randomUUID()));
+    }
+
+    @Test
+    public void build_shouldGroupValidationAndFailedStepsByTestRun() {
+        LogRecord validation = logRecord(null);
+        validation.setValidationLabels(Collections.singleton("BPP"));
+        LogRecord failed = logRecord(null);
+        failed.setTestingStatusHard(TestingStatuses.FAILED);
+        failed.setMetaInfo(new MetaInfo());
+        LogRecord failedWithoutMetaInfo = logRecord(null);
+        failedWithoutMetaInfo.setTestingStatusHard(TestingStatuses.FAILED);
+
+        LogRecordStepIndex index = LogRecordStepIndex.build(Stream.of(validation, failed, failedWithoutMetaInfo));
+
+        Assertions.assertEquals(Collections.singletonMap(testRunId, singletonList(validation)),
+                index.getValidationStepsByTestRun());
+        Assertions.assertEquals(Collections.singletonMap(testRunId, singletonList(failed)),
+                index.getFailedStepsByTestRun());
+    }
+
+    private LogRecord logRecord(UUID parentId) {
+        LogRecord logRecord = new LogRecord();
+        logRecord.setUuid(UUID.randomUUID());
+        logRecord.setTestRunId(testRunId);
+        logRecord.setParentRecordId(parentId);
+        return logRecord;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.repository;
+
+import static java.util.UUID.randomUUID;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.modelmapper.ModelMapper;
+import org.qubership.atp.ram.enums.TestingStatuses;
+import org.qubership.atp.ram.models.LogRecord;
+import org.qubership.atp.ram.repositories.impl.CustomLogRecordRepositoryImpl;
+import org.qubership.atp.ram.repositories.impl.FieldConstants;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.mongodb.bulk.BulkWriteResult;
+
+public class CustomLogRecordRepositoryImplTest {
+
+    private CustomLogRecordRepositoryImpl customLogRecordRepository;
+    private BulkOperations bulkOperations;
+
+    @BeforeEach
+    public void init() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        bulkOperations = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LogRecord.class)).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenReturn(mock(BulkWriteResult.class));
+        customLogRecordRepository = new CustomLogRecordRepositoryImpl(mongoTemplate, new ModelMapper());
+    }
+
+    @Test
+    public void updateTestingStatusesByPriority_statusRaised_lastUpdatedIsMovedToCurrentDate() {
+        ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+
+        customLogRecordRepository.updateTestingStatusesByPriority(
+                Collections.singletonMap(randomUUID(), TestingStatuses.FAILED));
+
+        verify(bulkOperations).updateMulti(any(Query.class), updateCaptor.capture());
+        Document updateObject = updateCaptor.getValue().getUpdateObject();
+        Assertions.assertEquals(TestingStatuses.FAILED,
+                updateObject.get("$set", Document.class).get(FieldConstants.TESTING_STATUS));
+        Assertions.assertEquals(Boolean.TRUE,
+                updateObject.get("$currentDate", Document.class).get(FieldConstants.LAST_UPDATED));
+    }
+
+    @Test
+    public void updateTestingStatusesByPriority_emptyStatuses_nothingIsWritten() {
+        customLogRecordRepository.updateTestingStatusesByPriority(Collections.emptyMap());
+
+        verify(bulkOperations, never()).execute();
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.services;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.UuidRepresentation;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+import org.qubership.atp.ram.AbstractBenchmark;
+import org.qubership.atp.ram.models.LogRecordContextVariable;
+import org.qubership.atp.ram.models.logrecords.parts.ContextVariable;
+import org.qubership.atp.ram.repositories.CustomLogRecordContextVariableRepository;
+import org.qubership.atp.ram.utils.ContextVariablesDeltaUtils;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.mongodb.MongoClientSettings;
+
+/**
+ * Compares context variables of test run with 300 steps stored as full documents and as deltas
+ * between consecutive steps with keyframe every 20 steps. BSON size of both ways is reported
+ * by {@link StorageSize} counters.
+ * Read of the last step of keyframe interval, which needs the longest chain to be restored, is measured.
+ * Database round trips are simulated, see {@link AbstractBenchmark#simulateRoundTrip(long)}.
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContextVariablesDeltaBenchmark extends AbstractBenchmark {
+
+    private static final int STEPS_COUNT = 300;
+    private static final int KEYFRAME_INTERVAL = 20;
+    private static final int CHANGED_PERCENT = 2;
+    private static final int VALUE_LENGTH = 40;
+    private static final long ROUND_TRIP_TOKENS = 10_000;
+
+    @Param({"100", "1000"})
+    private int variablesCount;
+
+    private MappingMongoConverter converter;
+    private DocumentCodec codec;
+    private RawBsonDocument lastFullDocument;
+    private RawBsonDocument lastDeltaDocument;
+    private LogRecordContextVariableService service;
+    private long fullSize;
+    private long deltaSize;
+
+    /**
+     * Generate context variables of steps, where small part of variables is changed by each step,
+     * and store them in both ways.
+     */
+    @Setup
+    public void setUp() {
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+        converter.afterPropertiesSet();
+        CodecRegistry codecRegistry = CodecRegistries.withUuidRepresentation(
+                MongoClientSettings.getDefaultCodecRegistry(), UuidRepresentation.STANDARD);
+        codec = new DocumentCodec(codecRegistry);
+        service = new LogRecordContextVariableService(Mockito.mock(CustomLogRecordContextVariableRepository.class));
+        ReflectionTestUtils.setField(service, "splitEnabled", true);
+
+        Random random = new Random(42);
+        UUID testRunId = UUID.randomUUID();
+        List<ContextVariable> contextVariables = new ArrayList<>();
+        for (int i = 0; i < variablesCount; i++) {
+            contextVariables.add(new ContextVariable("variable" + i, null, randomValue(random)));
+        }
+        List<RawBsonDocument> deltaChain = new ArrayList<>();
+        LogRecordContextVariable previous = null;
+        List<ContextVariable> previousContextVariables = null;
+        fullSize = 0;
+        deltaSize = 0;
+        for (int step = 0; step < STEPS_COUNT; step++) {
+            contextVariables = nextStep(contextVariables, random);
+
+            LogRecordContextVariable full = document(step);
+            service.setContextVariables(full, contextVariables);
+            RawBsonDocument fullBson = toBson(full);
+            fullSize += fullBson.getByteBuffer().remaining();
+
+            LogRecordContextVariable delta = document(step);
+            delta.setId(full.getId());
+            if (!ContextVariablesDeltaUtils.setDelta(delta, contextVariables, previous, previousContextVariables,
+                    KEYFRAME_INTERVAL)) {
+                service.setContextVariables(delta, contextVariables);
+                ContextVariablesDeltaUtils.setKeyframe(delta, testRunId);
+                deltaChain.clear();
+            }
+            RawBsonDocument deltaBson = toBson(delta);
+            deltaSize += deltaBson.getByteBuffer().remaining();
+            deltaChain.add(deltaBson);
+            previous = delta;
+            previousContextVariables = contextVariables;
+            lastFullDocument = fullBson;
+            lastDeltaDocument = deltaBson;
+        }
+        List<RawBsonDocument> storedChain = new ArrayList<>(deltaChain);
+        CustomLogRecordContextVariableRepository repository =
+                Mockito.mock(CustomLogRecordContextVariableRepository.class);
+        Mockito.when(repository.findAllByKeyframeId(Mockito.any(), Mockito.anyInt(),
+                Mockito.eq(LogRecordContextVariable.class))).thenAnswer(invocation -> {
+                    simulateRoundTrip(ROUND_TRIP_TOKENS);
+                    return storedChain.stream()
+                            .map(this::fromBson)
+                            .collect(Collectors.toList());
+                });
+        service = new LogRecordContextVariableService(repository);
+    }
+
+    /**
+     * Full set of variables is read from one document.
+     */
+    @Benchmark
+    public void readFullDocument(StorageSize storageSize, Blackhole blackhole) {
+        simulateRoundTrip(ROUND_TRIP_TOKENS);
+        blackhole.consume(fromBson(lastFullDocument).collectContextVariables());
+    }
+
+    /**
+     * Delta is read and variables are restored from the chain loaded by keyframe in one more query.
+     */
+    @Benchmark
+    public void readDeltaChain(StorageSize storageSize, Blackhole blackhole) {
+        simulateRoundTrip(ROUND_TRIP_TOKENS);
+        LogRecordContextVariable delta = fromBson(lastDeltaDocument);
+        blackhole.consume(service.getAllContextVariables(delta, LogRecordContextVariable.class));
+    }
+
+    /**
+     * BSON size of all steps of test run stored in both ways, reported along with the read time.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StorageSize {
+
+        public long fullDocumentsBytes;
+        public long deltasBytes;
+        public double deltasPercent;
+
+        /**
+         * Take sizes calculated on benchmark setup.
+         */
+        @Setup(Level.Iteration)
+        public void setUp(ContextVariablesDeltaBenchmark benchmark) {
+            fullDocumentsBytes = benchmark.fullSize;
+            deltasBytes = benchmark.deltaSize;
+            deltasPercent = benchmark.deltaSize * 100.0 / benchmark.fullSize;
+        }
+    }
+
+    private List<ContextVariable> nextStep(List<ContextVariable> contextVariables, Random random) {
+        List<ContextVariable> result = new ArrayList<>(contextVariables.size());
+        for (ContextVariable variable : contextVariables) {
+            result.add(random.nextInt(100) < CHANGED_PERCENT
+                    ? new ContextVariable(variable.getName(), variable.getAfterValue(), randomValue(random))
+                    : variable);
+        }
+        return result;
+    }
+
+    private LogRecordContextVariable document(int step) {
+        LogRecordContextVariable document = new LogRecordContextVariable();
+        document.setId(UUID.randomUUID());
+        document.setCreatedDate(new Timestamp(step));
+        document.setStepDate(new Timestamp(step));
+        return document;
+    }
+
+    private String randomValue(Random random) {
+        StringBuilder value = new StringBuilder(VALUE_LENGTH);
+        for (int i = 0; i < VALUE_LENGTH; i++) {
+            value.append((char) ('a' + random.nextInt(26)));
+        }
+        return value.toString();
+    }
+
+    private RawBsonDocument toBson(LogRecordContextVariable document) {
+        Document bson = new Document();
+        converter.write(document, bson);
+        return new RawBsonDocument(bson, codec);
+    }
+
+    private LogRecordContextVariable fromBson(RawBsonDocument bson) {
+        return converter.read(LogRecordContextVariable.class, bson.decode(codec));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        run(ContextVariablesDeltaBenchmark.class);
+    }
+}
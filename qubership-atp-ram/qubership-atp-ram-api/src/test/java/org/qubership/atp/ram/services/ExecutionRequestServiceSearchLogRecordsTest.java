@@ -17,11 +17,12 @@
 package org.qubership.atp.ram.services;
 
 import static java.util.Arrays.asList;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
-import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Assertions;
@@ -43,10 +44,12 @@ import org.qubership.atp.ram.models.TestRun;
 import org.qubership.atp.ram.repositories.CustomExecutionRequestRepository;
 import org.qubership.atp.ram.repositories.ExecutionRequestConfigRepository;
 import org.qubership.atp.ram.repositories.ExecutionRequestRepository;
+import org.qubership.atp.ram.repositories.LogRecordRepository;
+import org.qubership.atp.ram.repositories.TestRunRepository;
+import org.qubership.atp.ram.services.failpatterns.FailedMessageDictionaryService;
 import org.qubership.atp.ram.services.filtering.ExecutionRequestFilteringService;
 import org.qubership.atp.ram.services.sorting.ExecutionRequestSortingService;
 import org.qubership.atp.ram.utils.RateCalculator;
-import org.qubership.atp.ram.utils.StreamUtils;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 @ExtendWith(SpringExtension.class)
@@ -57,6 +60,8 @@ public class ExecutionRequestServiceSearchLogRecordsTest {
     private static ExecutionRequestRepository repository;
     private static ExecutionRequestConfigRepository configRepository;
     private static TestRunService testRunService;
+    private static LogRecordRepository logRecordRepository;
+    private static TestRunRepository testRunRepository;
 
     private UUID executionRequestId;
 
@@ -74,6 +79,11 @@ public class ExecutionRequestServiceSearchLogRecordsTest {
         repository = mock(ExecutionRequestRepository.class);
         configRepository = mock(ExecutionRequestConfigRepository.class);
         testRunService = mock(TestRunService.class);
+        logRecordRepository = mock(LogRecordRepository.class);
+        testRunRepository = mock(TestRunRepository.class);
+        FailedMessageDictionaryService failedMessageDictionaryService =
+                new FailedMessageDictionaryService(logRecordRepository, testRunRepository);
+        failedMessageDictionaryService.init();
         service = new ExecutionRequestService(repository,
                 mock(CustomExecutionRequestRepository.class),
                 mock(LogRecordService.class),
@@ -93,7 +103,10 @@ public class ExecutionRequestServiceSearchLogRecordsTest {
                 mock(EnvironmentsService.class),
                 mock(LabelsService.class),
                 mock(LockManager.class),
-                mock(RootCauseService.class));
+                mock(RootCauseService.class),
+                failedMessageDictionaryService,
+                mock(ExecutionRequestStatisticsService.class),
+                mock(TestPlanDailyStatisticsService.class));
     }
 
     @BeforeEach
@@ -121,12 +134,15 @@ public class ExecutionRequestServiceSearchLogRecordsTest {
                 "[A] Engine replied with exception! null");
 
         List<TestRun> testRuns = asList(testRun1, testRun2, testRun3);
-        Set<UUID> testRunIds = StreamUtils.extractIds(testRuns);
 
         List<LogRecord> logRecords = asList(logRecord1, logRecord2, logRecord3, logRecord4);
 
         when(testRunService.findNotPassedTestRunByErId(executionRequestId)).thenReturn(testRuns);
-        when(testRunService.getAllFailedLogRecords(testRunIds)).thenReturn(logRecords);
+        when(testRunRepository.findTestRunsIdByExecutionRequestId(executionRequestId)).thenReturn(testRuns);
+        when(logRecordRepository.countAllByTestRunIdInAndTestingStatus(anyCollection(), eq(TestingStatuses.FAILED)))
+                .thenReturn((long) logRecords.size());
+        when(logRecordRepository.findFailedMessagesByTestRunIdInAndTestingStatus(anyCollection(),
+                eq(TestingStatuses.FAILED))).thenAnswer(invocation -> logRecords.stream());
     }
 
     @Test
@@ -189,4 +205,15 @@ public class ExecutionRequestServiceSearchLogRecordsTest {
 
         Assertions.assertEquals(logRecord3.getUuid(), resultLogRecords.get(0).getLogRecordId());
     }
+
+    @Test
+    public void searchLogRecords_whenLogRecordOfNotFailedTestRun_shouldSkipIt() {
+        when(testRunService.findNotPassedTestRunByErId(executionRequestId)).thenReturn(asList(testRun1, testRun2));
+        LogRecordRegexSearchRequest request = new LogRecordRegexSearchRequest(".*", 0, 4);
+
+        LogRecordRegexSearchResponse result = service.searchFailedLogRecords(executionRequestId, request);
+
+        Assertions.assertEquals(3, result.getTotal());
+        Assertions.assertEquals(logRecord2.getUuid(), result.getLogRecords().get(0).getLogRecordId());
+    }
 }
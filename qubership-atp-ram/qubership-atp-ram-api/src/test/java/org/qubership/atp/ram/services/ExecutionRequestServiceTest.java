@@ -53,8 +53,11 @@ import org.qubership.atp.ram.entities.ComparisonExecutionRequest;
 import org.qubership.atp.ram.entities.ComparisonStep;
 import org.qubership.atp.ram.entities.ComparisonTestRun;
 import org.qubership.atp.ram.enums.ExecutionStatuses;
+import org.qubership.atp.ram.enums.TestingStatuses;
 import org.qubership.atp.ram.models.ExecutionRequest;
 import org.qubership.atp.ram.models.ExecutionRequestConfig;
+import org.qubership.atp.ram.models.ExecutionRequestRatesResponse;
+import org.qubership.atp.ram.models.ExecutionRequestStatistics;
 import org.qubership.atp.ram.models.Label;
 import org.qubership.atp.ram.models.Project;
 import org.qubership.atp.ram.models.TestRun;
@@ -63,6 +66,7 @@ import org.qubership.atp.ram.models.response.PaginatedResponse;
 import org.qubership.atp.ram.repositories.CustomExecutionRequestRepository;
 import org.qubership.atp.ram.repositories.ExecutionRequestConfigRepository;
 import org.qubership.atp.ram.repositories.ExecutionRequestRepository;
+import org.qubership.atp.ram.services.failpatterns.FailedMessageDictionaryService;
 import org.qubership.atp.ram.services.filtering.ExecutionRequestFilteringService;
 import org.qubership.atp.ram.services.sorting.ExecutionRequestSortingService;
 import org.qubership.atp.ram.utils.RateCalculator;
@@ -79,6 +83,8 @@ public class ExecutionRequestServiceTest {
     private static ExecutionRequestConfigRepository configRepository;
     private static ProjectsService projectsService;
     private static LabelsService labelService;
+    private static TestRunService testRunService;
+    private static ExecutionRequestStatisticsService executionRequestStatisticsService;
 
     @BeforeAll
     public static void setUp() throws Exception {
@@ -86,7 +92,7 @@ public class ExecutionRequestServiceTest {
         customRepository = mock(CustomExecutionRequestRepository.class);
         configRepository = mock(ExecutionRequestConfigRepository.class);
         LogRecordService lrService = mock(LogRecordService.class);
-        TestRunService testRunService = mock(TestRunService.class);
+        testRunService = mock(TestRunService.class);
         RateCalculator rateCalculator = mock(RateCalculator.class);
         projectsService = mock(ProjectsService.class);
         ExecutionRequestFilteringService executionRequestFilteringService
@@ -103,13 +109,16 @@ public class ExecutionRequestServiceTest {
         final EnvironmentsInfoService environmentsInfoService = mock(EnvironmentsInfoService.class);
         OrchestratorService orchestratorService = mock(OrchestratorService.class);
         labelService = mock(LabelsService.class);
+        executionRequestStatisticsService = mock(ExecutionRequestStatisticsService.class);
         service = new ExecutionRequestService(repository, customRepository,
                 lrService, testRunService, testCaseService, rateCalculator,
                 projectsService, userService, modelMapper, configRepository,
                 widgetConfigTemplateService, executionRequestFilteringService,
                 executionRequestSortingService, jiraIntegrationServiceMock, environmentsInfoService,
                 orchestratorService, environmentsService,
-                labelService, mock(LockManager.class), mock(RootCauseService.class));
+                labelService, mock(LockManager.class), mock(RootCauseService.class),
+                mock(FailedMessageDictionaryService.class), executionRequestStatisticsService,
+                mock(TestPlanDailyStatisticsService.class));
         ReflectionTestUtils.setField(service, "limit", 70);
     }
 
@@ -126,6 +135,27 @@ public class ExecutionRequestServiceTest {
         Assertions.assertEquals(1, executionRequest.getLabels().size());
     }
 
+    @Test
+    public void getRates_statisticsEnabled_ratesAreCalculatedByStatistics() {
+        ExecutionRequest executionRequest = ExecutionRequestsMock.generateRequest();
+        when(repository.findById(any())).thenReturn(Optional.of(executionRequest));
+        ExecutionRequestStatistics statistics = new ExecutionRequestStatistics();
+        statistics.getTestingStatuses().put(TestingStatuses.PASSED.name(), 3);
+        statistics.getTestingStatuses().put(TestingStatuses.FAILED.name(), 1);
+        statistics.getTestingStatuses().put(TestingStatuses.SKIPPED.name(), 2);
+        statistics.getExecutionStatuses().put(ExecutionStatuses.FINISHED.name(), 6);
+        when(executionRequestStatisticsService.isEnabled()).thenReturn(true);
+        when(executionRequestStatisticsService.get(executionRequest.getUuid())).thenReturn(statistics);
+
+        ExecutionRequestRatesResponse response = service.getRates(executionRequest.getUuid());
+
+        Assertions.assertEquals(3, response.getPassedRateCount());
+        Assertions.assertEquals(75f, response.getPassedRate());
+        Assertions.assertEquals(1, response.getFailedRateCount());
+        Assertions.assertEquals(25f, response.getFailedRate());
+        Mockito.verify(testRunService, Mockito.never()).findAllByExecutionRequestId(any());
+    }
+
     @Test
     public void updateExecutionStatus_ExecutionStatusIsFinished_passedResult() {
         ExecutionRequest executionRequest = new ExecutionRequest();
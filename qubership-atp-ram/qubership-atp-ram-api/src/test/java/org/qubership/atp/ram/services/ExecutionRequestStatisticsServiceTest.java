@@ -0,0 +1,214 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.services;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.qubership.atp.ram.enums.ExecutionStatuses;
+import org.qubership.atp.ram.enums.TestingStatuses;
+import org.qubership.atp.ram.models.ExecutionRequestStatistics;
+import org.qubership.atp.ram.models.TestRun;
+import org.qubership.atp.ram.repositories.ExecutionRequestStatisticsRepository;
+import org.qubership.atp.ram.repositories.LogRecordRepository;
+import org.qubership.atp.ram.repositories.TestRunRepository;
+import org.qubership.atp.ram.services.ExecutionRequestStatisticsService.TestRunStatisticsKey;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class ExecutionRequestStatisticsServiceTest {
+
+    private ExecutionRequestStatisticsRepository statisticsRepository;
+    private TestRunRepository testRunRepository;
+    private LogRecordRepository logRecordRepository;
+    private ExecutionRequestStatisticsService service;
+
+    @BeforeEach
+    public void setUp() {
+        statisticsRepository = mock(ExecutionRequestStatisticsRepository.class);
+        testRunRepository = mock(TestRunRepository.class);
+        logRecordRepository = mock(LogRecordRepository.class);
+        service = new ExecutionRequestStatisticsService(statisticsRepository, testRunRepository, logRecordRepository);
+        ReflectionTestUtils.setField(service, "enabled", true);
+    }
+
+    @Test
+    public void onTestRunSaved_whenTestRunIsNew_shouldIncrementCountersOfCurrentState() {
+        TestRun testRun = testRun(TestingStatuses.FAILED, ExecutionStatuses.FINISHED, 120);
+
+        service.onTestRunSaved(null, testRun);
+
+        Map<String, Integer> expected = new HashMap<>();
+        expected.put("testRunsCount", 1);
+        expected.put("testingStatuses.FAILED", 1);
+        expected.put("executionStatuses.FINISHED", 1);
+        expected.put("rootCauses.NONE", 1);
+        expected.put("notPassedRootCauses.NONE", 1);
+        expected.put("durations.300", 1);
+        verify(statisticsRepository).increment(testRun.getExecutionRequestId(), expected);
+    }
+
+    @Test
+    public void onTestRunSaved_whenStatusIsChanged_shouldMoveCountersFromPreviousState() {
+        TestRun testRun = testRun(TestingStatuses.UNKNOWN, ExecutionStatuses.IN_PROGRESS, 0);
+        TestRunStatisticsKey previous = TestRunStatisticsKey.of(testRun);
+        testRun.setTestingStatus(TestingStatuses.PASSED);
+        testRun.setExecutionStatus(ExecutionStatuses.FINISHED);
+
+        service.onTestRunSaved(previous, testRun);
+
+        ArgumentCaptor<Map<String, Integer>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(statisticsRepository).increment(eq(testRun.getExecutionRequestId()), captor.capture());
+        Map<String, Integer> increments = captor.getValue();
+        Assertions.assertEquals(-1, increments.get("testingStatuses.UNKNOWN"));
+        Assertions.assertEquals(1, increments.get("testingStatuses.PASSED"));
+        Assertions.assertEquals(-1, increments.get("executionStatuses.IN_PROGRESS"));
+        Assertions.assertEquals(1, increments.get("executionStatuses.FINISHED"));
+        Assertions.assertEquals(-1, increments.get("notPassedRootCauses.NONE"), "Passed test run is not counted");
+        Assertions.assertEquals(0, increments.get("rootCauses.NONE"));
+        Assertions.assertFalse(increments.containsKey("testRunsCount"));
+    }
+
+    @Test
+    public void getRaisedTestingStatusesIncrements_whenStatusIsNotRaised_shouldSkipTestRun() {
+        TestRun failedTestRun = testRun(TestingStatuses.FAILED, ExecutionStatuses.IN_PROGRESS, 0);
+        TestRun passedTestRun = testRun(TestingStatuses.PASSED, ExecutionStatuses.IN_PROGRESS, 0);
+        passedTestRun.setExecutionRequestId(failedTestRun.getExecutionRequestId());
+        when(testRunRepository.findStatisticsFieldsByUuidIn(any()))
+                .thenReturn(Arrays.asList(failedTestRun, passedTestRun));
+        Map<UUID, TestingStatuses> statuses = new HashMap<>();
+        statuses.put(failedTestRun.getUuid(), TestingStatuses.WARNING);
+        statuses.put(passedTestRun.getUuid(), TestingStatuses.WARNING);
+
+        Map<UUID, Map<String, Integer>> increments = service.getRaisedTestingStatusesIncrements(statuses);
+
+        Map<String, Integer> executionRequestIncrements = increments.get(failedTestRun.getExecutionRequestId());
+        Assertions.assertEquals(-1, executionRequestIncrements.get("testingStatuses.PASSED"));
+        Assertions.assertEquals(1, executionRequestIncrements.get("testingStatuses.WARNING"));
+        Assertions.assertFalse(executionRequestIncrements.containsKey("testingStatuses.FAILED"),
+                "Failed status has higher priority than warning");
+    }
+
+    @Test
+    public void markStale_whenStatisticsDisabled_shouldNotUpdateStatistics() {
+        ReflectionTestUtils.setField(service, "enabled", false);
+
+        service.markStale(Collections.singletonList(UUID.randomUUID()));
+
+        verify(statisticsRepository, never()).markStale(any());
+    }
+
+    @Test
+    public void reconcile_shouldRecalculateCountersFromTestRunsAndReplaceExpectedVersion() {
+        TestRun passedTestRun = testRun(TestingStatuses.PASSED, ExecutionStatuses.FINISHED, 30);
+        TestRun failedTestRun = testRun(TestingStatuses.FAILED, ExecutionStatuses.FINISHED, 4000);
+        UUID executionRequestId = passedTestRun.getExecutionRequestId();
+        UUID rootCauseId = UUID.randomUUID();
+        failedTestRun.setExecutionRequestId(executionRequestId);
+        failedTestRun.setRootCauseId(rootCauseId);
+        ExecutionRequestStatistics stored = new ExecutionRequestStatistics();
+        stored.setVersion(5);
+        when(statisticsRepository.findById(executionRequestId)).thenReturn(Optional.of(stored));
+        when(testRunRepository.findStatisticsFieldsByExecutionRequestId(executionRequestId))
+                .thenReturn(Arrays.asList(passedTestRun, failedTestRun).stream());
+        when(logRecordRepository.countAllByTestRunIdInAndTestingStatus(any(), eq(TestingStatuses.FAILED)))
+                .thenReturn(3L);
+        when(statisticsRepository.replaceIfVersion(any(), anyLong())).thenReturn(true);
+
+        ExecutionRequestStatistics statistics = service.reconcile(executionRequestId);
+
+        verify(statisticsRepository).replaceIfVersion(statistics, 5L);
+        Assertions.assertEquals(2, statistics.getTestRunsCount());
+        Assertions.assertEquals(1, statistics.getTestingStatuses().get(TestingStatuses.PASSED.name()));
+        Assertions.assertEquals(1, statistics.getTestingStatuses().get(TestingStatuses.FAILED.name()));
+        Assertions.assertEquals(2, statistics.getExecutionStatuses().get(ExecutionStatuses.FINISHED.name()));
+        Assertions.assertEquals(Collections.singletonMap(rootCauseId.toString(), 1),
+                statistics.getNotPassedRootCauses());
+        Assertions.assertEquals(1, statistics.getDurations().get("60"));
+        Assertions.assertEquals(1, statistics.getDurations().get("10800"));
+        Assertions.assertEquals(3L, statistics.getFailedLogRecordsCount());
+        Assertions.assertFalse(statistics.isStale());
+    }
+
+    @Test
+    public void get_whenStatisticsAreStale_shouldRecalculateFromTestRuns() {
+        TestRun testRun = testRun(TestingStatuses.PASSED, ExecutionStatuses.FINISHED, 30);
+        UUID executionRequestId = testRun.getExecutionRequestId();
+        ExecutionRequestStatistics stale = new ExecutionRequestStatistics();
+        stale.setExecutionRequestId(executionRequestId);
+        stale.setStale(true);
+        stale.setVersion(2);
+        when(statisticsRepository.findById(executionRequestId)).thenReturn(Optional.of(stale));
+        when(testRunRepository.findStatisticsFieldsByExecutionRequestId(executionRequestId))
+                .thenAnswer(invocation -> Collections.singletonList(testRun).stream());
+        when(statisticsRepository.replaceIfVersion(any(), anyLong())).thenReturn(true);
+
+        ExecutionRequestStatistics statistics = service.get(executionRequestId);
+
+        verify(statisticsRepository).replaceIfVersion(statistics, 2L);
+        Assertions.assertEquals(1, statistics.getTestRunsCount());
+        Assertions.assertFalse(statistics.isStale());
+    }
+
+    @Test
+    public void reconcile_whenStatisticsChangedDuringRecalculation_shouldRetryWithNewVersion() {
+        TestRun testRun = testRun(TestingStatuses.FAILED, ExecutionStatuses.IN_PROGRESS, 0);
+        UUID executionRequestId = testRun.getExecutionRequestId();
+        ExecutionRequestStatistics stored = new ExecutionRequestStatistics();
+        stored.setVersion(1);
+        ExecutionRequestStatistics incremented = new ExecutionRequestStatistics();
+        incremented.setVersion(2);
+        when(statisticsRepository.findById(executionRequestId))
+                .thenReturn(Optional.of(stored), Optional.of(incremented));
+        when(testRunRepository.findStatisticsFieldsByExecutionRequestId(executionRequestId))
+                .thenAnswer(invocation -> Collections.singletonList(testRun).stream());
+        when(statisticsRepository.replaceIfVersion(any(), eq(1L))).thenReturn(false);
+        when(statisticsRepository.replaceIfVersion(any(), eq(2L))).thenReturn(true);
+
+        ExecutionRequestStatistics statistics = service.reconcile(executionRequestId);
+
+        verify(statisticsRepository, times(2)).replaceIfVersion(any(), anyLong());
+        verify(testRunRepository, times(2)).findStatisticsFieldsByExecutionRequestId(executionRequestId);
+        Assertions.assertEquals(2L, statistics.getVersion());
+    }
+
+    private TestRun testRun(TestingStatuses testingStatus, ExecutionStatuses executionStatus, long duration) {
+        TestRun testRun = new TestRun();
+        testRun.setUuid(UUID.randomUUID());
+        testRun.setExecutionRequestId(UUID.randomUUID());
+        testRun.setTestingStatus(testingStatus);
+        testRun.setExecutionStatus(executionStatus);
+        testRun.setDuration(duration);
+        return testRun;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.services;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.qubership.atp.ram.dto.event.ExecutionRequestEvent;
+import org.qubership.atp.ram.dto.response.StatusUpdateResponse;
+import org.qubership.atp.ram.dto.response.StatusUpdateResponse.TestRunStatusUpdateResponse;
+import org.qubership.atp.ram.enums.ExecutionStatuses;
+import org.qubership.atp.ram.enums.TestingStatuses;
+import org.qubership.atp.ram.models.TestRun;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class ExecutionRequestStatusSubscriptionServiceTest {
+
+    private TestRunService testRunService;
+    private WebSocketNotificationService notificationService;
+    private ExecutionRequestStatusSubscriptionService subscriptionService;
+
+    @BeforeEach
+    public void setUp() {
+        testRunService = mock(TestRunService.class);
+        notificationService = mock(WebSocketNotificationService.class);
+        subscriptionService = new ExecutionRequestStatusSubscriptionService(testRunService, notificationService);
+        ReflectionTestUtils.setField(subscriptionService, "enabled", true);
+    }
+
+    @Test
+    public void publishAll_whenManySubscribersOfExecutionRequest_shouldLoadStatusesOnceAndSendOnlyChanges() {
+        UUID executionRequestId = UUID.randomUUID();
+        TestRun firstTestRun = testRun(TestingStatuses.PASSED);
+        TestRun secondTestRun = testRun(TestingStatuses.UNKNOWN);
+        subscriptionService.subscribe(executionRequestId, "session-1", "sub-0");
+        subscriptionService.subscribe(executionRequestId, "session-2", "sub-0");
+        when(testRunService.getStatusUpdate(eq(executionRequestId), any(Date.class)))
+                .thenReturn(statusUpdate(firstTestRun, secondTestRun));
+
+        subscriptionService.publishAll();
+        secondTestRun.setTestingStatus(TestingStatuses.FAILED);
+        when(testRunService.getStatusUpdate(eq(executionRequestId), any(Date.class)))
+                .thenReturn(statusUpdate(firstTestRun, secondTestRun));
+        subscriptionService.publishAll();
+
+        verify(testRunService, times(2)).getStatusUpdate(eq(executionRequestId), any(Date.class));
+        ArgumentCaptor<ExecutionRequestEvent<StatusUpdateResponse>> eventCaptor =
+                ArgumentCaptor.forClass(ExecutionRequestEvent.class);
+        verify(notificationService, times(2)).sendLocalEvent(eventCaptor.capture());
+        List<ExecutionRequestEvent<StatusUpdateResponse>> events = eventCaptor.getAllValues();
+        Assertions.assertEquals(2, events.get(0).getData().getTestRuns().size(),
+                "All test runs are sent on the first tick");
+        List<TestRunStatusUpdateResponse> changedTestRuns = events.get(1).getData().getTestRuns();
+        Assertions.assertEquals(1, changedTestRuns.size(), "Only changed test run is sent on the next tick");
+        Assertions.assertEquals(secondTestRun.getUuid(), changedTestRuns.get(0).getId());
+        Assertions.assertEquals(TestingStatuses.FAILED, changedTestRuns.get(0).getTestingStatus());
+    }
+
+    @Test
+    public void publishAll_whenNothingChanged_shouldNotSendEvent() {
+        UUID executionRequestId = UUID.randomUUID();
+        TestRun testRun = testRun(TestingStatuses.PASSED);
+        subscriptionService.subscribe(executionRequestId, "session-1", "sub-0");
+        when(testRunService.getStatusUpdate(eq(executionRequestId), any(Date.class)))
+                .thenReturn(statusUpdate(testRun));
+
+        subscriptionService.publishAll();
+        subscriptionService.publishAll();
+
+        verify(notificationService, times(1)).sendLocalEvent(any());
+    }
+
+    @Test
+    public void publishAll_whenNewSubscriberJoined_shouldSendStatusesOfAllTestRunsOnce() {
+        UUID executionRequestId = UUID.randomUUID();
+        TestRun firstTestRun = testRun(TestingStatuses.PASSED);
+        TestRun secondTestRun = testRun(TestingStatuses.FAILED);
+        subscriptionService.subscribe(executionRequestId, "session-1", "sub-0");
+        when(testRunService.getStatusUpdate(eq(executionRequestId), any(Date.class)))
+                .thenReturn(statusUpdate(firstTestRun, secondTestRun));
+        subscriptionService.publishAll();
+
+        subscriptionService.subscribe(executionRequestId, "session-2", "sub-0");
+        subscriptionService.publishAll();
+        subscriptionService.publishAll();
+
+        ArgumentCaptor<ExecutionRequestEvent<StatusUpdateResponse>> eventCaptor =
+                ArgumentCaptor.forClass(ExecutionRequestEvent.class);
+        verify(notificationService, times(2)).sendLocalEvent(eventCaptor.capture());
+        Assertions.assertEquals(2, eventCaptor.getAllValues().get(1).getData().getTestRuns().size(),
+                "Not changed test runs are sent to the late subscriber");
+    }
+
+    @Test
+    public void publishAll_whenAllSubscriptionsAreRemoved_shouldNotLoadStatuses() {
+        UUID executionRequestId = UUID.randomUUID();
+        subscriptionService.subscribe(executionRequestId, "session-1", "sub-0");
+        subscriptionService.subscribe(executionRequestId, "session-2", "sub-0");
+
+        subscriptionService.unsubscribe("session-1:sub-0");
+        subscriptionService.unsubscribe("session-2:sub-0");
+        subscriptionService.publishAll();
+
+        verify(testRunService, never()).getStatusUpdate(any(UUID.class), any(Date.class));
+    }
+
+    private TestRun testRun(TestingStatuses testingStatus) {
+        TestRun testRun = new TestRun();
+        testRun.setUuid(UUID.randomUUID());
+        testRun.setExecutionStatus(ExecutionStatuses.IN_PROGRESS);
+        testRun.setTestingStatus(testingStatus);
+        return testRun;
+    }
+
+    private StatusUpdateResponse statusUpdate(TestRun... testRuns) {
+        return new StatusUpdateResponse(new Date(), Arrays.stream(testRuns)
+                .map(testRun -> new TestRunStatusUpdateResponse(testRun, Collections.emptyList()))
+                .collect(Collectors.toList()));
+    }
+}
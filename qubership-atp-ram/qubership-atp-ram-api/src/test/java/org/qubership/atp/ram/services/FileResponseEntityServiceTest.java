@@ -16,16 +16,26 @@
 
 package org.qubership.atp.ram.services;
 
+import java.util.Date;
+
+import org.bson.BsonObjectId;
+import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 import org.qubership.atp.ram.model.ArchiveData;
 import org.qubership.atp.ram.model.FileData;
+import org.qubership.atp.ram.model.GridFsFileResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import com.mongodb.client.gridfs.GridFSBucket;
+import com.mongodb.client.gridfs.model.GridFSFile;
+
 public class FileResponseEntityServiceTest {
 
     private FileResponseEntityService fileResponseEntityService;
@@ -57,6 +67,22 @@ public class FileResponseEntityServiceTest {
                 result.getHeaders().getAccessControlExposeHeaders().contains(HttpHeaders.CONTENT_DISPOSITION));
     }
 
+    @Test
+    public void buildResponseEntity_buildForGridFsFileResource_bodyIsStreamedResourceOfFileLength() throws Exception {
+        GridFSFile gridFsFile = new GridFSFile(new BsonObjectId(new ObjectId()), "fileName3", 3L, 1024,
+                new Date(), new Document());
+        GridFsFileResource file = new GridFsFileResource(Mockito.mock(GridFSBucket.class), gridFsFile,
+                "video/mp4", "fileName3");
+        ResponseEntity<Resource> result =
+                fileResponseEntityService.buildOctetStreamResponseEntity(file);
+        Assertions.assertEquals(HttpStatus.OK, result.getStatusCode());
+        Assertions.assertSame(file, result.getBody());
+        Assertions.assertEquals(3L, result.getBody().contentLength());
+        Assertions.assertEquals("fileName3", result.getHeaders().getContentDisposition().getFilename());
+        Assertions.assertFalse(result.getHeaders().containsKey(HttpHeaders.CONTENT_LENGTH),
+                "Content length depends on requested range and is set from resource");
+    }
+
     @Test
     public void buildResponseEntity_buildForNull() {
         ArchiveData file = null;
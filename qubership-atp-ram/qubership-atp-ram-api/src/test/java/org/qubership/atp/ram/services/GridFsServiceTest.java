@@ -19,8 +19,13 @@ package org.qubership.atp.ram.services;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -39,16 +44,18 @@ public class GridFsServiceTest {
     private final String SNAPSHOT_PNG = "snapshot.png";
     private GridFsService gridFsService;
     private LogRecordRepository lrRepository;
+    private GridFsRepository gridFsRepository;
     private final FileData fileData = new FileData();
     private final LogRecord logRecord = new LogRecord();
 
     @BeforeEach
     public void setUp() {
-        GridFsRepository mock = Mockito.mock(GridFsRepository.class);
-        Mockito.when(mock.getFileData(Mockito.any())).thenReturn(Optional.of(fileData));
-        Mockito.when(mock.getFileDataByFileName(Mockito.any(), Mockito.any())).thenReturn(Optional.of(fileData));
+        gridFsRepository = Mockito.mock(GridFsRepository.class);
+        Mockito.when(gridFsRepository.getFileData(Mockito.any())).thenReturn(Optional.of(fileData));
+        Mockito.when(gridFsRepository.getFileDataByFileName(Mockito.any(), Mockito.any()))
+                .thenReturn(Optional.of(fileData));
         lrRepository = Mockito.mock(LogRecordRepository.class);
-        gridFsService = new GridFsService(mock, lrRepository);
+        gridFsService = new GridFsService(gridFsRepository, lrRepository);
         logRecord.setName("Log Record name");
         logRecord.setMessage("Log Record message");
     }
@@ -113,4 +120,35 @@ public class GridFsServiceTest {
         Assertions.assertEquals(RamLogRecordFileAsStringException.DEFAULT_MESSAGE.formatted("", logRecordId), actualException1.getMessage());
         Assertions.assertEquals(RamLogRecordFileAsStringException.DEFAULT_MESSAGE.formatted(fileName, logRecordId), actualException2.getMessage());
     }
+
+    @Test
+    public void getCountScreensByTestRunIds_shouldCountLogRecordsWithFilesOfAllTestRunsInOneQuery() {
+        UUID firstTestRunId = UUID.randomUUID();
+        UUID secondTestRunId = UUID.randomUUID();
+        UUID testRunWithoutFilesId = UUID.randomUUID();
+        LogRecord firstWithFiles = logRecord(firstTestRunId);
+        LogRecord secondWithFiles = logRecord(firstTestRunId);
+        LogRecord thirdWithFiles = logRecord(secondTestRunId);
+        LogRecord withoutFiles = logRecord(secondTestRunId);
+        List<UUID> testRunIds = Arrays.asList(firstTestRunId, secondTestRunId, testRunWithoutFilesId);
+        Mockito.when(lrRepository.findAllUuidAndTestRunIdByTestRunIdIn(testRunIds))
+                .thenReturn(Stream.of(firstWithFiles, secondWithFiles, thirdWithFiles, withoutFiles));
+        Mockito.when(gridFsRepository.findLogRecordIdsWithFiles(Mockito.anyCollection()))
+                .thenReturn(new HashSet<>(Arrays.asList(
+                        firstWithFiles.getUuid(), secondWithFiles.getUuid(), thirdWithFiles.getUuid())));
+
+        Map<UUID, Integer> countScreens = gridFsService.getCountScreensByTestRunIds(testRunIds);
+
+        Assertions.assertEquals(2, countScreens.get(firstTestRunId));
+        Assertions.assertEquals(1, countScreens.get(secondTestRunId));
+        Assertions.assertEquals(0, countScreens.get(testRunWithoutFilesId));
+        Mockito.verify(gridFsRepository, Mockito.times(1)).findLogRecordIdsWithFiles(Mockito.anyCollection());
+    }
+
+    private LogRecord logRecord(UUID testRunId) {
+        LogRecord logRecord = new LogRecord();
+        logRecord.setUuid(UUID.randomUUID());
+        logRecord.setTestRunId(testRunId);
+        return logRecord;
+    }
 }
@@ -18,19 +18,26 @@ package org.qubership.atp.ram.services;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Field;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -52,6 +59,7 @@ import org.qubership.atp.common.lock.LockManager;
 import org.qubership.atp.common.lock.provider.InMemoryLockProvider;
 import org.qubership.atp.ram.enums.TestingStatuses;
 import org.qubership.atp.ram.models.ExecutionRequest;
+import org.qubership.atp.ram.models.FailPattern;
 import org.qubership.atp.ram.models.Issue;
 import org.qubership.atp.ram.models.LogRecord;
 import org.qubership.atp.ram.models.TestRun;
@@ -59,6 +67,7 @@ import org.qubership.atp.ram.repositories.CustomExecutionRequestRepository;
 import org.qubership.atp.ram.repositories.CustomIssueRepository;
 import org.qubership.atp.ram.repositories.ExecutionRequestRepository;
 import org.qubership.atp.ram.repositories.IssueRepository;
+import org.qubership.atp.ram.services.failpatterns.FailPatternMatcherCache;
 import org.qubership.atp.ram.utils.IssueMock;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.util.ReflectionUtils;
@@ -85,6 +94,9 @@ public class IssueServiceTest {
     @Captor
     ArgumentCaptor<List<Issue>> argCaptorListIssue;
 
+    @Captor
+    ArgumentCaptor<Collection<Issue>> argCaptorIssues;
+
     @BeforeEach
     public void set() throws NoSuchFieldException {
         issueRepository = mock(IssueRepository.class);
@@ -103,6 +115,7 @@ public class IssueServiceTest {
                         customIssueRepository,
                         testRunService,
                         failPatternService,
+                        new FailPatternMatcherCache(),
                         logRecordService,
                         executionRequestDetailsService,
                         modelMapper,
@@ -227,7 +240,8 @@ public class IssueServiceTest {
 
         when(executionRequestRepository.findByUuid(any())).thenReturn(executionRequest);
         Stream<LogRecord> logRecordStream1 = logRecords.stream();
-        when(logRecordService.getAllFailedLogRecordsByTestRunIdsStream(any(), any())).thenReturn(logRecordStream1);
+        when(logRecordService.getAllFailedLogRecordsByTestRunIdsUpdatedAfterStream(any(), any()))
+                .thenReturn(logRecordStream1);
         when(logRecordService.countAllFailedLrByTestRunIds(any())).thenReturn(Long.valueOf(logRecords.size()));
 
         when(failPatternService
@@ -251,7 +265,8 @@ public class IssueServiceTest {
         logRecords.add(logRecord7);
         Stream<LogRecord> logRecordStream2 = logRecords.stream();
         when(logRecordService.countAllFailedLrByTestRunIds(any())).thenReturn(Long.valueOf(logRecords.size()));
-        when(logRecordService.getAllFailedLogRecordsByTestRunIdsStream(any(), any())).thenReturn(logRecordStream2);
+        when(logRecordService.getAllFailedLogRecordsByTestRunIdsUpdatedAfterStream(any(), any()))
+                .thenReturn(logRecordStream2);
 
         issueService.recalculateTopIssues(executionRequestId);
         verify(customExecutionRequestRepository).updateLogRecordsCount(eq(executionRequestId), eq(7));
@@ -292,7 +307,8 @@ public class IssueServiceTest {
         when(issueRepository.findShortByExecutionRequestId(any())).thenReturn(createdIssues);
         when(logRecordService.countAllFailedLrByTestRunIds(any())).thenReturn(Long.valueOf(logRecords.size()));
         Stream<LogRecord> logRecordStream1 = logRecords.stream();
-        when(logRecordService.getAllFailedLogRecordsByTestRunIdsStream(any(), any())).thenReturn(logRecordStream1);
+        when(logRecordService.getAllFailedLogRecordsByTestRunIdsUpdatedAfterStream(any(), any()))
+                .thenReturn(logRecordStream1);
 
         issueService.recalculateTopIssues(executionRequestId);
 
@@ -310,14 +326,12 @@ public class IssueServiceTest {
         createdIssues2.add(issue);
 
         when(issueRepository.findShortByExecutionRequestId(any())).thenReturn(createdIssues2);
+        when(customIssueRepository.findLinkedLogRecordIds(any(), any())).thenReturn(new HashSet<>(lrIds));
 
-        List<LogRecord> logRecords2 = logRecords.stream()
-                .filter(logRecord -> !lrIds.contains(logRecord.getUuid()))
-                .toList();
-        Stream<LogRecord> logRecordStream2 = logRecords2.stream();
+        Stream<LogRecord> logRecordStream2 = logRecords.stream();
         when(logRecordService.countAllFailedLrByTestRunIds(any())).thenReturn(Long.valueOf(logRecords.size()));
         when(logRecordService
-                .getAllFailedLogRecordsByTestRunIdsStream(any(), any()))
+                .getAllFailedLogRecordsByTestRunIdsUpdatedAfterStream(any(), any()))
                 .thenReturn(logRecordStream2);
 
         issueService.recalculateTopIssues(executionRequestId);
@@ -326,6 +340,67 @@ public class IssueServiceTest {
 
     }
 
+    @Test
+    public void calculateIssuesForTestRunsIncrementally_shouldQueryLogRecordsUpdatedAfterCalculatedDateOfTestRuns() {
+        UUID executionRequestId = executionRequest.getUuid();
+        Timestamp calculatedDate = new Timestamp(System.currentTimeMillis() - 60000);
+        TestRun calculatedTestRun = new TestRun();
+        calculatedTestRun.setUuid(UUID.randomUUID());
+        calculatedTestRun.setIssuesCalculatedDate(calculatedDate);
+        TestRun newTestRun = new TestRun();
+        newTestRun.setUuid(UUID.randomUUID());
+        when(logRecordService.getAllFailedLogRecordsByTestRunIdsUpdatedAfterStream(any(), any()))
+                .thenAnswer(invocation -> Stream.empty());
+
+        issueService.calculateIssuesForTestRunsIncrementally(executionRequestId,
+                Arrays.asList(calculatedTestRun, newTestRun));
+
+        verify(logRecordService).getAllFailedLogRecordsByTestRunIdsUpdatedAfterStream(
+                eq(Collections.singletonList(calculatedTestRun.getUuid())), eq(calculatedDate));
+        verify(logRecordService).getAllFailedLogRecordsByTestRunIdsUpdatedAfterStream(
+                eq(Collections.singletonList(newTestRun.getUuid())), isNull());
+        ArgumentCaptor<Timestamp> calculatedDateCaptor = ArgumentCaptor.forClass(Timestamp.class);
+        verify(testRunService).updateIssuesCalculatedDate(
+                eq(Arrays.asList(calculatedTestRun.getUuid(), newTestRun.getUuid())), calculatedDateCaptor.capture());
+        Assertions.assertTrue(calculatedDateCaptor.getValue().after(calculatedDate));
+        verify(logRecordService, never()).getAllFailedLogRecordsByTestRunIdsStream(any(), any());
+    }
+
+    @Test
+    public void calculateIssuesForExecution_whenPartitioned_shouldUpsertIssuesMergedFromAllPartitions() {
+        ReflectionTestUtils.setField(issueService, "partitionedCalculationEnabled", true);
+        ReflectionTestUtils.setField(issueService, "calculationParallelism", 2);
+        issueService.initCalculationExecutor();
+        UUID projectId = executionRequest.getProjectId();
+        UUID executionRequestId = executionRequest.getUuid();
+        UUID firstTestRunId = UUID.randomUUID();
+        UUID secondTestRunId = UUID.randomUUID();
+        FailPattern failPattern = IssueMock.failPattern(IssueMock.SECOND_RULE);
+        when(failPatternService.findPatternByProjectId(projectId)).thenReturn(Collections.singletonList(failPattern));
+        when(logRecordService.getAllFailedLogRecordsByTestRunIdsStream(eq(Collections.singletonList(firstTestRunId)),
+                any())).thenReturn(Stream.of(IssueMock.logRecord(IssueMock.FIRST_STACKTRACE, firstTestRunId),
+                IssueMock.logRecord(IssueMock.SECOND_STACKTRACE, firstTestRunId)));
+        when(logRecordService.getAllFailedLogRecordsByTestRunIdsStream(eq(Collections.singletonList(secondTestRunId)),
+                any())).thenReturn(Stream.of(IssueMock.logRecord(IssueMock.FIRST_STACKTRACE, secondTestRunId)));
+        when(logRecordService.countAllFailedLrByTestRunIds(any())).thenReturn(3L);
+
+        issueService.calculateIssuesForExecution(executionRequestId, Arrays.asList(firstTestRunId, secondTestRunId),
+                projectId);
+        issueService.shutdownCalculationExecutor();
+
+        verify(customIssueRepository).upsertIssues(eq(executionRequestId), argCaptorIssues.capture(), eq(500));
+        Map<UUID, Issue> issuesByFailPatternId = new HashMap<>();
+        argCaptorIssues.getValue().forEach(issue -> issuesByFailPatternId.put(issue.getFailPatternId(), issue));
+        Assertions.assertEquals(2, issuesByFailPatternId.size());
+        Issue patternIssue = issuesByFailPatternId.get(failPattern.getUuid());
+        Assertions.assertEquals(2, patternIssue.getFailedTestRunsCount());
+        Assertions.assertEquals(2, patternIssue.getLogRecordIds().size());
+        Issue messageIssue = issuesByFailPatternId.get(null);
+        Assertions.assertEquals(IssueMock.SECOND_STACKTRACE, messageIssue.getMessage());
+        Assertions.assertEquals(Collections.singletonList(firstTestRunId), messageIssue.getFailedTestRunIds());
+        verify(customExecutionRequestRepository).updateLogRecordsCount(eq(executionRequestId), eq(3));
+    }
+
     @Test
     public void deleteFailPattern_shouldSuccessfullyDeletedFromFailPatternRepositoryAndRelatedIssues() {
         // given
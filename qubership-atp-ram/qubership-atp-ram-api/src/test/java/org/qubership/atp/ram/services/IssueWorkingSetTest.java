@@ -0,0 +1,73 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.services;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.ram.models.Issue;
+import org.qubership.atp.ram.models.LogRecord;
+import org.qubership.atp.ram.utils.IssueMock;
+
+public class IssueWorkingSetTest {
+
+    @Test
+    public void link_whenLogRecordsOfSameTestRunAreLinkedTwice_shouldKeepIdsAndCounterUnique() {
+        IssueWorkingSet issues = new IssueWorkingSet();
+        UUID testRunId = UUID.randomUUID();
+        LogRecord firstLogRecord = IssueMock.logRecord(IssueMock.FIRST_STACKTRACE, testRunId);
+        LogRecord secondLogRecord = IssueMock.logRecord(IssueMock.FIRST_STACKTRACE, testRunId);
+
+        Issue issue = issues.getOrCreateByMessage(IssueMock.FIRST_STACKTRACE, () -> newIssue(null));
+        issues.link(issue, firstLogRecord);
+        issues.link(issues.getOrCreateByMessage(IssueMock.FIRST_STACKTRACE, () -> newIssue(null)), secondLogRecord);
+        issues.link(issue, secondLogRecord);
+
+        Assertions.assertEquals(1, issues.getIssues().size());
+        Assertions.assertEquals(Collections.singletonList(testRunId), issue.getFailedTestRunIds());
+        Assertions.assertEquals(1, issue.getFailedTestRunsCount());
+        Assertions.assertEquals(Arrays.asList(firstLogRecord.getUuid(), secondLogRecord.getUuid()),
+                issue.getLogRecordIds());
+    }
+
+    @Test
+    public void addAll_whenExistingIssueHasFailPattern_shouldFindItByFailPatternAndKnowLinkedLogRecords() {
+        IssueWorkingSet issues = new IssueWorkingSet();
+        UUID failPatternId = UUID.randomUUID();
+        UUID linkedLogRecordId = UUID.randomUUID();
+        Issue existingIssue = newIssue(failPatternId);
+        existingIssue.getLogRecordIds().add(linkedLogRecordId);
+        issues.addAll(Collections.singletonList(existingIssue));
+
+        Assertions.assertSame(existingIssue, issues.getOrCreateByFailPattern(failPatternId, () -> newIssue(null)));
+        Assertions.assertNull(issues.getByFailPattern(UUID.randomUUID()));
+        Assertions.assertTrue(issues.getLinkedLogRecordIds().contains(linkedLogRecordId));
+    }
+
+    private Issue newIssue(UUID failPatternId) {
+        Issue issue = new Issue();
+        issue.setFailPatternId(failPatternId);
+        issue.setMessage(IssueMock.FIRST_STACKTRACE);
+        issue.setLogRecordIds(new ArrayList<>());
+        issue.setFailedTestRunIds(new ArrayList<>());
+        return issue;
+    }
+}
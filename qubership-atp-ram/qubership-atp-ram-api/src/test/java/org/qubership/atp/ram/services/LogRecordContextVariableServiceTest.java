@@ -17,12 +17,18 @@
 package org.qubership.atp.ram.services;
 
 import static java.util.Arrays.asList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
 
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -31,10 +37,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.qubership.atp.ram.dto.response.ContextVariablesResponse;
 import org.qubership.atp.ram.enums.ContextVariablesActiveTab;
+import org.qubership.atp.ram.models.LogRecordContextVariable;
 import org.qubership.atp.ram.models.logrecords.parts.ContextVariable;
+import org.qubership.atp.ram.models.logrecords.parts.ContextVariablesGroup;
+import org.qubership.atp.ram.repositories.CustomLogRecordContextVariableRepository;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -51,6 +62,9 @@ public class LogRecordContextVariableServiceTest {
     private ContextVariable anotherContextVariable;
     private ContextVariable oneMoreContextVariable;
 
+    @Mock
+    private CustomLogRecordContextVariableRepository contextVariableRepository;
+
     @InjectMocks
     private LogRecordContextVariableService service;
 
@@ -233,6 +247,142 @@ public class LogRecordContextVariableServiceTest {
         assertSearch(searchContextVariables, result);
     }
 
+    @Test
+    public void setContextVariables_whenSplitEnabled_shouldStoreSortedGroupsWithCounts() {
+        ReflectionTestUtils.setField(service, "splitEnabled", true);
+        LogRecordContextVariable context = new LogRecordContextVariable();
+        List<ContextVariable> allContextVariables = generateContextVariables(3, 2);
+        Collections.reverse(allContextVariables);
+
+        service.setContextVariables(context, allContextVariables);
+
+        Assertions.assertNull(context.getContextVariables());
+        Assertions.assertEquals(2, context.getNotModified().getCount());
+        Assertions.assertEquals(asList("nm0", "nm1"), getParamNames(context.getNotModified().getVariables()));
+        Assertions.assertEquals(3, context.getModified().getCount());
+        Assertions.assertEquals(asList("m0", "m1", "m2"), getParamNames(context.getModified().getVariables()));
+        Assertions.assertEquals(5, context.collectContextVariables().size());
+    }
+
+    @Test
+    public void getPagedContextVariables_whenStoredSplit_shouldReturnSamePagesAsInMemoryPagination() {
+        List<ContextVariablesActiveTab> allTabs =
+                asList(ContextVariablesActiveTab.MODIFIED, ContextVariablesActiveTab.NOT_MODIFIED);
+        assertSlicedPages(4, 7, 3, allTabs);
+        assertSlicedPages(7, 4, 3, allTabs);
+        assertSlicedPages(10, 10, 3, allTabs);
+        assertSlicedPages(0, 9, 2, Collections.singletonList(ContextVariablesActiveTab.NOT_MODIFIED));
+        assertSlicedPages(17, 0, 5, Collections.singletonList(ContextVariablesActiveTab.MODIFIED));
+        assertSlicedPages(8, 3, 3, Collections.singletonList(ContextVariablesActiveTab.MODIFIED));
+    }
+
+    @Test
+    public void setContextVariables_whenDeltaEnabled_shouldStoreChangesOfPreviousStepAndRestoreAllVariables() {
+        ReflectionTestUtils.setField(service, "splitEnabled", true);
+        ReflectionTestUtils.setField(service, "deltaEnabled", true);
+        ReflectionTestUtils.setField(service, "keyframeInterval", 20);
+        UUID testRunId = UUID.randomUUID();
+        LogRecordContextVariable keyframe = contextDocument();
+        service.setContextVariables(keyframe, generateContextVariables(3, 5), testRunId,
+                LogRecordContextVariable.class);
+        List<ContextVariable> secondStepVariables = generateContextVariables(2, 5);
+        secondStepVariables.get(0).setAfterValue("changed");
+        secondStepVariables.add(new ContextVariable("added", null, "added"));
+        LogRecordContextVariable delta = contextDocument();
+        when(contextVariableRepository.findPreviousInTestRun(eq(testRunId), any(), eq(LogRecordContextVariable.class)))
+                .thenReturn(keyframe);
+
+        service.setContextVariables(delta, secondStepVariables, testRunId, LogRecordContextVariable.class);
+
+        Assertions.assertEquals(keyframe.getId(), keyframe.getKeyframeId());
+        Assertions.assertTrue(delta.isDelta());
+        Assertions.assertEquals(keyframe.getId(), delta.getBaseId());
+        Assertions.assertEquals(1, delta.getDeltaDepth());
+        Assertions.assertEquals(keyframe.getCreatedDate(), delta.getCreatedDate(), "Delta expires with keyframe");
+        Assertions.assertNull(delta.getNotModified());
+        Assertions.assertEquals(asList("m0", "added"), getParamNames(delta.getContextVariables()));
+        Assertions.assertEquals(Collections.singletonList("m2"), delta.getRemovedNames());
+
+        when(contextVariableRepository.findAllByKeyframeId(keyframe.getId(), 1, LogRecordContextVariable.class))
+                .thenReturn(Collections.singletonList(keyframe));
+        List<ContextVariable> restored = service.getAllContextVariables(delta, LogRecordContextVariable.class);
+
+        Collections.sort(restored);
+        Collections.sort(secondStepVariables);
+        Assertions.assertEquals(secondStepVariables, restored);
+    }
+
+    @Test
+    public void setContextVariables_whenKeyframeIntervalReached_shouldStoreKeyframe() {
+        ReflectionTestUtils.setField(service, "splitEnabled", true);
+        ReflectionTestUtils.setField(service, "deltaEnabled", true);
+        ReflectionTestUtils.setField(service, "keyframeInterval", 2);
+        UUID testRunId = UUID.randomUUID();
+        LogRecordContextVariable previous = contextDocument();
+        previous.setTestRunId(testRunId);
+        previous.setBaseId(UUID.randomUUID());
+        previous.setKeyframeId(UUID.randomUUID());
+        previous.setDeltaDepth(1);
+        LogRecordContextVariable context = contextDocument();
+        when(contextVariableRepository.findPreviousInTestRun(eq(testRunId), any(), eq(LogRecordContextVariable.class)))
+                .thenReturn(previous);
+        when(contextVariableRepository.findAllByKeyframeId(previous.getKeyframeId(), 1,
+                LogRecordContextVariable.class)).thenReturn(Collections.emptyList());
+
+        service.setContextVariables(context, generateContextVariables(1, 1), testRunId,
+                LogRecordContextVariable.class);
+
+        Assertions.assertFalse(context.isDelta());
+        Assertions.assertEquals(context.getId(), context.getKeyframeId());
+        Assertions.assertEquals(0, context.getDeltaDepth());
+        Assertions.assertEquals(2, context.collectContextVariables().size());
+    }
+
+    private LogRecordContextVariable contextDocument() {
+        LogRecordContextVariable context = new LogRecordContextVariable();
+        context.setId(UUID.randomUUID());
+        context.setCreatedDate(new Timestamp(System.currentTimeMillis()));
+        return context;
+    }
+
+    private void assertSlicedPages(int modifiedCount, int notModifiedCount, int size,
+                                   List<ContextVariablesActiveTab> activeTabs) {
+        ReflectionTestUtils.setField(service, "splitEnabled", true);
+        UUID id = UUID.randomUUID();
+        List<ContextVariable> allContextVariables = generateContextVariables(modifiedCount, notModifiedCount);
+        LogRecordContextVariable context = new LogRecordContextVariable();
+        service.setContextVariables(context, allContextVariables);
+        when(contextVariableRepository.findSliceById(eq(id), eq(LogRecordContextVariable.class),
+                anyInt(), anyInt(), anyInt(), anyInt()))
+                .thenAnswer(invocation -> {
+                    LogRecordContextVariable slice = new LogRecordContextVariable();
+                    slice.setNotModified(slice(context.getNotModified(),
+                            invocation.getArgument(2), invocation.getArgument(3)));
+                    slice.setModified(slice(context.getModified(),
+                            invocation.getArgument(4), invocation.getArgument(5)));
+                    return slice;
+                });
+
+        int pagesCount = (modifiedCount + notModifiedCount) / size + 2;
+        for (int page = 0; page < pagesCount; page++) {
+            ContextVariablesResponse expected =
+                    service.getPagedContextVariables(allContextVariables, page, size, activeTabs);
+            ContextVariablesResponse actual =
+                    service.getPagedContextVariables(id, LogRecordContextVariable.class, context, page, size,
+                            activeTabs);
+            Assertions.assertEquals(expected, actual, "Page " + page);
+        }
+    }
+
+    private ContextVariablesGroup slice(ContextVariablesGroup group, int skip, int limit) {
+        if (limit <= 0) {
+            return null;
+        }
+        List<ContextVariable> variables = group.getVariables();
+        int end = Math.min(skip + limit, variables.size());
+        return new ContextVariablesGroup(group.getCount(), new ArrayList<>(variables.subList(skip, end)));
+    }
+
     private List<String> getParamNames(List<ContextVariable> contextVariables) {
         return contextVariables.stream()
                 .map(ContextVariable::getName)
@@ -0,0 +1,122 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.services;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.qubership.atp.ram.enums.TestingStatuses;
+import org.qubership.atp.ram.models.LogRecord;
+import org.qubership.atp.ram.repositories.CustomLogRecordRepository;
+import org.qubership.atp.ram.repositories.LogRecordRepository;
+import org.qubership.atp.ram.repositories.TestRunRepository;
+
+public class LogRecordParentsStatusAggregatorTest {
+
+    private LogRecordRepository logRecordRepository;
+    private CustomLogRecordRepository customLogRecordRepository;
+    private TestRunRepository testRunRepository;
+    private ExecutionRequestStatisticsService executionRequestStatisticsService;
+    private LogRecordParentsStatusAggregator aggregator;
+
+    @BeforeEach
+    public void setUp() {
+        logRecordRepository = mock(LogRecordRepository.class);
+        customLogRecordRepository = mock(CustomLogRecordRepository.class);
+        testRunRepository = mock(TestRunRepository.class);
+        executionRequestStatisticsService = mock(ExecutionRequestStatisticsService.class);
+        aggregator = new LogRecordParentsStatusAggregator(logRecordRepository, customLogRecordRepository,
+                testRunRepository, executionRequestStatisticsService);
+    }
+
+    @Test
+    public void flush_whenManyChildrenOfOneParent_shouldUpdateParentAndTestRunOnceWithMaxPriority() {
+        UUID testRunId = UUID.randomUUID();
+        LogRecord parent = logRecord(UUID.randomUUID(), testRunId, null, TestingStatuses.UNKNOWN);
+        aggregator.add(logRecord(UUID.randomUUID(), testRunId, parent.getUuid(), TestingStatuses.PASSED));
+        aggregator.add(logRecord(UUID.randomUUID(), testRunId, parent.getUuid(), TestingStatuses.FAILED));
+        aggregator.add(logRecord(UUID.randomUUID(), testRunId, parent.getUuid(), TestingStatuses.WARNING));
+        when(logRecordRepository.findAllUuidAndTestRunIdAndParentRecordIdByUuidIn(anyCollection()))
+                .thenReturn(Collections.singletonList(parent));
+
+        aggregator.flush(Collections.singletonList(testRunId));
+
+        ArgumentCaptor<Map<UUID, TestingStatuses>> logRecordStatusesCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(customLogRecordRepository).updateTestingStatusesByPriority(logRecordStatusesCaptor.capture());
+        Assertions.assertEquals(Collections.singletonMap(parent.getUuid(), TestingStatuses.FAILED),
+                logRecordStatusesCaptor.getValue(), "Parent gets max priority status of its children");
+        ArgumentCaptor<Map<UUID, TestingStatuses>> testRunStatusesCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(testRunRepository).updateTestingStatusesByPriority(testRunStatusesCaptor.capture());
+        Assertions.assertEquals(Collections.singletonMap(testRunId, TestingStatuses.FAILED),
+                testRunStatusesCaptor.getValue(), "Status is propagated from root log record to test run");
+        verify(executionRequestStatisticsService).getRaisedTestingStatusesIncrements(
+                Collections.singletonMap(testRunId, TestingStatuses.FAILED));
+    }
+
+    @Test
+    public void flush_whenStatusesAlreadyFlushed_shouldNotUpdateAgain() {
+        UUID testRunId = UUID.randomUUID();
+        aggregator.add(logRecord(UUID.randomUUID(), testRunId, null, TestingStatuses.PASSED));
+
+        aggregator.flush(Collections.singletonList(testRunId));
+        aggregator.flush(Collections.singletonList(testRunId));
+
+        verify(testRunRepository, times(1)).updateTestingStatusesByPriority(anyMap());
+        verify(logRecordRepository, never()).findAllUuidAndTestRunIdAndParentRecordIdByUuidIn(anyCollection());
+    }
+
+    @Test
+    public void flush_whenWriteFailed_shouldRetryStatusesMergedWithNewOnesOnNextFlush() {
+        UUID testRunId = UUID.randomUUID();
+        aggregator.add(logRecord(UUID.randomUUID(), testRunId, null, TestingStatuses.FAILED));
+        doThrow(new RuntimeException("Mongo is not available")).doNothing()
+                .when(testRunRepository).updateTestingStatusesByPriority(anyMap());
+
+        aggregator.flush(Collections.singletonList(testRunId));
+        aggregator.add(logRecord(UUID.randomUUID(), testRunId, null, TestingStatuses.PASSED));
+        aggregator.flush(Collections.singletonList(testRunId));
+
+        ArgumentCaptor<Map<UUID, TestingStatuses>> testRunStatusesCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(testRunRepository, times(2)).updateTestingStatusesByPriority(testRunStatusesCaptor.capture());
+        Assertions.assertEquals(Collections.singletonMap(testRunId, TestingStatuses.FAILED),
+                testRunStatusesCaptor.getAllValues().get(1), "Failed status is retried and keeps its priority");
+        verify(executionRequestStatisticsService, times(1)).increment(anyMap());
+    }
+
+    private LogRecord logRecord(UUID id, UUID testRunId, UUID parentId, TestingStatuses status) {
+        LogRecord logRecord = new LogRecord();
+        logRecord.setUuid(id);
+        logRecord.setTestRunId(testRunId);
+        logRecord.setParentRecordId(parentId);
+        logRecord.setTestingStatusHard(status);
+        return logRecord;
+    }
+}
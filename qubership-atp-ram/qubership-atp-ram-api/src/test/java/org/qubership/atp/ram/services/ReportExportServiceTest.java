@@ -20,7 +20,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.anyBoolean;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -29,8 +31,12 @@ import static org.springframework.http.HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS
 import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -41,9 +47,12 @@ import org.qubership.atp.ram.ExecutionRequestsMock;
 import org.qubership.atp.ram.dto.response.LabelNodeReportResponse;
 import org.qubership.atp.ram.entities.treenodes.labelparams.TestingReportLabelParam;
 import org.qubership.atp.ram.enums.TestingStatuses;
+import org.qubership.atp.ram.model.datacontext.TestRunsDataContext;
 import org.qubership.atp.ram.models.ExecutionRequest;
+import org.qubership.atp.ram.models.TestRun;
 import org.qubership.atp.ram.models.logrecords.parts.ValidationTableLine;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 public class ReportExportServiceTest {
@@ -54,6 +63,8 @@ public class ReportExportServiceTest {
     private ExecutionRequestService executionRequestService;
     @Mock
     private WidgetConfigTemplateService widgetConfigTemplateService;
+    @Mock
+    private TestRunService testRunService;
 
     private final static UUID executionRequestId = UUID.randomUUID();
     private final static UUID labelTemplateId = UUID.randomUUID();
@@ -62,7 +73,7 @@ public class ReportExportServiceTest {
     @BeforeEach
     public void init() {
         reportExportService = spy(new ReportExportService(reportService, executionRequestService,
-                widgetConfigTemplateService));
+                widgetConfigTemplateService, testRunService));
     }
 
     @Test
@@ -129,4 +140,71 @@ public class ReportExportServiceTest {
         assertNotNull(response.getHeader(CONTENT_DISPOSITION));
         assertTrue(response.getHeader(CONTENT_DISPOSITION).contains(executionRequest.getName()));
     }
+
+    @Test
+    public void exportTestCasesWidgetIntoCsv_BatchExportEnabled_TestRunsAreLoadedByBatchesInTreeOrder()
+            throws IOException {
+        ReflectionTestUtils.setField(reportExportService, "batchExportEnabled", true);
+        ReflectionTestUtils.setField(reportExportService, "exportBatchSize", 1);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        LabelNodeReportResponse.TestRunNodeResponse firstTestRun = shortTestRunNode("first");
+        LabelNodeReportResponse.TestRunNodeResponse secondTestRun = shortTestRunNode("second");
+        LabelNodeReportResponse labelNode = new LabelNodeReportResponse();
+        labelNode.setLabelName("label");
+        labelNode.setTestRuns(Arrays.asList(firstTestRun, secondTestRun));
+        labelNode.setLabelParams(Collections.emptyList());
+        LabelNodeReportResponse nodes = new LabelNodeReportResponse();
+        nodes.setChildren(Collections.singletonList(labelNode));
+        nodes.setValidationLabelsOrder(Collections.emptyList());
+
+        ExecutionRequest executionRequest = ExecutionRequestsMock.generateRequestById(executionRequestId);
+        executionRequest.setTestScopeId(null);
+
+        when(executionRequestService.get(any())).thenReturn(executionRequest);
+        when(reportService.getShortTestCasesForExecutionRequest(any(), any(), any(), any(), anyInt()))
+                .thenReturn(nodes);
+        when(testRunService.getByIds(any())).thenAnswer(invocation -> {
+            Collection<UUID> ids = invocation.getArgument(0);
+            return ids.stream().map(id -> {
+                TestRun testRun = new TestRun();
+                testRun.setUuid(id);
+                return testRun;
+            }).collect(Collectors.toList());
+        });
+        when(testRunService.getTestRunsDataContext(any(), any(), anyBoolean()))
+                .thenAnswer(invocation -> TestRunsDataContext.builder().build());
+        when(testRunService.getTestRunNodeWithFailedLogRecords(any(), any(), any())).thenAnswer(invocation -> {
+            List<TestRun> testRuns = invocation.getArgument(0);
+            return testRuns.stream().map(testRun -> {
+                LabelNodeReportResponse.TestRunNodeResponse node = new LabelNodeReportResponse.TestRunNodeResponse();
+                node.setUuid(testRun.getUuid());
+                node.setName(testRun.getUuid().equals(firstTestRun.getUuid()) ? "first" : "second");
+                node.setFailureReason("reason");
+                node.setLabelParams(Collections.emptyList());
+                return node;
+            }).collect(Collectors.toList());
+        });
+
+        reportExportService.exportTestCasesWidgetIntoCsv(executionRequestId, labelTemplateId, validationTemplateId,
+                false, response, null);
+
+        verify(reportService, never()).getTestCasesForExecutionRequest(any(), any(), any(), anyBoolean(), any());
+        verify(testRunService, times(2)).getByIds(any());
+        String[] lines = response.getContentAsString().split("\n");
+        assertEquals(4, lines.length);
+        assertTrue(lines[1].startsWith("label|"));
+        assertTrue(lines[2].startsWith("    first|"));
+        assertTrue(lines[2].contains("|reason|"));
+        assertTrue(lines[3].startsWith("    second|"));
+        assertTrue(response.isCommitted());
+    }
+
+    private LabelNodeReportResponse.TestRunNodeResponse shortTestRunNode(String name) {
+        LabelNodeReportResponse.TestRunNodeResponse node = new LabelNodeReportResponse.TestRunNodeResponse();
+        node.setUuid(UUID.randomUUID());
+        node.setName(name);
+        node.setLabelParams(Collections.emptyList());
+        return node;
+    }
 }
@@ -138,7 +138,10 @@ public class ReportServiceTest {
                 testCaseService,
                 issueService,
                 patchHelper,
-                labelsService
+                labelsService,
+                mock(WidgetTreeSnapshotService.class),
+                mock(ExecutionRequestStatisticsService.class),
+                mock(TestPlanDailyStatisticsService.class)
         );
 
         labelTemplateNodeService = mock(LabelTemplateNodeService.class);
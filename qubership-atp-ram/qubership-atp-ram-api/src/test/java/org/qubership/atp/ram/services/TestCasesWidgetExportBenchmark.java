@@ -0,0 +1,236 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.services;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+import org.qubership.atp.ram.AbstractBenchmark;
+import org.qubership.atp.ram.dto.response.LabelNodeReportResponse;
+import org.qubership.atp.ram.dto.response.LabelNodeReportResponse.TestRunNodeResponse;
+import org.qubership.atp.ram.entities.treenodes.labelparams.TestingReportLabelParam;
+import org.qubership.atp.ram.enums.TestingStatuses;
+import org.qubership.atp.ram.model.datacontext.TestRunsDataContext;
+import org.qubership.atp.ram.models.ExecutionRequest;
+import org.qubership.atp.ram.models.TestRun;
+import org.qubership.atp.ram.models.logrecords.parts.ValidationTableLine;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Compares peak heap usage of 'Test cases' widget CSV export, when the whole widget tree is built
+ * before export and when test runs are written by batches over the tree of short test runs.
+ * Database reads are mocked, each full test run node carries validation labels with expected
+ * and actual results, which are the main part of the node size on real reports.
+ * Peak heap is reported as {@code peakHeapMb} secondary result. Both ways grow with count of test runs:
+ * export by batches still keeps the whole tree of short test runs, which is mocked here,
+ * so it shows only the saving on full test run nodes, not the memory of building the short tree from database.
+ */
+@Warmup(iterations = 2, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class TestCasesWidgetExportBenchmark extends AbstractBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int VALIDATION_LABELS_COUNT = 10;
+    private static final String RESULT = StringUtils.repeat("result", 100);
+
+    @Param({"5000", "20000"})
+    private int testRunsCount;
+
+    private ReportExportService wholeTreeExportService;
+    private ReportExportService batchExportService;
+    private HttpServletResponse response;
+
+    /**
+     * Mock services to build widget trees of requested size.
+     */
+    @Setup
+    public void setUp() {
+        List<UUID> testRunIds = new ArrayList<>();
+        for (int i = 0; i < testRunsCount; i++) {
+            testRunIds.add(UUID.randomUUID());
+        }
+        List<String> validationLabels = new ArrayList<>();
+        for (int i = 0; i < VALIDATION_LABELS_COUNT; i++) {
+            validationLabels.add("label" + i);
+        }
+
+        ExecutionRequest executionRequest = new ExecutionRequest();
+        executionRequest.setUuid(UUID.randomUUID());
+        executionRequest.setName("benchmark");
+        ExecutionRequestService executionRequestService = Mockito.mock(ExecutionRequestService.class);
+        Mockito.when(executionRequestService.get(Mockito.any())).thenReturn(executionRequest);
+        WidgetConfigTemplateService widgetConfigTemplateService = Mockito.mock(WidgetConfigTemplateService.class);
+        Mockito.when(widgetConfigTemplateService.getWidgetColumnVisibilityMap(Mockito.any(), Mockito.any()))
+                .thenReturn(Collections.emptyMap());
+
+        ReportService reportService = Mockito.mock(ReportService.class);
+        Mockito.when(reportService.getTestCasesForExecutionRequest(Mockito.any(), Mockito.any(), Mockito.any(),
+                Mockito.anyBoolean(), Mockito.any())).thenAnswer(invocation -> rootNode(testRunIds.stream()
+                .map(id -> fullTestRunNode(id, validationLabels))
+                .collect(Collectors.toList()), validationLabels));
+        Mockito.when(reportService.getShortTestCasesForExecutionRequest(Mockito.any(), Mockito.any(), Mockito.any(),
+                Mockito.any(), Mockito.anyInt())).thenAnswer(invocation -> rootNode(testRunIds.stream()
+                .map(id -> shortTestRunNode(id, validationLabels))
+                .collect(Collectors.toList()), validationLabels));
+
+        TestRunService testRunService = Mockito.mock(TestRunService.class);
+        Mockito.when(testRunService.getByIds(Mockito.any())).thenAnswer(invocation -> {
+            Collection<UUID> ids = invocation.getArgument(0);
+            return ids.stream().map(id -> {
+                TestRun testRun = new TestRun();
+                testRun.setUuid(id);
+                return testRun;
+            }).collect(Collectors.toList());
+        });
+        Mockito.when(testRunService.getTestRunsDataContext(Mockito.any(), Mockito.any(), Mockito.anyBoolean()))
+                .thenAnswer(invocation -> TestRunsDataContext.builder().build());
+        Mockito.when(testRunService.getTestRunNodeWithFailedLogRecords(Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenAnswer(invocation -> {
+                    List<TestRun> testRuns = invocation.getArgument(0);
+                    return testRuns.stream()
+                            .map(testRun -> fullTestRunNode(testRun.getUuid(), validationLabels))
+                            .collect(Collectors.toList());
+                });
+
+        wholeTreeExportService = new ReportExportService(reportService, executionRequestService,
+                widgetConfigTemplateService, testRunService);
+        batchExportService = new ReportExportService(reportService, executionRequestService,
+                widgetConfigTemplateService, testRunService);
+        ReflectionTestUtils.setField(batchExportService, "batchExportEnabled", true);
+        ReflectionTestUtils.setField(batchExportService, "exportBatchSize", BATCH_SIZE);
+
+        response = Mockito.mock(HttpServletResponse.class);
+        try {
+            Mockito.when(response.getWriter()).thenAnswer(invocation -> new PrintWriter(Writer.nullWriter()));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Previous way: the whole widget tree with full test run nodes is built before export.
+     */
+    @Benchmark
+    public void wholeTreeExport(HeapCounters counters) {
+        wholeTreeExportService.exportTestCasesWidgetIntoCsv(UUID.randomUUID(), null, null, false, response, null);
+    }
+
+    /**
+     * Current way: full test run nodes are built and written by batches.
+     */
+    @Benchmark
+    public void batchExport(HeapCounters counters) {
+        batchExportService.exportTestCasesWidgetIntoCsv(UUID.randomUUID(), null, null, false, response, null);
+    }
+
+    /**
+     * Peak heap usage during iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapCounters {
+
+        public double peakHeapMb;
+
+        /**
+         * Reset peak usage of heap pools before iteration.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            System.gc();
+            heapPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+        }
+
+        /**
+         * Collect peak usage of heap pools after iteration.
+         */
+        @TearDown(Level.Iteration)
+        public void collect() {
+            peakHeapMb = heapPools().stream()
+                    .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                    .sum() / 1024.0 / 1024.0;
+        }
+
+        private static List<MemoryPoolMXBean> heapPools() {
+            return ManagementFactory.getMemoryPoolMXBeans().stream()
+                    .filter(pool -> pool.getType() == MemoryType.HEAP)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static LabelNodeReportResponse rootNode(List<TestRunNodeResponse> testRunNodes,
+                                                    List<String> validationLabels) {
+        LabelNodeReportResponse rootNode = new LabelNodeReportResponse();
+        rootNode.setTestRuns(testRunNodes);
+        rootNode.setValidationLabelsOrder(validationLabels);
+        return rootNode;
+    }
+
+    private static TestRunNodeResponse shortTestRunNode(UUID id, List<String> validationLabels) {
+        TestRunNodeResponse node = new TestRunNodeResponse();
+        node.setUuid(id);
+        node.setName("Test run " + id);
+        node.setTestingStatus(TestingStatuses.PASSED);
+        node.setLabelParams(validationLabels.stream()
+                .map(label -> new TestingReportLabelParam(label, TestingStatuses.PASSED))
+                .collect(Collectors.toList()));
+        return node;
+    }
+
+    private static TestRunNodeResponse fullTestRunNode(UUID id, List<String> validationLabels) {
+        TestRunNodeResponse node = shortTestRunNode(id, validationLabels);
+        node.setFailureReason("Failure reason");
+        node.setDataSetName("Data set");
+        node.setLabelParams(validationLabels.stream()
+                .map(label -> {
+                    ValidationTableLine step = new ValidationTableLine();
+                    step.setExpectedResult(RESULT + id);
+                    step.setActualResult(RESULT + id);
+                    return new TestingReportLabelParam(label, TestingStatuses.PASSED, step);
+                })
+                .collect(Collectors.toList()));
+        return node;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        run(TestCasesWidgetExportBenchmark.class);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.services;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.ram.enums.TestingStatuses;
+import org.qubership.atp.ram.models.ExecutionRequest;
+import org.qubership.atp.ram.models.TestRun;
+import org.qubership.atp.ram.repositories.TestPlanDailyStatisticsRepository;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class TestPlanDailyStatisticsServiceTest {
+
+    private static final Instant FIRST_DAY = Instant.parse("2024-03-10T00:00:00Z");
+    private static final Instant SECOND_DAY = Instant.parse("2024-03-11T00:00:00Z");
+
+    private TestPlanDailyStatisticsRepository repository;
+    private TestPlanDailyStatisticsService service;
+
+    @BeforeEach
+    public void setUp() {
+        repository = mock(TestPlanDailyStatisticsRepository.class);
+        service = new TestPlanDailyStatisticsService(repository);
+        ReflectionTestUtils.setField(service, "enabled", true);
+    }
+
+    @Test
+    public void calculateIncrements_whenTestRunsFinishedOnDifferentDays_shouldBucketThemByUtcDay() {
+        ExecutionRequest executionRequest = executionRequest(SECOND_DAY.plusSeconds(3600));
+        TestRun firstDayTestRun = testRun(TestingStatuses.FAILED, FIRST_DAY.plusSeconds(86399), 45);
+        TestRun secondDayTestRun = testRun(TestingStatuses.PASSED, SECOND_DAY.plusSeconds(60), 400);
+        TestRun notFinishedTestRun = testRun(TestingStatuses.STOPPED, null, 0);
+
+        Map<Date, Map<String, Long>> increments = TestPlanDailyStatisticsService.calculateIncrements(
+                executionRequest, Arrays.asList(firstDayTestRun, secondDayTestRun, notFinishedTestRun));
+
+        Map<String, Long> firstDayIncrements = increments.get(Date.from(FIRST_DAY));
+        Assertions.assertEquals(1L, firstDayIncrements.get("testRunsCount"));
+        Assertions.assertEquals(1L, firstDayIncrements.get("testingStatuses.FAILED"));
+        Assertions.assertEquals(1L, firstDayIncrements.get("rootCauses.NONE"));
+        Assertions.assertEquals(1L, firstDayIncrements.get("durations.60"));
+        Assertions.assertEquals(45L, firstDayIncrements.get("durationsSum"));
+        Map<String, Long> secondDayIncrements = increments.get(Date.from(SECOND_DAY));
+        Assertions.assertEquals(2L, secondDayIncrements.get("testRunsCount"),
+                "Test run without finish date is counted by finish date of execution request");
+        Assertions.assertEquals(1L, secondDayIncrements.get("testingStatuses.STOPPED"));
+        Assertions.assertEquals(1L, secondDayIncrements.get("durations.600"));
+        Assertions.assertEquals(2, increments.size());
+    }
+
+    @Test
+    public void addExecutionRequest_whenExecutionRequestHasNoTestPlan_shouldSkipIt() {
+        ExecutionRequest executionRequest = executionRequest(FIRST_DAY);
+        executionRequest.setTestPlanId(null);
+
+        service.addExecutionRequest(executionRequest,
+                Collections.singletonList(testRun(TestingStatuses.PASSED, FIRST_DAY, 10)));
+
+        verify(repository, never()).addExecutionRequest(any(), any(), any(), any(), anyMap());
+    }
+
+    @Test
+    public void addExecutionRequest_shouldAddExecutionRequestToStatisticsOfDay() {
+        ExecutionRequest executionRequest = executionRequest(FIRST_DAY.plusSeconds(100));
+
+        service.addExecutionRequest(executionRequest,
+                Collections.singletonList(testRun(TestingStatuses.PASSED, FIRST_DAY.plusSeconds(50), 10)));
+
+        verify(repository).addExecutionRequest(eq(executionRequest.getProjectId()),
+                eq(executionRequest.getTestPlanId()), eq(Date.from(FIRST_DAY)), eq(executionRequest.getUuid()),
+                anyMap());
+    }
+
+    @Test
+    public void onRootCauseChanged_shouldMoveTestRunBetweenRootCausesOfDay() {
+        UUID previousRootCauseId = UUID.randomUUID();
+        TestRun testRun = testRun(TestingStatuses.FAILED, FIRST_DAY.plusSeconds(50), 10);
+        testRun.setExecutionRequestId(UUID.randomUUID());
+        testRun.setRootCauseId(UUID.randomUUID());
+
+        service.onRootCauseChanged(testRun, previousRootCauseId);
+
+        verify(repository).moveRootCause(testRun.getExecutionRequestId(), Date.from(FIRST_DAY),
+                previousRootCauseId.toString(), testRun.getRootCauseId().toString());
+    }
+
+    @Test
+    public void onRootCauseChanged_whenTestRunHasNoFinishDate_shouldMoveItInLastDayOfExecutionRequest() {
+        TestRun testRun = testRun(TestingStatuses.STOPPED, null, 0);
+        testRun.setExecutionRequestId(UUID.randomUUID());
+        testRun.setRootCauseId(UUID.randomUUID());
+
+        service.onRootCauseChanged(testRun, null);
+
+        verify(repository).moveRootCause(testRun.getExecutionRequestId(), null, "NONE",
+                testRun.getRootCauseId().toString());
+    }
+
+    @Test
+    public void onRootCauseChanged_whenRootCauseIsNotChanged_shouldSkipIt() {
+        TestRun testRun = testRun(TestingStatuses.FAILED, FIRST_DAY, 10);
+        testRun.setExecutionRequestId(UUID.randomUUID());
+        testRun.setRootCauseId(UUID.randomUUID());
+
+        service.onRootCauseChanged(testRun, testRun.getRootCauseId());
+
+        verify(repository, never()).moveRootCause(any(), any(), any(), any());
+    }
+
+    @Test
+    public void getDurationPercentile_shouldReturnUpperBoundOfBucketContainingPercentile() {
+        Map<String, Integer> durations = new HashMap<>();
+        durations.put("10", 5);
+        durations.put("60", 4);
+        durations.put("3600", 1);
+
+        Assertions.assertEquals(10L, TestPlanDailyStatisticsService.getDurationPercentile(durations, 50));
+        Assertions.assertEquals(60L, TestPlanDailyStatisticsService.getDurationPercentile(durations, 90));
+        Assertions.assertEquals(3600L, TestPlanDailyStatisticsService.getDurationPercentile(durations, 95));
+        Assertions.assertNull(TestPlanDailyStatisticsService.getDurationPercentile(new HashMap<>(), 50));
+    }
+
+    private ExecutionRequest executionRequest(Instant finishDate) {
+        ExecutionRequest executionRequest = new ExecutionRequest();
+        executionRequest.setUuid(UUID.randomUUID());
+        executionRequest.setProjectId(UUID.randomUUID());
+        executionRequest.setTestPlanId(UUID.randomUUID());
+        executionRequest.setFinishDate(Timestamp.from(finishDate));
+        return executionRequest;
+    }
+
+    private TestRun testRun(TestingStatuses testingStatus, Instant finishDate, long duration) {
+        TestRun testRun = new TestRun();
+        testRun.setUuid(UUID.randomUUID());
+        testRun.setTestingStatus(testingStatus);
+        testRun.setFinishDate(finishDate == null ? null : Timestamp.from(finishDate));
+        testRun.setDuration(duration);
+        return testRun;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+
+package org.qubership.atp.ram.services;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.UUID;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.ram.enums.ExecutionStatuses;
+import org.qubership.atp.ram.models.TestRun;
+import org.qubership.atp.ram.repositories.TestRunRepository;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
+
+public class TestRunLastActivityListenerTest {
+
+    private TestRunRepository testRunRepository;
+    private TestRunLastActivityListener listener;
+
+    @BeforeEach
+    public void setUp() {
+        testRunRepository = mock(TestRunRepository.class);
+        listener = new TestRunLastActivityListener(testRunRepository);
+    }
+
+    @Test
+    public void onBeforeSave_whenStoredLastActivityIsNewer_shouldKeepItInSavedDocument() {
+        TestRun testRun = testRun(ExecutionStatuses.IN_PROGRESS, new Timestamp(1000));
+        TestRun storedTestRun = new TestRun();
+        storedTestRun.setLastActivity(new Timestamp(2000));
+        when(testRunRepository.findLastActivityByUuid(testRun.getUuid())).thenReturn(storedTestRun);
+        Document document = new Document(TestRun.LAST_ACTIVITY_FIELD, new Date(1000));
+
+        listener.onBeforeSave(new BeforeSaveEvent<>(testRun, document, "testrun"));
+
+        Assertions.assertEquals(new Date(2000), document.get(TestRun.LAST_ACTIVITY_FIELD));
+        Assertions.assertEquals(new Timestamp(2000), testRun.getLastActivity());
+    }
+
+    @Test
+    public void onBeforeSave_whenStoredLastActivityIsOlder_shouldSaveLastActivityOfTestRun() {
+        TestRun testRun = testRun(ExecutionStatuses.IN_PROGRESS, new Timestamp(3000));
+        TestRun storedTestRun = new TestRun();
+        storedTestRun.setLastActivity(new Timestamp(2000));
+        when(testRunRepository.findLastActivityByUuid(testRun.getUuid())).thenReturn(storedTestRun);
+        Document document = new Document(TestRun.LAST_ACTIVITY_FIELD, new Date(3000));
+
+        listener.onBeforeSave(new BeforeSaveEvent<>(testRun, document, "testrun"));
+
+        Assertions.assertEquals(new Date(3000), document.get(TestRun.LAST_ACTIVITY_FIELD));
+    }
+
+    @Test
+    public void onBeforeSave_whenTestRunIsNotInProgress_shouldNotLoadStoredLastActivity() {
+        TestRun testRun = testRun(ExecutionStatuses.FINISHED, new Timestamp(1000));
+
+        listener.onBeforeSave(new BeforeSaveEvent<>(testRun, new Document(), "testrun"));
+
+        verify(testRunRepository, never()).findLastActivityByUuid(any());
+    }
+
+    private TestRun testRun(ExecutionStatuses executionStatus, Timestamp lastActivity) {
+        TestRun testRun = new TestRun();
+        testRun.setUuid(UUID.randomUUID());
+        testRun.setExecutionStatus(executionStatus);
+        testRun.setLastActivity(lastActivity);
+        return testRun;
+    }
+}
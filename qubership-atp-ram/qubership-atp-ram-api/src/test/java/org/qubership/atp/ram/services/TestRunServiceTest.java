@@ -101,6 +101,7 @@ import org.qubership.atp.ram.dto.response.TestRunDefectsPropagationResponse;
 import org.qubership.atp.ram.dto.response.TestRunDefectsPropagationResponse.Item;
 import org.qubership.atp.ram.dto.response.TestRunTreeResponse;
 import org.qubership.atp.ram.dto.response.TestRunWithValidationLabelsResponse;
+import org.qubership.atp.ram.enums.ExecutionStatuses;
 import org.qubership.atp.ram.enums.TestingStatuses;
 import org.qubership.atp.ram.model.datacontext.TestRunsDataContext;
 import org.qubership.atp.ram.models.Comment;
@@ -163,6 +164,12 @@ public class TestRunServiceTest {
     private TestPlansService testPlansService;
     @Mock
     private MongoTemplate mongoTemplate;
+    @Mock
+    private WidgetTreeSnapshotService widgetTreeSnapshotService;
+    @Mock
+    private ExecutionRequestStatisticsService executionRequestStatisticsService;
+    @Mock
+    private TestPlanDailyStatisticsService testPlanDailyStatisticsService;
 
     @InjectMocks
     private TestRunService testRunService;
@@ -175,7 +182,8 @@ public class TestRunServiceTest {
         testRunService = new TestRunService(mongoTemplate, logRecordService, testRunRepository, rootCauseService,
                 projectsService, testPlansService, modelMapper, catalogueService, dataSetListFeignClient,
                 executionRequestRepository, rootCauseRepository, treeNodeService, testCaseService, issueService,
-                new PatchHelper(), labelsService);
+                new PatchHelper(), labelsService, widgetTreeSnapshotService,
+                executionRequestStatisticsService, testPlanDailyStatisticsService);
 
         List<RootCause> rootCausesMock = RootCauseMock.getAllRootCauses();
         when(testRunRepository.findAllByExecutionRequestId(any())).thenReturn(TestRunsMock.findByExecutionRequestId());
@@ -1081,6 +1089,43 @@ public class TestRunServiceTest {
                 "First saved test run comment html should contain issue reference");
     }
 
+    @Test
+    public void terminateByTimeout_whenTestRunsAreInactive_shouldUpdateThemInOneBulkAndMarkStatisticsStale() {
+        UUID executionRequestId = randomUUID();
+        TestRun testRun = new TestRun();
+        testRun.setUuid(randomUUID());
+        testRun.setExecutionRequestId(executionRequestId);
+        Timestamp finishDate = new Timestamp(System.currentTimeMillis());
+        when(executionRequestStatisticsService.isEnabled()).thenReturn(true);
+        when(testRunRepository.updateStatusesAndFinishDateByTestRuns(any(), any(), any(), any(), any()))
+                .thenReturn(1);
+
+        int terminatedCount = testRunService.terminateByTimeout(singletonList(testRun), finishDate);
+
+        Assertions.assertEquals(1, terminatedCount);
+        verify(testRunRepository).updateStatusesAndFinishDateByTestRuns(singletonList(testRun), IN_PROGRESS,
+                ExecutionStatuses.TERMINATED_BY_TIMEOUT, STOPPED, finishDate);
+        verify(executionRequestStatisticsService).markStale(Collections.singleton(executionRequestId));
+    }
+
+    @Test
+    public void updateFieldRootCauseIdByTestRunsIds_shouldMoveTestRunsFromPreviousRootCausesInDailyStatistics() {
+        UUID previousRootCauseId = randomUUID();
+        UUID rootCauseId = randomUUID();
+        TestRun testRun = new TestRun();
+        testRun.setUuid(randomUUID());
+        testRun.setExecutionRequestId(randomUUID());
+        testRun.setRootCauseId(previousRootCauseId);
+        when(testRunRepository.findRootCausesByUuidIn(singletonList(testRun.getUuid())))
+                .thenReturn(singletonList(testRun));
+
+        testRunService.updateFieldRootCauseIdByTestRunsIds(singletonList(testRun.getUuid()), rootCauseId);
+
+        verify(testPlanDailyStatisticsService).onRootCauseChanged(
+                argThat(updatedTestRun -> rootCauseId.equals(updatedTestRun.getRootCauseId())),
+                eq(previousRootCauseId));
+    }
+
     private JiraIssueDto getIssueDto(String key, String self, String summary) {
         final JiraIssueDto jiraIssueDto = new JiraIssueDto();
         jiraIssueDto.setKey(key);
@@ -21,6 +21,7 @@ import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,6 +36,7 @@ import org.qubership.atp.ram.entities.treenodes.LogRecordTreeNode;
 import org.qubership.atp.ram.entities.treenodes.TestRunTreeNode;
 import org.qubership.atp.ram.entities.treenodes.TreeNode;
 import org.qubership.atp.ram.enums.ExecutionStatuses;
+import org.qubership.atp.ram.model.datacontext.LogRecordStepIndex;
 import org.qubership.atp.ram.models.LogRecord;
 import org.qubership.atp.ram.models.TestRun;
 
@@ -61,8 +63,6 @@ public class TreeNodeServiceGetErTestRunLogRecordsTreeTest {
     private LogRecord logRecord4;
     private LogRecord logRecord5;
 
-    private List<LogRecord> testRunTopLogRecords;
-
     @BeforeEach
     public void setUp() throws Exception {
         this.testRun = TestRunsMock.generateTestRun("TR 1");
@@ -80,8 +80,6 @@ public class TreeNodeServiceGetErTestRunLogRecordsTreeTest {
         this.logRecord4 = LogRecordMock.generateLogRecord("LR 4", testRunId);
         this.logRecord4.setParentRecordId(this.logRecord3.getUuid());
         this.logRecord5 = LogRecordMock.generateLogRecord("LR 5", testRunId);
-
-        this.testRunTopLogRecords = asList(logRecord1, logRecord5);
     }
 
     /**
@@ -97,9 +95,10 @@ public class TreeNodeServiceGetErTestRunLogRecordsTreeTest {
         UUID testRunId = testRun.getUuid();
 
         when(testRunService.getTestRunForNodeTree(testRunId)).thenReturn(testRun);
-        when(testRunService.getTopLevelLogRecords(testRunId, null)).thenReturn(this.testRunTopLogRecords);
-//        when(logRecordService.getLogRecordChildren(logRecord1.getUuid())).thenReturn(asList(logRecord2, logRecord3));
-//        when(logRecordService.getLogRecordChildren(logRecord3.getUuid())).thenReturn(singletonList(logRecord4));
+        List<LogRecord> testRunTopLogRecords = asList(logRecord1, logRecord5);
+        when(testRunService.getTopLevelLogRecords(testRunId, null)).thenReturn(testRunTopLogRecords);
+        when(logRecordService.getSubtreeStepIndex(testRunTopLogRecords, false)).thenReturn(LogRecordStepIndex.build(
+                Stream.of(logRecord1, logRecord5, logRecord2, logRecord3)));
 
         TreeNode result = treeNodeService.getExecutionRequestTestRunLogRecordsTree(testRunId, null);
 
@@ -120,5 +119,10 @@ public class TreeNodeServiceGetErTestRunLogRecordsTreeTest {
         Assertions.assertEquals(logRecord1.getName(), resultChild1LogRecordTreeNode.getName());
         Assertions.assertEquals(logRecord1.getExecutionStatus(), resultChild1LogRecordTreeNode.getExecutionStatus());
         Assertions.assertNotNull(resultChild1LogRecordTreeNode.getChildren());
+        Assertions.assertFalse(resultChild1LogRecordTreeNode.isLeaf());
+
+        LogRecordTreeNode resultChild2LogRecordTreeNode = (LogRecordTreeNode) testRunTreeNode.getChildren().get(1);
+        Assertions.assertEquals(logRecord5.getUuid(), resultChild2LogRecordTreeNode.getLogRecordId());
+        Assertions.assertTrue(resultChild2LogRecordTreeNode.isLeaf());
     }
 }
@@ -66,6 +66,7 @@ import org.qubership.atp.ram.entities.treenodes.labelparams.ReportLabelParam;
 import org.qubership.atp.ram.enums.ExecutionRequestWidgets;
 import org.qubership.atp.ram.enums.TestingStatuses;
 import org.qubership.atp.ram.enums.TypeAction;
+import org.qubership.atp.ram.model.datacontext.LogRecordStepIndex;
 import org.qubership.atp.ram.model.datacontext.TestRunsDataContext;
 import org.qubership.atp.ram.models.ExecutionRequest;
 import org.qubership.atp.ram.models.LabelTemplate;
@@ -219,6 +220,8 @@ public class TreeNodeServiceGetErTreeTest {
                 .testRunTestCasesMap(new HashMap<>() {{
                     put(testRun1.getTestCaseId(), mock(TestCaseLabelResponse.class));
                 }})
+                .logRecordStepIndex(LogRecordStepIndex.build(Stream.of(testRun1LogRecords, testRun4LogRecords,
+                        testRun5LogRecords).flatMap(List::stream)))
                 .build();
 
         executionRequest = new ExecutionRequest();
@@ -237,12 +240,6 @@ public class TreeNodeServiceGetErTreeTest {
 
         when(testRunService.getTestRunsDataContext(any(), any(), anyBoolean())).thenReturn(context);
         when(testRunService.findAllByExecutionRequestId(any())).thenReturn(testRuns);
-        when(testRunService.getTopLevelLogRecords(testRun1Id, null)).thenReturn(asList(logRecord1, logRecord4));
-        when(testRunService.getTopLevelLogRecords(testRun4Id, null)).thenReturn(asList(logRecord5, logRecord7));
-        when(testRunService.getTopLevelLogRecords(testRun5Id, null)).thenReturn(List.of(logRecord8));
-        when(testRunService.getAllLogRecordsByTestRunId(testRun1Id)).thenReturn(testRun1LogRecords);
-        when(testRunService.getAllLogRecordsByTestRunId(testRun4Id)).thenReturn(testRun4LogRecords);
-        when(testRunService.getAllLogRecordsByTestRunId(testRun5Id)).thenReturn(testRun5LogRecords);
         when(labelTemplateNodeService.getLabelTemplate(any(UUID.class))).thenReturn(labelTemplate);
         when(labelTemplateNodeService.populateLabelTemplateWithTestRuns(any(), any(LabelTemplate.class)))
                 .thenReturn(labelTemplate);
@@ -518,7 +515,7 @@ public class TreeNodeServiceGetErTreeTest {
         List<UUID> expectedNodeUuids = asList(testRun1.getUuid(), parentLogRecord.getUuid(), childLogRecord.getUuid());
 
         when(testRunService.findAllByExecutionRequestId(any())).thenReturn(Collections.singletonList(testRun1));
-        when(logRecordService.getAllMatchesLogRecordsByTestRunIdCaseInsensitive(any(), any()))
+        when(logRecordService.getAllMatchesLogRecordsByTestRunIdsCaseInsensitive(any(), any()))
                 .thenReturn(Stream.of(parentLogRecord, childLogRecord));
 
         Set<TreeNode> result = treeNodeService.getExecutionRequestTreeNodesByName(UUID.randomUUID(), "TR");
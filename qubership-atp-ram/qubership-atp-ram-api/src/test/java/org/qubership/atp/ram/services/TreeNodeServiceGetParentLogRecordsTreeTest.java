@@ -21,6 +21,7 @@ import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,6 +35,7 @@ import org.qubership.atp.ram.TestRunsMock;
 import org.qubership.atp.ram.entities.treenodes.LogRecordTreeNode;
 import org.qubership.atp.ram.entities.treenodes.TreeNode;
 import org.qubership.atp.ram.enums.ExecutionStatuses;
+import org.qubership.atp.ram.model.datacontext.LogRecordStepIndex;
 import org.qubership.atp.ram.models.LogRecord;
 import org.qubership.atp.ram.models.TestRun;
 
@@ -82,6 +84,8 @@ public class TreeNodeServiceGetParentLogRecordsTreeTest {
         when(testRunService.findTestRunExecReqIdByUuid(testRunId)).thenReturn(testRun);
         when(logRecordService.findByTestRunIdAndParentUuid(testRunId, parentLrId, null))
                 .thenReturn(childLrs);
+        when(logRecordService.getSubtreeStepIndex(childLrs, false)).thenReturn(LogRecordStepIndex.build(
+                Stream.of(logRecord1, logRecord2, logRecord3)));
     }
 
     @Test
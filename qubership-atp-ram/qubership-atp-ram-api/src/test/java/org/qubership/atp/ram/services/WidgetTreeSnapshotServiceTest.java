@@ -0,0 +1,151 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.services;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.qubership.atp.ram.enums.ExecutionStatuses;
+import org.qubership.atp.ram.models.ExecutionRequest;
+import org.qubership.atp.ram.models.ValidationLabelConfigTemplate;
+import org.qubership.atp.ram.models.WidgetTreeSnapshot;
+import org.qubership.atp.ram.repositories.WidgetTreeSnapshotRepository;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class WidgetTreeSnapshotServiceTest {
+
+    private static final String TEMPLATES_VERSION = "templates";
+    private static final String TREE = "{\"children\":[{\"name\":\"Test Run\",\"testingStatus\":\"PASSED\"}]}";
+
+    private WidgetTreeSnapshotRepository widgetTreeSnapshotRepository;
+    private WidgetTreeSnapshotService widgetTreeSnapshotService;
+
+    @BeforeEach
+    public void setUp() {
+        widgetTreeSnapshotRepository = mock(WidgetTreeSnapshotRepository.class);
+        widgetTreeSnapshotService = new WidgetTreeSnapshotService(widgetTreeSnapshotRepository, new ObjectMapper());
+        ReflectionTestUtils.setField(widgetTreeSnapshotService, "enabled", true);
+    }
+
+    @Test
+    public void isSnapshotable_whenExecutionRequestIsNotFinished_shouldReturnFalse() {
+        ExecutionRequest executionRequest = executionRequest(new Timestamp(1000L));
+        executionRequest.setExecutionStatus(ExecutionStatuses.IN_PROGRESS);
+
+        Assertions.assertFalse(widgetTreeSnapshotService.isSnapshotable(executionRequest));
+        executionRequest.setExecutionStatus(ExecutionStatuses.FINISHED);
+        Assertions.assertTrue(widgetTreeSnapshotService.isSnapshotable(executionRequest));
+    }
+
+    @Test
+    public void getSnapshotId_whenFieldsInDifferentOrder_shouldReturnSameId() {
+        UUID executionRequestId = UUID.randomUUID();
+        UUID widgetId = UUID.randomUUID();
+
+        UUID snapshotId = widgetTreeSnapshotService.getSnapshotId(executionRequestId, widgetId, null, null,
+                false, new String[] {"name", "testingStatus"});
+
+        Assertions.assertEquals(snapshotId, widgetTreeSnapshotService.getSnapshotId(executionRequestId, widgetId,
+                null, null, false, new String[] {"testingStatus", "name"}));
+        Assertions.assertNotEquals(snapshotId, widgetTreeSnapshotService.getSnapshotId(executionRequestId, widgetId,
+                null, null, true, new String[] {"testingStatus", "name"}));
+    }
+
+    @Test
+    public void find_whenSnapshotSavedForSameFinishDate_shouldReturnSavedTree() {
+        ExecutionRequest executionRequest = executionRequest(new Timestamp(1000L));
+        UUID snapshotId = UUID.randomUUID();
+        WidgetTreeSnapshot snapshot = save(executionRequest, snapshotId);
+        when(widgetTreeSnapshotRepository.findById(snapshotId)).thenReturn(Optional.of(snapshot));
+
+        Assertions.assertEquals(Optional.of(TREE),
+                widgetTreeSnapshotService.find(executionRequest, snapshotId, TEMPLATES_VERSION));
+    }
+
+    @Test
+    public void find_whenExecutionRequestFinishedAgain_shouldReturnEmpty() {
+        ExecutionRequest executionRequest = executionRequest(new Timestamp(1000L));
+        UUID snapshotId = UUID.randomUUID();
+        WidgetTreeSnapshot snapshot = save(executionRequest, snapshotId);
+        when(widgetTreeSnapshotRepository.findById(snapshotId)).thenReturn(Optional.of(snapshot));
+
+        executionRequest.setFinishDate(new Timestamp(2000L));
+
+        Assertions.assertEquals(Optional.empty(),
+                widgetTreeSnapshotService.find(executionRequest, snapshotId, TEMPLATES_VERSION),
+                "Snapshot made before rerun of execution request is stale");
+    }
+
+    @Test
+    public void find_whenTemplatesChangedAfterSnapshot_shouldReturnEmpty() throws Exception {
+        ExecutionRequest executionRequest = executionRequest(new Timestamp(1000L));
+        UUID snapshotId = UUID.randomUUID();
+        WidgetTreeSnapshot snapshot = save(executionRequest, snapshotId);
+        when(widgetTreeSnapshotRepository.findById(snapshotId)).thenReturn(Optional.of(snapshot));
+
+        Assertions.assertEquals(Optional.empty(), widgetTreeSnapshotService.find(executionRequest, snapshotId,
+                "changed templates"), "Snapshot made before edit of templates is stale");
+    }
+
+    @Test
+    public void getTemplatesVersion_whenTemplateContentChanged_shouldReturnAnotherVersion() throws Exception {
+        ValidationLabelConfigTemplate template = new ValidationLabelConfigTemplate();
+        template.setUuid(UUID.randomUUID());
+        template.setName("Validation");
+        String version = widgetTreeSnapshotService.getTemplatesVersion(null, template);
+
+        Assertions.assertEquals(version, widgetTreeSnapshotService.getTemplatesVersion(null, template));
+        template.setName("Edited validation");
+        Assertions.assertNotEquals(version, widgetTreeSnapshotService.getTemplatesVersion(null, template));
+    }
+
+    @Test
+    public void invalidate_whenNoExecutionRequests_shouldNotDeleteSnapshots() {
+        widgetTreeSnapshotService.invalidate(Collections.emptySet());
+
+        verify(widgetTreeSnapshotRepository, never()).deleteAllByExecutionRequestIdIn(any());
+    }
+
+    private WidgetTreeSnapshot save(ExecutionRequest executionRequest, UUID snapshotId) {
+        widgetTreeSnapshotService.save(executionRequest, snapshotId, UUID.randomUUID(), TEMPLATES_VERSION, TREE);
+        ArgumentCaptor<WidgetTreeSnapshot> snapshotCaptor = ArgumentCaptor.forClass(WidgetTreeSnapshot.class);
+        verify(widgetTreeSnapshotRepository).save(snapshotCaptor.capture());
+        return snapshotCaptor.getValue();
+    }
+
+    private ExecutionRequest executionRequest(Timestamp finishDate) {
+        ExecutionRequest executionRequest = new ExecutionRequest();
+        executionRequest.setUuid(UUID.randomUUID());
+        executionRequest.setExecutionStatus(ExecutionStatuses.FINISHED);
+        executionRequest.setFinishDate(finishDate);
+        return executionRequest;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.services.failpatterns;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+import org.qubership.atp.common.utils.regex.TimeoutRegexCharSequence;
+import org.qubership.atp.ram.AbstractBenchmark;
+import org.qubership.atp.ram.models.FailPattern;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Compares fail pattern matching of failed log record messages by regexp loop and by literal prefilter.
+ */
+public class FailPatternMatcherBenchmark extends AbstractBenchmark {
+
+    private static final int REGEXP_TIMEOUT_SEC = 300;
+    private static final int MESSAGES_COUNT = 1000;
+
+    @Param({"50", "500"})
+    private int patternsCount;
+
+    @Param({"REGEX_LOOP", "LITERAL_PREFILTER"})
+    private FailPatternMatcherEngine engine;
+
+    private FailPatternMatcher matcher;
+    private List<String> messages;
+
+    /**
+     * Generate fail patterns similar to the ones of real projects and failed step messages.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<FailPattern> failPatterns = new ArrayList<>();
+        for (int i = 0; i < patternsCount; i++) {
+            FailPattern failPattern = new FailPattern();
+            failPattern.setUuid(UUID.randomUUID());
+            failPattern.setRule(i % 10 == 0
+                    ? "(Timeout|Refused) in service" + i
+                    : ".*Exception" + i + ": .*not found(\\n|.)+?at org\\.qubership\\.");
+            failPatterns.add(failPattern);
+        }
+        FailPatternMatcherCache cache = new FailPatternMatcherCache();
+        ReflectionTestUtils.setField(cache, "engine", engine);
+        matcher = cache.buildMatcher(failPatterns);
+
+        messages = new ArrayList<>();
+        for (int i = 0; i < MESSAGES_COUNT; i++) {
+            StringBuilder message = new StringBuilder("org.qubership.automation.Exception")
+                    .append(random.nextInt(patternsCount * 4))
+                    .append(": Element Login not found\n");
+            for (int line = 0; line < 30; line++) {
+                message.append("    at org.qubership.automation.Runner.run(Runner.java:")
+                        .append(random.nextInt(1000))
+                        .append(")\n");
+            }
+            messages.add(message.toString());
+        }
+    }
+
+    /**
+     * Match all messages the same way IssueService does it.
+     */
+    @Benchmark
+    public void matchMessages(Blackhole blackhole) {
+        for (String message : messages) {
+            for (CompiledFailPattern compiledFailPattern : matcher.findCandidates(message)) {
+                blackhole.consume(compiledFailPattern.getPattern()
+                        .matcher(new TimeoutRegexCharSequence(message, REGEXP_TIMEOUT_SEC))
+                        .find());
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        run(FailPatternMatcherBenchmark.class);
+    }
+}
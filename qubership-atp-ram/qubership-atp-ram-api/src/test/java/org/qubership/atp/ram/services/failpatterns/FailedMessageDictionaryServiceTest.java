@@ -0,0 +1,135 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.services.failpatterns;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.ram.enums.TestingStatuses;
+import org.qubership.atp.ram.models.LogRecord;
+import org.qubership.atp.ram.models.TestRun;
+import org.qubership.atp.ram.repositories.LogRecordRepository;
+import org.qubership.atp.ram.repositories.TestRunRepository;
+
+public class FailedMessageDictionaryServiceTest {
+
+    private LogRecordRepository logRecordRepository;
+    private TestRunRepository testRunRepository;
+    private FailedMessageDictionaryService service;
+
+    private final UUID executionRequestId = UUID.randomUUID();
+    private final UUID testRunId = UUID.randomUUID();
+    private List<LogRecord> logRecords;
+
+    @BeforeEach
+    public void setUp() {
+        logRecordRepository = mock(LogRecordRepository.class);
+        testRunRepository = mock(TestRunRepository.class);
+        service = new FailedMessageDictionaryService(logRecordRepository, testRunRepository);
+        service.init();
+
+        TestRun testRun = new TestRun();
+        testRun.setUuid(testRunId);
+        logRecords = Arrays.asList(
+                logRecord("Connection refused"),
+                logRecord("Connection refused"),
+                logRecord("Timeout of 30 sec exceeded"),
+                logRecord(null));
+        when(testRunRepository.findTestRunsIdByExecutionRequestId(executionRequestId))
+                .thenReturn(Collections.singletonList(testRun));
+        when(logRecordRepository.countAllByTestRunIdInAndTestingStatus(anyCollection(), eq(TestingStatuses.FAILED)))
+                .thenReturn((long) logRecords.size());
+        when(logRecordRepository.findFailedMessagesByTestRunIdInAndTestingStatus(anyCollection(),
+                eq(TestingStatuses.FAILED))).thenAnswer(invocation -> logRecords.stream());
+    }
+
+    @Test
+    public void getDictionary_whenMessagesRepeat_shouldKeepDistinctMessagesWithPostings() {
+        FailedMessageDictionary dictionary = service.getDictionary(executionRequestId);
+
+        Assertions.assertEquals(2, dictionary.getMessagesCount());
+        Assertions.assertEquals(3, dictionary.getLogRecordsCount());
+        Assertions.assertEquals(2, dictionary.getPostings("Connection refused").size());
+    }
+
+    @Test
+    public void countMatchingLogRecords_whenCalledSeveralTimes_shouldBuildDictionaryOnce() {
+        Assertions.assertEquals(2, service.countMatchingLogRecords(executionRequestId, Pattern.compile("refused")));
+        Assertions.assertEquals(3, service.countMatchingLogRecords(executionRequestId, Pattern.compile("o")));
+        Assertions.assertEquals(0, service.countMatchingLogRecords(executionRequestId, Pattern.compile("^sec")));
+
+        verify(logRecordRepository, times(1))
+                .findFailedMessagesByTestRunIdInAndTestingStatus(anyCollection(), eq(TestingStatuses.FAILED));
+    }
+
+    @Test
+    public void countMatchingLogRecords_whenNewLogRecordFailed_shouldRebuildDictionary() {
+        Assertions.assertEquals(1, service.countMatchingLogRecords(executionRequestId, Pattern.compile("Timeout")));
+
+        logRecords = Arrays.asList(logRecord("Timeout of 30 sec exceeded"), logRecord("Timeout of 60 sec exceeded"));
+        when(logRecordRepository.countAllByTestRunIdInAndTestingStatus(anyCollection(), eq(TestingStatuses.FAILED)))
+                .thenReturn((long) logRecords.size());
+
+        Assertions.assertEquals(2, service.countMatchingLogRecords(executionRequestId, Pattern.compile("Timeout")));
+        verify(logRecordRepository, times(2))
+                .findFailedMessagesByTestRunIdInAndTestingStatus(anyCollection(), eq(TestingStatuses.FAILED));
+    }
+
+    @Test
+    public void countMatchingLogRecords_whenOneLogRecordFailedAndAnotherFixed_shouldRebuildDictionary() {
+        when(logRecordRepository.findFirstByTestRunIdInOrderByLastUpdatedDesc(anyCollection()))
+                .thenReturn(lastUpdatedLogRecord(1000));
+        Assertions.assertEquals(1, service.countMatchingLogRecords(executionRequestId, Pattern.compile("Timeout")));
+
+        logRecords = Arrays.asList(logRecord("Connection refused"), logRecord("Timeout of 30 sec exceeded"),
+                logRecord("Timeout of 60 sec exceeded"), logRecord(null));
+        when(logRecordRepository.findFirstByTestRunIdInOrderByLastUpdatedDesc(anyCollection()))
+                .thenReturn(lastUpdatedLogRecord(2000));
+
+        Assertions.assertEquals(2, service.countMatchingLogRecords(executionRequestId, Pattern.compile("Timeout")),
+                "Dictionary is rebuilt though count of failed log records is the same");
+    }
+
+    private LogRecord lastUpdatedLogRecord(long lastUpdated) {
+        LogRecord logRecord = new LogRecord();
+        logRecord.setLastUpdated(new Date(lastUpdated));
+        return logRecord;
+    }
+
+    private LogRecord logRecord(String message) {
+        LogRecord logRecord = new LogRecord();
+        logRecord.setUuid(UUID.randomUUID());
+        logRecord.setName("Step");
+        logRecord.setMessage(message);
+        logRecord.setTestRunId(testRunId);
+        return logRecord;
+    }
+}
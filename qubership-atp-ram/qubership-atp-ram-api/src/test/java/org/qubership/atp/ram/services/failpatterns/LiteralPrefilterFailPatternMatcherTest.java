@@ -0,0 +1,79 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.services.failpatterns;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.ram.models.FailPattern;
+import org.qubership.atp.ram.utils.IssueMock;
+
+public class LiteralPrefilterFailPatternMatcherTest {
+
+    @Test
+    public void extract_whenRuleHasRequiredLiterals_shouldReturnLongestOne() {
+        Assertions.assertEquals("WDIllegalArgumentException",
+                RegexRequiredLiteralExtractor.extract(IssueMock.FIRST_RULE));
+        Assertions.assertEquals("Hazelcast cache check",
+                RegexRequiredLiteralExtractor.extract(".*Hazelcast cache check(\\n|.)+?not found(\\n|.)+?"));
+        Assertions.assertEquals("yz", RegexRequiredLiteralExtractor.extract("x(abc)?yz"));
+        Assertions.assertEquals("Foo.Bar", RegexRequiredLiteralExtractor.extract("\\QFoo.Bar\\E+z"));
+    }
+
+    @Test
+    public void extract_whenRuleHasNoRequiredLiteral_shouldReturnEmptyString() {
+        Assertions.assertEquals("", RegexRequiredLiteralExtractor.extract("timeout|refused"));
+        Assertions.assertEquals("", RegexRequiredLiteralExtractor.extract("(?i)connection refused"));
+        Assertions.assertEquals("", RegexRequiredLiteralExtractor.extract("\\d+[a-z]*"));
+    }
+
+    @Test
+    public void findCandidates_shouldReturnPatternsWithFoundLiteralAndPatternsWithoutLiteral() {
+        FailPattern timeout = IssueMock.failPattern("Read timed? out after \\d+ ms");
+        FailPattern refused = IssueMock.failPattern("Connection refused");
+        FailPattern anyOf = IssueMock.failPattern("NullPointerException|IllegalStateException");
+        FailPatternMatcher matcher = new FailPatternMatcherCache().buildMatcher(Arrays.asList(timeout, refused, anyOf));
+
+        List<CompiledFailPattern> candidates = matcher.findCandidates("java.net.SocketTimeoutException: "
+                + "Read time out after 300 ms");
+
+        Assertions.assertEquals(Arrays.asList(timeout, anyOf),
+                candidates.stream().map(CompiledFailPattern::getFailPattern).toList());
+    }
+
+    @Test
+    public void getMatcher_whenFailPatternsAreChanged_shouldRebuildMatcher() {
+        FailPatternMatcherCache cache = new FailPatternMatcherCache();
+        UUID projectId = UUID.randomUUID();
+        FailPattern failPattern = IssueMock.failPattern("Connection refused");
+
+        FailPatternMatcher matcher = cache.getMatcher(projectId, Arrays.asList(failPattern));
+        Assertions.assertSame(matcher, cache.getMatcher(projectId, Arrays.asList(failPattern)),
+                "Matcher is reused while fail patterns are not changed");
+
+        failPattern.setRule("Connection reset");
+        FailPatternMatcher rebuiltMatcher = cache.getMatcher(projectId, Arrays.asList(failPattern));
+        Assertions.assertNotSame(matcher, rebuiltMatcher);
+        Assertions.assertEquals(1, rebuiltMatcher.findCandidates("Connection reset by peer").size());
+
+        cache.invalidate(projectId);
+        Assertions.assertNotSame(rebuiltMatcher, cache.getMatcher(projectId, Arrays.asList(failPattern)));
+    }
+}
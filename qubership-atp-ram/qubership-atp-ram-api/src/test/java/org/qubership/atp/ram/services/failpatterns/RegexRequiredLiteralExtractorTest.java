@@ -0,0 +1,103 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.services.failpatterns;
+
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class RegexRequiredLiteralExtractorTest {
+
+    private static final String SMILE = "\uD83D\uDE00";
+
+    static Stream<Arguments> alternations() {
+        return Stream.of(
+                Arguments.of("timeout|refused", "", "Connection refused"),
+                Arguments.of("Error: (timeout|refused) on call", " on call", "Error: refused on call"),
+                Arguments.of("(?:Read|Write) failed", " failed", "Write failed"));
+    }
+
+    static Stream<Arguments> characterClasses() {
+        return Stream.of(
+                Arguments.of("[A-Za-z]+Exception: null", "Exception: null", "NullPointerException: null"),
+                Arguments.of("status [^0-9\\]]+ code", "status ", "status OK code"),
+                Arguments.of("[a-z&&[^aeiou]]x", "x", "bx"),
+                Arguments.of("\\d+[a-z]*", "", "42abc"));
+    }
+
+    static Stream<Arguments> quantifiers() {
+        return Stream.of(
+                Arguments.of("abc?d", "ab", "abd"),
+                Arguments.of("x{0,2}yz", "yz", "yz"),
+                Arguments.of("Tim+eout", "eout", "Timmeout"),
+                Arguments.of("a+?bcd", "bcd", "aabcd"),
+                Arguments.of("(abc)*def", "def", "def"),
+                Arguments.of("(abc){2}de", "abc", "abcabcde"));
+    }
+
+    static Stream<Arguments> escapes() {
+        return Stream.of(
+                Arguments.of("\\bTimeoutException\\b", "TimeoutException", "java.util.concurrent.TimeoutException"),
+                Arguments.of("\\d+ ms elapsed", " ms elapsed", "300 ms elapsed"),
+                Arguments.of("\\p{Alpha}+Error", "Error", "FatalError"),
+                Arguments.of("\\pLError", "Error", "XError"),
+                Arguments.of("\\x41BC", "BC", "ABC"),
+                Arguments.of("\\x{41}BC", "BC", "ABC"),
+                Arguments.of("\\u0041BC", "BC", "ABC"),
+                Arguments.of("\\0101BC", "BC", "ABC"),
+                Arguments.of("\\cIBC", "BC", "\tBC"),
+                Arguments.of("\\.\\*literal", ".*literal", "a.*literal"),
+                Arguments.of("\\QFoo.Bar\\E+z", "Foo.Bar", "Foo.Barrz"),
+                Arguments.of("\\Qabc\\E?d", "ab", "abd"),
+                Arguments.of("(\\w+)-\\1 repeated", " repeated", "ab-ab repeated"),
+                Arguments.of("(?<code>\\w+)=\\k<code>end", "end", "a=aend"));
+    }
+
+    static Stream<Arguments> groupsAndFlags() {
+        return Stream.of(
+                Arguments.of("(?<code>\\d+) OK", " OK", "200 OK"),
+                Arguments.of("(?<=user )name", "name", "user name"),
+                Arguments.of("(?!foo)bar", "bar", "bar"),
+                Arguments.of("(?i)connection refused", "", "CONNECTION REFUSED"),
+                Arguments.of("(?i:abc)def", "", "ABCdef"),
+                Arguments.of("(?s)a.b", "", "a\nb"));
+    }
+
+    static Stream<Arguments> surrogatePairs() {
+        return Stream.of(
+                Arguments.of("x" + SMILE + "?", "x", "x"),
+                Arguments.of(SMILE + SMILE + "?y", SMILE, SMILE + "y"),
+                Arguments.of(SMILE + "+ party", " party", SMILE + SMILE + " party"),
+                Arguments.of("\\Qa" + SMILE + "\\E*b", "a", "ab"));
+    }
+
+    @ParameterizedTest
+    @MethodSource({"alternations", "characterClasses", "quantifiers", "escapes", "groupsAndFlags",
+            "surrogatePairs"})
+    public void extract_shouldReturnLiteralContainedInEveryMatchedText(String regex, String expectedLiteral,
+                                                                      String matchedText) {
+        String literal = RegexRequiredLiteralExtractor.extract(regex);
+
+        Assertions.assertEquals(expectedLiteral, literal);
+        Assertions.assertTrue(Pattern.compile(regex).matcher(matchedText).find(), "Sample text matches regexp");
+        Assertions.assertTrue(matchedText.contains(literal), "Text matched by regexp contains the literal");
+    }
+}
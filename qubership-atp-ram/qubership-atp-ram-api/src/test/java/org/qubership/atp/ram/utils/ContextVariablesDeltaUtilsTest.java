@@ -0,0 +1,71 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.utils;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.ram.models.LogRecordContextVariable;
+import org.qubership.atp.ram.models.logrecords.parts.ContextVariable;
+
+public class ContextVariablesDeltaUtilsTest {
+
+    @Test
+    public void diff_whenVariablesChangedAddedAndRemoved_shouldBeRestoredByApply() {
+        List<ContextVariable> base = asList(variable("a", "1"), variable("b", "2"), variable("c", "3"));
+        List<ContextVariable> target = asList(variable("a", "1"), variable("b", "changed"), variable("d", "4"));
+
+        ContextVariablesDeltaUtils.Delta delta = ContextVariablesDeltaUtils.diff(base, target);
+
+        assertEquals(asList(variable("b", "changed"), variable("d", "4")), delta.getChanged());
+        assertEquals(Collections.singletonList("c"), delta.getRemovedNames());
+        assertEquals(target, ContextVariablesDeltaUtils.apply(base, delta.getChanged(), delta.getRemovedNames()));
+    }
+
+    @Test
+    public void diff_whenNamesAreNotUnique_shouldReturnNull() {
+        List<ContextVariable> base = asList(variable("a", "1"), variable("b", "2"));
+        List<ContextVariable> target = asList(variable("a", "1"), variable("a", "2"));
+
+        assertNull(ContextVariablesDeltaUtils.diff(base, target));
+    }
+
+    @Test
+    public void setDelta_whenMoreThanHalfOfVariablesChanged_shouldKeepDocumentUnchanged() {
+        LogRecordContextVariable base = new LogRecordContextVariable();
+        base.setId(UUID.randomUUID());
+        ContextVariablesDeltaUtils.setKeyframe(base, UUID.randomUUID());
+        List<ContextVariable> baseContextVariables = asList(variable("a", "1"), variable("b", "2"));
+        List<ContextVariable> contextVariables = asList(variable("a", "changed"), variable("b", "changed"));
+        LogRecordContextVariable document = new LogRecordContextVariable();
+
+        assertFalse(ContextVariablesDeltaUtils.setDelta(document, contextVariables, base, baseContextVariables, 20));
+        assertNull(document.getBaseId());
+        assertNull(document.getKeyframeId());
+    }
+
+    private ContextVariable variable(String name, String value) {
+        return new ContextVariable(name, null, value);
+    }
+}
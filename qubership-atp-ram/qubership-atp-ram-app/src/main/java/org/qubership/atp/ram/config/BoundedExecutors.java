@@ -0,0 +1,48 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.config;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+final class BoundedExecutors {
+
+    private BoundedExecutors() {
+    }
+
+    /**
+     * Creates fixed pool of daemon threads with bounded queue of tasks.
+     * When the queue is full, the task is run by the submitting thread, so producers are slowed down
+     * instead of piling up tasks in memory. Idle threads are stopped after a minute.
+     *
+     * @param nameFormat    thread name format, e.g. "pool-%d"
+     * @param poolSize      number of threads
+     * @param queueCapacity maximum number of tasks waiting for a thread
+     * @return executor
+     */
+    static ThreadPoolExecutor newFixedThreadPool(String nameFormat, int poolSize, int queueCapacity) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                new ThreadFactoryBuilder().setNameFormat(nameFormat).setDaemon(true).build(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -22,6 +22,7 @@ import java.util.concurrent.TimeUnit;
 
 import org.qubership.atp.ram.constants.CacheConstants;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCache;
@@ -32,6 +33,7 @@ import org.springframework.context.annotation.Configuration;
 import com.github.benmanes.caffeine.cache.Caffeine;
 
 @Configuration
+@EnableConfigurationProperties(CacheProperties.class)
 @ConditionalOnProperty(
         value = "hazelcast.enable-caching",
         havingValue = "false",
@@ -45,25 +47,34 @@ public class CacheConfig {
      * @return bean
      */
     @Bean
-    public CacheManager cacheManager() {
+    public CacheManager cacheManager(CacheProperties cacheProperties) {
         List<Cache> caches = new ArrayList<>();
-        caches.add(new CaffeineCache(CacheConstants.ATP_RAM_REPORTS,
-                Caffeine.newBuilder().recordStats().expireAfterWrite(2, TimeUnit.MINUTES).build(), true));
-        caches.add(new CaffeineCache(CacheConstants.ROOTCAUSES_CACHE,
-                Caffeine.newBuilder().recordStats().expireAfterWrite(2, TimeUnit.MINUTES).build()));
-        caches.add(new CaffeineCache(CacheConstants.ATP_RAM_DICTIONARIES,
-                Caffeine.newBuilder().recordStats().expireAfterWrite(2, TimeUnit.MINUTES).build(), true));
-        caches.add(new CaffeineCache(CacheConstants.PROJECT_CACHE,
-                Caffeine.newBuilder().recordStats().expireAfterWrite(2, TimeUnit.MINUTES).maximumSize(100).build(),
-                true));
-        caches.add(new CaffeineCache(CacheConstants.AUTH_PROJECTS_CACHE,
-                Caffeine.newBuilder().recordStats().expireAfterWrite(2, TimeUnit.MINUTES).maximumSize(100).build(),
-                true));
-        caches.add(new CaffeineCache(CacheConstants.TEST_RUNS_INFO_CACHE,
-                Caffeine.newBuilder().recordStats().expireAfterWrite(2, TimeUnit.MINUTES).maximumSize(100).build(),
-                true));
+        caches.add(caffeineCache(CacheConstants.ATP_RAM_REPORTS, cacheProperties.getReports()));
+        caches.add(caffeineCache(CacheConstants.ROOTCAUSES_CACHE, cacheProperties.getRootcauses()));
+        caches.add(caffeineCache(CacheConstants.ATP_RAM_DICTIONARIES, cacheProperties.getDictionaries()));
+        caches.add(caffeineCache(CacheConstants.PROJECT_CACHE, cacheProperties.getProjects()));
+        caches.add(caffeineCache(CacheConstants.AUTH_PROJECTS_CACHE, cacheProperties.getAuthProjects()));
+        caches.add(caffeineCache(CacheConstants.TEST_RUNS_INFO_CACHE, cacheProperties.getTestRunsInfo()));
         SimpleCacheManager cacheManager = new SimpleCacheManager();
         cacheManager.setCaches(caches);
         return cacheManager;
     }
+
+    /**
+     * Create local cache with statistics, which are exported to cache metrics.
+     *
+     * @param name     cache name
+     * @param settings size and expiration settings
+     * @return cache
+     */
+    static CaffeineCache caffeineCache(String name, CacheProperties.Settings settings) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (settings.getTtlSeconds() > 0) {
+            builder.expireAfterWrite(settings.getTtlSeconds(), TimeUnit.SECONDS);
+        }
+        if (settings.getMaxSize() > 0) {
+            builder.maximumSize(settings.getMaxSize());
+        }
+        return new CaffeineCache(name, builder.build(), true);
+    }
 }
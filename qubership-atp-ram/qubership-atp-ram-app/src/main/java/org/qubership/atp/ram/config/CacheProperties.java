@@ -0,0 +1,67 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Sizing of application caches, the same for local (Caffeine) and distributed (Hazelcast) mode.
+ * Max size is number of entries, for distributed caches it is limit per cluster member.
+ */
+@Data
+@ConfigurationProperties(prefix = "atp.ram.cache")
+public class CacheProperties {
+
+    private Settings reports = new Settings(500, 120);
+    private Settings rootcauses = new Settings(1000, 120);
+    private Settings dictionaries = new Settings(1000, 120);
+    private Settings projects = new Settings(100, 120);
+    private Settings authProjects = new Settings(100, 120);
+    private Settings testRunsInfo = new Settings(100, 120);
+
+    @Data
+    @NoArgsConstructor
+    public static class Settings {
+
+        /**
+         * Max number of entries, 0 means unbounded.
+         */
+        private int maxSize;
+        /**
+         * Time to live of entry after write, 0 means infinite.
+         */
+        private int ttlSeconds;
+        /**
+         * Keep near cache of distributed cache on client side.
+         */
+        private boolean nearCache;
+        private int nearCacheMaxSize = 100;
+        private int nearCacheTtlSeconds = 60;
+        /**
+         * Keep string values of distributed cache GZIP compressed.
+         */
+        private boolean compressed;
+
+        Settings(int maxSize, int ttlSeconds) {
+            this.maxSize = maxSize;
+            this.ttlSeconds = ttlSeconds;
+        }
+    }
+}
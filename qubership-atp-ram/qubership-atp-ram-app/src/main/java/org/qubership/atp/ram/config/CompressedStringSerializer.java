@@ -0,0 +1,52 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.config;
+
+import org.qubership.atp.ram.utils.CompressedString;
+
+import com.hazelcast.nio.serialization.compact.CompactReader;
+import com.hazelcast.nio.serialization.compact.CompactSerializer;
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+
+/**
+ * Compact serializer of {@link CompressedString}, value is kept in cluster as plain byte array
+ * without java serialization overhead.
+ */
+public class CompressedStringSerializer implements CompactSerializer<CompressedString> {
+
+    private static final String BYTES = "bytes";
+
+    @Override
+    public CompressedString read(CompactReader reader) {
+        return new CompressedString(reader.readArrayOfInt8(BYTES));
+    }
+
+    @Override
+    public void write(CompactWriter writer, CompressedString object) {
+        writer.writeArrayOfInt8(BYTES, object.getBytes());
+    }
+
+    @Override
+    public String getTypeName() {
+        return "atpRamCompressedString";
+    }
+
+    @Override
+    public Class<CompressedString> getCompactClass() {
+        return CompressedString.class;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.config;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.qubership.atp.ram.utils.CompressedString;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.map.listener.EntryEvictedListener;
+import com.hazelcast.map.listener.EntryExpiredListener;
+import com.hazelcast.map.listener.MapListener;
+
+/**
+ * {@link ConcurrentMapCache} over distributed map. Counts hits, misses, puts and evictions for cache metrics
+ * and optionally keeps string values compressed.
+ */
+public class DistributedMapCache extends ConcurrentMapCache {
+
+    private final boolean compressed;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder putCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param name       cache name
+     * @param store      distributed map
+     * @param compressed keep string values compressed
+     */
+    public DistributedMapCache(String name, ConcurrentMap<Object, Object> store, boolean compressed) {
+        super(name, store, true);
+        this.compressed = compressed;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = super.lookup(key);
+        (value == null ? missCount : hitCount).increment();
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        AtomicBoolean loaded = new AtomicBoolean();
+        T value = super.get(key, () -> {
+            loaded.set(true);
+            return valueLoader.call();
+        });
+        (loaded.get() ? missCount : hitCount).increment();
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, value);
+        putCount.increment();
+    }
+
+    @Override
+    protected Object toStoreValue(Object userValue) {
+        Object storeValue = super.toStoreValue(userValue);
+        return compressed && storeValue instanceof String
+                ? CompressedString.compress((String) storeValue)
+                : storeValue;
+    }
+
+    @Override
+    protected Object fromStoreValue(Object storeValue) {
+        return super.fromStoreValue(storeValue instanceof CompressedString
+                ? ((CompressedString) storeValue).decompress()
+                : storeValue);
+    }
+
+    /**
+     * Listener of distributed map counting evicted and expired entries.
+     * Events come from all cluster members, so the count is cluster-wide.
+     *
+     * @return map listener
+     */
+    public MapListener getEvictionListener() {
+        return new EvictionListener();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getPutCount() {
+        return putCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    private class EvictionListener implements EntryEvictedListener<Object, Object>,
+            EntryExpiredListener<Object, Object> {
+
+        @Override
+        public void entryEvicted(EntryEvent<Object, Object> event) {
+            evictionCount.increment();
+        }
+
+        @Override
+        public void entryExpired(EntryEvent<Object, Object> event) {
+            evictionCount.increment();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.config;
+
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * Exports metrics of {@link DistributedMapCache} as standard cache metrics.
+ */
+public class DistributedMapCacheMeterBinderProvider implements CacheMeterBinderProvider<DistributedMapCache> {
+
+    @Override
+    public MeterBinder getMeterBinder(DistributedMapCache cache, Iterable<Tag> tags) {
+        return new DistributedMapCacheMetrics(cache, tags);
+    }
+
+    private static class DistributedMapCacheMetrics extends CacheMeterBinder<DistributedMapCache> {
+
+        private final DistributedMapCache cache;
+
+        DistributedMapCacheMetrics(DistributedMapCache cache, Iterable<Tag> tags) {
+            super(cache, cache.getName(), tags);
+            this.cache = cache;
+        }
+
+        @Override
+        protected Long size() {
+            return (long) cache.getNativeCache().size();
+        }
+
+        @Override
+        protected long hitCount() {
+            return cache.getHitCount();
+        }
+
+        @Override
+        protected Long missCount() {
+            return cache.getMissCount();
+        }
+
+        @Override
+        protected Long evictionCount() {
+            return cache.getEvictionCount();
+        }
+
+        @Override
+        protected long putCount() {
+            return cache.getPutCount();
+        }
+
+        @Override
+        protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        }
+    }
+}
@@ -53,14 +53,14 @@ public class GridFsConfiguration {
     private String connectionsPerHost;
 
     /**
-     * Provides {@link GridFSBucket} for getting files from database. Creates descending index on fs.files collection on
+     * Provides {@link MongoDatabase} of GridFS. Creates descending index on fs.files collection on
      * "metadata.logRecordUuid" field.
      * Properties should contains "gridfs.host","gridfs.port" and "gridfs.database".
      *
-     * @return GridFSBucket by specified parameters.
+     * @return MongoDatabase by specified parameters.
      */
     @Bean
-    public GridFSBucket provideGridFileSystemBuckets(MeterRegistry meterRegistry) {
+    public MongoDatabase gridFsDatabase(MeterRegistry meterRegistry) {
         String mongoClientUri = "mongodb://" + user + ":" + password
                 + "@" + host + ":" + Integer.parseInt(port) + "/?authSource"
                 + "=" + database;
@@ -73,11 +73,20 @@ public class GridFsConfiguration {
                         .uuidRepresentation(UuidRepresentation.JAVA_LEGACY);
         MongoClient mongo = MongoClients.create(mongoClientSettingsBuilder.build());
         MongoDatabase db = mongo.getDatabase(database);
-        GridFSBucket gridFsBucket = GridFSBuckets.create(db);
         MongoCollection<Document> filesCollection = db.getCollection("fs.files");
         MongoCollection<Document> chunksCollection = db.getCollection("fs.chunks");
         filesCollection.createIndex(Indexes.descending("metadata.logRecordUuid"));
         chunksCollection.createIndex(Indexes.descending("files_id"));
-        return gridFsBucket;
+        return db;
+    }
+
+    /**
+     * Provides {@link GridFSBucket} for getting files from database.
+     *
+     * @return GridFSBucket of GridFS database.
+     */
+    @Bean
+    public GridFSBucket provideGridFileSystemBuckets(MongoDatabase gridFsDatabase) {
+        return GridFSBuckets.create(gridFsDatabase);
     }
 }
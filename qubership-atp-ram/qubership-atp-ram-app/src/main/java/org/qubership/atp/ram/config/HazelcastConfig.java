@@ -19,34 +19,42 @@ package org.qubership.atp.ram.config;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 
 import org.qubership.atp.ram.constants.CacheConstants;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import com.google.common.cache.CacheBuilder;
 import com.hazelcast.client.HazelcastClient;
 import com.hazelcast.client.config.ClientConfig;
 import com.hazelcast.client.config.ClientConnectionStrategyConfig;
+import com.hazelcast.config.EvictionConfig;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.InvalidConfigurationException;
 import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.MaxSizePolicy;
+import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import lombok.extern.slf4j.Slf4j;
 
 @Configuration
+@EnableConfigurationProperties(CacheProperties.class)
 @EnableCaching
 @ConditionalOnProperty(
         value = "hazelcast.enable-caching",
         havingValue = "true",
         matchIfMissing = false
 )
+@Slf4j
 public class HazelcastConfig {
 
     @Value("${hazelcast.cluster-name}")
@@ -61,13 +69,17 @@ public class HazelcastConfig {
      * @return bean
      */
     @Bean(name = "clientConfig")
-    public ClientConfig clientConfig() {
+    public ClientConfig clientConfig(CacheProperties cacheProperties) {
         ClientConfig clientConfig = new ClientConfig();
         clientConfig.setClusterName(clusterName);
         clientConfig.setInstanceName("atp-ram-" + UUID.randomUUID());
         clientConfig.getNetworkConfig().addAddress(hazelcastAddress);
         clientConfig.getConnectionStrategyConfig()
                 .setReconnectMode(ClientConnectionStrategyConfig.ReconnectMode.ASYNC);
+        clientConfig.getSerializationConfig().getCompactSerializationConfig()
+                .addSerializer(new CompressedStringSerializer());
+        addNearCacheConfig(clientConfig, CacheConstants.ATP_RAM_REPORTS, cacheProperties.getReports());
+        addNearCacheConfig(clientConfig, CacheConstants.ATP_RAM_DICTIONARIES, cacheProperties.getDictionaries());
         return clientConfig;
     }
 
@@ -77,11 +89,11 @@ public class HazelcastConfig {
      * @return bean
      */
     @Bean
-    public HazelcastInstance hazelcastClient(@Qualifier("clientConfig") ClientConfig clientConfig) {
+    public HazelcastInstance hazelcastClient(@Qualifier("clientConfig") ClientConfig clientConfig,
+                                             CacheProperties cacheProperties) {
         HazelcastInstance hazelcastClient = HazelcastClient.getOrCreateHazelcastClient(clientConfig);
-        hazelcastClient.getConfig()
-                .addMapConfig(new MapConfig(CacheConstants.ATP_RAM_REPORTS))
-                .addMapConfig(new MapConfig(CacheConstants.ATP_RAM_DICTIONARIES));
+        addMapConfig(hazelcastClient, CacheConstants.ATP_RAM_REPORTS, cacheProperties.getReports());
+        addMapConfig(hazelcastClient, CacheConstants.ATP_RAM_DICTIONARIES, cacheProperties.getDictionaries());
         return hazelcastClient;
     }
 
@@ -91,24 +103,69 @@ public class HazelcastConfig {
      * @return bean
      */
     @Bean(name = "hazelcastCacheManager")
-    public CacheManager hazelcastCacheManager(HazelcastInstance hazelcastClient) {
+    public CacheManager hazelcastCacheManager(HazelcastInstance hazelcastClient, CacheProperties cacheProperties) {
         List<Cache> caches = new ArrayList<>();
-        caches.add(new ConcurrentMapCache(CacheConstants.ATP_RAM_REPORTS,
-                hazelcastClient.getMap(CacheConstants.ATP_RAM_REPORTS), true));
-        caches.add(new ConcurrentMapCache(CacheConstants.ROOTCAUSES_CACHE));
-        caches.add(new ConcurrentMapCache(CacheConstants.ATP_RAM_DICTIONARIES,
-                hazelcastClient.getMap(CacheConstants.ATP_RAM_DICTIONARIES), true));
-        caches.add(new ConcurrentMapCache(CacheConstants.PROJECT_CACHE,
-                CacheBuilder.newBuilder().expireAfterWrite(2, TimeUnit.MINUTES).maximumSize(100).build().asMap(),
-                true));
-        caches.add(new ConcurrentMapCache(CacheConstants.AUTH_PROJECTS_CACHE,
-                CacheBuilder.newBuilder().expireAfterWrite(2, TimeUnit.MINUTES).maximumSize(100).build().asMap(),
-                true));
-        caches.add(new ConcurrentMapCache(CacheConstants.TEST_RUNS_INFO_CACHE,
-                CacheBuilder.newBuilder().expireAfterWrite(2, TimeUnit.MINUTES).maximumSize(100).build().asMap(),
-                true));
+        caches.add(distributedCache(hazelcastClient, CacheConstants.ATP_RAM_REPORTS, cacheProperties.getReports()));
+        caches.add(CacheConfig.caffeineCache(CacheConstants.ROOTCAUSES_CACHE, cacheProperties.getRootcauses()));
+        caches.add(distributedCache(hazelcastClient, CacheConstants.ATP_RAM_DICTIONARIES,
+                cacheProperties.getDictionaries()));
+        caches.add(CacheConfig.caffeineCache(CacheConstants.PROJECT_CACHE, cacheProperties.getProjects()));
+        caches.add(CacheConfig.caffeineCache(CacheConstants.AUTH_PROJECTS_CACHE, cacheProperties.getAuthProjects()));
+        caches.add(CacheConfig.caffeineCache(CacheConstants.TEST_RUNS_INFO_CACHE, cacheProperties.getTestRunsInfo()));
         SimpleCacheManager cacheManager = new SimpleCacheManager();
         cacheManager.setCaches(caches);
         return cacheManager;
     }
+
+    /**
+     * Create provider of metrics for distributed caches.
+     *
+     * @return bean
+     */
+    @Bean
+    public DistributedMapCacheMeterBinderProvider distributedMapCacheMeterBinderProvider() {
+        return new DistributedMapCacheMeterBinderProvider();
+    }
+
+    private static DistributedMapCache distributedCache(HazelcastInstance hazelcastClient, String name,
+                                                        CacheProperties.Settings settings) {
+        IMap<Object, Object> map = hazelcastClient.getMap(name);
+        DistributedMapCache cache = new DistributedMapCache(name, map, settings.isCompressed());
+        map.addEntryListener(cache.getEvictionListener(), false);
+        return cache;
+    }
+
+    private static void addMapConfig(HazelcastInstance hazelcastClient, String name,
+                                     CacheProperties.Settings settings) {
+        MapConfig mapConfig = new MapConfig(name)
+                .setInMemoryFormat(InMemoryFormat.BINARY)
+                .setTimeToLiveSeconds(settings.getTtlSeconds());
+        if (settings.getMaxSize() > 0) {
+            mapConfig.setEvictionConfig(new EvictionConfig()
+                    .setEvictionPolicy(EvictionPolicy.LRU)
+                    .setMaxSizePolicy(MaxSizePolicy.PER_NODE)
+                    .setSize(settings.getMaxSize()));
+        }
+        try {
+            hazelcastClient.getConfig().addMapConfig(mapConfig);
+        } catch (InvalidConfigurationException e) {
+            log.warn("Map '{}' is already configured in cluster with other settings, they are kept: {}", name,
+                    e.getMessage());
+        }
+    }
+
+    private static void addNearCacheConfig(ClientConfig clientConfig, String name,
+                                           CacheProperties.Settings settings) {
+        if (!settings.isNearCache()) {
+            return;
+        }
+        clientConfig.addNearCacheConfig(new NearCacheConfig(name)
+                .setInMemoryFormat(InMemoryFormat.BINARY)
+                .setInvalidateOnChange(true)
+                .setTimeToLiveSeconds(settings.getNearCacheTtlSeconds())
+                .setEvictionConfig(new EvictionConfig()
+                        .setEvictionPolicy(EvictionPolicy.LRU)
+                        .setMaxSizePolicy(MaxSizePolicy.ENTRY_COUNT)
+                        .setSize(settings.getNearCacheMaxSize())));
+    }
 }
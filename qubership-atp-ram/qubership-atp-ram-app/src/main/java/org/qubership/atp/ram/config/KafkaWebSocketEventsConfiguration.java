@@ -0,0 +1,95 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.qubership.atp.ram.dto.event.WebSocketRelayMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+@Configuration
+@ConditionalOnProperty(
+        value = "kafka.websocket.events.enable",
+        matchIfMissing = false
+)
+public class KafkaWebSocketEventsConfiguration {
+
+    public static final String KAFKA_WEBSOCKET_EVENTS_CONTAINER_FACTORY_NAME = "webSocketEventsContainerFactory";
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String kafkaServer;
+    @Value("${kafka.websocket.events.topic.name}")
+    private String topicName;
+    @Value("${kafka.websocket.events.topic.partitions:3}")
+    private int topicPartitions;
+    @Value("${kafka.websocket.events.topic.replicas:3}")
+    private int topicReplicas;
+
+    /**
+     * Topic of websocket events, events are partitioned by destination.
+     */
+    @Bean
+    public NewTopic webSocketEventsTopic() {
+        return TopicBuilder.name(topicName)
+                .partitions(topicPartitions)
+                .replicas(topicReplicas)
+                .build();
+    }
+
+    /**
+     * Kafka template for websocket events.
+     */
+    @Bean
+    public KafkaTemplate<String, WebSocketRelayMessage> webSocketEventsKafkaTemplate() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaServer);
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props, new StringSerializer(),
+                new JsonSerializer<>()));
+    }
+
+    /**
+     * Factory for kafka websocket events topic listener.
+     * Every replica consumes all events from its own consumer group, starting from the latest ones.
+     */
+    @Bean(KAFKA_WEBSOCKET_EVENTS_CONTAINER_FACTORY_NAME)
+    public ConcurrentKafkaListenerContainerFactory<String, WebSocketRelayMessage> webSocketEventsContainerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaServer);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        ConcurrentKafkaListenerContainerFactory<String, WebSocketRelayMessage> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(),
+                new JsonDeserializer<>(WebSocketRelayMessage.class, false)));
+        return factory;
+    }
+}
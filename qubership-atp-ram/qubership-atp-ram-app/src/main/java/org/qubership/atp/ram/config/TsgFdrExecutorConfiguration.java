@@ -0,0 +1,45 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.config;
+
+import java.util.concurrent.ExecutorService;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class TsgFdrExecutorConfiguration {
+
+    public static final String TSG_FDR_EXECUTOR = "tsgFdrExecutor";
+
+    @Value("${tsg.fdr.send.concurrency:4}")
+    private int poolSize;
+
+    @Value("${tsg.fdr.send.queue.capacity:1000}")
+    private int queueCapacity;
+
+    /**
+     * Creates bounded pool for building and sending of FDR batches to TSG Receiver.
+     *
+     * @return executor service
+     */
+    @Bean(name = TSG_FDR_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService tsgFdrExecutor() {
+        return BoundedExecutors.newFixedThreadPool("tsg-fdr-%d", poolSize, queueCapacity);
+    }
+}
@@ -20,12 +20,14 @@ import java.util.Arrays;
 
 import org.qubership.atp.integration.configuration.interceptors.MdcChannelInterceptor;
 import org.qubership.atp.ram.dto.event.WebSocketEventType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 import lombok.RequiredArgsConstructor;
 
@@ -38,10 +40,17 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private static final String WS_API = "/ws/api";
 
+    @Value("${atp.ram.websocket.send.time.limit.ms:15000}")
+    private int sendTimeLimit;
+    @Value("${atp.ram.websocket.send.buffer.size.limit:1048576}")
+    private int sendBufferSizeLimit;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        Arrays.stream(WebSocketEventType.values())
-                .forEach(eventType -> config.enableSimpleBroker(eventType.getDestinationPrefix()));
+        // every call replaces the broker registration, so all prefixes are enabled at once
+        config.enableSimpleBroker(Arrays.stream(WebSocketEventType.values())
+                .map(WebSocketEventType::getDestinationPrefix)
+                .toArray(String[]::new));
         config.setApplicationDestinationPrefixes(WS_API);
     }
 
@@ -50,6 +59,16 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint(WS_API).setAllowedOrigins("*");
     }
 
+    /**
+     * Limit messages buffered for slow clients, session is closed when a client can't keep up with updates
+     * instead of holding up delivery to other subscribers.
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimit);
+        registration.setSendBufferSizeLimit(sendBufferSizeLimit);
+    }
+
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(mdcChannelInterceptor);
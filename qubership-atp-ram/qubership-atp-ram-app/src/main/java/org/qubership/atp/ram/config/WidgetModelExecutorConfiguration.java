@@ -0,0 +1,49 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+
+@Configuration
+public class WidgetModelExecutorConfiguration {
+
+    public static final String WIDGET_MODEL_EXECUTOR = "widgetModelExecutor";
+
+    @Value("${atp.ram.report.widget.models.pool.size:16}")
+    private int poolSize;
+
+    @Value("${atp.ram.report.widget.models.queue.capacity:1000}")
+    private int queueCapacity;
+
+    /**
+     * Creates bounded pool for building of report widget models.
+     * Security context of the caller is passed to the pool threads for requests to other services.
+     *
+     * @return executor service
+     */
+    @Bean(name = WIDGET_MODEL_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService widgetModelExecutor() {
+        ThreadPoolExecutor executor = BoundedExecutors.newFixedThreadPool("widget-model-%d", poolSize, queueCapacity);
+        return new DelegatingSecurityContextExecutorService(executor);
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.job;
+
+import static java.util.Objects.nonNull;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.UuidRepresentation;
+import org.qubership.atp.ram.models.ExecutionRequest;
+import org.qubership.atp.ram.models.TestRun;
+import org.qubership.atp.ram.services.ExecutionRequestService;
+import org.qubership.atp.ram.services.TestRunService;
+import org.qubership.atp.ram.utils.StreamUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.DefaultMessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Subscription;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.google.common.collect.Iterables;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Detects completion of execution requests by Mongo change streams of test runs and execution requests
+ * instead of polling of all not finished execution requests.
+ * Changed execution requests are collected between ticks, their test runs counters are read by one query
+ * per batch, and completion times by timeouts are kept in a delay queue until they are due.
+ * If change streams are not available (e.g. Mongo is not a replica set), detector stays inactive and
+ * {@link ExecutionRequestScheduler} keeps polling. If a change stream fails later, polling is resumed
+ * until the change streams are restarted.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ExecutionRequestCompletionDetector {
+
+    private static final String OPERATION_TYPE = "operationType";
+    private static final String UPDATED_EXECUTION_STATUS = "updateDescription.updatedFields.executionStatus";
+    private static final String EXECUTION_REQUEST_ID = "executionRequestId";
+    private static final String ID = "_id";
+    private static final String TEST_RUN_COLLECTION_NAME =
+            TestRun.class.getAnnotation(org.springframework.data.mongodb.core.mapping.Document.class).collection();
+    private static final String EXECUTION_REQUEST_COLLECTION_NAME = ExecutionRequest.class
+            .getAnnotation(org.springframework.data.mongodb.core.mapping.Document.class).collection();
+
+    private final MongoTemplate mongoTemplate;
+    private final TestRunService testRunService;
+    private final ExecutionRequestService executionRequestService;
+    private final ExecutionRequestCompletionService completionService;
+
+    private final Set<UUID> changedTestRunIds = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> changedExecutionRequestIds = ConcurrentHashMap.newKeySet();
+    private final DelayQueue<CompletionTimeout> completionTimeouts = new DelayQueue<>();
+    private final Map<UUID, Long> completionDueTimes = new ConcurrentHashMap<>();
+
+    private MessageListenerContainer container;
+    private List<Subscription> subscriptions = List.of();
+    private volatile boolean active;
+    private volatile boolean restartRequired;
+
+    @Value("${atp.ram.execution.request.completion.detector.enabled:false}")
+    private boolean enabled;
+    @Value("${atp.ram.execution.request.completion.batch.size:500}")
+    private int batchSize;
+    @Value("${atp.ram.execution.request.completion.detector.start.timeout.sec:30}")
+    private long startTimeoutSec;
+
+    /**
+     * Whether completion of execution requests is driven by changes, so polling is not needed.
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Subscribe to changes of test runs and execution requests and check all not finished execution requests.
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        container = new DefaultMessageListenerContainer(mongoTemplate);
+        container.start();
+        subscriptions = subscribeAll();
+        try {
+            Duration startTimeout = Duration.ofSeconds(startTimeoutSec);
+            boolean isStarted = true;
+            for (Subscription subscription : subscriptions) {
+                isStarted &= subscription.await(startTimeout).isActive();
+            }
+            active = isStarted;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (active) {
+            changedExecutionRequestIds.addAll(StreamUtils.extractIds(executionRequestService.getNotFinishedRequests()));
+            log.info("Completion of execution requests is driven by change streams");
+        } else {
+            log.warn("Change streams are not available, completion of execution requests is checked by polling");
+            stop();
+        }
+    }
+
+    /**
+     * Unsubscribe from changes.
+     */
+    @PreDestroy
+    public void stop() {
+        active = false;
+        if (nonNull(container)) {
+            container.stop();
+        }
+    }
+
+    /**
+     * Restart change streams after a failure. Polling goes on until restarted subscriptions are running,
+     * then all not finished execution requests are checked, as changes made meanwhile were not received.
+     */
+    @Scheduled(fixedDelayString = "${atp.ram.execution.request.completion.detector.restart.delay.ms:10000}")
+    public void restartFailedSubscriptions() {
+        if (!restartRequired || Objects.isNull(container) || !container.isRunning()) {
+            return;
+        }
+        try {
+            if (subscriptions.stream().allMatch(Subscription::isActive)) {
+                restartRequired = false;
+                changedExecutionRequestIds.addAll(
+                        StreamUtils.extractIds(executionRequestService.getNotFinishedRequests()));
+                active = true;
+                // a stream failed again meanwhile, its error handler requested one more restart
+                if (restartRequired) {
+                    active = false;
+                    return;
+                }
+                log.info("Change streams are restarted, completion of execution requests is driven by them again");
+                return;
+            }
+            subscriptions.forEach(container::remove);
+            subscriptions = subscribeAll();
+        } catch (Exception e) {
+            log.error("Failed to restart change streams, retry on next attempt", e);
+        }
+    }
+
+    /**
+     * Recalculate completion times of changed execution requests and finish the due ones.
+     * Changes which failed to be processed are kept for the next tick.
+     */
+    @Scheduled(fixedDelayString = "${atp.ram.execution.request.completion.detector.delay.ms:1000}")
+    public void processChanges() {
+        if (!active) {
+            return;
+        }
+        Set<UUID> executionRequestIds = drain(changedExecutionRequestIds);
+        Set<UUID> testRunIds = drain(changedTestRunIds);
+        try {
+            Set<UUID> changedIds = new HashSet<>(executionRequestIds);
+            for (List<UUID> testRunIdsBatch : Iterables.partition(testRunIds, batchSize)) {
+                changedIds.addAll(testRunService.getExecutionRequestIdsByTestRunIds(testRunIdsBatch));
+            }
+            scheduleCompletion(changedIds);
+        } catch (Exception e) {
+            log.error("Failed to process changes of execution requests, retry on next tick", e);
+            changedExecutionRequestIds.addAll(executionRequestIds);
+            changedTestRunIds.addAll(testRunIds);
+        }
+        completeDueExecutionRequests();
+    }
+
+    private void scheduleCompletion(Set<UUID> executionRequestIds) {
+        Map<UUID, Long> dueTimes = completionService.getCompletionDueTimes(executionRequestIds);
+        executionRequestIds.forEach(executionRequestId -> {
+            Long dueTime = dueTimes.get(executionRequestId);
+            if (Objects.isNull(dueTime)) {
+                completionDueTimes.remove(executionRequestId);
+            } else if (!dueTime.equals(completionDueTimes.put(executionRequestId, dueTime))) {
+                completionTimeouts.add(new CompletionTimeout(executionRequestId, dueTime));
+            }
+        });
+    }
+
+    private void completeDueExecutionRequests() {
+        CompletionTimeout timeout;
+        while ((timeout = completionTimeouts.poll()) != null) {
+            // timeouts replaced by later changes of execution request are skipped
+            UUID executionRequestId = timeout.executionRequestId;
+            if (completionDueTimes.remove(executionRequestId, timeout.dueTime)) {
+                try {
+                    if (!completionService.completeIfDue(executionRequestId)) {
+                        changedExecutionRequestIds.add(executionRequestId);
+                    }
+                } catch (Exception e) {
+                    log.error("Failed to complete execution request {}, retry on next tick", executionRequestId, e);
+                    changedExecutionRequestIds.add(executionRequestId);
+                }
+            }
+        }
+    }
+
+    private List<Subscription> subscribeAll() {
+        Criteria testRunChanges = new Criteria().orOperator(
+                where(OPERATION_TYPE).in(OperationType.INSERT.getValue(), OperationType.REPLACE.getValue()),
+                where(OPERATION_TYPE).is(OperationType.UPDATE.getValue())
+                        .and(UPDATED_EXECUTION_STATUS).exists(true));
+        return List.of(
+                subscribe(TEST_RUN_COLLECTION_NAME, testRunChanges, this::onTestRunChange),
+                subscribe(EXECUTION_REQUEST_COLLECTION_NAME,
+                        where(OPERATION_TYPE).is(OperationType.INSERT.getValue()), this::onExecutionRequestInsert));
+    }
+
+    private Subscription subscribe(String collectionName, Criteria filter,
+                                   Consumer<ChangeStreamDocument<Document>> listener) {
+        ChangeStreamRequest<Document> request = ChangeStreamRequest
+                .<Document>builder(message -> listener.accept(message.getRaw()))
+                .collection(collectionName)
+                .filter(Aggregation.newAggregation(Aggregation.match(filter)))
+                .build();
+        return container.register(request, Document.class, error -> {
+            log.error("Change stream of {} failed, completion of execution requests is checked by polling "
+                    + "until the stream is restarted", collectionName, error);
+            restartRequired = true;
+            active = false;
+        });
+    }
+
+    private void onTestRunChange(ChangeStreamDocument<Document> change) {
+        Document testRun = change.getFullDocument();
+        if (nonNull(testRun) && testRun.get(EXECUTION_REQUEST_ID) instanceof UUID) {
+            changedExecutionRequestIds.add(testRun.get(EXECUTION_REQUEST_ID, UUID.class));
+        } else {
+            changedTestRunIds.add(getDocumentId(change.getDocumentKey()));
+        }
+    }
+
+    private void onExecutionRequestInsert(ChangeStreamDocument<Document> change) {
+        changedExecutionRequestIds.add(getDocumentId(change.getDocumentKey()));
+    }
+
+    private static UUID getDocumentId(BsonDocument documentKey) {
+        return documentKey.getBinary(ID).asUuid(UuidRepresentation.JAVA_LEGACY);
+    }
+
+    private static Set<UUID> drain(Set<UUID> changedIds) {
+        Set<UUID> drained = new HashSet<>(changedIds);
+        changedIds.removeAll(drained);
+        return drained;
+    }
+
+    private static class CompletionTimeout implements Delayed {
+
+        private final UUID executionRequestId;
+        private final long dueTime;
+
+        CompletionTimeout(UUID executionRequestId, long dueTime) {
+            this.executionRequestId = executionRequestId;
+            this.dueTime = dueTime;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueTime - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+        }
+    }
+}
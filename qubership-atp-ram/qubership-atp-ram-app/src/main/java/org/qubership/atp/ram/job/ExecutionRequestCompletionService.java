@@ -0,0 +1,179 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.job;
+
+import static java.util.Objects.isNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.qubership.atp.common.lock.LockManager;
+import org.qubership.atp.ram.enums.ExecutionStatuses;
+import org.qubership.atp.ram.model.ExecutionRequestTestRunsSummary;
+import org.qubership.atp.ram.models.ExecutionRequest;
+import org.qubership.atp.ram.service.mail.MailService;
+import org.qubership.atp.ram.service.mail.ReportParams;
+import org.qubership.atp.ram.services.ExecutionRequestService;
+import org.qubership.atp.ram.services.TestRunService;
+import org.qubership.atp.ram.tsg.service.TsgService;
+import org.qubership.atp.ram.utils.StreamUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.Iterables;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Decides when not finished execution request is completed by counters of its test runs and finishes it.
+ * ER is due when it has no in progress test runs and the timeouts are expired:
+ * {@code timeout.after.finish.date.of.last.tr.ms} since finish of last test run of in progress ER
+ * and {@code timeout.after.start.date.of.er.hours} since start of ER without started test runs.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ExecutionRequestCompletionService {
+
+    private static final List<ExecutionStatuses> NOT_FINISHED_STATUSES =
+            Arrays.asList(ExecutionStatuses.NOT_STARTED, ExecutionStatuses.IN_PROGRESS);
+
+    private final TestRunService testRunService;
+    private final ExecutionRequestService executionRequestService;
+    private final TsgService tsgService;
+    private final MailService mailService;
+    private final LockManager lockManager;
+
+    @Value("${timeout.after.finish.date.of.last.tr.ms}")
+    private long timeoutAfterFinishDateOfLastTrMs;
+    @Value("${timeout.after.start.date.of.er.hours}")
+    private long timeoutAfterStartDateOfErHours;
+    @Value("${atp.ram.execution.request.completion.batch.size:500}")
+    private int batchSize;
+
+    /**
+     * Calculate times when not finished ER-s are completed, by one query of test runs counters per batch.
+     * ER-s with in progress test runs and finished ER-s are absent in result,
+     * their completion is driven by changes of test runs.
+     *
+     * @param executionRequestIds ER ids
+     * @return completion times in millis by ER ids
+     */
+    public Map<UUID, Long> getCompletionDueTimes(Collection<UUID> executionRequestIds) {
+        if (executionRequestIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<UUID, Long> dueTimes = new HashMap<>();
+        for (List<UUID> batch : Iterables.partition(executionRequestIds, batchSize)) {
+            Map<UUID, ExecutionRequestTestRunsSummary> summaries = StreamUtils.toKeyEntityMap(
+                    testRunService.getTestRunsSummaryByExecutionRequestIds(batch),
+                    ExecutionRequestTestRunsSummary::getExecutionRequestId);
+            executionRequestService.getExecutionStatusAndStartDateByIds(batch).forEach(request -> {
+                if (NOT_FINISHED_STATUSES.contains(request.getExecutionStatus())) {
+                    ExecutionRequestTestRunsSummary summary = summaries.get(request.getUuid());
+                    if (isNull(summary) || summary.getInProgressCount() == 0) {
+                        dueTimes.put(request.getUuid(), getCompletionDueTime(request, summary));
+                    }
+                }
+            });
+        }
+        return dueTimes;
+    }
+
+    /**
+     * Finish ER and send its reports if it is due.
+     * Counters are read again under ER lock, so the ER is finished once among all service instances.
+     *
+     * @param executionRequestId ER id
+     * @return true if ER is finished, false if it is still running or locked by another instance
+     */
+    public boolean completeIfDue(UUID executionRequestId) {
+        return lockManager.executeWithLockNoWait("completeExecutionRequest_" + executionRequestId,
+                () -> {
+                    ExecutionRequest request = executionRequestService.findById(executionRequestId);
+                    if (isNull(request) || !NOT_FINISHED_STATUSES.contains(request.getExecutionStatus())) {
+                        return true;
+                    }
+                    List<ExecutionRequestTestRunsSummary> summaries = testRunService
+                            .getTestRunsSummaryByExecutionRequestIds(Collections.singletonList(executionRequestId));
+                    ExecutionRequestTestRunsSummary summary = summaries.isEmpty() ? null : summaries.get(0);
+                    if (!isNull(summary) && summary.getInProgressCount() > 0) {
+                        log.debug("Execution Request:{} has TestRuns with status IN_PROGRESS.", executionRequestId);
+                        return false;
+                    }
+                    long currentTime = System.currentTimeMillis();
+                    if (getCompletionDueTime(request, summary) > currentTime) {
+                        log.debug("The timeout hasn't come for ER = {}", executionRequestId);
+                        return false;
+                    }
+                    return complete(request, summary, currentTime);
+                }, () -> false);
+    }
+
+    private long getCompletionDueTime(ExecutionRequest request, ExecutionRequestTestRunsSummary summary) {
+        long dueTime = 0;
+        if (ExecutionStatuses.IN_PROGRESS.equals(request.getExecutionStatus())) {
+            dueTime = getLastFinishDate(summary) + timeoutAfterFinishDateOfLastTrMs;
+        }
+        if (isTestRunsNotStarted(summary)) {
+            long startDate = isNull(request.getStartDate()) ? 0 : request.getStartDate().getTime();
+            dueTime = Math.max(dueTime, startDate + TimeUnit.HOURS.toMillis(timeoutAfterStartDateOfErHours));
+        }
+        return dueTime;
+    }
+
+    private boolean complete(ExecutionRequest request, ExecutionRequestTestRunsSummary summary, long currentTime) {
+        UUID uuid = request.getUuid();
+        try {
+            if (isTestRunsNotStarted(summary)) {
+                log.info("ER = {} with start date = {} was terminated by timeout. Test Runs not found.", uuid,
+                        request.getStartDate());
+                request.setExecutionStatus(ExecutionStatuses.TERMINATED_BY_TIMEOUT);
+            }
+            long lastFinishDate = getLastFinishDate(summary);
+            executionRequestService.stopExecutionRequest(request, lastFinishDate == 0 ? currentTime : lastFinishDate);
+
+            tsgService.sendFdrs(request);
+            if (!Strings.isNullOrEmpty(request.getLegacyMailRecipients())) {
+                ReportParams reportParams = new ReportParams();
+                reportParams.setExecutionRequestUuid(request.getUuid());
+                reportParams.setRecipients(request.getLegacyMailRecipients());
+                mailService.sendFromTemplate(reportParams, request);
+            }
+
+            log.info("Execution Request {} successfully processed.", uuid);
+        } catch (Exception e) {
+            log.error("Can not complete the update ER {} and sending the report.", uuid, e);
+        }
+        return true;
+    }
+
+    private static boolean isTestRunsNotStarted(ExecutionRequestTestRunsSummary summary) {
+        return isNull(summary) || !summary.hasTestCases() || summary.getNotStartedCount() > 0;
+    }
+
+    private static long getLastFinishDate(ExecutionRequestTestRunsSummary summary) {
+        return isNull(summary) || isNull(summary.getLastFinishDate()) ? 0 : summary.getLastFinishDate().getTime();
+    }
+}
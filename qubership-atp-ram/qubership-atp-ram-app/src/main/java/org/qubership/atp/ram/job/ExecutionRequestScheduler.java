@@ -18,32 +18,19 @@ package org.qubership.atp.ram.job;
 
 import java.sql.Timestamp;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Date;
 import java.util.List;
-import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.qubership.atp.common.lock.LockManager;
-import org.qubership.atp.ram.enums.ExecutionStatuses;
+import org.qubership.atp.ram.job.ExpiredExecutionRequestsCleaner.CleanupStatistics;
 import org.qubership.atp.ram.models.ExecutionRequest;
 import org.qubership.atp.ram.models.Project;
-import org.qubership.atp.ram.models.TestRun;
-import org.qubership.atp.ram.service.mail.MailService;
-import org.qubership.atp.ram.service.mail.ReportParams;
 import org.qubership.atp.ram.services.CatalogueService;
-import org.qubership.atp.ram.services.EnvironmentsInfoService;
-import org.qubership.atp.ram.services.ExecutionRequestDetailsService;
-import org.qubership.atp.ram.services.ExecutionRequestReportingService;
 import org.qubership.atp.ram.services.ExecutionRequestService;
-import org.qubership.atp.ram.services.IssueService;
 import org.qubership.atp.ram.services.ProjectsService;
-import org.qubership.atp.ram.services.TestRunService;
-import org.qubership.atp.ram.services.WidgetConfigTemplateService;
-import org.qubership.atp.ram.tsg.service.TsgService;
 import org.qubership.atp.ram.utils.StreamUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,7 +38,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import com.google.common.base.Strings;
 import com.google.common.collect.Iterables;
 import com.google.gson.JsonArray;
 import lombok.extern.slf4j.Slf4j;
@@ -61,23 +47,14 @@ import lombok.extern.slf4j.Slf4j;
 public class ExecutionRequestScheduler {
 
     private static final Logger LOG = LoggerFactory.getLogger(ExecutionRequestScheduler.class);
-    private final TestRunService testRunService;
-    private final TsgService tsgService;
     private final ExecutionRequestService executionRequestService;
-    private final MailService mailService;
     private final CatalogueService catalogueService;
     private final LockManager lockManager;
     private final ProjectsService projectsService;
-    private final EnvironmentsInfoService environmentsInfoService;
-    private final WidgetConfigTemplateService widgetConfigTemplateService;
-    private final ExecutionRequestDetailsService executionRequestDetailsService;
-    private final ExecutionRequestReportingService executionRequestReportingService;
-    private final IssueService issueService;
+    private final ExecutionRequestCompletionService completionService;
+    private final ExecutionRequestCompletionDetector completionDetector;
+    private final ExpiredExecutionRequestsCleaner expiredExecutionRequestsCleaner;
 
-    @Value("${timeout.after.finish.date.of.last.tr.ms}")
-    private long timeoutAfterFinishDateOfLastTrMs;
-    @Value("${timeout.after.start.date.of.er.hours}")
-    private long timeoutAfterStartDateOfErHours;
     @Value("${atp1.integration.enable}")
     private String atp1IntegrationEnable;
     @Value("${atp.expired.execution.requests.batch.size}")
@@ -86,41 +63,33 @@ public class ExecutionRequestScheduler {
     /**
      * Constructor of job for stop ER.
      */
-    public ExecutionRequestScheduler(TestRunService testRunService,
-                                     ExecutionRequestService executionRequestService,
-                                     MailService mailService,
+    public ExecutionRequestScheduler(ExecutionRequestService executionRequestService,
                                      CatalogueService catalogueService,
-                                     TsgService tsgService,
                                      LockManager lockManager,
                                      ProjectsService projectsService,
-                                     EnvironmentsInfoService environmentsInfoService,
-                                     WidgetConfigTemplateService widgetConfigTemplateService,
-                                     ExecutionRequestDetailsService executionRequestDetailsService,
-                                     ExecutionRequestReportingService executionRequestReportingService,
-                                     IssueService issueService) {
-        this.testRunService = testRunService;
+                                     ExecutionRequestCompletionService completionService,
+                                     ExecutionRequestCompletionDetector completionDetector,
+                                     ExpiredExecutionRequestsCleaner expiredExecutionRequestsCleaner) {
         this.executionRequestService = executionRequestService;
-        this.mailService = mailService;
         this.catalogueService = catalogueService;
-        this.tsgService = tsgService;
         this.lockManager = lockManager;
         this.projectsService = projectsService;
-        this.environmentsInfoService = environmentsInfoService;
-        this.widgetConfigTemplateService = widgetConfigTemplateService;
-        this.executionRequestDetailsService = executionRequestDetailsService;
-        this.executionRequestReportingService = executionRequestReportingService;
-        this.issueService = issueService;
+        this.completionService = completionService;
+        this.completionDetector = completionDetector;
+        this.expiredExecutionRequestsCleaner = expiredExecutionRequestsCleaner;
     }
 
     /**
-     * Clean collections:
-     * 1. environmnets_info
-     * 2. executionRequestConfig
-     * 3. executionRequestDetails
-     * 4. executionRequestReporting
-     * 5. executionRequests
-     * 6. issue
-     * 7. tools.
+     * Clean expired execution requests of all projects by batches with their data:
+     * 1. logrecord with files, context variables, message parameters and browser logs
+     * 2. testrun
+     * 3. environmnets_info
+     * 4. executionRequestConfig
+     * 5. executionRequestDetails
+     * 6. executionRequestReporting
+     * 7. issue
+     * 8. tools
+     * 9. executionRequests.
      */
     @Scheduled(cron = "${execution.request.cleanup.job.cron}")
     public boolean cleanupExecutionRequestAndData() {
@@ -129,6 +98,7 @@ public class ExecutionRequestScheduler {
                     long executionTime = System.currentTimeMillis();
                     log.info("Start cleanup expired ER: {}", new Date(executionTime));
                     AtomicInteger deletedCount = new AtomicInteger();
+                    CleanupStatistics statistics = new CleanupStatistics();
                     List<Project> listProject = projectsService.getAllProjects();
 
                     listProject.forEach(project -> {
@@ -145,22 +115,16 @@ public class ExecutionRequestScheduler {
                             log.info("Expired period: {} , by project {}", timestamp, project.getUuid());
                             log.debug("All expired execution requests ids: {} by project {}",
                                     expiredExecutionRequestIds, project.getUuid());
-                            Iterable<List<UUID>> partitions = Iterables
-                                    .partition(expiredExecutionRequestIds, expiredErsBatchSize);
-                            List<UUID> firstBatch = partitions.iterator().next();
-                            environmentsInfoService.deleteAllEnvironmentsInfoByExecutionRequestId(firstBatch);
-                            widgetConfigTemplateService.deleteAllByExecutionRequestIdIn(firstBatch);
-                            executionRequestDetailsService.deleteAllByExecutionRequestDetailsIdIn(firstBatch);
-                            executionRequestReportingService.deleteAllByExecutionRequestDetailsIdIn(firstBatch);
-                            issueService.deleteAllIssueByExecutionRequestIds(firstBatch);
-                            environmentsInfoService.deleteAllToolsByExecutionRequestId(firstBatch);
-                            executionRequestService.deleteAllExecutionRequestByExecutionRequestId(firstBatch);
+                            for (List<UUID> batch : Iterables.partition(expiredExecutionRequestIds,
+                                    expiredErsBatchSize)) {
+                                expiredExecutionRequestsCleaner.delete(batch, statistics);
+                            }
                         }
                     });
                     executionTime = (System.currentTimeMillis() - executionTime) / 60000;
 
-                    log.info("Delete {} counts data of old execution requests. Has deleted by {} minutes",
-                            deletedCount, executionTime);
+                    log.info("Delete {} counts data of old execution requests. Has deleted by {} minutes, {}",
+                            deletedCount, executionTime, statistics);
                     return true;
                 }, () -> {
                     return false;
@@ -173,79 +137,34 @@ public class ExecutionRequestScheduler {
 
     /**
      * Update not finished request and send report.
+     * Skipped while completion of requests is driven by {@link ExecutionRequestCompletionDetector}.
      */
     @Scheduled(fixedDelayString = "${fixedRate.er.in.milliseconds}")
     public void finishedRequestAndSendReport() {
+        if (completionDetector.isActive()) {
+            LOG.debug("Completion of requests is driven by changes, polling is skipped.");
+            return;
+        }
         lockManager.executeWithLock("finishedRequestAndSendReport", () -> {
             //list contains objects with filled only requestUuid field
             LOG.info("Start stopping running requests and sending reports.");
             List<ExecutionRequest> inProgressRequestsIds = executionRequestService.getNotFinishedRequests();
-            inProgressRequestsIds.parallelStream().forEach(request -> {
-                UUID erId = request.getUuid();
-                long countInProgressTestRuns = testRunService.countAllByExecutionRequestIdAndExecutionStatusIn(erId,
-                        Collections.singletonList(ExecutionStatuses.IN_PROGRESS));
-                long countNotStartedTestRuns = testRunService.countAllByExecutionRequestIdAndExecutionStatusIn(erId,
-                        Collections.singletonList(ExecutionStatuses.NOT_STARTED));
-                if (countInProgressTestRuns > 0) {
-                    LOG.debug("Execution Request:{} has TestRuns with status IN_PROGRESS.", erId);
-                } else {
-                    List<TestRun> testRuns = testRunService.findTestCaseIdsByExecutionRequestId(erId);
-                    Set<UUID> testCases = StreamUtils.extractIds(testRuns, TestRun::getTestCaseId);
-                    updateRequestAndSendReport(request.getUuid(),
-                            testCases.isEmpty() || countInProgressTestRuns == 0 && countNotStartedTestRuns > 0);
-                }
-            });
+            long currentTime = System.currentTimeMillis();
+            List<UUID> dueRequestsIds = new ArrayList<>();
+            completionService.getCompletionDueTimes(StreamUtils.extractIds(inProgressRequestsIds))
+                    .forEach((erId, dueTime) -> {
+                        if (dueTime <= currentTime) {
+                            dueRequestsIds.add(erId);
+                        } else {
+                            LOG.debug("The timeout hasn't come for ER = {}", erId);
+                        }
+                    });
+            dueRequestsIds.parallelStream().forEach(completionService::completeIfDue);
 
             LOG.info("Finish stopping running requests and sending reports.");
         });
     }
 
-    private void updateRequestAndSendReport(UUID uuid, boolean inProgressTestRunsIsNotExist) {
-        LOG.debug("Start update ER {}.", uuid);
-        try {
-            long lastFinishDate = testRunService.getFinishDateOfLastTestRun(uuid);
-            long currentTime = System.currentTimeMillis();
-            long differenceBetweenCurrentTimeAndLastFinishDate = currentTime - lastFinishDate;
-
-            ExecutionRequest request = executionRequestService.findById(uuid);
-
-            if (ExecutionStatuses.IN_PROGRESS.equals(request.getExecutionStatus())
-                    && differenceBetweenCurrentTimeAndLastFinishDate < timeoutAfterFinishDateOfLastTrMs) {
-                LOG.debug("The timeout hasn't come for ER = {}, finish date of last Test Run {}",
-                        uuid, lastFinishDate);
-                return;
-            }
-
-            long startErDate = request.getStartDate().getTime();
-            long differenceBetweenCurrentTimeAndStartDate = currentTime - startErDate;
-            if (inProgressTestRunsIsNotExist) {
-                if (differenceBetweenCurrentTimeAndStartDate
-                        > TimeUnit.HOURS.toMillis(timeoutAfterStartDateOfErHours)) {
-                    LOG.info("ER = {} with start date = {} was terminated by timeout. Test Runs not found.", uuid,
-                            startErDate);
-                    request.setExecutionStatus(ExecutionStatuses.TERMINATED_BY_TIMEOUT);
-                } else {
-                    LOG.info("The timeout hasn't come for ER = {} with start date = {}. Test Runs not found.",
-                            uuid, startErDate);
-                    return;
-                }
-            }
-            executionRequestService.stopExecutionRequest(request, lastFinishDate == 0 ? currentTime : lastFinishDate);
-
-            tsgService.sendFdrs(request);
-            if (!Strings.isNullOrEmpty(request.getLegacyMailRecipients())) {
-                ReportParams reportParams = new ReportParams();
-                reportParams.setExecutionRequestUuid(request.getUuid());
-                reportParams.setRecipients(request.getLegacyMailRecipients());
-                mailService.sendFromTemplate(reportParams, request);
-            }
-
-            LOG.info("Execution Request {} successfully processed.", uuid);
-        } catch (Exception e) {
-            LOG.error("Can not complete the update ER {} and sending the report.", uuid, e);
-        }
-    }
-
     /**
      * Returns list supplemented by servers from JsonArray.
      *
@@ -0,0 +1,201 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.job;
+
+import static org.qubership.atp.ram.models.RamObject.ID_FIELD;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.qubership.atp.ram.models.BrowserConsoleLog;
+import org.qubership.atp.ram.models.ExecutionRequestStatistics;
+import org.qubership.atp.ram.models.LogRecord;
+import org.qubership.atp.ram.models.LogRecordContextVariable;
+import org.qubership.atp.ram.models.LogRecordMessageParameters;
+import org.qubership.atp.ram.models.LogRecordStepContextVariable;
+import org.qubership.atp.ram.models.TestRun;
+import org.qubership.atp.ram.models.WidgetTreeSnapshot;
+import org.qubership.atp.ram.repositories.GridFsRepository;
+import org.qubership.atp.ram.services.EnvironmentsInfoService;
+import org.qubership.atp.ram.services.ExecutionRequestDetailsService;
+import org.qubership.atp.ram.services.ExecutionRequestReportingService;
+import org.qubership.atp.ram.services.ExecutionRequestService;
+import org.qubership.atp.ram.services.IssueService;
+import org.qubership.atp.ram.services.WidgetConfigTemplateService;
+import org.qubership.atp.ram.utils.StreamUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Deletes expired execution requests with all their data by bulk deletes of bounded batches:
+ * log records with files, context variables, message parameters and browser logs,
+ * then test runs and data of execution requests.
+ * Execution requests are deleted last, so interrupted cleanup is resumed by next run of the job.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ExpiredExecutionRequestsCleaner {
+
+    private static final String DELETED_DOCUMENTS_METRIC = "atp.ram.cleanup.deleted.documents";
+    private static final String DELETED_FILES_BYTES_METRIC = "atp.ram.cleanup.deleted.files.bytes";
+    private static final String COLLECTION_TAG = "collection";
+    private static final String EXECUTION_REQUESTS_COLLECTION_NAME = "executionRequests";
+    private static final String EXECUTION_REQUEST_ID = "executionRequestId";
+    private static final String TEST_RUN_ID = "testRunId";
+    private static final String LOG_RECORD_ID = "logRecordId";
+
+    private final MongoTemplate mongoTemplate;
+    private final GridFsRepository gridFsRepository;
+    private final ExecutionRequestService executionRequestService;
+    private final EnvironmentsInfoService environmentsInfoService;
+    private final WidgetConfigTemplateService widgetConfigTemplateService;
+    private final ExecutionRequestDetailsService executionRequestDetailsService;
+    private final ExecutionRequestReportingService executionRequestReportingService;
+    private final IssueService issueService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${atp.expired.execution.requests.delete.batch.size:1000}")
+    private int deleteBatchSize;
+    @Value("${atp.expired.execution.requests.throttle.ms:100}")
+    private long throttleMs;
+
+    /**
+     * Delete execution requests with their test runs, log records and related data.
+     *
+     * @param executionRequestIds ids of expired execution requests
+     * @param statistics          collects counts of deleted documents and bytes of files
+     */
+    public void delete(List<UUID> executionRequestIds, CleanupStatistics statistics) {
+        deleteTestRuns(executionRequestIds, statistics);
+        addFilesBytes(gridFsRepository.deleteFilesByExecutionRequestIds(executionRequestIds), statistics);
+        environmentsInfoService.deleteAllEnvironmentsInfoByExecutionRequestId(executionRequestIds);
+        widgetConfigTemplateService.deleteAllByExecutionRequestIdIn(executionRequestIds);
+        executionRequestDetailsService.deleteAllByExecutionRequestDetailsIdIn(executionRequestIds);
+        executionRequestReportingService.deleteAllByExecutionRequestDetailsIdIn(executionRequestIds);
+        issueService.deleteAllIssueByExecutionRequestIds(executionRequestIds);
+        environmentsInfoService.deleteAllToolsByExecutionRequestId(executionRequestIds);
+        remove(WidgetTreeSnapshot.class, EXECUTION_REQUEST_ID, executionRequestIds, statistics);
+        remove(ExecutionRequestStatistics.class, ID_FIELD, executionRequestIds, statistics);
+        executionRequestService.deleteAllExecutionRequestByExecutionRequestId(executionRequestIds);
+        addDeletedDocuments(EXECUTION_REQUESTS_COLLECTION_NAME, executionRequestIds.size(), statistics);
+    }
+
+    /**
+     * Test runs are selected by limited queries until none is left,
+     * so ids of all test runs of the batch are never held in memory at once.
+     */
+    private void deleteTestRuns(List<UUID> executionRequestIds, CleanupStatistics statistics) {
+        Query testRunsQuery = new Query(Criteria.where(EXECUTION_REQUEST_ID).in(executionRequestIds))
+                .limit(deleteBatchSize);
+        testRunsQuery.fields().include(ID_FIELD);
+        List<UUID> testRunIds;
+        do {
+            testRunIds = StreamUtils.extractIdsToList(mongoTemplate.find(testRunsQuery, TestRun.class));
+            if (testRunIds.isEmpty()) {
+                return;
+            }
+            deleteLogRecords(testRunIds, statistics);
+            remove(TestRun.class, ID_FIELD, testRunIds, statistics);
+            throttle();
+        } while (testRunIds.size() == deleteBatchSize);
+    }
+
+    /**
+     * Log records are selected by limited queries until none is left,
+     * their dependent documents are deleted before them to not leave orphans on failure.
+     */
+    private void deleteLogRecords(List<UUID> testRunIds, CleanupStatistics statistics) {
+        Query logRecordsQuery = new Query(Criteria.where(TEST_RUN_ID).in(testRunIds)).limit(deleteBatchSize);
+        logRecordsQuery.fields().include(ID_FIELD);
+        List<UUID> logRecordIds;
+        do {
+            logRecordIds = StreamUtils.extractIdsToList(mongoTemplate.find(logRecordsQuery, LogRecord.class));
+            if (logRecordIds.isEmpty()) {
+                return;
+            }
+            addFilesBytes(gridFsRepository.deleteFilesByLogRecordIds(logRecordIds), statistics);
+            remove(LogRecordContextVariable.class, ID_FIELD, logRecordIds, statistics);
+            remove(LogRecordStepContextVariable.class, ID_FIELD, logRecordIds, statistics);
+            remove(LogRecordMessageParameters.class, ID_FIELD, logRecordIds, statistics);
+            remove(BrowserConsoleLog.class, LOG_RECORD_ID, logRecordIds, statistics);
+            remove(LogRecord.class, ID_FIELD, logRecordIds, statistics);
+            throttle();
+        } while (logRecordIds.size() == deleteBatchSize);
+    }
+
+    private void remove(Class<?> entityClass, String field, Collection<UUID> ids, CleanupStatistics statistics) {
+        long deletedCount = mongoTemplate.remove(new Query(Criteria.where(field).in(ids)), entityClass)
+                .getDeletedCount();
+        addDeletedDocuments(mongoTemplate.getCollectionName(entityClass), deletedCount, statistics);
+    }
+
+    private void addDeletedDocuments(String collectionName, long count, CleanupStatistics statistics) {
+        statistics.deletedDocuments.merge(collectionName, count, Long::sum);
+        meterRegistry.counter(DELETED_DOCUMENTS_METRIC, COLLECTION_TAG, collectionName).increment(count);
+    }
+
+    private void addFilesBytes(long bytes, CleanupStatistics statistics) {
+        statistics.deletedFilesBytes += bytes;
+        meterRegistry.counter(DELETED_FILES_BYTES_METRIC).increment(bytes);
+    }
+
+    private void throttle() {
+        if (throttleMs <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(throttleMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Cleanup of expired execution requests is interrupted", e);
+        }
+    }
+
+    /**
+     * Counts of deleted documents by collections and bytes of deleted files for one run of cleanup.
+     */
+    public static class CleanupStatistics {
+
+        private final Map<String, Long> deletedDocuments = new TreeMap<>();
+        private long deletedFilesBytes;
+
+        public Map<String, Long> getDeletedDocuments() {
+            return deletedDocuments;
+        }
+
+        public long getDeletedFilesBytes() {
+            return deletedFilesBytes;
+        }
+
+        @Override
+        public String toString() {
+            return "deleted documents " + deletedDocuments + ", deleted files bytes " + deletedFilesBytes;
+        }
+    }
+}
@@ -16,10 +16,13 @@
 
 package org.qubership.atp.ram.job;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
 import java.sql.Timestamp;
 import java.util.List;
-import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.qubership.atp.common.lock.LockManager;
 import org.qubership.atp.ram.enums.ExecutionStatuses;
@@ -34,64 +37,71 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration("ramTaskScheduler")
 @EnableScheduling
 public class TaskScheduler {
     private static final Logger LOG = LoggerFactory.getLogger(TaskScheduler.class);
+    private static final String SWEEP_DURATION_METRIC = "atp.ram.testruns.timeout.sweep.duration";
+    private static final String TERMINATED_TEST_RUNS_METRIC = "atp.ram.testruns.terminated.by.timeout";
     private final TestRunService testRunService;
     private final LockManager lockManager;
+    private final MeterRegistry meterRegistry;
     @Value("${terminate.timeout.in.minutes}")
     private int terminateTimeoutInMinutes;
 
-    public TaskScheduler(TestRunService service, LockManager lockManager) {
+    public TaskScheduler(TestRunService service, LockManager lockManager, MeterRegistry meterRegistry) {
         this.testRunService = service;
         this.lockManager = lockManager;
+        this.meterRegistry = meterRegistry;
     }
 
     /**
-     * Schedule checking TestRuns that have finishDate more than 30 minutes ago and terminate them.
+     * Schedule checking In Progress TestRuns without activity for the timeout and terminate them.
      */
-
     @Scheduled(fixedRateString = "${fixedRate.tr.in.milliseconds}")
     public void scheduleCheckInProgressTestRunsTask() {
-        lockManager.executeWithLock("scheduleCheckInProgressTestRunsTask", this::checkInProgressTestRunsTask);
+        lockManager.executeWithLock("scheduleCheckInProgressTestRunsTask",
+                () -> meterRegistry.timer(SWEEP_DURATION_METRIC).record(this::checkInProgressTestRunsTask));
     }
 
     private void checkInProgressTestRunsTask() {
         LOG.debug("Start checking In Progress Test Runs.");
-        List<TestRun> testRuns = testRunService.getAllInProgressTestRuns();
-        for (TestRun testRun : testRuns) {
-            long lastActiveTime;
-            if (Objects.isNull(testRun.getFinishDate())) {
-                LogRecord lastLogRecord = testRunService.getLastInProgressOrcLogRecord(testRun.getUuid());
-                if (Objects.isNull(lastLogRecord)) {
-                    lastActiveTime = testRun.getStartDate().getTime();
-                    LOG.debug("Get start date for Tes Run {}", testRun.getUuid());
-                } else {
-                    lastActiveTime = Objects.isNull(lastLogRecord.getEndDate())
-                            ? lastLogRecord.getStartDate().getTime() : lastLogRecord.getEndDate().getTime();
-                    LOG.debug("Get date from Log Record {} for Tes Run {}", lastLogRecord.getUuid(), testRun.getUuid());
-                }
-            } else {
-                lastActiveTime = testRun.getFinishDate().getTime();
-            }
-            long testRunDownTime = System.currentTimeMillis() - lastActiveTime;
-            long testRunDownTimeInMinutes = TimeUnit.MILLISECONDS.toMinutes(testRunDownTime);
-            if (testRunDownTimeInMinutes >= terminateTimeoutInMinutes) {
-                LOG.info("[TR {}] The timeout ({}) expired. TR will be terminated",
-                        testRun.getUuid(), terminateTimeoutInMinutes);
-                Timestamp finishDate = new Timestamp(System.currentTimeMillis());
-                long testRunDuration = TimeUnit.MILLISECONDS.toSeconds(
-                        finishDate.getTime() - testRun.getStartDate().getTime());
-                testRunService.updateStatusesAndFinishDateTestRuns(testRun.getUuid(),
-                        ExecutionStatuses.TERMINATED_BY_TIMEOUT, TestingStatuses.STOPPED, finishDate, testRunDuration);
-
-                LOG.info("[TR {}] The status set to {}/{}}",
-                        testRun.getUuid(), ExecutionStatuses.TERMINATED_BY_TIMEOUT, TestingStatuses.STOPPED);
-            } else {
-                LOG.debug("The timeout hasn't come for TR = {} ", testRun.getUuid());
-            }
+        Timestamp inactiveSince = new Timestamp(System.currentTimeMillis()
+                - TimeUnit.MINUTES.toMillis(terminateTimeoutInMinutes));
+        List<TestRun> testRuns = testRunService.getInProgressTestRunsInactiveSince(inactiveSince).stream()
+                .filter(testRun -> isInactiveSince(testRun, inactiveSince))
+                .collect(Collectors.toList());
+        if (!testRuns.isEmpty()) {
+            int terminatedCount = testRunService.terminateByTimeout(testRuns,
+                    new Timestamp(System.currentTimeMillis()));
+            meterRegistry.counter(TERMINATED_TEST_RUNS_METRIC).increment(terminatedCount);
+            LOG.info("The timeout ({}) expired for {} TRs, {} of them set to {}/{}", terminateTimeoutInMinutes,
+                    testRuns.size(), terminatedCount, ExecutionStatuses.TERMINATED_BY_TIMEOUT,
+                    TestingStatuses.STOPPED);
         }
         LOG.debug("Finish checking In Progress Test Runs.");
     }
+
+    /**
+     * Test runs started before last activity was tracked don't have it,
+     * so the date of their last log record is checked instead.
+     */
+    private boolean isInactiveSince(TestRun testRun, Timestamp date) {
+        if (nonNull(testRun.getLastActivity()) || nonNull(testRun.getFinishDate())) {
+            return true;
+        }
+        LogRecord lastLogRecord = testRunService.getLastInProgressOrcLogRecord(testRun.getUuid());
+        if (isNull(lastLogRecord)) {
+            return true;
+        }
+        Timestamp lastActiveDate = isNull(lastLogRecord.getEndDate())
+                ? lastLogRecord.getStartDate() : lastLogRecord.getEndDate();
+        boolean isInactive = isNull(lastActiveDate) || lastActiveDate.before(date);
+        if (!isInactive) {
+            LOG.debug("The timeout hasn't come for TR = {} ", testRun.getUuid());
+        }
+        return isInactive;
+    }
 }
@@ -0,0 +1,137 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.kafka.relay;
+
+import static java.util.Objects.nonNull;
+import static org.qubership.atp.ram.config.KafkaWebSocketEventsConfiguration.KAFKA_WEBSOCKET_EVENTS_CONTAINER_FACTORY_NAME;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.qubership.atp.ram.dto.event.WebSocketRelayMessage;
+import org.qubership.atp.ram.services.WebSocketEventRelay;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Relays websocket events between replicas over kafka.
+ * Events are keyed by destination, so events of one execution request keep their order. Events published
+ * by this replica are already delivered locally and are skipped, redelivered events are deduplicated by id.
+ */
+@Component
+@ConditionalOnProperty(
+        value = "kafka.websocket.events.enable",
+        matchIfMissing = false
+)
+@Slf4j
+public class KafkaWebSocketEventRelay implements WebSocketEventRelay {
+
+    private static final String KAFKA_LISTENER_ID = "websocketEvents";
+    private static final String RELAYED_EVENTS_METRIC = "atp.ram.websocket.relay.events";
+    private static final String SEND_FAILURES_METRIC = "atp.ram.websocket.relay.send.failures";
+    private static final String DELIVERY_LATENCY_METRIC = "atp.ram.websocket.relay.delivery.latency";
+    private static final String DIRECTION_TAG = "direction";
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final KafkaTemplate<String, WebSocketRelayMessage> kafkaTemplate;
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String topicName;
+    private final Set<UUID> deliveredEventIds;
+
+    /**
+     * Constructor.
+     */
+    public KafkaWebSocketEventRelay(KafkaTemplate<String, WebSocketRelayMessage> webSocketEventsKafkaTemplate,
+                                    SimpMessageSendingOperations messagingTemplate,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${kafka.websocket.events.topic.name}") String topicName,
+                                    @Value("${kafka.websocket.events.deduplication.size:10000}")
+                                    int deduplicationSize) {
+        this.kafkaTemplate = webSocketEventsKafkaTemplate;
+        this.messagingTemplate = messagingTemplate;
+        this.meterRegistry = meterRegistry;
+        this.topicName = topicName;
+        this.deliveredEventIds = Collections.newSetFromMap(new LinkedHashMap<UUID, Boolean>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Boolean> eldest) {
+                return size() > deduplicationSize;
+            }
+        });
+    }
+
+    @Override
+    public void relay(String destination, Object payload) {
+        WebSocketRelayMessage message = new WebSocketRelayMessage(UUID.randomUUID(), instanceId, destination,
+                System.currentTimeMillis(), payload);
+        try {
+            kafkaTemplate.send(topicName, destination, message).whenComplete((result, throwable) -> {
+                if (nonNull(throwable)) {
+                    onSendFailure(message, throwable);
+                }
+            });
+        } catch (Exception e) {
+            onSendFailure(message, e);
+            return;
+        }
+        meterRegistry.counter(RELAYED_EVENTS_METRIC, DIRECTION_TAG, "sent").increment();
+        log.debug("Websocket event {} to '{}' is relayed", message.getId(), destination);
+    }
+
+    /**
+     * Listen websocket events kafka topic and deliver events of other replicas to local subscribers.
+     */
+    @KafkaListener(id = KAFKA_LISTENER_ID, topics = "${kafka.websocket.events.topic.name}",
+            groupId = "${kafka.websocket.events.group.id}",
+            containerFactory = KAFKA_WEBSOCKET_EVENTS_CONTAINER_FACTORY_NAME)
+    public void onMessage(@Payload WebSocketRelayMessage message) {
+        if (instanceId.equals(message.getOrigin()) || !markDelivered(message.getId())) {
+            return;
+        }
+        messagingTemplate.convertAndSend(message.getDestination(), message.getPayload());
+        meterRegistry.counter(RELAYED_EVENTS_METRIC, DIRECTION_TAG, "received").increment();
+        meterRegistry.timer(DELIVERY_LATENCY_METRIC)
+                .record(System.currentTimeMillis() - message.getCreatedTime(), TimeUnit.MILLISECONDS);
+        log.debug("Relayed websocket event {} is delivered to '{}'", message.getId(), message.getDestination());
+    }
+
+    /**
+     * Event is already delivered to local subscribers, clients of other replicas miss it until their next update.
+     */
+    private void onSendFailure(WebSocketRelayMessage message, Throwable throwable) {
+        meterRegistry.counter(SEND_FAILURES_METRIC).increment();
+        log.error("Failed to relay websocket event {} to '{}'", message.getId(), message.getDestination(), throwable);
+    }
+
+    private boolean markDelivered(UUID eventId) {
+        synchronized (deliveredEventIds) {
+            return deliveredEventIds.add(eventId);
+        }
+    }
+}
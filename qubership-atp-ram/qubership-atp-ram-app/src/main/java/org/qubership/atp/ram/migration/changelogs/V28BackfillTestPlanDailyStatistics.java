@@ -0,0 +1,94 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.migration.changelogs;
+
+import static org.qubership.atp.ram.repositories.impl.FieldConstants.DURATION;
+import static org.qubership.atp.ram.repositories.impl.FieldConstants.EXECUTION_REQUEST_ID;
+import static org.qubership.atp.ram.repositories.impl.FieldConstants.FINISH_DATE;
+import static org.qubership.atp.ram.repositories.impl.FieldConstants.ROOT_CAUSE_ID;
+import static org.qubership.atp.ram.repositories.impl.FieldConstants.TESTING_STATUS;
+import static org.qubership.atp.ram.repositories.impl.FieldConstants._ID;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.qubership.atp.ram.enums.ExecutionStatuses;
+import org.qubership.atp.ram.migration.mongoevolution.java.annotation.ChangeLog;
+import org.qubership.atp.ram.migration.mongoevolution.java.annotation.ChangeSet;
+import org.qubership.atp.ram.models.ExecutionRequest;
+import org.qubership.atp.ram.models.TestRun;
+import org.qubership.atp.ram.repositories.impl.CustomTestPlanDailyStatisticsRepositoryImpl;
+import org.qubership.atp.ram.services.TestPlanDailyStatisticsService;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@ChangeLog(version = 28)
+public class V28BackfillTestPlanDailyStatistics {
+
+    private static final int BACKFILL_DAYS = 90;
+
+    /**
+     * Fill daily statistics of test plans by execution requests finished during the last 90 days.
+     * Execution requests already counted by the running application are skipped.
+     */
+    @ChangeSet(order = 1)
+    public void backfillTestPlanDailyStatistics(MongoTemplate mongoTemplate) {
+        String processName = V28BackfillTestPlanDailyStatistics.class.getName();
+        log.info("Start mongo evolution process: {}", processName);
+        CustomTestPlanDailyStatisticsRepositoryImpl repository =
+                new CustomTestPlanDailyStatisticsRepositoryImpl(mongoTemplate);
+        Date from = Date.from(Instant.now().minus(BACKFILL_DAYS, ChronoUnit.DAYS));
+        Query executionRequestsQuery = new Query(where(ExecutionRequest.EXECUTION_STATUS_FIELD)
+                .in(Arrays.asList(ExecutionStatuses.FINISHED, ExecutionStatuses.TERMINATED,
+                        ExecutionStatuses.TERMINATED_BY_TIMEOUT))
+                .and(FINISH_DATE).gte(from)
+                .and(ExecutionRequest.TEST_PLAN_ID_FIELD).ne(null));
+        executionRequestsQuery.fields()
+                .include(_ID)
+                .include(ExecutionRequest.PROJECT_ID)
+                .include(ExecutionRequest.TEST_PLAN_ID_FIELD)
+                .include(FINISH_DATE);
+        AtomicInteger executionRequestsCount = new AtomicInteger();
+        try (Stream<ExecutionRequest> executionRequests =
+                     mongoTemplate.stream(executionRequestsQuery, ExecutionRequest.class)) {
+            executionRequests.forEach(executionRequest -> {
+                Query testRunsQuery = new Query(where(EXECUTION_REQUEST_ID).is(executionRequest.getUuid()));
+                testRunsQuery.fields()
+                        .include(TESTING_STATUS)
+                        .include(ROOT_CAUSE_ID)
+                        .include(DURATION)
+                        .include(FINISH_DATE);
+                List<TestRun> testRuns = mongoTemplate.find(testRunsQuery, TestRun.class);
+                TestPlanDailyStatisticsService.calculateIncrements(executionRequest, testRuns)
+                        .forEach((day, increments) -> repository.addExecutionRequest(executionRequest.getProjectId(),
+                                executionRequest.getTestPlanId(), day, executionRequest.getUuid(), increments));
+                executionRequestsCount.incrementAndGet();
+            });
+        }
+        log.info("End mongo evolution process: {}, processed {} execution requests", processName,
+                executionRequestsCount.get());
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.migration.changelogs;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.qubership.atp.ram.repositories.impl.FieldConstants.CREATED_DATE;
+import static org.qubership.atp.ram.repositories.impl.FieldConstants.TEST_RUN_ID;
+import static org.qubership.atp.ram.repositories.impl.FieldConstants._ID;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.qubership.atp.ram.migration.mongoevolution.java.annotation.ChangeLog;
+import org.qubership.atp.ram.migration.mongoevolution.java.annotation.ChangeSet;
+import org.qubership.atp.ram.models.LogRecord;
+import org.qubership.atp.ram.models.LogRecordContextVariable;
+import org.qubership.atp.ram.models.LogRecordContextVariableObject;
+import org.qubership.atp.ram.models.LogRecordStepContextVariable;
+import org.qubership.atp.ram.models.TestRun;
+import org.qubership.atp.ram.models.logrecords.parts.ContextVariable;
+import org.qubership.atp.ram.utils.ContextVariablesDeltaUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.google.common.collect.Lists;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@ChangeLog(version = 29)
+public class V29EncodeContextVariablesAsDeltas {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String DELTA_ENABLED_PROPERTY = "atp.ram.logrecord.context.variables.delta.enabled";
+    private static final String KEYFRAME_INTERVAL_PROPERTY =
+            "atp.ram.logrecord.context.variables.delta.keyframe.interval";
+    private static final int DEFAULT_KEYFRAME_INTERVAL = 20;
+
+    /**
+     * Store context variables and step context variables of existing log records as deltas
+     * between consecutive steps of test run with full keyframe every N steps.
+     * Runs only if delta storage is enabled, documents already included in delta chains are skipped.
+     */
+    @ChangeSet(order = 1)
+    public void encodeContextVariablesAsDeltas(MongoTemplate mongoTemplate, Map<String, Object> beans) {
+        String processName = V29EncodeContextVariablesAsDeltas.class.getName();
+        Environment environment = (Environment) beans.get("environments");
+        if (!environment.getProperty(DELTA_ENABLED_PROPERTY, Boolean.class, false)) {
+            log.info("Skip mongo evolution process: {}, delta storage of context variables is disabled",
+                    processName);
+            return;
+        }
+        int keyframeInterval =
+                environment.getProperty(KEYFRAME_INTERVAL_PROPERTY, Integer.class, DEFAULT_KEYFRAME_INTERVAL);
+        log.info("Start mongo evolution process: {}", processName);
+        Query testRunsQuery = new Query();
+        testRunsQuery.fields().include(_ID);
+        AtomicInteger testRunsCount = new AtomicInteger();
+        AtomicInteger deltasCount = new AtomicInteger();
+        try (Stream<TestRun> testRuns = mongoTemplate.stream(testRunsQuery, TestRun.class)) {
+            testRuns.forEach(testRun -> {
+                List<LogRecord> logRecords = findLogRecords(mongoTemplate, testRun.getUuid());
+                if (!logRecords.isEmpty()) {
+                    deltasCount.addAndGet(encode(mongoTemplate, testRun.getUuid(), logRecords,
+                            LogRecordContextVariable.class, keyframeInterval));
+                    deltasCount.addAndGet(encode(mongoTemplate, testRun.getUuid(), logRecords,
+                            LogRecordStepContextVariable.class, keyframeInterval));
+                }
+                testRunsCount.incrementAndGet();
+            });
+        }
+        log.info("End mongo evolution process: {}, processed {} test runs, stored {} deltas", processName,
+                testRunsCount.get(), deltasCount.get());
+    }
+
+    private List<LogRecord> findLogRecords(MongoTemplate mongoTemplate, UUID testRunId) {
+        Query query = new Query(where(TEST_RUN_ID).is(testRunId))
+                .with(Sort.by(Sort.Direction.ASC, CREATED_DATE));
+        query.fields()
+                .include(_ID)
+                .include(CREATED_DATE);
+        return mongoTemplate.find(query, LogRecord.class);
+    }
+
+    private <T extends LogRecordContextVariableObject> int encode(MongoTemplate mongoTemplate, UUID testRunId,
+                                                                  List<LogRecord> logRecords, Class<T> type,
+                                                                  int keyframeInterval) {
+        int deltasCount = 0;
+        LogRecordContextVariableObject previous = null;
+        List<ContextVariable> previousContextVariables = null;
+        for (List<LogRecord> batch : Lists.partition(logRecords, BATCH_SIZE)) {
+            List<UUID> logRecordIds = batch.stream().map(LogRecord::getUuid).collect(Collectors.toList());
+            Map<UUID, T> documents = new HashMap<>();
+            mongoTemplate.find(new Query(where(_ID).in(logRecordIds)), type)
+                    .forEach(document -> documents.put(document.getId(), document));
+            BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, type);
+            int replacementsCount = 0;
+            for (LogRecord logRecord : batch) {
+                T document = documents.get(logRecord.getUuid());
+                if (isNull(document) || isNull(document.collectContextVariables())) {
+                    continue;
+                }
+                if (nonNull(document.getKeyframeId())) {
+                    // already written by application as a part of delta chain
+                    previous = null;
+                    previousContextVariables = null;
+                    continue;
+                }
+                List<ContextVariable> contextVariables = document.collectContextVariables();
+                document.setStepDate(nonNull(logRecord.getCreatedDate())
+                        ? logRecord.getCreatedDate() : document.getCreatedDate());
+                if (ContextVariablesDeltaUtils.setDelta(document, contextVariables, previous,
+                        previousContextVariables, keyframeInterval)) {
+                    deltasCount++;
+                } else {
+                    ContextVariablesDeltaUtils.setKeyframe(document, testRunId);
+                }
+                bulkOperations.replaceOne(new Query(where(_ID).is(document.getId())), document);
+                replacementsCount++;
+                previous = document;
+                previousContextVariables = contextVariables;
+            }
+            if (replacementsCount > 0) {
+                bulkOperations.execute();
+            }
+        }
+        return deltasCount;
+    }
+}
@@ -17,12 +17,16 @@
 package org.qubership.atp.ram.service.charts;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Objects.nonNull;
 import static org.qubership.atp.ram.enums.DefaultSuiteNames.EXECUTION_REQUESTS_LOGS;
 import static org.qubership.atp.ram.service.rest.server.charts.ChartsController.MAX_NUMBER_OF_ERS;
 
 import java.sql.Timestamp;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -37,6 +41,7 @@ import org.qubership.atp.ram.enums.DefaultSuiteNames;
 import org.qubership.atp.ram.enums.GraphOptions;
 import org.qubership.atp.ram.enums.TestingStatuses;
 import org.qubership.atp.ram.models.ExecutionRequest;
+import org.qubership.atp.ram.models.ExecutionRequestStatistics;
 import org.qubership.atp.ram.models.RamObject;
 import org.qubership.atp.ram.models.RootCause;
 import org.qubership.atp.ram.models.TestRun;
@@ -45,8 +50,12 @@ import org.qubership.atp.ram.service.rest.dto.ExecutionInfoOptions;
 import org.qubership.atp.ram.service.rest.dto.Sector;
 import org.qubership.atp.ram.service.rest.dto.StatisticTrByRc;
 import org.qubership.atp.ram.service.rest.dto.StatisticTrByStatuses;
+import org.qubership.atp.ram.service.rest.dto.TestPlanDailyTrend;
 import org.qubership.atp.ram.services.ExecutionRequestService;
+import org.qubership.atp.ram.services.ExecutionRequestStatisticsService;
 import org.qubership.atp.ram.services.RootCauseService;
+import org.qubership.atp.ram.services.TestPlanDailyStatisticsService;
+import org.qubership.atp.ram.utils.StreamUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 
@@ -60,12 +69,22 @@ public class ChartsService {
     private static final Integer START_INDEX = 0;
     private static final String FINISH_DATE_FILED_NAME = "finishDate";
     private static final String SORT_DIRECTION = "desc";
+    private static final int DEFAULT_TREND_DAYS = 30;
     private final ExecutionRequestService erService;
     private final RootCauseService rootCauseService;
+    private final ExecutionRequestStatisticsService statisticsService;
+    private final TestPlanDailyStatisticsService dailyStatisticsService;
 
-    public ChartsService(ExecutionRequestService erService, RootCauseService rootCauseService) {
+    /**
+     * Constructor.
+     */
+    public ChartsService(ExecutionRequestService erService, RootCauseService rootCauseService,
+                         ExecutionRequestStatisticsService statisticsService,
+                         TestPlanDailyStatisticsService dailyStatisticsService) {
         this.erService = erService;
         this.rootCauseService = rootCauseService;
+        this.statisticsService = statisticsService;
+        this.dailyStatisticsService = dailyStatisticsService;
     }
 
     /**
@@ -210,46 +229,12 @@ public class ChartsService {
         data.put(TestingStatuses.STOPPED, new JsonArray());
         data.put(TestingStatuses.SKIPPED, new JsonArray());
         data.put(TestingStatuses.UNKNOWN, new JsonArray());
+        Map<UUID, Map<TestingStatuses, Integer>> statusCounts = getTestingStatusCounts(requests);
         requests.forEach(request -> {
-            AtomicInteger trsPassed = new AtomicInteger(0);
-            AtomicInteger trsFailed = new AtomicInteger(0);
-            AtomicInteger trsWarning = new AtomicInteger(0);
-            AtomicInteger trsStopped = new AtomicInteger(0);
-            AtomicInteger trsSkipped = new AtomicInteger(0);
-            AtomicInteger trsUnknown = new AtomicInteger(0);
-            List<TestRun> testRuns = erService.getAllTestRuns(request.getUuid());
-            testRuns.forEach(testRun -> {
-                TestingStatuses status = testRun.getTestingStatus();
-                //WA to processing internal TRs created by ATP1
-                if (status != null) {
-                    switch (status) {
-                        case PASSED:
-                            trsPassed.getAndIncrement();
-                            break;
-                        case FAILED:
-                            trsFailed.getAndIncrement();
-                            break;
-                        case WARNING:
-                            trsWarning.getAndIncrement();
-                            break;
-                        case STOPPED:
-                            trsStopped.getAndIncrement();
-                            break;
-                        case SKIPPED:
-                            trsSkipped.getAndIncrement();
-                            break;
-                        default:
-                            trsUnknown.getAndIncrement();
-                            break;
-                    }
-                }
-            });
-            data.get(TestingStatuses.PASSED).add(trsPassed.get());
-            data.get(TestingStatuses.FAILED).add(trsFailed.get());
-            data.get(TestingStatuses.WARNING).add(trsWarning.get());
-            data.get(TestingStatuses.STOPPED).add(trsStopped.get());
-            data.get(TestingStatuses.SKIPPED).add(trsSkipped.get());
-            data.get(TestingStatuses.UNKNOWN).add(trsUnknown.get());
+            Map<TestingStatuses, Integer> counts = new EnumMap<>(TestingStatuses.class);
+            statusCounts.getOrDefault(request.getUuid(), emptyMap()).forEach((status, count) ->
+                    counts.merge(data.containsKey(status) ? status : TestingStatuses.UNKNOWN, count, Integer::sum));
+            data.forEach((status, statusData) -> statusData.add(counts.getOrDefault(status, 0)));
         });
         for (Map.Entry<TestingStatuses, JsonArray> entry : data.entrySet()) {
             JsonObject status = new JsonObject();
@@ -277,9 +262,11 @@ public class ChartsService {
             rootCauses.forEach(rootCause -> data.put(rootCause.getName(), new JsonArray()));
         }
 
+        Map<UUID, Map<UUID, Integer>> rootCauseCounts = getRootCauseCounts(requests, true);
         requests.forEach(request -> {
-            List<TestRun> testRunList = erService.getAllTestRuns(request.getUuid());
-            HashMap<String, Integer> resultForTestRun = calculateFailureReasons(testRunList, rootCauses);
+            HashMap<String, Integer> resultForTestRun = new HashMap<>();
+            rootCauseCounts.getOrDefault(request.getUuid(), emptyMap()).forEach((rootCauseId, count) ->
+                    resultForTestRun.merge(getRootCauseName(rootCauseId, rootCauses), count, Integer::sum));
             if (!resultForTestRun.isEmpty()) {
                 resultForTestRun.forEach((key, value) -> data.get(key).add(value));
             }
@@ -399,11 +386,12 @@ public class ChartsService {
     public List<StatisticTrByRc> getTestRunsByRootCausesPerDay(ExecutionInfoOptions options) {
         List<ExecutionRequest> ers = getExecutionRequests(options);
         List<TestRun> testRuns = getTestRuns(ers);
+        List<RootCause> rootCauses = rootCauseService.getAllRootCauses();
         Map<String, List<TestRun>> trByRootCauses =
                 testRuns
                         .stream()
                         .collect(Collectors.groupingBy(
-                                tr -> getTestRunRootCause(tr, rootCauseService.getAllRootCauses())
+                                tr -> getTestRunRootCause(tr, rootCauses)
                         ));
 
         return trByRootCauses.entrySet()
@@ -439,25 +427,15 @@ public class ChartsService {
      */
     public List<StatisticTrByStatuses> getTestRunsByStatusesPerEr(ExecutionInfoOptions options) {
         List<ExecutionRequest> ers = getExecutionRequests(options);
-        List<TestRun> testRuns = getTestRuns(ers);
         Map<UUID, ExecutionRequest> executionRequestMap = ers.stream().collect(Collectors.toMap(
                 RamObject::getUuid,
                 er -> er
         ));
-        Map<String, List<TestRun>> trByStatuses = groupTestRunsByStatuses(testRuns);
-        return trByStatuses.entrySet()
-                .stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        entry -> entry.getValue()
-                                .stream()
-                                .collect(Collectors.groupingBy(TestRun::getExecutionRequestId))
-                                .entrySet().stream().collect(Collectors.toMap(
-                                        Map.Entry::getKey,/*UUID*/
-                                        trList -> trList.getValue().size())
-                                )
-                ))
-                .entrySet()
+        Map<String, Map<UUID, Integer>> trCountsByStatuses = new HashMap<>();
+        getTestingStatusCounts(ers).forEach((executionRequestId, counts) -> counts.forEach((status, count) ->
+                trCountsByStatuses.computeIfAbsent(status.getName(), name -> new HashMap<>())
+                        .put(executionRequestId, count)));
+        return trCountsByStatuses.entrySet()
                 .stream()
                 .map(entry -> {
                     StatisticTrByStatuses statistic = new StatisticTrByStatuses();
@@ -484,25 +462,23 @@ public class ChartsService {
      */
     public List<Sector> getTestRunsByRootCauses(ExecutionInfoOptions options) {
         List<ExecutionRequest> ers = getExecutionRequests(options);
-        List<TestRun> testRuns = getTestRuns(ers);
-        return
-                testRuns
-                        .stream()
-                        .collect(Collectors.groupingBy(
-                                tr -> getTestRunRootCause(tr, rootCauseService.getAllRootCauses())
-                        ))
-                        .entrySet().stream().map(entry -> new Sector(
-                                entry.getKey(),
-                                entry.getValue().size())
-                        ).collect(Collectors.toList());
+        List<RootCause> rootCauses = rootCauseService.getAllRootCauses();
+        Map<String, Integer> trCountsByRootCauses = new HashMap<>();
+        getRootCauseCounts(ers, false).values().forEach(counts -> counts.forEach((rootCauseId, count) ->
+                trCountsByRootCauses.merge(getRootCauseName(rootCauseId, rootCauses), count, Integer::sum)));
+        return toSectors(trCountsByRootCauses);
     }
 
     private String getTestRunRootCause(TestRun tr, List<RootCause> rootCauses) {
-        if (tr.getRootCauseId() == null || CollectionUtils.isEmpty(rootCauses)) {
+        return getRootCauseName(tr.getRootCauseId(), rootCauses);
+    }
+
+    private String getRootCauseName(UUID rootCauseId, List<RootCause> rootCauses) {
+        if (rootCauseId == null || CollectionUtils.isEmpty(rootCauses)) {
             return DefaultRootCauseType.NOT_ANALYZED.getName();
         } else {
             Optional<RootCause> rootCause = rootCauses.stream()
-                    .filter(cause -> cause.getUuid().equals(tr.getRootCauseId()))
+                    .filter(cause -> cause.getUuid().equals(rootCauseId))
                     .findFirst();
             return rootCause.isPresent() ? rootCause.get().getName()
                     : DefaultRootCauseType.NOT_ANALYZED.getName();
@@ -525,16 +501,67 @@ public class ChartsService {
      */
     public List<Sector> getTestRunsByStatuses(ExecutionInfoOptions options) {
         List<ExecutionRequest> ers = getExecutionRequests(options);
-        List<TestRun> testRuns = getTestRuns(ers);
-        return
-                testRuns
-                        .stream()
-                        .collect(Collectors.groupingBy(
-                                tr -> tr.getTestingStatus().getName()))
-                        .entrySet().stream().map(entry -> new Sector(
-                                entry.getKey(),
-                                entry.getValue().size())
-                        ).collect(Collectors.toList());
+        Map<String, Integer> trCountsByStatuses = new HashMap<>();
+        getTestingStatusCounts(ers).values().forEach(counts -> counts.forEach((status, count) ->
+                trCountsByStatuses.merge(status.getName(), count, Integer::sum)));
+        return toSectors(trCountsByStatuses);
+    }
+
+    private List<Sector> toSectors(Map<String, Integer> counts) {
+        return counts.entrySet()
+                .stream()
+                .map(entry -> new Sector(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns daily trend of test runs of finished ERs in specified test plan,
+     * for period from filter options or for the last 30 days.
+     */
+    public List<TestPlanDailyTrend> getTestPlanTrends(ExecutionInfoOptions options) {
+        if (options.getTestPlan() == null) {
+            return emptyList();
+        }
+        ExecutionInfoOptions.FilterOptions filterOptions = options.getFilterOptions();
+        Date to = filterOptions == null || filterOptions.getErFinishDateTo() == null
+                ? new Date() : filterOptions.getErFinishDateTo();
+        Date from = filterOptions == null || filterOptions.getErFinishDateFrom() == null
+                ? Date.from(to.toInstant().minus(DEFAULT_TREND_DAYS, ChronoUnit.DAYS))
+                : filterOptions.getErFinishDateFrom();
+        List<RootCause> rootCauses = rootCauseService.getAllRootCauses();
+        return dailyStatisticsService.getStatistics(options.getTestPlan(), from, to)
+                .stream()
+                .map(statistics -> {
+                    TestPlanDailyTrend trend = new TestPlanDailyTrend();
+                    trend.setDay(statistics.getDay());
+                    trend.setExecutionRequestsCount(statistics.getExecutionRequestsCount());
+                    trend.setTestRunsCount(statistics.getTestRunsCount());
+                    Map<String, Integer> statuses = new HashMap<>();
+                    statistics.getTestingStatuses().forEach((status, count) -> statuses.merge(
+                            ExecutionRequestStatistics.NONE_KEY.equals(status)
+                                    ? TestingStatuses.UNKNOWN.getName() : TestingStatuses.valueOf(status).getName(),
+                            count, Integer::sum));
+                    trend.setStatuses(statuses);
+                    Map<String, Integer> rootCauseCounts = new HashMap<>();
+                    ExecutionRequestStatisticsService.getRootCauseCounts(statistics.getRootCauses())
+                            .forEach((rootCauseId, count) -> rootCauseCounts.merge(
+                                    getRootCauseName(rootCauseId, rootCauses), count, Integer::sum));
+                    trend.setRootCauses(rootCauseCounts);
+                    int durationsCount = statistics.getDurations().values().stream()
+                            .mapToInt(Integer::intValue)
+                            .sum();
+                    if (durationsCount > 0) {
+                        trend.setAverageDuration(statistics.getDurationsSum() / durationsCount);
+                    }
+                    trend.setDurationP50(TestPlanDailyStatisticsService.getDurationPercentile(
+                            statistics.getDurations(), 50));
+                    trend.setDurationP90(TestPlanDailyStatisticsService.getDurationPercentile(
+                            statistics.getDurations(), 90));
+                    trend.setDurationP95(TestPlanDailyStatisticsService.getDurationPercentile(
+                            statistics.getDurations(), 95));
+                    return trend;
+                })
+                .collect(Collectors.toList());
     }
 
     /**
@@ -589,10 +616,58 @@ public class ChartsService {
         }
     }
 
+    /**
+     * Get test runs of execution requests by one query, with fields used by charts only.
+     */
     private List<TestRun> getTestRuns(List<ExecutionRequest> ers) {
-        return ers.stream()
-                .flatMap(er -> erService.getAllTestRuns(er.getUuid()).stream())
-                .collect(Collectors.toList());
+        return ers.isEmpty() ? emptyList() : erService.getChartTestRuns(StreamUtils.extractIds(ers));
+    }
+
+    /**
+     * Get counts of test runs by testing statuses for each execution request.
+     * Counts are taken from execution request statistics if they are enabled, otherwise from test runs.
+     */
+    private Map<UUID, Map<TestingStatuses, Integer>> getTestingStatusCounts(List<ExecutionRequest> ers) {
+        Map<UUID, Map<TestingStatuses, Integer>> statusCounts = new HashMap<>();
+        if (statisticsService.isEnabled()) {
+            statisticsService.getAll(StreamUtils.extractIds(ers)).forEach((executionRequestId, statistics) ->
+                    statusCounts.put(executionRequestId,
+                            ExecutionRequestStatisticsService.getTestingStatusCounts(statistics)));
+            return statusCounts;
+        }
+        ers.forEach(er -> {
+            Map<TestingStatuses, Integer> counts = new EnumMap<>(TestingStatuses.class);
+            erService.getAllTestRuns(er.getUuid()).stream()
+                    .map(TestRun::getTestingStatus)
+                    //WA to processing internal TRs created by ATP1
+                    .filter(Objects::nonNull)
+                    .forEach(status -> counts.merge(status, 1, Integer::sum));
+            statusCounts.put(er.getUuid(), counts);
+        });
+        return statusCounts;
+    }
+
+    /**
+     * Get counts of test runs by root cause ids for each execution request, test runs without root cause
+     * are counted by null key.
+     * Counts are taken from execution request statistics if they are enabled, otherwise from test runs.
+     */
+    private Map<UUID, Map<UUID, Integer>> getRootCauseCounts(List<ExecutionRequest> ers, boolean notPassedOnly) {
+        Map<UUID, Map<UUID, Integer>> rootCauseCounts = new HashMap<>();
+        if (statisticsService.isEnabled()) {
+            statisticsService.getAll(StreamUtils.extractIds(ers)).forEach((executionRequestId, statistics) ->
+                    rootCauseCounts.put(executionRequestId, ExecutionRequestStatisticsService.getRootCauseCounts(
+                            notPassedOnly ? statistics.getNotPassedRootCauses() : statistics.getRootCauses())));
+            return rootCauseCounts;
+        }
+        ers.forEach(er -> {
+            Map<UUID, Integer> counts = new HashMap<>();
+            erService.getAllTestRuns(er.getUuid()).stream()
+                    .filter(testRun -> !notPassedOnly || TestingStatuses.PASSED != testRun.getTestingStatus())
+                    .forEach(testRun -> counts.merge(testRun.getRootCauseId(), 1, Integer::sum));
+            rootCauseCounts.put(er.getUuid(), counts);
+        });
+        return rootCauseCounts;
     }
 
     private Map<String, List<TestRun>> groupTestRunsByStatuses(List<TestRun> testRuns) {
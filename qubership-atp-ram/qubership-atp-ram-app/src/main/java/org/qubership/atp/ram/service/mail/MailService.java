@@ -282,7 +282,7 @@ public class MailService {
         log.debug("Report template model: {}", model);
 
         final String htmlBody = templateRenderService.render(template, model);
-        log.info("Rendered report html body: {}", model);
+        log.debug("Rendered report html body: {}", htmlBody);
 
         final MailRequest mailRequest = buildRequest(htmlBody, reportParams, executionRequest);
         log.debug("Mail request: {}", mailRequest);
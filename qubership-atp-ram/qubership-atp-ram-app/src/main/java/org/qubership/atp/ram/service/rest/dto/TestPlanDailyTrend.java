@@ -0,0 +1,36 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.service.rest.dto;
+
+import java.util.Date;
+import java.util.Map;
+
+import lombok.Data;
+
+@Data
+public class TestPlanDailyTrend {
+
+    private Date day;
+    private int executionRequestsCount;
+    private int testRunsCount;
+    private Map<String, Integer> statuses;/*status name - number of TRs*/
+    private Map<String, Integer> rootCauses;/*root cause name - number of TRs*/
+    private Long averageDuration;/*seconds*/
+    private Long durationP50;/*upper bound of duration histogram bucket, seconds*/
+    private Long durationP90;
+    private Long durationP95;
+}
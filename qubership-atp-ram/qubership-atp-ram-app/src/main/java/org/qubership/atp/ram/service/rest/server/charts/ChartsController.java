@@ -27,6 +27,7 @@ import org.qubership.atp.ram.service.rest.dto.ExecutionInfoOptions;
 import org.qubership.atp.ram.service.rest.dto.Sector;
 import org.qubership.atp.ram.service.rest.dto.StatisticTrByRc;
 import org.qubership.atp.ram.service.rest.dto.StatisticTrByStatuses;
+import org.qubership.atp.ram.service.rest.dto.TestPlanDailyTrend;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -249,6 +250,26 @@ public class ChartsController /*implements ChartsControllerApi */ {
         return chartsService.getTestRunDurationsByStatuses(options);
     }
 
+    /**
+     * Returns daily trend of statuses, root causes and durations of test runs of finished ERs in test plan.
+     *
+     * @param options example:
+     *   Returns trend for the last 30 days if period is not specified:
+     *                {
+     *                 "testPlan": "TestPlanId",
+     *                 "filterOptions": {
+     *                   "erFinishDateFrom": "YYYY-MM-DDThh:mm:ss.209Z",
+     *                   "erFinishDateTo": "2019-09-25T14:07:20.209Z"
+     *                 }
+     *                }
+     * @return List of {@link TestPlanDailyTrend} sorted by day.
+     */
+    @PostMapping("/trends")
+    @AuditAction(auditAction = "Get daily trends for test plan '{{#options.testPlan}}'")
+    public List<TestPlanDailyTrend> getTestPlanTrends(@RequestBody ExecutionInfoOptions options) {
+        return chartsService.getTestPlanTrends(options);
+    }
+
     private void checkOptions(ExecutionInfoOptions options) {
         ExecutionInfoOptions.FilterOptions filterOptions = options.getFilterOptions();
         if (filterOptions != null) {
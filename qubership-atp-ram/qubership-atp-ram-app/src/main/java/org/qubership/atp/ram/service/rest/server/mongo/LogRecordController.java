@@ -45,7 +45,7 @@ import org.qubership.atp.ram.dto.response.logrecord.LogRecordContentResponse;
 import org.qubership.atp.ram.entities.ErrorMappingItem;
 import org.qubership.atp.ram.enums.ContextVariablesActiveTab;
 import org.qubership.atp.ram.enums.TestingStatuses;
-import org.qubership.atp.ram.model.FileData;
+import org.qubership.atp.ram.model.GridFsFileResource;
 import org.qubership.atp.ram.models.BrowserConsoleLogsTable;
 import org.qubership.atp.ram.models.ExecutionRequest;
 import org.qubership.atp.ram.models.LogRecord;
@@ -586,8 +586,8 @@ public class LogRecordController /*implements LogRecordControllerApi*/ {
     @GetMapping(value = "/pot/{logRecordId}")
     @PreAuthorize("@entityAccess.checkAccess(@logRecordService.getProjectIdByLogRecordId(#logRecordId),'READ')")
     public ResponseEntity<Resource> downloadPotFileByLogRecordId(@PathVariable("logRecordId") UUID logRecordId) {
-        FileData fileData = gridFsService.downloadFile(logRecordId);
-        return fileResponseEntityService.buildOctetStreamResponseEntity(fileData);
+        GridFsFileResource file = gridFsService.getFileResource(logRecordId, null);
+        return fileResponseEntityService.buildOctetStreamResponseEntity(file);
     }
 
     /**
@@ -602,14 +602,11 @@ public class LogRecordController /*implements LogRecordControllerApi*/ {
     public ResponseEntity<Resource> downloadFileByLogRecordId(@PathVariable("logRecordId") UUID logRecordId,
                                                               @RequestParam(value = "filename", required = false)
                                                               String filename) {
-        FileData fileData;
-        if (StringUtils.isNotEmpty(filename)) {
-            fileData = gridFsService.downloadFileByName(logRecordId, filename);
-        } else {
+        if (StringUtils.isEmpty(filename)) {
             log.warn("File name is empty. The file will be found by Log Record id {}", logRecordId);
-            fileData = gridFsService.downloadFile(logRecordId);
         }
-        return fileResponseEntityService.buildOctetStreamResponseEntity(fileData);
+        GridFsFileResource file = gridFsService.getFileResource(logRecordId, filename);
+        return fileResponseEntityService.buildOctetStreamResponseEntity(file);
     }
 
     /**
@@ -23,17 +23,14 @@ import java.util.UUID;
 import org.qubership.atp.integration.configuration.configuration.AuditAction;
 import org.qubership.atp.ram.config.ApiPath;
 import org.qubership.atp.ram.entities.treenodes.TreeNode;
-import org.qubership.atp.ram.model.ArchiveData;
+import org.qubership.atp.ram.model.ExtendedFileData;
 import org.qubership.atp.ram.model.LogRecordFilteringRequest;
 import org.qubership.atp.ram.models.PotsStatisticsPerAction;
 import org.qubership.atp.ram.models.PotsStatisticsPerTestCase;
 import org.qubership.atp.ram.services.FileResponseEntityService;
 import org.qubership.atp.ram.services.PotService;
-import org.qubership.atp.ram.services.TestRunService;
 import org.qubership.atp.ram.services.TreeNodeService;
 import org.qubership.atp.ram.utils.Utils;
-import org.springframework.context.annotation.Lazy;
-import org.springframework.core.io.Resource;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -43,6 +40,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -60,8 +58,6 @@ public class TreeController /*implements TreeControllerApi*/ {
     private final ObjectMapper objectMapper;
     private final PotService potService;
     private final FileResponseEntityService fileResponseEntityService;
-    @Lazy
-    private final TestRunService testRunService;
 
     /**
      * Get LogRecords Tree for parent LR.
@@ -131,7 +127,7 @@ public class TreeController /*implements TreeControllerApi*/ {
             @RequestParam(value = "skipOverride", required = false) boolean skipOverride,
             @RequestParam(value = "refresh", required = false) boolean refresh
     ) throws JsonProcessingException {
-        Long countLr = testRunService.getCountLrsForCurrentEr(executionRequestId);
+        Long countLr = treeNodeService.getCountLogRecordsForWidgetTree(executionRequestId);
         return treeNodeService.getSerializableExecutionRequestWidgetTree(
                 executionRequestId, widgetId, labelTemplateId, validationTemplateId, skipOverride, fields,
                 countLr, refresh);
@@ -222,11 +218,13 @@ public class TreeController /*implements TreeControllerApi*/ {
             + "@treeNodeService.getProjectIdByExecutionRequestId(#executionRequestId),'READ')")
     @AuditAction(auditAction = "Download archive with pots files in "
             + "execution request with id = {{#executionRequestId}}")
-    public ResponseEntity<Resource> downloadArchiveWithPotFilesInExecutionRequest(
+    public ResponseEntity<StreamingResponseBody> downloadArchiveWithPotFilesInExecutionRequest(
             @PathVariable("executionRequestId") UUID executionRequestId) {
         log.info("Request to download archive with pots files in execution request with id = '{}'", executionRequestId);
-        ArchiveData archiveData = potService.getArchiveWithPotsFiles(executionRequestId);
-        return fileResponseEntityService.buildOctetStreamResponseEntity(archiveData);
+        List<ExtendedFileData> potFiles = potService.getPotsFilesForArchive(executionRequestId);
+        return fileResponseEntityService.buildOctetStreamResponseEntity(
+                potService.getPotsFilesArchiveName(executionRequestId),
+                outputStream -> potService.writeArchiveWithPotsFiles(executionRequestId, potFiles, outputStream));
     }
 
 
@@ -0,0 +1,81 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.service.template;
+
+import java.util.function.Supplier;
+
+import org.qubership.atp.ram.models.ExecutionRequest;
+import org.qubership.atp.ram.models.Project;
+import org.qubership.atp.ram.models.WidgetConfigTemplate;
+
+import com.google.common.base.Suppliers;
+
+/**
+ * Data of execution request shared by widget model builders of one report.
+ * Each part is loaded on first access and then reused, so that a failed lookup fails only widgets which need it
+ * and data which is not needed by any widget of the report is not loaded at all.
+ * Builders run concurrently, so they must not modify the context data.
+ */
+public class ReportDataContext {
+
+    private final Supplier<ExecutionRequest> executionRequest;
+    private final Supplier<Project> project;
+    private final Supplier<WidgetConfigTemplate> widgetConfigTemplate;
+
+    /**
+     * Creates context with already loaded data.
+     *
+     * @param executionRequest     execution request
+     * @param project              project of execution request
+     * @param widgetConfigTemplate widget config template of execution request
+     */
+    public ReportDataContext(ExecutionRequest executionRequest, Project project,
+                             WidgetConfigTemplate widgetConfigTemplate) {
+        this(() -> executionRequest, () -> project, () -> widgetConfigTemplate);
+    }
+
+    /**
+     * Creates context loading data on first access. Each loader is called at most once if it succeeds.
+     *
+     * @param executionRequest     loader of execution request
+     * @param project              loader of project of execution request
+     * @param widgetConfigTemplate loader of widget config template of execution request
+     */
+    public ReportDataContext(Supplier<ExecutionRequest> executionRequest, Supplier<Project> project,
+                             Supplier<WidgetConfigTemplate> widgetConfigTemplate) {
+        this.executionRequest = Suppliers.memoize(executionRequest::get);
+        this.project = Suppliers.memoize(project::get);
+        this.widgetConfigTemplate = Suppliers.memoize(widgetConfigTemplate::get);
+    }
+
+    public ExecutionRequest getExecutionRequest() {
+        return executionRequest.get();
+    }
+
+    public Project getProject() {
+        return project.get();
+    }
+
+    /**
+     * Returns widget config template of execution request.
+     *
+     * @return widget config template, null if execution request has no template
+     */
+    public WidgetConfigTemplate getWidgetConfigTemplate() {
+        return widgetConfigTemplate.get();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.service.template;
+
+import static java.util.Objects.isNull;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.qubership.atp.ram.dto.response.ProjectDataResponse;
+import org.qubership.atp.ram.models.ExecutionRequest;
+import org.qubership.atp.ram.models.Project;
+import org.qubership.atp.ram.models.WidgetConfigTemplate;
+import org.qubership.atp.ram.services.CatalogueService;
+import org.qubership.atp.ram.services.ExecutionRequestService;
+import org.qubership.atp.ram.services.ProjectsService;
+import org.qubership.atp.ram.services.WidgetConfigTemplateService;
+import org.springframework.stereotype.Component;
+
+import com.google.common.base.Suppliers;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ReportDataContextLoader {
+
+    private final ExecutionRequestService executionRequestService;
+    private final ProjectsService projectsService;
+    private final CatalogueService catalogueService;
+    private final WidgetConfigTemplateService widgetConfigTemplateService;
+
+    /**
+     * Create context of execution request data shared by widget model builders.
+     * Data is loaded on first access by builders, project is completed from catalogue only if some widget needs it.
+     *
+     * @param executionRequestId execution request id
+     * @return report data context
+     */
+    public ReportDataContext load(UUID executionRequestId) {
+        Supplier<ExecutionRequest> executionRequest = Suppliers.memoize(() -> {
+            log.debug("Load execution request '{}' for report", executionRequestId);
+            return executionRequestService.get(executionRequestId);
+        });
+        return new ReportDataContext(executionRequest,
+                () -> {
+                    Project project = projectsService.get(executionRequest.get().getProjectId());
+                    setProjectDataFromCatalogIfDateTimeFormatNull(project);
+                    return project;
+                },
+                () -> widgetConfigTemplateService.getWidgetConfigTemplateForEr(executionRequest.get()).getTemplate());
+    }
+
+    private void setProjectDataFromCatalogIfDateTimeFormatNull(Project project) {
+        if (isNull(project.getDateFormat()) || isNull(project.getTimeFormat()) || isNull(project.getTimeZone())) {
+            ProjectDataResponse projectData = catalogueService.getProjectData(project.getUuid());
+            project.setDateFormat(projectData.getDateFormat());
+            project.setTimeFormat(projectData.getTimeFormat());
+            project.setTimeZone(projectData.getTimeZone());
+            projectsService.save(project);
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package org.qubership.atp.ram.service.template;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.util.Map;
 
 import org.qubership.atp.ram.models.ReportTemplate;
@@ -29,6 +30,8 @@ public interface TemplateRenderService {
 
     String render(WidgetType widget, Map<String, Object> model) throws IOException, TemplateException;
 
+    void render(WidgetType widget, Map<String, Object> model, Writer out) throws IOException, TemplateException;
+
     String render(ReportTemplate reportTemplate, Map<WidgetType, Map<String, Object>> model);
 
     String render(Template template, Object model) throws Exception;
@@ -22,7 +22,7 @@ import org.qubership.atp.ram.models.WidgetType;
 import org.qubership.atp.ram.service.mail.ReportParams;
 
 public interface WidgetModelBuilder {
-    Map<String, Object> getModel(ReportParams reportParams);
+    Map<String, Object> getModel(ReportParams reportParams, ReportDataContext context);
 
     WidgetType getType();
 }
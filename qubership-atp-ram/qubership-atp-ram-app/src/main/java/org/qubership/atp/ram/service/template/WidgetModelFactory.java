@@ -16,14 +16,26 @@
 
 package org.qubership.atp.ram.service.template;
 
+import static org.qubership.atp.ram.config.WidgetModelExecutorConfiguration.WIDGET_MODEL_EXECUTOR;
+
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.qubership.atp.ram.models.WidgetType;
 import org.qubership.atp.ram.service.mail.ReportParams;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.util.Optionals;
 import org.springframework.stereotype.Component;
 
@@ -34,9 +46,21 @@ import lombok.extern.slf4j.Slf4j;
 public class WidgetModelFactory {
 
     List<WidgetModelBuilder> modelBuilders;
+    private final ReportDataContextLoader reportDataContextLoader;
+    private final ExecutorService widgetModelExecutor;
+
+    @Value("${atp.ram.report.widget.model.timeout.ms:60000}")
+    private long widgetModelTimeoutMs;
 
-    public WidgetModelFactory(List<WidgetModelBuilder> modelBuilders) {
+    /**
+     * WidgetModelFactory constructor.
+     */
+    public WidgetModelFactory(List<WidgetModelBuilder> modelBuilders,
+                              ReportDataContextLoader reportDataContextLoader,
+                              @Qualifier(WIDGET_MODEL_EXECUTOR) ExecutorService widgetModelExecutor) {
         this.modelBuilders = modelBuilders;
+        this.reportDataContextLoader = reportDataContextLoader;
+        this.widgetModelExecutor = widgetModelExecutor;
     }
 
     /**
@@ -57,6 +81,8 @@ public class WidgetModelFactory {
 
     /**
      * Generates data model map for template engine.
+     * Data of execution request is loaded once on first access and models of widgets are built concurrently,
+     * model of widget which fails or is not built in time is left empty.
      * @param reportParams Params used as a source data for model generation.
      * @param widgets collection of UI widget templates to be populated.
      * @return map of populated data to be used by template engine, where key = {@link WidgetType}
@@ -64,23 +90,88 @@ public class WidgetModelFactory {
      */
     public Map<WidgetType, Map<String, Object>> generateModel(ReportParams reportParams,
                                                               Collection<WidgetType> widgets) {
-        Map<WidgetType, Map<String, Object>> model = new HashMap<>();
+        ReportDataContext context = reportDataContextLoader.load(reportParams.getExecutionRequestUuid());
+        List<WidgetModelTask> tasks = new ArrayList<>();
         widgets.forEach(widget -> {
             Optional<WidgetModelBuilder> modelBuilder = getModelBuilder(widget);
 
             Optionals.ifPresentOrElse(modelBuilder,
-                    builder -> model.put(widget, getModel(builder, reportParams)),
+                    builder -> tasks.add(new WidgetModelTask(builder, reportParams, context)),
                     () ->  log.info("Skipping unknown Widget type =" + widget));
         });
+
+        Map<WidgetType, Map<String, Object>> model = new HashMap<>();
+        tasks.forEach(task -> model.put(task.builder.getType(), task.await()));
         return model;
     }
 
-    private Map<String, Object> getModel(WidgetModelBuilder builder, ReportParams reportParams) {
+    private Map<String, Object> getModel(WidgetModelBuilder builder, ReportParams reportParams,
+                                         ReportDataContext context) {
         try {
-            return builder.getModel(reportParams);
+            return builder.getModel(reportParams, context);
         } catch (Exception e) {
             log.error("Error occured while collecting data for widget=" + builder.getType(), e);
         }
         return new HashMap<>();
     }
+
+    /**
+     * Model of one widget built in pool. Timeout is counted from start of building,
+     * so that widgets waiting in queue of the busy pool are not dropped.
+     * Start is awaited for the same timeout, as the task is silently discarded by the shut down pool.
+     */
+    private class WidgetModelTask {
+
+        private final WidgetModelBuilder builder;
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final Future<Map<String, Object>> future;
+        private volatile long startNanos;
+
+        private WidgetModelTask(WidgetModelBuilder builder, ReportParams reportParams, ReportDataContext context) {
+            this.builder = builder;
+            Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+            this.future = widgetModelExecutor.submit(() -> {
+                startNanos = System.nanoTime();
+                started.countDown();
+                Map<String, String> threadMdcContext = MDC.getCopyOfContextMap();
+                if (mdcContext != null) {
+                    MDC.setContextMap(mdcContext);
+                }
+                try {
+                    return getModel(builder, reportParams, context);
+                } finally {
+                    // task is run by the caller thread when the pool queue is full
+                    if (threadMdcContext != null) {
+                        MDC.setContextMap(threadMdcContext);
+                    } else {
+                        MDC.clear();
+                    }
+                }
+            });
+        }
+
+        private Map<String, Object> await() {
+            try {
+                if (!started.await(widgetModelTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    future.cancel(true);
+                    log.error("Collecting of data for widget={} is not started in {} ms", builder.getType(),
+                            widgetModelTimeoutMs);
+                    return new HashMap<>();
+                }
+                long remainingNanos = TimeUnit.MILLISECONDS.toNanos(widgetModelTimeoutMs)
+                        - (System.nanoTime() - startNanos);
+                return future.get(Math.max(remainingNanos, 0L), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                log.error("Data for widget={} is not collected in {} ms", builder.getType(), widgetModelTimeoutMs);
+            } catch (InterruptedException e) {
+                future.cancel(true);
+                Thread.currentThread().interrupt();
+                log.error("Interrupted while collecting data for widget=" + builder.getType(), e);
+            } catch (ExecutionException e) {
+                log.error("Error occured while collecting data for widget=" + builder.getType(), e.getCause());
+            }
+            return new HashMap<>();
+        }
+    }
 }
@@ -24,6 +24,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.qubership.atp.ram.models.WidgetType;
 import org.qubership.atp.ram.models.tree.TreeWalker;
 import org.qubership.atp.ram.service.mail.ReportParams;
+import org.qubership.atp.ram.service.template.ReportDataContext;
 import org.qubership.atp.ram.service.template.WidgetModelBuilder;
 import org.qubership.atp.ram.service.template.impl.generictable.Row;
 
@@ -33,11 +34,11 @@ import lombok.extern.slf4j.Slf4j;
 public abstract class AbstractWidgetModelBuilder implements WidgetModelBuilder {
 
     @Override
-    public Map<String, Object> getModel(ReportParams reportParams) {
+    public Map<String, Object> getModel(ReportParams reportParams, ReportDataContext context) {
 
         log.debug("Start building model for html email report, reportParams=" + reportParams);
 
-        Map<String, Object> model = buildModel(reportParams);
+        Map<String, Object> model = buildModel(reportParams, context);
         updateDescription(model, reportParams);
 
         log.debug("Model generated for reportParams=%s, model=%s".formatted(
@@ -56,7 +57,7 @@ public abstract class AbstractWidgetModelBuilder implements WidgetModelBuilder {
         }
     }
 
-    protected abstract Map<String, Object> buildModel(ReportParams reportParams);
+    protected abstract Map<String, Object> buildModel(ReportParams reportParams, ReportDataContext context);
 
     protected void markEvenAndOddRows(List<Row> rows) {
         TreeWalker<Row> rowTreeWalker = new TreeWalker<>();
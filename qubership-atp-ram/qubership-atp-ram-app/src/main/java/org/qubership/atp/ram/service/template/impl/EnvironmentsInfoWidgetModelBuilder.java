@@ -39,11 +39,11 @@ import org.qubership.atp.ram.models.ToolsInfo;
 import org.qubership.atp.ram.models.WdShells;
 import org.qubership.atp.ram.models.WidgetType;
 import org.qubership.atp.ram.service.mail.ReportParams;
+import org.qubership.atp.ram.service.template.ReportDataContext;
 import org.qubership.atp.ram.service.template.SystemInfoAdapter;
 import org.qubership.atp.ram.service.template.SystemStatusColor;
 import org.qubership.atp.ram.services.EnvironmentsInfoService;
 import org.qubership.atp.ram.services.EnvironmentsService;
-import org.qubership.atp.ram.services.ExecutionRequestService;
 import org.qubership.atp.ram.utils.StreamUtils;
 import org.qubership.atp.ram.utils.TimeUtils;
 import org.springframework.beans.factory.annotation.Value;
@@ -59,7 +59,6 @@ public class EnvironmentsInfoWidgetModelBuilder extends AbstractWidgetModelBuild
 
     private static final int COLUMNS_IN_ROW = 3;
     private final EnvironmentsInfoService environmentsInfoService;
-    private final ExecutionRequestService executionRequestService;
     private final EnvironmentsService environmentsService;
     private final ObjectMapper objectMapper;
 
@@ -67,21 +66,22 @@ public class EnvironmentsInfoWidgetModelBuilder extends AbstractWidgetModelBuild
     private String catalogueUrl;
 
     @Override
-    public Map<String, Object> buildModel(ReportParams reportParams) {
+    public Map<String, Object> buildModel(ReportParams reportParams, ReportDataContext context) {
         Map<String, Object> model;
         try {
             EnvironmentsInfo environmentsInfo =
                     environmentsInfoService.findByExecutionRequestId(reportParams.getExecutionRequestUuid());
 
             model = toMap(environmentsInfo);
-            postProcess(model, environmentsInfo);
+            postProcess(model, environmentsInfo, context.getExecutionRequest());
         } catch (AtpEntityNotFoundException e) {
             model = Collections.EMPTY_MAP;
         }
         return model;
     }
 
-    private void postProcess(Map<String, Object> model, EnvironmentsInfo environmentsInfo) {
+    private void postProcess(Map<String, Object> model, EnvironmentsInfo environmentsInfo,
+                             ExecutionRequest executionRequest) {
         String formatedDuration = DurationFormatUtils.formatDuration(
                 environmentsInfo.getDuration(),
                 "HH:mm:ss",
@@ -95,8 +95,6 @@ public class EnvironmentsInfoWidgetModelBuilder extends AbstractWidgetModelBuild
         String status = environmentsInfo.getStatus();
         model.put("statusBgColor", SystemStatusColor.valueOf(status).getHtmlColor());
 
-        final UUID executionRequestId = environmentsInfo.getExecutionRequestId();
-        final ExecutionRequest executionRequest = executionRequestService.get(executionRequestId);
         final UUID projectId = executionRequest.getProjectId();
         final String catalogEnvLink = catalogueUrl + "/project/" + projectId + "/environments";
 
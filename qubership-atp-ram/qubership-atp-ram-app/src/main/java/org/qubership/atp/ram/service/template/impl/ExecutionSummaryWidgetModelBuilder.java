@@ -16,23 +16,17 @@
 
 package org.qubership.atp.ram.service.template.impl;
 
-import static java.util.Objects.isNull;
-
 import java.sql.Timestamp;
 import java.util.Map;
-import java.util.UUID;
 
 import org.apache.commons.lang3.time.DurationFormatUtils;
 import org.qubership.atp.ram.config.ApiPath;
 import org.qubership.atp.ram.dto.response.ExecutionSummaryResponse;
-import org.qubership.atp.ram.dto.response.ProjectDataResponse;
 import org.qubership.atp.ram.models.ExecutionRequest;
 import org.qubership.atp.ram.models.Project;
 import org.qubership.atp.ram.models.WidgetType;
 import org.qubership.atp.ram.service.mail.ReportParams;
-import org.qubership.atp.ram.services.CatalogueService;
-import org.qubership.atp.ram.services.ExecutionRequestService;
-import org.qubership.atp.ram.services.ProjectsService;
+import org.qubership.atp.ram.service.template.ReportDataContext;
 import org.qubership.atp.ram.services.ReportService;
 import org.qubership.atp.ram.utils.TimeUtils;
 import org.springframework.beans.factory.annotation.Value;
@@ -50,45 +44,33 @@ public class ExecutionSummaryWidgetModelBuilder extends AbstractWidgetModelBuild
     private String baseUrl;
 
     private final ReportService reportService;
-    private final ProjectsService projectsService;
-    private final ExecutionRequestService executionRequestService;
     private final ObjectMapper objectMapper;
-    private final CatalogueService catalogueService;
 
     /**
      * Constructor.
      * @param reportService instance of {@link ReportService}
-     * @param executionRequestService instance of {@link ExecutionRequestService}
      * @param objectMapper instance of {@link ObjectMapper}
      */
     public ExecutionSummaryWidgetModelBuilder(ReportService reportService,
-                                              ProjectsService projectsService,
-                                              ExecutionRequestService executionRequestService,
-                                              ObjectMapper objectMapper,
-                                              CatalogueService catalogueService) {
+                                              ObjectMapper objectMapper) {
         this.reportService = reportService;
-        this.projectsService = projectsService;
-        this.executionRequestService = executionRequestService;
         this.objectMapper = objectMapper;
-        this.catalogueService = catalogueService;
     }
 
     @Override
-    protected Map<String, Object> buildModel(ReportParams reportParams) {
-        UUID executionRequestId = reportParams.getExecutionRequestUuid();
-        ExecutionRequest executionRequest = executionRequestService.get(executionRequestId);
+    protected Map<String, Object> buildModel(ReportParams reportParams, ReportDataContext context) {
+        ExecutionRequest executionRequest = context.getExecutionRequest();
 
         ExecutionSummaryResponse executionSummary = reportService
                 .getExecutionSummary(executionRequest, reportParams.isExecutionSummaryRunsSummary());
 
-        UUID projectId = executionRequest.getProjectId();
-        Project project = projectsService.get(projectId);
+        Project project = context.getProject();
 
         log.debug("executionSummary = {} found for reportParams = {}", executionSummary, reportParams);
 
         Map<String, Object> model = toMap(executionSummary);
 
-        postProcess(project, model, executionSummary, reportParams);
+        postProcess(project, model, executionSummary, executionRequest);
 
         return model;
     }
@@ -96,15 +78,13 @@ public class ExecutionSummaryWidgetModelBuilder extends AbstractWidgetModelBuild
     private void postProcess(Project project,
                              Map<String, Object> model,
                              ExecutionSummaryResponse executionSummary,
-                             ReportParams reportParams) {
+                             ExecutionRequest executionRequest) {
         String formatedDuration = DurationFormatUtils.formatDuration(
                 executionSummary.getDuration() * 1000,
                 "HH:mm:ss",
                 true);
         model.put("duration", formatedDuration);
 
-        setProjectDataFromCatalogIfDateTimeFormatNull(project);
-
         String dateTimeFormat = "%s %s".formatted(project.getDateFormat(), project.getTimeFormat());
         String timeZone = project.getTimeZone();
 
@@ -114,24 +94,13 @@ public class ExecutionSummaryWidgetModelBuilder extends AbstractWidgetModelBuild
         Timestamp finishDate = executionSummary.getFinishDate();
         model.put("finishDate",TimeUtils.formatDateTime(finishDate, dateTimeFormat, timeZone));
 
-        String executionRequestLink = getErLink(reportParams);
+        String executionRequestLink = getErLink(executionRequest);
         model.put("executionRequestLink", executionRequestLink);
     }
 
-    private void setProjectDataFromCatalogIfDateTimeFormatNull(Project project) {
-        if (isNull(project.getDateFormat()) || isNull(project.getTimeFormat()) || isNull(project.getTimeZone())) {
-            ProjectDataResponse projectData = catalogueService.getProjectData(project.getUuid());
-            project.setDateFormat(projectData.getDateFormat());
-            project.setTimeFormat(projectData.getTimeFormat());
-            project.setTimeZone(projectData.getTimeZone());
-            projectsService.save(project);
-        }
-    }
-
-    private String getErLink(ReportParams reportParams) {
-        ExecutionRequest executionRequest = executionRequestService.get(reportParams.getExecutionRequestUuid());
+    private String getErLink(ExecutionRequest executionRequest) {
         return baseUrl + ApiPath.PROJECT_PATH + '/' + executionRequest.getProjectId()
-                + ApiPath.REPORT_EXECUTION_REQUESTS_PATH + '/' + reportParams.getExecutionRequestUuid();
+                + ApiPath.REPORT_EXECUTION_REQUESTS_PATH + '/' + executionRequest.getUuid();
     }
 
     @Override
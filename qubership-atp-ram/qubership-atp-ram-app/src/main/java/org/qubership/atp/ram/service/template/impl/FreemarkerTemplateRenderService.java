@@ -18,8 +18,10 @@ package org.qubership.atp.ram.service.template.impl;
 
 import java.io.IOException;
 import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.util.Map;
-import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.qubership.atp.ram.models.ReportTemplate;
 import org.qubership.atp.ram.models.WidgetType;
@@ -55,6 +57,11 @@ public class FreemarkerTemplateRenderService implements TemplateRenderService {
     private static final String HTML_ROOT_SUFFIX = "</body></html>";
     private final Configuration freemarkerConfiguration;
     private final ReportTemplatesService reportTemplatesService;
+    /**
+     * Parsed widget templates by template file path.
+     * Widget templates are classpath resources, so they are parsed once and shared by widgets with the same file.
+     */
+    private final Map<String, Template> widgetTemplates = new ConcurrentHashMap<>();
 
     public FreemarkerTemplateRenderService(Configuration freemarkerConfiguration,
                                            ReportTemplatesService reportTemplatesService) {
@@ -64,37 +71,66 @@ public class FreemarkerTemplateRenderService implements TemplateRenderService {
 
     @Override
     public String render(WidgetType widget, Map<String, Object> model) throws IOException, TemplateException {
-        String widgetTemplateContent = reportTemplatesService.getReportTemplateWidgetTemplate(widget);
-        Template template = new Template(widget.toString(), new StringReader(widgetTemplateContent),
-                freemarkerConfiguration);
+        StringWriter out = new StringWriter();
+        render(widget, model, out);
+        return out.toString();
+    }
 
-        return FreeMarkerTemplateUtils.processTemplateIntoString(template, model);
+    @Override
+    public void render(WidgetType widget, Map<String, Object> model, Writer out)
+            throws IOException, TemplateException {
+        getWidgetTemplate(widget).process(model, out);
     }
 
     @Override
     public String render(ReportTemplate reportTemplate, Map<WidgetType, Map<String, Object>> model) {
-
-        log.info("Start generating html report for the report template = %s and model = %s".formatted(
-                reportTemplate.getName(), model));
-
         Preconditions.checkNotNull(reportTemplate, "Report Template can not be null.");
         Preconditions.checkNotNull(model, "Template Model can not be null.");
 
-        StringJoiner joiner = new StringJoiner(HTML_WIDGET_DELIMETER, HTML_ROOT_PREFIX, HTML_ROOT_SUFFIX);
-        reportTemplate.getWidgets().forEach(widget -> {
-                    try {
-                        joiner.add(render(widget, model.get(widget)));
-                    } catch (Exception e) {
-                        log.error("Error occurred while rendering report templateId = %s, widget = %s".formatted(
-                                reportTemplate.getUuid(), widget.toString()), e);
-                    }
+        log.info("Start generating html report for the report template = {}", reportTemplate.getName());
+        log.debug("Report template = {} model = {}", reportTemplate.getName(), model);
+
+        StringWriter out = new StringWriter();
+        StringBuffer html = out.getBuffer();
+        out.write(HTML_ROOT_PREFIX);
+        boolean firstWidget = true;
+        for (WidgetType widget : reportTemplate.getWidgets()) {
+            int widgetStart = html.length();
+            try {
+                if (!firstWidget) {
+                    out.write(HTML_WIDGET_DELIMETER);
                 }
-        );
-
-        log.info("Html report generated for the report template = %s ,html = %s".formatted(
-                reportTemplate.getName(), joiner.toString()));
+                render(widget, model.get(widget), out);
+                firstWidget = false;
+            } catch (Exception e) {
+                // drop partially rendered widget
+                html.setLength(widgetStart);
+                log.error("Error occurred while rendering report templateId = %s, widget = %s".formatted(
+                        reportTemplate.getUuid(), widget.toString()), e);
+            }
+        }
+        out.write(HTML_ROOT_SUFFIX);
+
+        log.info("Html report generated for the report template = {}, length = {}", reportTemplate.getName(),
+                html.length());
+        log.debug("Html report for the report template = {}: {}", reportTemplate.getName(), html);
+
+        return out.toString();
+    }
 
-        return joiner.toString();
+    private Template getWidgetTemplate(WidgetType widget) throws IOException {
+        String templateFilePath = widget.getTemplateFilePath();
+        Template template = widgetTemplates.get(templateFilePath);
+        if (template == null) {
+            String widgetTemplateContent = reportTemplatesService.getReportTemplateWidgetTemplate(widget);
+            template = new Template(templateFilePath, new StringReader(widgetTemplateContent),
+                    freemarkerConfiguration);
+            Template existingTemplate = widgetTemplates.putIfAbsent(templateFilePath, template);
+            if (existingTemplate != null) {
+                template = existingTemplate;
+            }
+        }
+        return template;
     }
 
     @Override
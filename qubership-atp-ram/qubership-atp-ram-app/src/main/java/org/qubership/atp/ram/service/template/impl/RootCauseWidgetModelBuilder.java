@@ -26,8 +26,7 @@ import org.qubership.atp.ram.dto.response.RootCausesStatisticResponse;
 import org.qubership.atp.ram.models.Project;
 import org.qubership.atp.ram.models.WidgetType;
 import org.qubership.atp.ram.service.mail.ReportParams;
-import org.qubership.atp.ram.services.ExecutionRequestService;
-import org.qubership.atp.ram.services.ProjectsService;
+import org.qubership.atp.ram.service.template.ReportDataContext;
 import org.qubership.atp.ram.services.ReportService;
 import org.springframework.stereotype.Component;
 
@@ -40,13 +39,11 @@ public class RootCauseWidgetModelBuilder extends AbstractWidgetModelBuilder {
     public static final String ROOT_CAUSE_STATISCTICS_MODEL_KEY = "statistics";
 
     private final ReportService reportService;
-    private final ExecutionRequestService executionRequestService;
-    private final ProjectsService projectsService;
 
     @Override
-    protected Map<String, Object> buildModel(ReportParams reportParams) {
+    protected Map<String, Object> buildModel(ReportParams reportParams, ReportDataContext context) {
         UUID executionRequestId = reportParams.getExecutionRequestUuid();
-        Project project = executionRequestService.getProjectId(executionRequestId);
+        Project project = context.getProject();
 
         List<RootCausesStatisticResponse> rootCausesStatistic =
                 reportService.getRootCausesStatisticForExecutionRequestAndPrevious(executionRequestId);
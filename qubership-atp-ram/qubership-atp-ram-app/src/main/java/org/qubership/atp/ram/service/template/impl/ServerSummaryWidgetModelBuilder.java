@@ -23,6 +23,7 @@ import java.util.Map;
 import org.qubership.atp.ram.dto.response.ServerSummaryResponse;
 import org.qubership.atp.ram.models.WidgetType;
 import org.qubership.atp.ram.service.mail.ReportParams;
+import org.qubership.atp.ram.service.template.ReportDataContext;
 import org.qubership.atp.ram.services.ReportService;
 import org.springframework.stereotype.Component;
 
@@ -39,7 +40,7 @@ public class ServerSummaryWidgetModelBuilder extends AbstractWidgetModelBuilder
     }
 
     @Override
-    protected Map<String, Object> buildModel(ReportParams reportParams) {
+    protected Map<String, Object> buildModel(ReportParams reportParams, ReportDataContext context) {
         List<ServerSummaryResponse> serverSummary =
                 reportService.getServerSummaryForExecutionRequest(reportParams.getExecutionRequestUuid());
 
@@ -33,6 +33,7 @@ import org.qubership.atp.ram.entities.treenodes.labelparams.CountReportLabelPara
 import org.qubership.atp.ram.enums.ExecutionRequestWidgets;
 import org.qubership.atp.ram.models.WidgetType;
 import org.qubership.atp.ram.service.mail.ReportParams;
+import org.qubership.atp.ram.service.template.ReportDataContext;
 import org.qubership.atp.ram.service.template.impl.generictable.Body;
 import org.qubership.atp.ram.service.template.impl.generictable.Column;
 import org.qubership.atp.ram.service.template.impl.generictable.Header;
@@ -56,7 +57,7 @@ public class SummaryStatisticsWidgetModelBuilder extends AbstractWidgetModelBuil
     private final TreeNodeService treeNodeService;
 
     @Override
-    protected Map<String, Object> buildModel(ReportParams reportParams) {
+    protected Map<String, Object> buildModel(ReportParams reportParams, ReportDataContext context) {
         TreeNode rootTreeNode = treeNodeService.getExecutionRequestWidgetTree(reportParams.getExecutionRequestUuid(),
                 ExecutionRequestWidgets.SUMMARY_STATISTIC.getWidgetId(), null, null, false, true);
 
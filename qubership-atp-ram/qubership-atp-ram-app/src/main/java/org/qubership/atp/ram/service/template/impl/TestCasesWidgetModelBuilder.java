@@ -46,6 +46,7 @@ import org.qubership.atp.ram.models.TestPlan;
 import org.qubership.atp.ram.models.WidgetConfigTemplate;
 import org.qubership.atp.ram.models.WidgetType;
 import org.qubership.atp.ram.service.mail.ReportParams;
+import org.qubership.atp.ram.service.template.ReportDataContext;
 import org.qubership.atp.ram.service.template.TestingStatusColor;
 import org.qubership.atp.ram.service.template.impl.generictable.Body;
 import org.qubership.atp.ram.service.template.impl.generictable.Column;
@@ -62,7 +63,6 @@ import org.qubership.atp.ram.service.template.impl.generictable.columntypes.Perc
 import org.qubership.atp.ram.service.template.impl.generictable.columntypes.StatusColumn;
 import org.qubership.atp.ram.services.CatalogueService;
 import org.qubership.atp.ram.services.DataSetService;
-import org.qubership.atp.ram.services.ExecutionRequestService;
 import org.qubership.atp.ram.services.ReportService;
 import org.qubership.atp.ram.services.TreeNodeService;
 import org.qubership.atp.ram.services.WidgetConfigTemplateService;
@@ -87,13 +87,12 @@ public class TestCasesWidgetModelBuilder extends AbstractWidgetModelBuilder {
     @Value("${catalogue.url}")
     private String baseUrl;
     private final CatalogueService catalogueService;
-    private final ExecutionRequestService executionRequestService;
     private final DataSetService dataSetService;
     private final ReportService reportService;
     private final WidgetConfigTemplateService widgetConfigTemplateService;
 
     @Override
-    protected Map<String, Object> buildModel(ReportParams reportParams) {
+    protected Map<String, Object> buildModel(ReportParams reportParams, ReportDataContext context) {
         UUID executionRequestId = reportParams.getExecutionRequestUuid();
         boolean isExecutionRequestsSummary = reportParams.isExecutionRequestsSummary();
 
@@ -107,7 +106,7 @@ public class TestCasesWidgetModelBuilder extends AbstractWidgetModelBuilder {
         // Log widget ID for clarity
         log.info("Widget ID for the widget type {} : {}", WidgetType.TEST_CASES.name(), widgetId);
         Map<String, Boolean> columnVisibilityMap =
-                widgetConfigTemplateService.getWidgetColumnVisibilityMap(executionRequestId, widgetId);
+                widgetConfigTemplateService.getWidgetColumnVisibilityMap(context.getWidgetConfigTemplate(), widgetId);
 
         final Table table = new Table();
         final Header header = table.getHeader();
@@ -125,7 +124,7 @@ public class TestCasesWidgetModelBuilder extends AbstractWidgetModelBuilder {
         }
 
         Body body = table.getBody();
-        final ExecutionRequest executionRequest = executionRequestService.get(executionRequestId);
+        final ExecutionRequest executionRequest = context.getExecutionRequest();
         LabelNodeReportAdapter model = updateModel(executionRequest, testCases);
         List<Row> labelNodeRows = mapLabelNodes(model.getChildren(), validationLabels, columnVisibilityMap);
         body.setRows(labelNodeRows);
@@ -37,9 +37,8 @@ import org.qubership.atp.ram.models.WidgetConfigTemplate;
 import org.qubership.atp.ram.models.WidgetConfigTemplate.WidgetConfig;
 import org.qubership.atp.ram.models.WidgetType;
 import org.qubership.atp.ram.service.mail.ReportParams;
-import org.qubership.atp.ram.services.ExecutionRequestService;
+import org.qubership.atp.ram.service.template.ReportDataContext;
 import org.qubership.atp.ram.services.IssueService;
-import org.qubership.atp.ram.services.WidgetConfigTemplateService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -63,26 +62,19 @@ public class TopIssuesWidgetModelBuilder extends AbstractWidgetModelBuilder {
     @Value("${catalogue.url}")
     private String catalogueUrl;
     private IssueService issueService;
-    private ExecutionRequestService executionRequestService;
-    private WidgetConfigTemplateService widgetConfigTemplateService;
 
     /**
      * TopIssuesWidgetModelBuilder constructor.
      */
-    public TopIssuesWidgetModelBuilder(IssueService issueService,
-                                       ExecutionRequestService executionRequestService,
-                                       WidgetConfigTemplateService widgetConfigTemplateService) {
+    public TopIssuesWidgetModelBuilder(IssueService issueService) {
         this.issueService = issueService;
-        this.executionRequestService = executionRequestService;
-        this.widgetConfigTemplateService = widgetConfigTemplateService;
     }
 
     @Override
-    protected Map<String, Object> buildModel(ReportParams reportParams) {
+    protected Map<String, Object> buildModel(ReportParams reportParams, ReportDataContext context) {
         final UUID executionRequestId = reportParams.getExecutionRequestUuid();
 
-        WidgetConfigTemplate widgetConfigTemplate =
-                widgetConfigTemplateService.getWidgetConfigTemplateForEr(executionRequestId).getTemplate();
+        WidgetConfigTemplate widgetConfigTemplate = context.getWidgetConfigTemplate();
 
         int topIssuesSizeLimit = TOP_ISSUES_DEFAULT_SIZE_LIMIT;
 
@@ -100,7 +92,7 @@ public class TopIssuesWidgetModelBuilder extends AbstractWidgetModelBuilder {
                 TOP_ISSUES_SORT_TYPE);
         List<IssueResponse> issueResponses = issues.getParams();
 
-        ExecutionRequest executionRequest = executionRequestService.get(reportParams.getExecutionRequestUuid());
+        ExecutionRequest executionRequest = context.getExecutionRequest();
         List<IssueResponseAdapter> updatedIssues = updateModel(executionRequest, issueResponses);
         String topIssuesLink = getTopIssuesLink(executionRequest);
 
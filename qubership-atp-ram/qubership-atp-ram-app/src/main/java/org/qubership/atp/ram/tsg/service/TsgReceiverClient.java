@@ -0,0 +1,135 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.tsg.service;
+
+import java.net.ConnectException;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import org.qubership.atp.ram.tsg.model.FdrResponse;
+import org.qubership.atp.ram.tsg.model.TsgConfiguration;
+import org.qubership.atp.ram.tsg.model.TsgFdr;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Client of TSG Receiver. One http client with pool of keep-alive connections is shared by all requests.
+ * Creation of FDRs is not idempotent, so requests are retried with linear backoff only if they surely
+ * did not reach TSG Receiver (connection is not established) or were rejected as Service Unavailable.
+ * Read timeouts, other I/O errors and other server errors, which may come after FDRs are created,
+ * are not retried to not create duplicated FDRs.
+ */
+@Component
+@Slf4j
+public class TsgReceiverClient {
+
+    private final TsgConfiguration tsgConfiguration;
+    private final RestTemplate restTemplate;
+    private final int maxAttempts;
+    private final long retryDelayMs;
+
+    /**
+     * Constructor.
+     */
+    public TsgReceiverClient(TsgConfiguration tsgConfiguration,
+                             @Value("${tsg.fdr.send.connect.timeout.ms:10000}") long connectTimeoutMs,
+                             @Value("${tsg.fdr.send.read.timeout.ms:60000}") long readTimeoutMs,
+                             @Value("${tsg.fdr.send.max.attempts:3}") int maxAttempts,
+                             @Value("${tsg.fdr.send.retry.delay.ms:1000}") long retryDelayMs) {
+        this.tsgConfiguration = tsgConfiguration;
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        this.restTemplate = new RestTemplate(requestFactory);
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.retryDelayMs = retryDelayMs;
+    }
+
+    /**
+     * Send FDRs to TSG Receiver in one request.
+     *
+     * @param tsgProjectName name of project in TSG
+     * @param fdrs           FDRs to send
+     * @return links to FDRs created by TSG Receiver
+     * @throws RestClientException if FDRs are not accepted after all attempts or response status is not OK
+     */
+    public List<FdrResponse> sendFdrs(String tsgProjectName, List<TsgFdr> fdrs) {
+        String tsgFdrEndpoint = tsgConfiguration.getTsgReceiverUrl() + "/putJson/" + tsgProjectName;
+        HttpEntity<List<TsgFdr>> entity = new HttpEntity<>(fdrs);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                ResponseEntity<List<FdrResponse>> responseEntity = restTemplate.exchange(tsgFdrEndpoint,
+                        HttpMethod.POST, entity, new ParameterizedTypeReference<>() {
+                        });
+                if (responseEntity.getStatusCode() != HttpStatus.OK) {
+                    throw new RestClientException(String.format("%s FDRs were not accepted by %s, response: %s",
+                            fdrs.size(), tsgFdrEndpoint, responseEntity));
+                }
+                log.trace("{} FDRs were sent to {}, response from TSG Receiver: {}", fdrs.size(), tsgFdrEndpoint,
+                        responseEntity);
+                List<FdrResponse> fdrResponses = responseEntity.getBody();
+                return fdrResponses == null ? Collections.emptyList() : fdrResponses;
+            } catch (HttpServerErrorException | ResourceAccessException e) {
+                if (attempt >= maxAttempts || !isRetryable(e)) {
+                    throw e;
+                }
+                log.warn("Attempt {} of {} to send {} FDRs to {} failed: {}", attempt, maxAttempts, fdrs.size(),
+                        tsgFdrEndpoint, e.getMessage());
+                pause(attempt, e);
+            }
+        }
+    }
+
+    private boolean isRetryable(RestClientException exception) {
+        if (exception instanceof HttpServerErrorException) {
+            return ((HttpServerErrorException) exception).getStatusCode() == HttpStatus.SERVICE_UNAVAILABLE;
+        }
+        for (Throwable cause = exception.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof HttpConnectTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void pause(int attempt, RestClientException cause) {
+        try {
+            Thread.sleep(retryDelayMs * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+}
@@ -16,18 +16,27 @@
 
 package org.qubership.atp.ram.tsg.service;
 
+import static org.qubership.atp.ram.config.TsgFdrExecutorConfiguration.TSG_FDR_EXECUTOR;
 import static org.qubership.atp.ram.enums.DefaultSuiteNames.EXECUTION_REQUESTS_LOGS;
 
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.qubership.atp.ram.enums.ExecutionStatuses;
 import org.qubership.atp.ram.models.ExecutionRequest;
@@ -43,19 +52,16 @@ import org.qubership.atp.ram.tsg.model.TsgCheckPoint;
 import org.qubership.atp.ram.tsg.model.TsgConfiguration;
 import org.qubership.atp.ram.tsg.model.TsgFdr;
 import org.qubership.atp.ram.tsg.senders.Sender;
+import org.qubership.atp.ram.utils.StreamUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import com.google.common.base.Strings;
+import com.google.common.collect.Lists;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 
@@ -63,6 +69,7 @@ import com.google.gson.JsonObject;
 public class TsgService {
 
     private static final Logger LOG = LoggerFactory.getLogger(TsgService.class);
+    private static final String TERMINATED_TEST_RUN_LOG_RECORD_NAME = "Test Run has been terminated";
 
     private final ExecutionRequestService executionRequestService;
     private final TestRunService testRunService;
@@ -72,9 +79,14 @@ public class TsgService {
     private final TsgErService tsgErService;
     private final TsgConfiguration tsgConfiguration;
     private final Sender<List<UUID>> fdrSender;
+    private final TsgReceiverClient tsgReceiverClient;
+    private final ExecutorService fdrExecutor;
 
     private final List<ExecutionRequest> executionRequestQueue;
 
+    @Value("${tsg.fdr.send.batch.size:100}")
+    private int fdrBatchSize;
+
     @Value("${base.url}")
     private String ramUrl;
 
@@ -94,7 +106,9 @@ public class TsgService {
                       TsgProjectService tsgProjectService,
                       TsgErService tsgErService,
                       TsgConfiguration tsgConfiguration,
-                      @Lazy Sender<List<UUID>> fdrSender) {
+                      @Lazy Sender<List<UUID>> fdrSender,
+                      TsgReceiverClient tsgReceiverClient,
+                      @Qualifier(TSG_FDR_EXECUTOR) ExecutorService fdrExecutor) {
         this.executionRequestService = executionRequestService;
         this.testRunService = testRunService;
         this.logRecordService = logRecordService;
@@ -103,6 +117,8 @@ public class TsgService {
         this.tsgErService = tsgErService;
         this.tsgConfiguration = tsgConfiguration;
         this.fdrSender = fdrSender;
+        this.tsgReceiverClient = tsgReceiverClient;
+        this.fdrExecutor = fdrExecutor;
         executionRequestQueue = new CopyOnWriteArrayList<>();
     }
 
@@ -116,11 +132,12 @@ public class TsgService {
             LOG.warn("There is no ER with uuid: {}", executionRequestUuid);
             return null;
         }
-        List<TsgFdr> tsgFdrs = new ArrayList<>();
-        for (TestRun tr : testRunService.findAllByExecutionRequestId(executionRequestUuid)) {
-            TsgFdr tsgFdr = buildFdr(tr.getUuid());
-            tsgFdrs.add(tsgFdr);
+        Project project = projectsService.getProjectById(er.getProjectId());
+        if (!isTsgIntegrationEnabled(project)) {
+            LOG.debug("TSG Integration is disabled for ER: {}", executionRequestUuid);
+            return Collections.emptyList();
         }
+        List<TsgFdr> tsgFdrs = buildFdrs(er, project, testRunService.findAllByExecutionRequestId(executionRequestUuid));
         LOG.info("Finish of FDRs building for ER: {}.", executionRequestUuid);
         return tsgFdrs;
     }
@@ -132,14 +149,37 @@ public class TsgService {
         TestRun testRun = testRunService.getByUuid(testRunUuid);
         ExecutionRequest executionRequest = executionRequestService.findById(testRun.getExecutionRequestId());
         Project project = projectsService.getProjectById(executionRequest.getProjectId());
-        if (Objects.isNull(project) || !project.isTsgIntegration()) {
+        if (!isTsgIntegrationEnabled(project)) {
             LOG.debug("TSG Integration is disabled for TR: {}", testRunUuid);
             return null;
         }
+        return buildFdrs(executionRequest, project, Collections.singletonList(testRun)).get(0);
+    }
+
+    /**
+     * Converts results of several test runs of one execution request to TSG FDR objects.
+     * Log records of all test runs are read by one query.
+     */
+    private List<TsgFdr> buildFdrs(ExecutionRequest executionRequest, Project project, List<TestRun> testRuns) {
+        Map<UUID, List<LogRecord>> logRecordsByTestRun = new HashMap<>();
+        try (Stream<LogRecord> logRecords =
+                     logRecordService.findLogRecordsForFdrByTestRunIds(StreamUtils.extractIds(testRuns))) {
+            logRecords.forEach(logRecord -> logRecordsByTestRun
+                    .computeIfAbsent(logRecord.getTestRunId(), testRunId -> new ArrayList<>())
+                    .add(logRecord));
+        }
+        return testRuns.stream()
+                .map(testRun -> buildFdr(executionRequest, project, testRun,
+                        logRecordsByTestRun.getOrDefault(testRun.getUuid(), Collections.emptyList())))
+                .collect(Collectors.toList());
+    }
+
+    private TsgFdr buildFdr(ExecutionRequest executionRequest, Project project, TestRun testRun,
+                            List<LogRecord> logRecords) {
         TsgFdr fdr = new TsgFdr();
         fdr.setProjectName(project.getName());
         fdr.setExecutionRequestId(testRun.getExecutionRequestId());
-        fdr.setTestRunId(testRunUuid);
+        fdr.setTestRunId(testRun.getUuid());
         fdr.setTestRunName(testRun.getName());
         fdr.setTestCaseName(testRun.getTestCaseName());
         fdr.setStatus(testRun.getTestingStatus().getName());
@@ -149,8 +189,8 @@ public class TsgService {
         fdr.setScope("Execution");
         String url = !catalogueUrl.isEmpty() ? catalogueUrl : ramUrl;
         fdr.setExecutionLink(url + "/project/" + executionRequest.getProjectId() + "/ram/execution-request/"
-                + testRun.getExecutionRequestId() + "/" + testRunUuid);
-        fdr.setCheckPoints(fillCheckPointsWithParents(testRunUuid, null, false));
+                + testRun.getExecutionRequestId() + "/" + testRun.getUuid());
+        fdr.setCheckPoints(collectCheckPoints(logRecords));
         return fdr;
     }
 
@@ -163,48 +203,42 @@ public class TsgService {
         testRunService.save(testRun);
     }
 
-    private List<TsgCheckPoint> fillCheckPointsWithParents(UUID testRunUuid, UUID parentUuid, boolean withParents) {
-        List<TsgCheckPoint> checkPoints = new ArrayList<>();
-        List<LogRecord> logRecords = withParents
-                ? logRecordService.findByTestRunIdAndParentUuid(testRunUuid, parentUuid, null)
-                : logRecordService.findLogRecordsWithSpecificFieldsByTestRunIdOrderByStartDateAsc(testRunUuid);
+    /**
+     * Collects check points of test run from its log records ordered by start date.
+     * Sections and log records with children are skipped, their steps are placed into check point
+     * of direct parent.
+     */
+    private List<TsgCheckPoint> collectCheckPoints(List<LogRecord> logRecords) {
+        Map<UUID, LogRecord> logRecordsById = new HashMap<>();
+        Set<UUID> parentIds = new HashSet<>();
+        for (LogRecord lr : logRecords) {
+            logRecordsById.put(lr.getUuid(), lr);
+            if (Objects.nonNull(lr.getParentRecordId())) {
+                parentIds.add(lr.getParentRecordId());
+            }
+        }
         Map<UUID, TsgCheckPoint> parents = new LinkedHashMap<>();
         for (LogRecord lr : logRecords) {
-            if (!withParents && checkLogRecordIsSection(lr)) {
+            if (lr.isSection() || parentIds.contains(lr.getUuid())) {
                 continue;
             }
             UUID parentRecordUuid = lr.getParentRecordId();
-            TsgCheckPoint checkPoint;
+            TsgCheckPoint checkPoint = createCheckPoint(lr);
             if (Objects.isNull(parentRecordUuid)) {
-                checkPoint = createCheckPoint(lr);
                 parents.put(lr.getUuid(), checkPoint);
             } else {
                 TsgCheckPoint parent = parents.get(parentRecordUuid);
                 if (parent == null) {
-                    LogRecord parentLr = logRecordService.findById(parentRecordUuid);
-                    parent = createCheckPoint(parentLr);
+                    LogRecord parentLr = logRecordsById.get(parentRecordUuid);
+                    parent = createCheckPoint(Objects.nonNull(parentLr)
+                            ? parentLr
+                            : logRecordService.findById(parentRecordUuid));
                     parents.put(parentRecordUuid, parent);
                 }
-                checkPoint = createCheckPoint(lr);
                 parent.addCheckPoint(checkPoint);
             }
-            if (withParents) {
-                checkPoint.setCheckPoints(fillCheckPointsWithParents(testRunUuid, lr.getUuid(), withParents));
-            }
-            checkPoints.add(checkPoint);
         }
-        if (!withParents) {
-            checkPoints = new ArrayList<>();
-            for (Map.Entry<UUID, TsgCheckPoint> entry : parents.entrySet()) {
-                checkPoints.add(entry.getValue());
-            }
-        }
-        return checkPoints;
-    }
-
-    private boolean checkLogRecordIsSection(LogRecord lr) {
-        long childrenCount = logRecordService.getChildrenCount(lr);
-        return lr.isSection() || childrenCount > 0;
+        return new ArrayList<>(parents.values());
     }
 
     private TsgCheckPoint createCheckPoint(LogRecord lr) {
@@ -223,8 +257,16 @@ public class TsgService {
     public void sendFdrs(ExecutionRequest executionRequest) {
         LOG.debug("Start building FDRs for ER: {}", executionRequest.getUuid());
         List<TestRun> testRunList = testRunService.findTestRunsForFdrByExecutionRequestId(executionRequest.getUuid());
-        List<UUID> testRunsUuids = testRunList.stream()
-                .filter(this::isValidTestRun).map(TestRun::getUuid).collect(Collectors.toList());
+        List<TestRun> validTestRuns = testRunList.stream()
+                .filter(this::isValidTestRun).collect(Collectors.toList());
+        Set<UUID> terminatedTestRunsUuids = validTestRuns.isEmpty()
+                ? Collections.emptySet()
+                : logRecordService.findTestRunIdsWithLogRecordNameContaining(
+                        StreamUtils.extractIds(validTestRuns), TERMINATED_TEST_RUN_LOG_RECORD_NAME);
+        List<UUID> testRunsUuids = validTestRuns.stream()
+                .map(TestRun::getUuid)
+                .filter(testRunUuid -> !terminatedTestRunsUuids.contains(testRunUuid))
+                .collect(Collectors.toList());
         LOG.trace("Found TestRun ids to send FDRs {}", testRunsUuids);
         fdrSender.send(testRunsUuids);
         LOG.debug("Sending FDRs for ER: {} was finished", executionRequest.getUuid());
@@ -232,57 +274,63 @@ public class TsgService {
 
     /**
      * Prepare and send list of FDR to TSG Receiver.
+     * Test runs are grouped by execution requests and sent by batches, batches are built and sent
+     * concurrently in the bounded pool. Method returns when all batches are processed.
      */
     public void sendFdrs(List<UUID> uuidList) {
-        for (UUID testRunUuid : uuidList) {
-            TestRun tr = testRunService.getByUuid(testRunUuid);
-            ExecutionRequest er = executionRequestService.findById(tr.getExecutionRequestId());
+        if (uuidList.isEmpty()) {
+            return;
+        }
+        Map<UUID, List<TestRun>> testRunsByEr = testRunService.getByIds(uuidList).stream()
+                .collect(Collectors.groupingBy(TestRun::getExecutionRequestId, LinkedHashMap::new,
+                        Collectors.toList()));
+        List<Future<?>> batches = new ArrayList<>();
+        testRunsByEr.forEach((executionRequestUuid, testRuns) -> {
+            ExecutionRequest er = executionRequestService.findById(executionRequestUuid);
             Project p = projectsService.getProjectById(er.getProjectId());
-            // "allpratp"
-            String tsgProjectName = p.getTsgProjectName();
-            if (!p.isTsgIntegration() || Strings.isNullOrEmpty(tsgProjectName)) {
+            if (!isTsgIntegrationEnabled(p) || Strings.isNullOrEmpty(p.getTsgProjectName())) {
                 LOG.debug("TSG Integration is disabled for: {} - {}",
                         p.getName(), p.getUuid());
                 return;
             }
-            List<TsgFdr> request = new ArrayList<>();
-            LOG.debug("Prepare FDR for TR: {} - {}", tr.getName(), tr.getUuid());
-            TsgFdr fdr = buildFdr(testRunUuid);
-            request.add(fdr);
-            HttpEntity<List<TsgFdr>> entity = new HttpEntity<>(request);
-            String tsgFdrEndpoint = tsgConfiguration.getTsgReceiverUrl() + "/putJson/" + tsgProjectName;
-            RestTemplate template = new RestTemplate();
-            ResponseEntity<List<FdrResponse>> responseEntity = template
-                    .exchange(tsgFdrEndpoint, HttpMethod.POST, entity,
-                            new ParameterizedTypeReference<>() {
-                            });
-            if (responseEntity.getStatusCode() == HttpStatus.OK) {
-                LOG.trace("""
-                                FDR for TR: {} was sent to {}\s
-                                Response from TSG Receiver: {}\
-                                """, tr.getUuid(), tsgFdrEndpoint,
-                        responseEntity);
-                List<FdrResponse> fdrResponseList = responseEntity.getBody();
-                if (fdrResponseList != null) {
-                    fdrResponseList.forEach(fdrResponse -> {
-                        if (tr.getUuid().equals(fdrResponse.getTestRunId())) {
-                            LOG.trace("Fdr link for TestRun: {}", tr.getUuid());
-                            tr.setFdrLink(fdrResponse.getFdrLink());
-                        }
-                    });
-                }
-                tr.setFdrWasSent(true);
-                testRunService.save(tr);
-            } else {
-                LOG.error("""
-                                FDR for TR: {} was not sent to {}\s
-                                Response from TSG Receiver: {}\
-                                """, tr.getUuid(), tsgFdrEndpoint,
-                        responseEntity);
+            Lists.partition(testRuns, Math.max(fdrBatchSize, 1)).forEach(batch ->
+                    batches.add(fdrExecutor.submit(() -> sendFdrBatch(er, p, batch))));
+        });
+        for (Future<?> batch : batches) {
+            try {
+                batch.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOG.warn("Interrupted while waiting for FDRs sending");
+                return;
+            } catch (ExecutionException e) {
+                LOG.error("Failed to send FDRs batch", e.getCause());
             }
         }
     }
 
+    private void sendFdrBatch(ExecutionRequest executionRequest, Project project, List<TestRun> testRuns) {
+        Set<UUID> testRunsUuids = StreamUtils.extractIds(testRuns);
+        try {
+            LOG.debug("Prepare FDRs for {} TRs of ER: {}", testRuns.size(), executionRequest.getUuid());
+            List<TsgFdr> fdrs = buildFdrs(executionRequest, project, testRuns);
+            List<FdrResponse> fdrResponses = tsgReceiverClient.sendFdrs(project.getTsgProjectName(), fdrs);
+            Map<UUID, String> fdrLinks = new HashMap<>();
+            testRunsUuids.forEach(testRunUuid -> fdrLinks.put(testRunUuid, null));
+            fdrResponses.stream()
+                    .filter(fdrResponse -> testRunsUuids.contains(fdrResponse.getTestRunId()))
+                    .forEach(fdrResponse -> fdrLinks.put(fdrResponse.getTestRunId(), fdrResponse.getFdrLink()));
+            testRunService.updateFdrWasSent(fdrLinks);
+            LOG.debug("FDRs for {} TRs of ER: {} were sent", testRuns.size(), executionRequest.getUuid());
+        } catch (Exception e) {
+            LOG.error("FDRs for TRs: {} were not sent to TSG Receiver", testRunsUuids, e);
+        }
+    }
+
+    private static boolean isTsgIntegrationEnabled(Project project) {
+        return Objects.nonNull(project) && project.isTsgIntegration();
+    }
+
     /**
      * Fill queue with not finished ers.
      */
@@ -326,9 +374,7 @@ public class TsgService {
             return false;
         }
 
-        if (!tsgConfiguration.getStatuses().getExecutionStatuses().contains(tr.getExecutionStatus())
-                || logRecordService.findLogRecordNamesByTestRunId(tr.getUuid()).stream()
-                .anyMatch(logRecord -> logRecord.getName().contains("Test Run has been terminated"))) {
+        if (!tsgConfiguration.getStatuses().getExecutionStatuses().contains(tr.getExecutionStatus())) {
             return false;
         }
         return tsgConfiguration.getStatuses().getTestingStatuses().contains(tr.getTestingStatus());
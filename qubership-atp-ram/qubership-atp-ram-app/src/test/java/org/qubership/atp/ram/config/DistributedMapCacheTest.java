@@ -0,0 +1,67 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.config;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.ram.utils.CompressedString;
+
+public class DistributedMapCacheTest {
+
+    private final ConcurrentMap<Object, Object> store = new ConcurrentHashMap<>();
+
+    @Test
+    public void put_whenCompressed_shouldKeepStringCompressedAndReturnOriginal() {
+        DistributedMapCache cache = new DistributedMapCache("reports", store, true);
+        String tree = "{\"children\":[" + "{\"name\":\"Test Run\",\"status\":\"PASSED\"},".repeat(1000) + "{}]}";
+
+        cache.put("key", tree);
+
+        Object storeValue = store.get("key");
+        Assertions.assertInstanceOf(CompressedString.class, storeValue);
+        Assertions.assertTrue(((CompressedString) storeValue).getBytes().length < tree.length() / 10);
+        Assertions.assertEquals(tree, cache.get("key", String.class));
+        Assertions.assertEquals(tree, cache.get("key", () -> "loaded"));
+    }
+
+    @Test
+    public void put_whenNotCompressed_shouldKeepValueAsIs() {
+        DistributedMapCache cache = new DistributedMapCache("dictionaries", store, false);
+
+        cache.put("key", "value");
+
+        Assertions.assertEquals("value", store.get("key"));
+    }
+
+    @Test
+    public void get_shouldCountHitsMissesAndPuts() {
+        DistributedMapCache cache = new DistributedMapCache("reports", store, true);
+
+        Assertions.assertNull(cache.get("key"));
+        cache.put("key", "value");
+        Assertions.assertNotNull(cache.get("key"));
+        Assertions.assertEquals("loaded", cache.get("other", () -> "loaded"));
+        Assertions.assertEquals("loaded", cache.get("other", () -> "reloaded"));
+
+        Assertions.assertEquals(2, cache.getHitCount());
+        Assertions.assertEquals(2, cache.getMissCount());
+        Assertions.assertEquals(1, cache.getPutCount());
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.job;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.qubership.atp.ram.models.ExecutionRequest;
+import org.qubership.atp.ram.services.ExecutionRequestService;
+import org.qubership.atp.ram.services.TestRunService;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Subscription;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class ExecutionRequestCompletionDetectorTest {
+
+    private TestRunService testRunService;
+    private ExecutionRequestService executionRequestService;
+    private ExecutionRequestCompletionService completionService;
+    private ExecutionRequestCompletionDetector detector;
+
+    @BeforeEach
+    public void setUp() {
+        testRunService = Mockito.mock(TestRunService.class);
+        executionRequestService = Mockito.mock(ExecutionRequestService.class);
+        completionService = Mockito.mock(ExecutionRequestCompletionService.class);
+        detector = new ExecutionRequestCompletionDetector(Mockito.mock(MongoTemplate.class), testRunService,
+                executionRequestService, completionService);
+        ReflectionTestUtils.setField(detector, "batchSize", 500);
+    }
+
+    @Test
+    public void processChanges_whenReadOfChangedTestRunsFailed_shouldRetryThemOnNextTick() {
+        UUID testRunId = UUID.randomUUID();
+        UUID executionRequestId = UUID.randomUUID();
+        ReflectionTestUtils.setField(detector, "active", true);
+        getChangedIds("changedTestRunIds").add(testRunId);
+        Mockito.when(testRunService.getExecutionRequestIdsByTestRunIds(anyList()))
+                .thenThrow(new RuntimeException("Mongo is not available"))
+                .thenReturn(Collections.singleton(executionRequestId));
+        Mockito.when(completionService.getCompletionDueTimes(anyCollection()))
+                .thenReturn(Collections.singletonMap(executionRequestId, System.currentTimeMillis()));
+        Mockito.when(completionService.completeIfDue(executionRequestId)).thenReturn(true);
+
+        detector.processChanges();
+        detector.processChanges();
+
+        Mockito.verify(testRunService, Mockito.times(2))
+                .getExecutionRequestIdsByTestRunIds(Collections.singletonList(testRunId));
+        Mockito.verify(completionService).completeIfDue(executionRequestId);
+    }
+
+    @Test
+    public void processChanges_whenCompletionFailed_shouldCheckExecutionRequestAgainOnNextTick() {
+        UUID executionRequestId = UUID.randomUUID();
+        ReflectionTestUtils.setField(detector, "active", true);
+        getChangedIds("changedExecutionRequestIds").add(executionRequestId);
+        Mockito.when(completionService.getCompletionDueTimes(anyCollection()))
+                .thenReturn(Collections.singletonMap(executionRequestId, System.currentTimeMillis()));
+        Mockito.when(completionService.completeIfDue(executionRequestId))
+                .thenThrow(new RuntimeException("Mongo is not available"))
+                .thenReturn(true);
+
+        detector.processChanges();
+        detector.processChanges();
+
+        Mockito.verify(completionService, Mockito.times(2)).completeIfDue(executionRequestId);
+    }
+
+    @Test
+    public void restartFailedSubscriptions_whenChangeStreamFailed_shouldResubscribeAndCheckNotFinishedRequests() {
+        MessageListenerContainer container = Mockito.mock(MessageListenerContainer.class);
+        Mockito.when(container.isRunning()).thenReturn(true);
+        Subscription failedSubscription = Mockito.mock(Subscription.class);
+        Subscription restartedSubscription = Mockito.mock(Subscription.class);
+        Mockito.when(restartedSubscription.isActive()).thenReturn(true);
+        Mockito.when(container.register(any(), eq(Document.class), any())).thenReturn(restartedSubscription);
+        ExecutionRequest notFinishedRequest = new ExecutionRequest();
+        notFinishedRequest.setUuid(UUID.randomUUID());
+        Mockito.when(executionRequestService.getNotFinishedRequests())
+                .thenReturn(Collections.singletonList(notFinishedRequest));
+        ReflectionTestUtils.setField(detector, "container", container);
+        ReflectionTestUtils.setField(detector, "subscriptions", List.of(failedSubscription));
+        ReflectionTestUtils.setField(detector, "restartRequired", true);
+
+        detector.restartFailedSubscriptions();
+
+        Mockito.verify(container).remove(failedSubscription);
+        Mockito.verify(container, Mockito.times(2)).register(any(), eq(Document.class), any());
+        Assertions.assertFalse(detector.isActive(), "Polling goes on until restarted streams are running");
+
+        detector.restartFailedSubscriptions();
+
+        Assertions.assertTrue(detector.isActive());
+        Assertions.assertEquals(Collections.singleton(notFinishedRequest.getUuid()),
+                getChangedIds("changedExecutionRequestIds"),
+                "Not finished requests are checked, as their changes could be missed while streams were down");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<UUID> getChangedIds(String fieldName) {
+        return (Set<UUID>) ReflectionTestUtils.getField(detector, fieldName);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.job;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.qubership.atp.common.lock.LockManager;
+import org.qubership.atp.common.lock.provider.InMemoryLockProvider;
+import org.qubership.atp.ram.enums.ExecutionStatuses;
+import org.qubership.atp.ram.model.ExecutionRequestTestRunsSummary;
+import org.qubership.atp.ram.models.ExecutionRequest;
+import org.qubership.atp.ram.service.mail.MailService;
+import org.qubership.atp.ram.services.ExecutionRequestService;
+import org.qubership.atp.ram.services.TestRunService;
+import org.qubership.atp.ram.tsg.service.TsgService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class ExecutionRequestCompletionServiceTest {
+
+    private static final long TIMEOUT_AFTER_FINISH_DATE_OF_LAST_TR_MS = 60000;
+    private static final long TIMEOUT_AFTER_START_DATE_OF_ER_HOURS = 24;
+
+    private ExecutionRequestCompletionService completionService;
+    private TestRunService testRunService;
+    private ExecutionRequestService executionRequestService;
+
+    @BeforeEach
+    public void setUp() {
+        testRunService = Mockito.mock(TestRunService.class);
+        executionRequestService = Mockito.mock(ExecutionRequestService.class);
+        completionService = new ExecutionRequestCompletionService(testRunService, executionRequestService,
+                Mockito.mock(TsgService.class), Mockito.mock(MailService.class),
+                new LockManager(10, 10, 10, new InMemoryLockProvider()));
+        ReflectionTestUtils.setField(completionService, "timeoutAfterFinishDateOfLastTrMs",
+                TIMEOUT_AFTER_FINISH_DATE_OF_LAST_TR_MS);
+        ReflectionTestUtils.setField(completionService, "timeoutAfterStartDateOfErHours",
+                TIMEOUT_AFTER_START_DATE_OF_ER_HOURS);
+        ReflectionTestUtils.setField(completionService, "batchSize", 500);
+    }
+
+    @Test
+    public void getCompletionDueTimes_shouldSkipRequestsWithInProgressTestRunsAndWaitTimeoutsOfOthers() {
+        long now = System.currentTimeMillis();
+        ExecutionRequest running = executionRequest(ExecutionStatuses.IN_PROGRESS, now);
+        ExecutionRequest finishedTestRuns = executionRequest(ExecutionStatuses.IN_PROGRESS, now);
+        ExecutionRequest withoutTestRuns = executionRequest(ExecutionStatuses.NOT_STARTED, now);
+        Mockito.when(testRunService.getTestRunsSummaryByExecutionRequestIds(anyCollection())).thenReturn(Arrays.asList(
+                summary(running.getUuid(), 1, now), summary(finishedTestRuns.getUuid(), 0, now)));
+        Mockito.when(executionRequestService.getExecutionStatusAndStartDateByIds(anyCollection()))
+                .thenReturn(Arrays.asList(running, finishedTestRuns, withoutTestRuns));
+
+        Map<UUID, Long> dueTimes = completionService.getCompletionDueTimes(Arrays.asList(
+                running.getUuid(), finishedTestRuns.getUuid(), withoutTestRuns.getUuid()));
+
+        Assertions.assertFalse(dueTimes.containsKey(running.getUuid()), "ER with running test runs waits for them");
+        Assertions.assertEquals(now + TIMEOUT_AFTER_FINISH_DATE_OF_LAST_TR_MS, dueTimes.get(finishedTestRuns.getUuid()),
+                "ER is completed after timeout since finish of last test run");
+        Assertions.assertEquals(now + TimeUnit.HOURS.toMillis(TIMEOUT_AFTER_START_DATE_OF_ER_HOURS),
+                dueTimes.get(withoutTestRuns.getUuid()), "ER without test runs is terminated by timeout since start");
+    }
+
+    @Test
+    public void completeIfDue_whenTimeoutAfterLastTestRunIsExpired_shouldStopRequest() {
+        long lastFinishDate = System.currentTimeMillis() - TIMEOUT_AFTER_FINISH_DATE_OF_LAST_TR_MS - 1000;
+        ExecutionRequest request = executionRequest(ExecutionStatuses.IN_PROGRESS, lastFinishDate);
+        Mockito.when(executionRequestService.findById(request.getUuid())).thenReturn(request);
+        Mockito.when(testRunService.getTestRunsSummaryByExecutionRequestIds(anyCollection()))
+                .thenReturn(Collections.singletonList(summary(request.getUuid(), 0, lastFinishDate)));
+
+        Assertions.assertTrue(completionService.completeIfDue(request.getUuid()));
+
+        Mockito.verify(executionRequestService).stopExecutionRequest(request, lastFinishDate);
+        Assertions.assertEquals(ExecutionStatuses.IN_PROGRESS, request.getExecutionStatus());
+    }
+
+    @Test
+    public void completeIfDue_whenTimeoutAfterLastTestRunIsNotExpired_shouldNotStopRequest() {
+        long lastFinishDate = System.currentTimeMillis();
+        ExecutionRequest request = executionRequest(ExecutionStatuses.IN_PROGRESS, lastFinishDate);
+        Mockito.when(executionRequestService.findById(request.getUuid())).thenReturn(request);
+        Mockito.when(testRunService.getTestRunsSummaryByExecutionRequestIds(anyCollection()))
+                .thenReturn(Collections.singletonList(summary(request.getUuid(), 0, lastFinishDate)));
+
+        Assertions.assertFalse(completionService.completeIfDue(request.getUuid()));
+
+        Mockito.verify(executionRequestService, Mockito.never()).stopExecutionRequest(any(), anyLong());
+    }
+
+    @Test
+    public void completeIfDue_whenRequestIsAlreadyFinished_shouldNotStopRequestAgain() {
+        ExecutionRequest request = executionRequest(ExecutionStatuses.FINISHED, System.currentTimeMillis());
+        Mockito.when(executionRequestService.findById(eq(request.getUuid()))).thenReturn(request);
+
+        Assertions.assertTrue(completionService.completeIfDue(request.getUuid()));
+
+        Mockito.verify(testRunService, Mockito.never()).getTestRunsSummaryByExecutionRequestIds(anyCollection());
+        Mockito.verify(executionRequestService, Mockito.never()).stopExecutionRequest(any(), anyLong());
+    }
+
+    private ExecutionRequest executionRequest(ExecutionStatuses executionStatus, long startDate) {
+        ExecutionRequest request = new ExecutionRequest();
+        request.setUuid(UUID.randomUUID());
+        request.setExecutionStatus(executionStatus);
+        request.setStartDate(new Timestamp(startDate));
+        return request;
+    }
+
+    private ExecutionRequestTestRunsSummary summary(UUID executionRequestId, long inProgressCount,
+                                                    long lastFinishDate) {
+        ExecutionRequestTestRunsSummary summary = new ExecutionRequestTestRunsSummary();
+        summary.setExecutionRequestId(executionRequestId);
+        summary.setInProgressCount(inProgressCount);
+        summary.setLastFinishDate(new Timestamp(lastFinishDate));
+        summary.setTestCaseId(UUID.randomUUID());
+        return summary;
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.job;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.qubership.atp.ram.job.ExpiredExecutionRequestsCleaner.CleanupStatistics;
+import org.qubership.atp.ram.models.BrowserConsoleLog;
+import org.qubership.atp.ram.models.LogRecord;
+import org.qubership.atp.ram.models.LogRecordContextVariable;
+import org.qubership.atp.ram.models.LogRecordMessageParameters;
+import org.qubership.atp.ram.models.LogRecordStepContextVariable;
+import org.qubership.atp.ram.models.TestRun;
+import org.qubership.atp.ram.repositories.GridFsRepository;
+import org.qubership.atp.ram.services.EnvironmentsInfoService;
+import org.qubership.atp.ram.services.ExecutionRequestDetailsService;
+import org.qubership.atp.ram.services.ExecutionRequestReportingService;
+import org.qubership.atp.ram.services.ExecutionRequestService;
+import org.qubership.atp.ram.services.IssueService;
+import org.qubership.atp.ram.services.WidgetConfigTemplateService;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.mongodb.client.result.DeleteResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class ExpiredExecutionRequestsCleanerTest {
+
+    private MongoTemplate mongoTemplate;
+    private GridFsRepository gridFsRepository;
+    private ExecutionRequestService executionRequestService;
+    private SimpleMeterRegistry meterRegistry;
+    private ExpiredExecutionRequestsCleaner cleaner;
+
+    @BeforeEach
+    public void setUp() {
+        mongoTemplate = Mockito.mock(MongoTemplate.class);
+        gridFsRepository = Mockito.mock(GridFsRepository.class);
+        executionRequestService = Mockito.mock(ExecutionRequestService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cleaner = new ExpiredExecutionRequestsCleaner(mongoTemplate, gridFsRepository, executionRequestService,
+                Mockito.mock(EnvironmentsInfoService.class), Mockito.mock(WidgetConfigTemplateService.class),
+                Mockito.mock(ExecutionRequestDetailsService.class),
+                Mockito.mock(ExecutionRequestReportingService.class), Mockito.mock(IssueService.class),
+                meterRegistry);
+        ReflectionTestUtils.setField(cleaner, "deleteBatchSize", 1);
+        Mockito.when(mongoTemplate.getCollectionName(any())).thenAnswer(invocation ->
+                ((Class<?>) invocation.getArgument(0)).getSimpleName());
+        Mockito.when(mongoTemplate.remove(any(Query.class), any(Class.class)))
+                .thenReturn(DeleteResult.acknowledged(1));
+    }
+
+    @Test
+    public void delete_whenLogRecordsExceedBatch_shouldDeleteAllBatchesAndExecutionRequestsLast() {
+        List<UUID> executionRequestIds = Collections.singletonList(UUID.randomUUID());
+        TestRun testRun = new TestRun();
+        testRun.setUuid(UUID.randomUUID());
+        Mockito.when(mongoTemplate.find(any(Query.class), eq(TestRun.class)))
+                .thenReturn(Collections.singletonList(testRun))
+                .thenReturn(Collections.emptyList());
+        Mockito.when(mongoTemplate.find(any(Query.class), eq(LogRecord.class)))
+                .thenReturn(Collections.singletonList(logRecord()))
+                .thenReturn(Collections.singletonList(logRecord()))
+                .thenReturn(Collections.emptyList());
+        Mockito.when(gridFsRepository.deleteFilesByLogRecordIds(anyCollection())).thenReturn(100L);
+        CleanupStatistics statistics = new CleanupStatistics();
+
+        cleaner.delete(executionRequestIds, statistics);
+
+        InOrder inOrder = Mockito.inOrder(mongoTemplate, gridFsRepository, executionRequestService);
+        inOrder.verify(gridFsRepository).deleteFilesByLogRecordIds(anyCollection());
+        inOrder.verify(mongoTemplate).remove(any(Query.class), eq(LogRecord.class));
+        inOrder.verify(mongoTemplate).remove(any(Query.class), eq(TestRun.class));
+        inOrder.verify(executionRequestService).deleteAllExecutionRequestByExecutionRequestId(executionRequestIds);
+        Mockito.verify(mongoTemplate, Mockito.times(2)).remove(any(Query.class), eq(LogRecord.class));
+        Mockito.verify(mongoTemplate, Mockito.times(2)).remove(any(Query.class), eq(LogRecordContextVariable.class));
+        Mockito.verify(mongoTemplate, Mockito.times(2))
+                .remove(any(Query.class), eq(LogRecordStepContextVariable.class));
+        Mockito.verify(mongoTemplate, Mockito.times(2))
+                .remove(any(Query.class), eq(LogRecordMessageParameters.class));
+        Mockito.verify(mongoTemplate, Mockito.times(2)).remove(any(Query.class), eq(BrowserConsoleLog.class));
+        Assertions.assertEquals(2L, statistics.getDeletedDocuments().get("LogRecord"));
+        Assertions.assertEquals(1L, statistics.getDeletedDocuments().get("TestRun"));
+        Assertions.assertEquals(200L, statistics.getDeletedFilesBytes());
+        Assertions.assertEquals(200.0, meterRegistry.counter("atp.ram.cleanup.deleted.files.bytes").count());
+    }
+
+    @Test
+    public void delete_whenTestRunsExceedBatch_shouldSelectAndDeleteTestRunsByLimitedQueries() {
+        Mockito.when(mongoTemplate.find(any(Query.class), eq(TestRun.class)))
+                .thenReturn(Collections.singletonList(testRun()))
+                .thenReturn(Collections.singletonList(testRun()))
+                .thenReturn(Collections.emptyList());
+        Mockito.when(mongoTemplate.find(any(Query.class), eq(LogRecord.class))).thenReturn(Collections.emptyList());
+        CleanupStatistics statistics = new CleanupStatistics();
+
+        cleaner.delete(Collections.singletonList(UUID.randomUUID()), statistics);
+
+        ArgumentCaptor<Query> testRunsQueryCaptor = ArgumentCaptor.forClass(Query.class);
+        Mockito.verify(mongoTemplate, Mockito.times(3)).find(testRunsQueryCaptor.capture(), eq(TestRun.class));
+        Assertions.assertEquals(1, testRunsQueryCaptor.getValue().getLimit());
+        Mockito.verify(mongoTemplate, Mockito.times(2)).remove(any(Query.class), eq(TestRun.class));
+        Assertions.assertEquals(2L, statistics.getDeletedDocuments().get("TestRun"));
+    }
+
+    @Test
+    public void delete_whenDeletionOfTestRunsFails_shouldKeepExecutionRequestsForNextRun() {
+        TestRun testRun = new TestRun();
+        testRun.setUuid(UUID.randomUUID());
+        Mockito.when(mongoTemplate.find(any(Query.class), eq(TestRun.class)))
+                .thenReturn(Collections.singletonList(testRun));
+        Mockito.when(mongoTemplate.remove(any(Query.class), eq(TestRun.class)))
+                .thenThrow(new IllegalStateException("Connection is lost"));
+
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> cleaner.delete(Collections.singletonList(UUID.randomUUID()), new CleanupStatistics()));
+
+        Mockito.verify(executionRequestService, Mockito.never())
+                .deleteAllExecutionRequestByExecutionRequestId(anyList());
+    }
+
+    private TestRun testRun() {
+        TestRun testRun = new TestRun();
+        testRun.setUuid(UUID.randomUUID());
+        return testRun;
+    }
+
+    private LogRecord logRecord() {
+        LogRecord logRecord = new LogRecord();
+        logRecord.setUuid(UUID.randomUUID());
+        return logRecord;
+    }
+}
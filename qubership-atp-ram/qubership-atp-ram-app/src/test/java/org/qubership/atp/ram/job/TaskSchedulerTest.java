@@ -17,66 +17,107 @@
 package org.qubership.atp.ram.job;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 
 import java.sql.Timestamp;
 import java.util.Collections;
 import java.util.UUID;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.qubership.atp.common.lock.LockManager;
 import org.qubership.atp.common.lock.provider.InMemoryLockProvider;
-import org.qubership.atp.ram.enums.ExecutionStatuses;
-import org.qubership.atp.ram.enums.TestingStatuses;
 import org.qubership.atp.ram.models.LogRecord;
 import org.qubership.atp.ram.models.TestRun;
 import org.qubership.atp.ram.services.TestRunService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 public class TaskSchedulerTest {
 
     private TaskScheduler taskScheduler;
     private TestRunService testRunService;
     private LockManager lockManager;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     public void setUp() {
         lockManager = new LockManager(10, 10, 10, new InMemoryLockProvider());
         testRunService = Mockito.mock(TestRunService.class);
-        taskScheduler = new TaskScheduler(testRunService, lockManager);
+        meterRegistry = new SimpleMeterRegistry();
+        taskScheduler = new TaskScheduler(testRunService, lockManager, meterRegistry);
+        ReflectionTestUtils.setField(taskScheduler, "terminateTimeoutInMinutes", 1);
+    }
+
+    @Test
+    public void scheduleCheckInProgressTestRunsTask_WhenTrHasLastActivity_TrWasStoppedWithoutLrLookup() {
+        TestRun testRun = testRun();
+        testRun.setLastActivity(new Timestamp(System.currentTimeMillis() - 300000));
+        Mockito.when(testRunService.getInProgressTestRunsInactiveSince(any()))
+                .thenReturn(Collections.singletonList(testRun));
+        Mockito.when(testRunService.terminateByTimeout(anyList(), any())).thenReturn(1);
+
+        taskScheduler.scheduleCheckInProgressTestRunsTask();
+
+        Mockito.verify(testRunService).terminateByTimeout(eq(Collections.singletonList(testRun)), any());
+        Mockito.verify(testRunService, Mockito.never()).getLastInProgressOrcLogRecord(any());
+        Assertions.assertEquals(1, meterRegistry.timer("atp.ram.testruns.timeout.sweep.duration").count());
+        Assertions.assertEquals(1, meterRegistry.counter("atp.ram.testruns.terminated.by.timeout").count());
     }
 
     @Test
     public void scheduleCheckInProgressTestRunsTask_WhenTrHasFinishDate_TrWasStoppedAndTrFinishDateWasUsed() {
-        TestRun testRun = new TestRun();
-        testRun.setUuid(UUID.randomUUID());
-        testRun.setStartDate(new Timestamp(System.currentTimeMillis() - 400000));
+        TestRun testRun = testRun();
         testRun.setFinishDate(new Timestamp(System.currentTimeMillis() - 300000));
-        Mockito.when(testRunService.getAllInProgressTestRuns()).thenReturn(Collections.singletonList(testRun));
+        Mockito.when(testRunService.getInProgressTestRunsInactiveSince(any()))
+                .thenReturn(Collections.singletonList(testRun));
 
         taskScheduler.scheduleCheckInProgressTestRunsTask();
 
-        Mockito.verify(testRunService).updateStatusesAndFinishDateTestRuns(eq(testRun.getUuid()),
-                eq(ExecutionStatuses.TERMINATED_BY_TIMEOUT), eq(TestingStatuses.STOPPED), any(), anyLong());
+        Mockito.verify(testRunService).terminateByTimeout(eq(Collections.singletonList(testRun)), any());
+        Mockito.verify(testRunService, Mockito.never()).getLastInProgressOrcLogRecord(any());
     }
 
     @Test
-    public void scheduleCheckInProgressTestRunsTask_WhenTrHasNotFinishDate_TrWasStoppedAndLrFinishDateWasUsed() {
-        TestRun testRun = new TestRun();
-        testRun.setUuid(UUID.randomUUID());
-        testRun.setStartDate(new Timestamp(System.currentTimeMillis() - 400000));
+    public void scheduleCheckInProgressTestRunsTask_WhenTrHasNotLastActivity_TrWasStoppedAndLrFinishDateWasUsed() {
+        TestRun testRun = testRun();
         LogRecord logRecord = new LogRecord();
         logRecord.setUuid(UUID.randomUUID());
         logRecord.setEndDate(new Timestamp(System.currentTimeMillis() - 300000));
-        Mockito.when(testRunService.getAllInProgressTestRuns()).thenReturn(Collections.singletonList(testRun));
+        Mockito.when(testRunService.getInProgressTestRunsInactiveSince(any()))
+                .thenReturn(Collections.singletonList(testRun));
         Mockito.when(testRunService.getLastInProgressOrcLogRecord(any())).thenReturn(logRecord);
 
         taskScheduler.scheduleCheckInProgressTestRunsTask();
 
         Mockito.verify(testRunService).getLastInProgressOrcLogRecord(eq(testRun.getUuid()));
-        Mockito.verify(testRunService).updateStatusesAndFinishDateTestRuns(eq(testRun.getUuid()),
-                eq(ExecutionStatuses.TERMINATED_BY_TIMEOUT), eq(TestingStatuses.STOPPED), any(), anyLong());
+        Mockito.verify(testRunService).terminateByTimeout(eq(Collections.singletonList(testRun)), any());
+    }
+
+    @Test
+    public void scheduleCheckInProgressTestRunsTask_WhenTrHasNotLastActivityAndLrIsRecent_TrWasNotStopped() {
+        TestRun testRun = testRun();
+        LogRecord logRecord = new LogRecord();
+        logRecord.setUuid(UUID.randomUUID());
+        logRecord.setStartDate(new Timestamp(System.currentTimeMillis()));
+        Mockito.when(testRunService.getInProgressTestRunsInactiveSince(any()))
+                .thenReturn(Collections.singletonList(testRun));
+        Mockito.when(testRunService.getLastInProgressOrcLogRecord(any())).thenReturn(logRecord);
+
+        taskScheduler.scheduleCheckInProgressTestRunsTask();
+
+        Mockito.verify(testRunService, Mockito.never()).terminateByTimeout(anyList(), any());
+        Assertions.assertEquals(1, meterRegistry.timer("atp.ram.testruns.timeout.sweep.duration").count());
+    }
+
+    private TestRun testRun() {
+        TestRun testRun = new TestRun();
+        testRun.setUuid(UUID.randomUUID());
+        testRun.setStartDate(new Timestamp(System.currentTimeMillis() - 400000));
+        return testRun;
     }
 }
@@ -0,0 +1,203 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+
+package org.qubership.atp.ram.kafka.relay;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.qubership.atp.ram.config.KafkaWebSocketEventsConfiguration;
+import org.qubership.atp.ram.dto.event.WebSocketRelayMessage;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListener;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Measures delivery of websocket events relayed over embedded kafka from one replica to subscribers
+ * of another replica, depending on count of subscribers of the destination.
+ * Latency is measured by events sent one by one, each one waits until all subscribers receive it.
+ * Throughput is measured by batches of events sent without waiting. Delivery of events to local subscribers
+ * without relay is measured as baseline.
+ * Benchmarks are not run by tests, run them with {@code main} from test classpath.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KafkaWebSocketEventRelayBenchmark {
+
+    private static final String TOPIC = "ram_websocket_events";
+    private static final int PARTITIONS = 3;
+    private static final int BATCH_SIZE = 100;
+    private static final long DELIVERY_TIMEOUT_SEC = 30;
+
+    @Param({"1", "10", "100"})
+    private int subscribersCount;
+
+    private final String destination = "/executionRequests/" + UUID.randomUUID();
+    private final Semaphore deliveries = new Semaphore(0);
+    private final List<ConcurrentMessageListenerContainer<String, WebSocketRelayMessage>> containers =
+            new ArrayList<>();
+    private EmbeddedKafkaKraftBroker broker;
+    private KafkaWebSocketEventRelay publisherRelay;
+    private SimpMessagingTemplate subscriberMessagingTemplate;
+
+    /**
+     * Start kafka and two replicas, the second one has subscribers of the destination.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        broker = new EmbeddedKafkaKraftBroker(1, PARTITIONS, TOPIC);
+        broker.afterPropertiesSet();
+        KafkaWebSocketEventsConfiguration configuration = new KafkaWebSocketEventsConfiguration();
+        ReflectionTestUtils.setField(configuration, "kafkaServer", broker.getBrokersAsString());
+        ReflectionTestUtils.setField(configuration, "topicName", TOPIC);
+        KafkaTemplate<String, WebSocketRelayMessage> kafkaTemplate = configuration.webSocketEventsKafkaTemplate();
+
+        publisherRelay = new KafkaWebSocketEventRelay(kafkaTemplate, messagingTemplate(0), new SimpleMeterRegistry(),
+                TOPIC, 10000);
+        subscriberMessagingTemplate = messagingTemplate(subscribersCount);
+        KafkaWebSocketEventRelay subscriberRelay = new KafkaWebSocketEventRelay(kafkaTemplate,
+                subscriberMessagingTemplate, new SimpleMeterRegistry(), TOPIC, 10000);
+        startListener(configuration, publisherRelay);
+        startListener(configuration, subscriberRelay);
+    }
+
+    /**
+     * Stop listeners and kafka.
+     */
+    @TearDown
+    public void tearDown() {
+        containers.forEach(ConcurrentMessageListenerContainer::stop);
+        broker.destroy();
+    }
+
+    /**
+     * Event is delivered to subscribers of the same replica.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public void localDeliveryLatency() throws InterruptedException {
+        subscriberMessagingTemplate.convertAndSend(destination, Collections.singletonMap("order", 0));
+        awaitDeliveries(subscribersCount);
+    }
+
+    /**
+     * Event is relayed to subscribers of another replica.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public void relayDeliveryLatency() throws InterruptedException {
+        publisherRelay.relay(destination, Collections.singletonMap("order", 0));
+        awaitDeliveries(subscribersCount);
+    }
+
+    /**
+     * Batch of events is relayed to subscribers of another replica.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void relayDeliveryThroughput() throws InterruptedException {
+        for (int event = 0; event < BATCH_SIZE; event++) {
+            publisherRelay.relay(destination, Collections.singletonMap("order", event));
+        }
+        awaitDeliveries(subscribersCount * BATCH_SIZE);
+    }
+
+    /**
+     * Run benchmarks.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(KafkaWebSocketEventRelayBenchmark.class.getName()).build()).run();
+    }
+
+    private void awaitDeliveries(int count) throws InterruptedException {
+        if (!deliveries.tryAcquire(count, DELIVERY_TIMEOUT_SEC, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Events are not delivered in " + DELIVERY_TIMEOUT_SEC + " seconds");
+        }
+    }
+
+    /**
+     * Simple broker of replica, which delivers messages to sessions subscribed to the destination,
+     * every message sent to a session is counted as delivery.
+     */
+    private SimpMessagingTemplate messagingTemplate(int sessionsCount) {
+        ExecutorSubscribableChannel clientInboundChannel = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel clientOutboundChannel = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        SimpleBrokerMessageHandler brokerHandler = new SimpleBrokerMessageHandler(clientInboundChannel,
+                clientOutboundChannel, brokerChannel, Collections.singletonList("/executionRequests"));
+        clientOutboundChannel.subscribe(message -> deliveries.release());
+        brokerHandler.start();
+        for (int session = 0; session < sessionsCount; session++) {
+            SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+            headers.setSessionId("session" + session);
+            headers.setSubscriptionId("subscription" + session);
+            headers.setDestination(destination);
+            brokerHandler.handleMessage(MessageBuilder.createMessage(new byte[0], headers.getMessageHeaders()));
+        }
+        SimpMessagingTemplate messagingTemplate = new SimpMessagingTemplate(brokerChannel);
+        messagingTemplate.setMessageConverter(new MappingJackson2MessageConverter());
+        return messagingTemplate;
+    }
+
+    private void startListener(KafkaWebSocketEventsConfiguration configuration, KafkaWebSocketEventRelay relay) {
+        ConcurrentMessageListenerContainer<String, WebSocketRelayMessage> container =
+                configuration.webSocketEventsContainerFactory().createContainer(TOPIC);
+        container.getContainerProperties().setGroupId("atp-ram-websocket-" + UUID.randomUUID());
+        container.setupMessageListener(
+                (MessageListener<String, WebSocketRelayMessage>) record -> relay.onMessage(record.value()));
+        container.start();
+        containers.add(container);
+        ContainerTestUtils.waitForAssignment(container, PARTITIONS);
+    }
+}
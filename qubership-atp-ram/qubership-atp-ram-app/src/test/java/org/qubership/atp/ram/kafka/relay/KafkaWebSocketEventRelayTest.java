@@ -0,0 +1,215 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.kafka.relay;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.qubership.atp.ram.config.KafkaWebSocketEventsConfiguration;
+import org.qubership.atp.ram.dto.event.WebSocketEvent;
+import org.qubership.atp.ram.dto.event.WebSocketRelayMessage;
+import org.qubership.atp.ram.repositories.ExecutionRequestDetailsRepository;
+import org.qubership.atp.ram.services.ExecutionRequestDetailsService;
+import org.qubership.atp.ram.services.ExecutionRequestReportingService;
+import org.qubership.atp.ram.services.WebSocketEventRelay;
+import org.qubership.atp.ram.services.WebSocketNotificationService;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListener;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@EmbeddedKafka(partitions = KafkaWebSocketEventRelayTest.PARTITIONS, topics = KafkaWebSocketEventRelayTest.TOPIC)
+public class KafkaWebSocketEventRelayTest {
+
+    static final String TOPIC = "ram_websocket_events";
+    static final int PARTITIONS = 3;
+    private static final long DELIVERY_TIMEOUT_MS = 30000;
+
+    private final List<ConcurrentMessageListenerContainer<String, WebSocketRelayMessage>> containers =
+            new ArrayList<>();
+
+    @AfterEach
+    public void tearDown() {
+        containers.forEach(ConcurrentMessageListenerContainer::stop);
+    }
+
+    @Test
+    public void relay_whenEventIsPublishedOnOneReplica_shouldBeDeliveredToOtherReplicasOnly(
+            EmbeddedKafkaBroker broker) {
+        KafkaWebSocketEventsConfiguration configuration = configuration(broker);
+        KafkaTemplate<String, WebSocketRelayMessage> kafkaTemplate = configuration.webSocketEventsKafkaTemplate();
+        int replicasCount = 3;
+        List<SimpMessageSendingOperations> messagingTemplates = new ArrayList<>();
+        List<SimpleMeterRegistry> meterRegistries = new ArrayList<>();
+        List<KafkaWebSocketEventRelay> relays = new ArrayList<>();
+        for (int replica = 0; replica < replicasCount; replica++) {
+            SimpMessageSendingOperations messagingTemplate = mock(SimpMessageSendingOperations.class);
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            KafkaWebSocketEventRelay relay =
+                    new KafkaWebSocketEventRelay(kafkaTemplate, messagingTemplate, meterRegistry, TOPIC, 100);
+            startListener(configuration, relay, broker);
+            messagingTemplates.add(messagingTemplate);
+            meterRegistries.add(meterRegistry);
+            relays.add(relay);
+        }
+        String destination = "/executionRequests/" + UUID.randomUUID();
+        int eventsCount = 50;
+
+        for (int event = 0; event < eventsCount; event++) {
+            relays.get(0).relay(destination, Collections.singletonMap("order", event));
+        }
+
+        verify(messagingTemplates.get(0), after(1000).never()).convertAndSend(anyString(), any(Object.class));
+        for (int replica = 1; replica < replicasCount; replica++) {
+            for (int event = 0; event < eventsCount; event++) {
+                verify(messagingTemplates.get(replica), timeout(DELIVERY_TIMEOUT_MS))
+                        .convertAndSend(eq(destination), eq(Collections.singletonMap("order", event)));
+            }
+            Assertions.assertEquals(eventsCount, meterRegistries.get(replica)
+                    .timer("atp.ram.websocket.relay.delivery.latency").count());
+        }
+    }
+
+    @Test
+    public void sendEvent_whenMailResponseIsConsumedOnOneReplica_shouldDeliverDetailsToClientsOfAllReplicas(
+            EmbeddedKafkaBroker broker) throws Exception {
+        KafkaWebSocketEventsConfiguration configuration = configuration(broker);
+        KafkaTemplate<String, WebSocketRelayMessage> kafkaTemplate = configuration.webSocketEventsKafkaTemplate();
+        List<SimpMessageSendingOperations> messagingTemplates = new ArrayList<>();
+        List<WebSocketNotificationService> notificationServices = new ArrayList<>();
+        for (int replica = 0; replica < 2; replica++) {
+            SimpMessageSendingOperations messagingTemplate = mock(SimpMessageSendingOperations.class);
+            KafkaWebSocketEventRelay relay =
+                    new KafkaWebSocketEventRelay(kafkaTemplate, messagingTemplate, new SimpleMeterRegistry(), TOPIC,
+                            100);
+            startListener(configuration, relay, broker);
+            DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+            beanFactory.registerSingleton("webSocketEventRelay", relay);
+            messagingTemplates.add(messagingTemplate);
+            notificationServices.add(new WebSocketNotificationService(messagingTemplate,
+                    beanFactory.getBeanProvider(WebSocketEventRelay.class)));
+        }
+        ExecutionRequestDetailsService detailsService = new ExecutionRequestDetailsService(new ObjectMapper(),
+                mock(ExecutionRequestDetailsRepository.class), mock(ExecutionRequestReportingService.class),
+                notificationServices.get(0));
+        UUID executionRequestId = UUID.randomUUID();
+        String destination = "/executionRequestDetails/" + executionRequestId;
+
+        detailsService.addMailResponseDetails("{\"service\": \"atp-ram\", \"status\": \"ERROR\", "
+                + "\"message\": \"Mail server is unavailable\", "
+                + "\"metadata\": {\"executionRequestId\": \"" + executionRequestId + "\"}}");
+
+        verify(messagingTemplates.get(0)).convertAndSend(eq(destination), any(WebSocketEvent.class));
+        verify(messagingTemplates.get(1), timeout(DELIVERY_TIMEOUT_MS)).convertAndSend(eq(destination),
+                argThat((Object payload) -> payload instanceof Map
+                        && String.valueOf(payload).contains("Mail server is unavailable")));
+    }
+
+    @Test
+    public void onMessage_whenEventIsRedelivered_shouldDeliverItOnce() {
+        SimpMessageSendingOperations messagingTemplate = mock(SimpMessageSendingOperations.class);
+        KafkaWebSocketEventRelay relay = new KafkaWebSocketEventRelay(mock(KafkaTemplate.class), messagingTemplate,
+                new SimpleMeterRegistry(), TOPIC, 100);
+        WebSocketRelayMessage message = new WebSocketRelayMessage(UUID.randomUUID(), UUID.randomUUID().toString(),
+                "/executionRequests/" + UUID.randomUUID(), System.currentTimeMillis(), "payload");
+
+        relay.onMessage(message);
+        relay.onMessage(message);
+
+        verify(messagingTemplate, times(1)).convertAndSend(message.getDestination(), (Object) "payload");
+    }
+
+    @Test
+    public void relay_whenEventIsPublished_shouldUseDestinationAsKeyAndSkipItOnReceive() {
+        SimpMessageSendingOperations messagingTemplate = mock(SimpMessageSendingOperations.class);
+        KafkaTemplate<String, WebSocketRelayMessage> kafkaTemplate = mock(KafkaTemplate.class);
+        when(kafkaTemplate.send(anyString(), anyString(), any(WebSocketRelayMessage.class)))
+                .thenReturn(new CompletableFuture<>());
+        KafkaWebSocketEventRelay relay = new KafkaWebSocketEventRelay(kafkaTemplate, messagingTemplate,
+                new SimpleMeterRegistry(), TOPIC, 100);
+        String destination = "/executionRequests/" + UUID.randomUUID();
+
+        relay.relay(destination, "payload");
+
+        ArgumentCaptor<WebSocketRelayMessage> messageCaptor =
+                ArgumentCaptor.forClass(WebSocketRelayMessage.class);
+        verify(kafkaTemplate).send(eq(TOPIC), eq(destination), messageCaptor.capture());
+        relay.onMessage(messageCaptor.getValue());
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    public void relay_whenEventIsNotSent_shouldCountFailure() {
+        KafkaTemplate<String, WebSocketRelayMessage> kafkaTemplate = mock(KafkaTemplate.class);
+        when(kafkaTemplate.send(anyString(), anyString(), any(WebSocketRelayMessage.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Broker is unavailable")));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        KafkaWebSocketEventRelay relay = new KafkaWebSocketEventRelay(kafkaTemplate,
+                mock(SimpMessageSendingOperations.class), meterRegistry, TOPIC, 100);
+
+        relay.relay("/executionRequests/" + UUID.randomUUID(), "payload");
+
+        Assertions.assertEquals(1, meterRegistry.counter("atp.ram.websocket.relay.send.failures").count());
+    }
+
+    private KafkaWebSocketEventsConfiguration configuration(EmbeddedKafkaBroker broker) {
+        KafkaWebSocketEventsConfiguration configuration = new KafkaWebSocketEventsConfiguration();
+        ReflectionTestUtils.setField(configuration, "kafkaServer", broker.getBrokersAsString());
+        ReflectionTestUtils.setField(configuration, "topicName", TOPIC);
+        return configuration;
+    }
+
+    private void startListener(KafkaWebSocketEventsConfiguration configuration, KafkaWebSocketEventRelay relay,
+                               EmbeddedKafkaBroker broker) {
+        ConcurrentMessageListenerContainer<String, WebSocketRelayMessage> container =
+                configuration.webSocketEventsContainerFactory().createContainer(TOPIC);
+        container.getContainerProperties().setGroupId("atp-ram-websocket-" + UUID.randomUUID());
+        container.setupMessageListener(
+                (MessageListener<String, WebSocketRelayMessage>) record -> relay.onMessage(record.value()));
+        container.start();
+        containers.add(container);
+        ContainerTestUtils.waitForAssignment(container, PARTITIONS);
+    }
+}
@@ -49,7 +49,6 @@ import org.qubership.atp.ram.service.mail.ReportParams;
 import org.qubership.atp.ram.service.template.impl.EnvironmentsInfoWidgetModelBuilder;
 import org.qubership.atp.ram.services.EnvironmentsInfoService;
 import org.qubership.atp.ram.services.EnvironmentsService;
-import org.qubership.atp.ram.services.ExecutionRequestService;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -60,18 +59,17 @@ public class EnvironmentsInfoWidgetModelBuilderTest {
     private EnvironmentsInfoWidgetModelBuilder widgetModelBuilder;
     private final ObjectMapper mapper = new ObjectMapper();
     private EnvironmentsInfoService environmentsInfoService;
-    private ExecutionRequestService executionRequestService;
     private EnvironmentsService environmentsService;
     private ReportParams reportParams;
+    private ReportDataContext context;
 
     @BeforeEach
     public void setUp() throws Exception {
 
         environmentsInfoService = mock(EnvironmentsInfoService.class);
-        executionRequestService = mock(ExecutionRequestService.class);
         environmentsService = mock(EnvironmentsService.class);
-        widgetModelBuilder = new EnvironmentsInfoWidgetModelBuilder(environmentsInfoService, executionRequestService,
-                environmentsService, mapper);
+        widgetModelBuilder = new EnvironmentsInfoWidgetModelBuilder(environmentsInfoService, environmentsService,
+                mapper);
 
         Environment environment = new Environment(UUID.randomUUID(), "Some env");
         Environment taToolGroup = new Environment(UUID.randomUUID(), "Some ta tool");
@@ -79,12 +77,12 @@ public class EnvironmentsInfoWidgetModelBuilderTest {
         executionRequest.setUuid(UUID.randomUUID());
         executionRequest.setEnvironmentId(environment.getId());
         executionRequest.setTaToolsGroupId(taToolGroup.getId());
+        context = new ReportDataContext(executionRequest, null, null);
 
         GridFsFileData gridFsFileData = new GridFsFileData("report.html", null);
 
         when(environmentsInfoService.findByExecutionRequestId(any())).thenReturn(createEnvInfo());
         when(environmentsInfoService.getReportById(any())).thenReturn(gridFsFileData);
-        when(executionRequestService.get(any())).thenReturn(executionRequest);
         when(environmentsService.searchEnvironments(any())).thenReturn(asList(environment, taToolGroup));
         reportParams = new ReportParams();
         reportParams.setExecutionRequestUuid(UUID.randomUUID());
@@ -147,14 +145,14 @@ public class EnvironmentsInfoWidgetModelBuilderTest {
 
     @Test
     public void onAbstractWidgetModelBuilder_whenGetModel_DescriptionIsUpdatedFromIncomingParams(){
-        Map<String, Object> model = widgetModelBuilder.getModel(reportParams);
+        Map<String, Object> model = widgetModelBuilder.getModel(reportParams, context);
         Assertions.assertNotNull(model);
         Assertions.assertEquals(expectedDescription, model.get(DESCRIPTION));
     }
 
     @Test
     public void onEnvironmentsInfoWidgetModelBuilder_whenGetModel_AllDataStructureAdded(){
-        Map<String, Object> model = widgetModelBuilder.getModel(reportParams);
+        Map<String, Object> model = widgetModelBuilder.getModel(reportParams, context);
         Assertions.assertNotNull(model);
         Assertions.assertNotNull(model.get("duration"));
         Assertions.assertNotNull(model.get("startDate"));
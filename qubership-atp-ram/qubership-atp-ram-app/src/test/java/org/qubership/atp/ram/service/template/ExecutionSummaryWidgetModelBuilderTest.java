@@ -36,9 +36,6 @@ import org.qubership.atp.ram.models.Project;
 import org.qubership.atp.ram.service.mail.ReportParams;
 import org.qubership.atp.ram.service.template.impl.AbstractWidgetModelBuilder;
 import org.qubership.atp.ram.service.template.impl.ExecutionSummaryWidgetModelBuilder;
-import org.qubership.atp.ram.services.CatalogueService;
-import org.qubership.atp.ram.services.ExecutionRequestService;
-import org.qubership.atp.ram.services.ProjectsService;
 import org.qubership.atp.ram.services.ReportService;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -48,14 +45,11 @@ public class ExecutionSummaryWidgetModelBuilderTest {
     ObjectMapper objectMapper = new ObjectMapper();
 
     private final ReportService reportService = mock(ReportService.class);
-    private final ProjectsService projectsService = mock(ProjectsService.class);
-    private final CatalogueService catalogueService = mock(CatalogueService.class);
-    private final ExecutionRequestService executionRequestService = mock(ExecutionRequestService.class);
     private ReportParams reportParams;
+    private ReportDataContext context;
 
 
-    AbstractWidgetModelBuilder builder = new ExecutionSummaryWidgetModelBuilder(reportService, projectsService,
-            executionRequestService, objectMapper, catalogueService);
+    AbstractWidgetModelBuilder builder = new ExecutionSummaryWidgetModelBuilder(reportService, objectMapper);
 
     @BeforeEach
     public void setUp(){
@@ -66,8 +60,7 @@ public class ExecutionSummaryWidgetModelBuilderTest {
         when(reportService
                 .getExecutionSummary(any(ExecutionRequest.class), anyBoolean()))
                 .thenReturn(createFullExecutionSummary());
-        when(executionRequestService.get(any())).thenReturn(createExecutionRequest());
-        when(projectsService.get(any())).thenReturn(project);
+        context = new ReportDataContext(createExecutionRequest(), project, null);
         reportParams = new ReportParams();
         reportParams.setExecutionRequestUuid(UUID.randomUUID());
     }
@@ -102,7 +95,7 @@ public class ExecutionSummaryWidgetModelBuilderTest {
 
     @Test
     public void onExecutionSummaryWidgetModelBuilder_whenGetModel_AllDataStructureAdded(){
-        Map<String, Object> model = builder.getModel(reportParams);
+        Map<String, Object> model = builder.getModel(reportParams, context);
 
         Assertions.assertNotNull(model);
         Assertions.assertNotNull(model.get("name"));
@@ -16,13 +16,16 @@
 
 package org.qubership.atp.ram.service.template;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.doReturn;
-import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -43,6 +46,7 @@ import lombok.SneakyThrows;
 public class FreemarkerTemplateRenderServiceTest {
 
     TemplateRenderService templateRenderService;
+    private ReportTemplatesService reportTemplatesService;
     private ReportTemplate validReportTemplate;
     private ReportTemplate invalidReportTemplate;
     private Map<WidgetType, Map<String, Object>> model;
@@ -51,9 +55,9 @@ public class FreemarkerTemplateRenderServiceTest {
     @SneakyThrows
     public void setUp(){
 
-        Configuration freeMarkerConfiguration = mock(Configuration.class);
-        ReportTemplatesService reportTemplatesService = mock(ReportTemplatesService.class);
-        templateRenderService = spy(new FreemarkerTemplateRenderService(freeMarkerConfiguration, reportTemplatesService));
+        Configuration freeMarkerConfiguration = new Configuration(Configuration.VERSION_2_3_33);
+        reportTemplatesService = mock(ReportTemplatesService.class);
+        templateRenderService = new FreemarkerTemplateRenderService(freeMarkerConfiguration, reportTemplatesService);
 
         validReportTemplate = generateValidReportTemplate();
         invalidReportTemplate = generateInvalidReportTemplate();
@@ -63,13 +67,19 @@ public class FreemarkerTemplateRenderServiceTest {
                     new HashMap<String, Object>(){{
                         put("text", "widget content");
                     }});
+            put(WidgetType.TEST_CASES,
+                    new HashMap<String, Object>(){{
+                        put("text", "test cases content");
+                    }});
         }};
-        doReturn("<p>widget content</p>")
-                .when(templateRenderService)
-                .render(generateValidWidget(), model.get(WidgetType.SUMMARY));
-        doThrow(new IllegalStateException())
-                .when(templateRenderService)
-                .render(generateInvalidWidget(), model.get(WidgetType.SUMMARY));
+        when(reportTemplatesService.getReportTemplateWidgetTemplate(WidgetType.SUMMARY))
+                .thenReturn("<p>${text}</p>");
+        when(reportTemplatesService.getReportTemplateWidgetTemplate(WidgetType.TEST_CASES))
+                .thenReturn("<p>${text}</p>");
+        when(reportTemplatesService.getReportTemplateWidgetTemplate(WidgetType.ENVIRONMENTS_INFO))
+                .thenThrow(new IOException("Template is not found"));
+        when(reportTemplatesService.getReportTemplateWidgetTemplate(WidgetType.TOP_ISSUES))
+                .thenReturn("<p>top issues</p>${issues.size}");
     }
 
 
@@ -79,6 +89,7 @@ public class FreemarkerTemplateRenderServiceTest {
         assertNotNull(renderResult);
         assertTrue(renderResult.startsWith("<!DOCTYPE html"));
         assertTrue(renderResult.endsWith("</html>"));
+        assertTrue(renderResult.contains("<p>widget content</p>"));
     }
 
     @Test
@@ -87,6 +98,30 @@ public class FreemarkerTemplateRenderServiceTest {
                 .doesNotThrowAnyException();
     }
 
+    @Test
+    @SneakyThrows
+    public void onFreemarkerTemplateService_renderWidgetsWithSameTemplateFile_templateLoadedOnce() {
+        ReportTemplate reportTemplate = generateValidReportTemplate();
+        reportTemplate.setWidgets(Arrays.asList(WidgetType.SUMMARY, WidgetType.TEST_CASES));
+
+        templateRenderService.render(reportTemplate, model);
+        String renderResult = templateRenderService.render(reportTemplate, model);
+
+        assertTrue(renderResult.contains("<p>widget content</p><br/><p>test cases content</p>"));
+        verify(reportTemplatesService, times(1)).getReportTemplateWidgetTemplate(WidgetType.SUMMARY);
+    }
+
+    @Test
+    public void onFreemarkerTemplateService_widgetFailsInTheMiddle_partialWidgetHtmlDropped() {
+        ReportTemplate reportTemplate = generateValidReportTemplate();
+        reportTemplate.setWidgets(Arrays.asList(WidgetType.TOP_ISSUES, WidgetType.SUMMARY));
+
+        String renderResult = templateRenderService.render(reportTemplate, model);
+
+        assertTrue(renderResult.contains("<body><p>widget content</p></body>"), renderResult);
+        assertEquals(-1, renderResult.indexOf("top issues"));
+    }
+
     private ReportTemplate generateValidReportTemplate() {
         ReportTemplate reportTemplate = new ReportTemplate();
         reportTemplate.setWidgets(Collections.singletonList(
@@ -0,0 +1,95 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.service.template;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.ram.models.ExecutionRequest;
+import org.qubership.atp.ram.models.Project;
+import org.qubership.atp.ram.services.CatalogueService;
+import org.qubership.atp.ram.services.ExecutionRequestService;
+import org.qubership.atp.ram.services.ProjectsService;
+import org.qubership.atp.ram.services.WidgetConfigTemplateService;
+
+public class ReportDataContextLoaderTest {
+
+    private final ExecutionRequestService executionRequestService = mock(ExecutionRequestService.class);
+    private final ProjectsService projectsService = mock(ProjectsService.class);
+    private final CatalogueService catalogueService = mock(CatalogueService.class);
+    private final WidgetConfigTemplateService widgetConfigTemplateService = mock(WidgetConfigTemplateService.class);
+    private ReportDataContextLoader loader;
+    private ExecutionRequest executionRequest;
+
+    @BeforeEach
+    public void setUp() {
+        loader = new ReportDataContextLoader(executionRequestService, projectsService, catalogueService,
+                widgetConfigTemplateService);
+        executionRequest = new ExecutionRequest();
+        executionRequest.setUuid(UUID.randomUUID());
+        executionRequest.setProjectId(UUID.randomUUID());
+        when(executionRequestService.get(executionRequest.getUuid())).thenReturn(executionRequest);
+    }
+
+    @Test
+    public void load_whenOnlyExecutionRequestIsUsed_shouldNotLoadProjectAndTemplate() {
+        ReportDataContext context = loader.load(executionRequest.getUuid());
+
+        Assertions.assertSame(executionRequest, context.getExecutionRequest());
+        Assertions.assertSame(executionRequest, context.getExecutionRequest());
+        verify(executionRequestService, times(1)).get(executionRequest.getUuid());
+        verifyNoInteractions(projectsService, catalogueService, widgetConfigTemplateService);
+    }
+
+    @Test
+    public void load_whenProjectHasFormats_shouldNotRequestCatalogue() {
+        Project project = new Project();
+        project.setUuid(executionRequest.getProjectId());
+        project.setDateFormat("d MMM yyyy");
+        project.setTimeFormat("hh:mm:ss a");
+        project.setTimeZone("GMT+03:00");
+        when(projectsService.get(executionRequest.getProjectId())).thenReturn(project);
+
+        ReportDataContext context = loader.load(executionRequest.getUuid());
+
+        Assertions.assertSame(project, context.getProject());
+        Assertions.assertSame(project, context.getProject());
+        verify(projectsService, times(1)).get(executionRequest.getProjectId());
+        verifyNoInteractions(catalogueService);
+        verify(projectsService, never()).save(any());
+    }
+
+    @Test
+    public void load_whenProjectLookupFails_shouldFailOnlyProjectAccess() {
+        when(projectsService.get(executionRequest.getProjectId())).thenThrow(new IllegalStateException());
+
+        ReportDataContext context = loader.load(executionRequest.getUuid());
+
+        Assertions.assertThrows(IllegalStateException.class, context::getProject);
+        Assertions.assertSame(executionRequest, context.getExecutionRequest());
+    }
+}
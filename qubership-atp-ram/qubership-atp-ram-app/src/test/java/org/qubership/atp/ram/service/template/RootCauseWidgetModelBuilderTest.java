@@ -37,7 +37,6 @@ import org.qubership.atp.ram.dto.response.RootCausesStatisticResponse;
 import org.qubership.atp.ram.models.Project;
 import org.qubership.atp.ram.service.mail.ReportParams;
 import org.qubership.atp.ram.service.template.impl.RootCauseWidgetModelBuilder;
-import org.qubership.atp.ram.services.ExecutionRequestService;
 import org.qubership.atp.ram.services.ReportService;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,19 +44,18 @@ public class RootCauseWidgetModelBuilderTest {
     @Mock
     private ReportService reportService;
 
-    @Mock
-    private ExecutionRequestService executionRequestService;
-
     @InjectMocks
     private RootCauseWidgetModelBuilder builder;
 
+    private ReportDataContext context;
+
     @BeforeEach
     public void setUp(){
         Project project = new Project();
         project.setTimeFormat("hh:mm");
         project.setDateFormat("d MMM yyyy");
         project.setTimeZone("GMT+03:00");
-        when(executionRequestService.getProjectId(any())).thenReturn(project);
+        context = new ReportDataContext(null, project, null);
         when(reportService.getRootCausesStatisticForExecutionRequestAndPrevious(any())).thenReturn(createRootCauses());
     }
 
@@ -82,7 +80,7 @@ public class RootCauseWidgetModelBuilderTest {
     public void onRootCauseWidgetBuilder_whenGetModel_allDataStructureAdded(){
         ReportParams reportParams = new ReportParams();
         reportParams.setExecutionRequestUuid(UUID.randomUUID());
-        Map<String, Object> model = builder.getModel(reportParams);
+        Map<String, Object> model = builder.getModel(reportParams, context);
 
         Assertions.assertNotNull(model);
         Assertions.assertNotNull(model.get(RootCauseWidgetModelBuilder.ROOT_CAUSE_STATISCTICS_MODEL_KEY));
@@ -77,7 +77,7 @@ public class ServerSummaryWidgetModelBuilderTest {
 
     @Test
     public void onServerSummaryWidgetModelBuilder_whenGetModel_AllDataStructureAdded(){
-        Map<String, Object> model = builder.getModel(reportParams);
+        Map<String, Object> model = builder.getModel(reportParams, null);
 
         Assertions.assertNotNull(model);
         Assertions.assertNotNull(model.get("serverSummary"));
@@ -87,7 +87,7 @@ public class SummaryStatisticsWidgetModelBuilderTest {
     @Test
     public void onSummaryStatisticsWidgetModelBuilder_whenGetModel_AllDataStructureAdded(){
         when(treeNodeService.getExecutionRequestWidgetTree(any(), any(), any(), any(), eq(false), eq(true))).thenReturn(createErTreeNode());
-        Map<String, Object> model = builder.getModel(reportParams);
+        Map<String, Object> model = builder.getModel(reportParams, null);
 
         Assertions.assertNotNull(model);
         Assertions.assertNotNull(model.get("tableModel"));
@@ -32,7 +32,6 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.qubership.atp.auth.springbootstarter.feign.exception.FeignClientException;
-import org.qubership.atp.ram.dto.response.ExecutionRequestWidgetConfigTemplateResponse;
 import org.qubership.atp.ram.dto.response.LabelNodeReportResponse;
 import org.qubership.atp.ram.dto.response.LabelNodeReportResponse.FailedLogRecordNodeResponse;
 import org.qubership.atp.ram.enums.TestingStatuses;
@@ -47,29 +46,27 @@ import org.qubership.atp.ram.service.template.impl.AbstractWidgetModelBuilder;
 import org.qubership.atp.ram.service.template.impl.TestCasesWidgetModelBuilder;
 import org.qubership.atp.ram.services.CatalogueService;
 import org.qubership.atp.ram.services.DataSetService;
-import org.qubership.atp.ram.services.ExecutionRequestService;
 import org.qubership.atp.ram.services.ReportService;
 import org.qubership.atp.ram.services.WidgetConfigTemplateService;
 
 public class TestCasesWidgetModelBuilderTest {
 
     private ReportParams reportParams;
+    private ReportDataContext context;
     private final ReportService reportService = mock(ReportService.class);
-    private final ExecutionRequestService executionRequestService = mock(ExecutionRequestService.class);
     private final DataSetService dataSetService = mock(DataSetService.class);
     private final WidgetConfigTemplateService widgetConfigTemplateService = mock(WidgetConfigTemplateService.class);
     private final CatalogueService catalogueService = mock(CatalogueService.class);
 
     private final AbstractWidgetModelBuilder builder = new TestCasesWidgetModelBuilder(
-            catalogueService, executionRequestService, dataSetService, reportService, widgetConfigTemplateService);
+            catalogueService, dataSetService, reportService, widgetConfigTemplateService);
 
     @BeforeEach
     public void setUp() {
         reportParams = createReportParams();
         when(reportService.getTestCasesForExecutionRequest(any(), any(), any(), anyBoolean(), any()))
                 .thenReturn(createTestCases(true));
-        when(executionRequestService.get(any())).thenReturn(createExecutionRequest());
-        when(widgetConfigTemplateService.getWidgetConfigTemplateForEr(reportParams.getExecutionRequestUuid())).thenReturn(new ExecutionRequestWidgetConfigTemplateResponse(new WidgetConfigTemplate(), false));
+        context = new ReportDataContext(createExecutionRequest(), null, new WidgetConfigTemplate());
         when(catalogueService.getTestPlan(any())).thenReturn(new TestPlan());
     }
 
@@ -143,7 +140,7 @@ public class TestCasesWidgetModelBuilderTest {
 
     @Test
     public void onTestCasesWidgetModelBuilder_whenGetModel_AllDataStructureAdded() {
-        Map<String, Object> model = builder.getModel(reportParams);
+        Map<String, Object> model = builder.getModel(reportParams, context);
 
         when(dataSetService.getDataSetsByIds(any())).thenReturn(createDataSetResponse());
 
@@ -156,7 +153,7 @@ public class TestCasesWidgetModelBuilderTest {
 
         when(dataSetService.getDataSetsByIds(any())).thenThrow(FeignClientException.class);
 
-        Map<String, Object> model = builder.getModel(reportParams);
+        Map<String, Object> model = builder.getModel(reportParams, context);
         Assertions.assertEquals("Test Cases", model.get("title"));
     }
 
@@ -39,7 +39,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
-import org.qubership.atp.ram.dto.response.ExecutionRequestWidgetConfigTemplateResponse;
 import org.qubership.atp.ram.dto.response.FailPatternResponse;
 import org.qubership.atp.ram.dto.response.IssueResponse;
 import org.qubership.atp.ram.dto.response.IssueResponsesModel;
@@ -51,9 +50,7 @@ import org.qubership.atp.ram.models.WidgetType;
 import org.qubership.atp.ram.service.mail.ReportParams;
 import org.qubership.atp.ram.service.template.impl.IssueResponseAdapter;
 import org.qubership.atp.ram.service.template.impl.TopIssuesWidgetModelBuilder;
-import org.qubership.atp.ram.services.ExecutionRequestService;
 import org.qubership.atp.ram.services.IssueService;
-import org.qubership.atp.ram.services.WidgetConfigTemplateService;
 
 import com.google.common.collect.Ordering;
 
@@ -64,17 +61,13 @@ public class TopIssuesWidgetModelBuilderTest {
     @Mock
     private IssueService issueService;
 
-    @Mock
-    private ExecutionRequestService executionRequestService;
-
-    @Mock
-    private WidgetConfigTemplateService widgetConfigTemplateService;
-
     @InjectMocks
     private TopIssuesWidgetModelBuilder builder;
 
     private ReportParams reportParams;
 
+    private ReportDataContext context;
+
     private IssueResponsesModel issues;
 
     @BeforeEach
@@ -83,9 +76,7 @@ public class TopIssuesWidgetModelBuilderTest {
         issues = createIssues(TopIssuesWidgetModelBuilder.TOP_ISSUES_DEFAULT_SIZE_LIMIT + 2);
         when(issueService.getAllIssuesByExecutionRequestId(
                 any(UUID.class), anyInt(), anyInt(), anyString(), anyString())).thenReturn(issues);
-        when(executionRequestService.get(any())).thenReturn(createExecutionRequest());
-        when(widgetConfigTemplateService.getWidgetConfigTemplateForEr(reportParams.getExecutionRequestUuid()))
-                .thenReturn(new ExecutionRequestWidgetConfigTemplateResponse(new WidgetConfigTemplate(), false));
+        context = new ReportDataContext(createExecutionRequest(), null, new WidgetConfigTemplate());
     }
 
     private ExecutionRequest createExecutionRequest() {
@@ -138,7 +129,7 @@ public class TopIssuesWidgetModelBuilderTest {
 
     @Test
     public void onServerSummaryWidgetModelBuilder_whenGetModel_AllDataStructureAdded(){
-        Map<String, Object> model = builder.getModel(reportParams);
+        Map<String, Object> model = builder.getModel(reportParams, context);
 
         Assertions.assertNotNull(model);
         List<IssueResponseAdapter> topIssues = (List<IssueResponseAdapter>) model.get("topIssues");
@@ -151,7 +142,7 @@ public class TopIssuesWidgetModelBuilderTest {
 
     @Test
     public void onServerSummaryWidgetModelBuilder_whenGetModel_IssuesSortedAndLimited(){
-        Map<String, Object> model = builder.getModel(reportParams);
+        Map<String, Object> model = builder.getModel(reportParams, context);
         List<IssueResponseAdapter> topIssues = (List<IssueResponseAdapter>)model.get("topIssues");
 
         List<Integer> runCounts = topIssues.stream().map(IssueResponseAdapter::getTestRunsCount).collect(Collectors.toList());
@@ -163,7 +154,7 @@ public class TopIssuesWidgetModelBuilderTest {
         IssueResponsesModel responseWithNullFailPattern = createIssuesWithNullFailPattern();
         when(issueService.getAllIssuesByExecutionRequestId(
                 any(UUID.class), anyInt(), anyInt(), anyString(), anyString())).thenReturn(responseWithNullFailPattern);
-        Map<String, Object> model = builder.getModel(reportParams);
+        Map<String, Object> model = builder.getModel(reportParams, context);
 
         Assertions.assertNotNull(model);
         List<IssueResponseAdapter> topIssues = (List<IssueResponseAdapter>) model.get("topIssues");
@@ -188,7 +179,7 @@ public class TopIssuesWidgetModelBuilderTest {
 
         when(issueService.getAllIssuesByExecutionRequestId(
                 any(UUID.class), anyInt(), anyInt(), anyString(), anyString())).thenReturn(responseWithNullFailReason);
-        Map<String, Object> model = builder.getModel(reportParams);
+        Map<String, Object> model = builder.getModel(reportParams, context);
 
         Assertions.assertNotNull(model);
         List<IssueResponseAdapter> topIssues = (List<IssueResponseAdapter>) model.get("topIssues");
@@ -16,39 +16,82 @@
 
 package org.qubership.atp.ram.service.template;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.qubership.atp.ram.models.ExecutionRequest;
 import org.qubership.atp.ram.models.WidgetType;
 import org.qubership.atp.ram.service.mail.ReportParams;
+import org.springframework.test.util.ReflectionTestUtils;
 
 public class WidgetModelFactoryTest {
 
     WidgetModelFactory widgetModelFactory;
+    private final ReportDataContextLoader reportDataContextLoader = mock(ReportDataContextLoader.class);
+    private final ReportDataContext context = new ReportDataContext(new ExecutionRequest(), null, null);
+    private final CountDownLatch blockedWidget = new CountDownLatch(1);
+    private ExecutorService executorService;
 
     @BeforeEach
     public void setUp() {
-        widgetModelFactory = new WidgetModelFactory(generateListOfBuilders());
+        executorService = Executors.newFixedThreadPool(3);
+        widgetModelFactory = new WidgetModelFactory(generateListOfBuilders(), reportDataContextLoader,
+                executorService);
+        ReflectionTestUtils.setField(widgetModelFactory, "widgetModelTimeoutMs", 60000L);
+        when(reportDataContextLoader.load(any())).thenReturn(context);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        blockedWidget.countDown();
+        executorService.shutdownNow();
     }
 
     private List<WidgetModelBuilder> generateListOfBuilders() {
         return new ArrayList<WidgetModelBuilder>() {{
-            add(generateBuilder(WidgetType.EXECUTION_SUMMARY));
-            add(generateBuilder(WidgetType.ENVIRONMENTS_INFO));
-            add(generateBuilder(WidgetType.SUMMARY));
+            add(generateBuilder(WidgetType.EXECUTION_SUMMARY, ctx -> Collections.singletonMap("context", ctx)));
+            add(generateBuilder(WidgetType.ENVIRONMENTS_INFO, ctx -> {
+                throw new UnsupportedOperationException();
+            }));
+            add(generateBuilder(WidgetType.SUMMARY, ctx -> {
+                try {
+                    blockedWidget.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return Collections.singletonMap("context", ctx);
+            }));
         }};
     }
 
-    private WidgetModelBuilder generateBuilder(WidgetType widgetType) {
+    private WidgetModelBuilder generateBuilder(WidgetType widgetType,
+                                               Function<ReportDataContext, Map<String, Object>> model) {
         return new WidgetModelBuilder() {
             @Override
-            public Map<String, Object> getModel(ReportParams reportParams) {
-                throw new UnsupportedOperationException();
+            public Map<String, Object> getModel(ReportParams reportParams, ReportDataContext context) {
+                return model.apply(context);
             }
 
             @Override
@@ -58,6 +101,12 @@ public class WidgetModelFactoryTest {
         };
     }
 
+    private ReportParams createReportParams() {
+        ReportParams reportParams = new ReportParams();
+        reportParams.setExecutionRequestUuid(UUID.randomUUID());
+        return reportParams;
+    }
+
     @Test
     public void onWidgetModelFacory_getModelBuilderByWidgetType_ModelBuilderOfCorrectWidgetTypeReturned() {
         Optional<WidgetModelBuilder> modelBuilder = widgetModelFactory.getModelBuilder(WidgetType.EXECUTION_SUMMARY);
@@ -71,4 +120,47 @@ public class WidgetModelFactoryTest {
         Optional<WidgetModelBuilder> modelBuilder = widgetModelFactory.getModelBuilder(WidgetType.ROOT_CAUSES_STATISTIC);
         Assertions.assertFalse(modelBuilder.isPresent());
     }
+
+    @Test
+    public void onWidgetModelFactory_generateModel_ContextLoadedOnceAndSharedByWidgets() {
+        ReportParams reportParams = createReportParams();
+        blockedWidget.countDown();
+
+        Map<WidgetType, Map<String, Object>> model = widgetModelFactory.generateModel(reportParams,
+                Arrays.asList(WidgetType.EXECUTION_SUMMARY, WidgetType.SUMMARY, WidgetType.ROOT_CAUSES_STATISTIC));
+
+        verify(reportDataContextLoader, times(1)).load(reportParams.getExecutionRequestUuid());
+        Assertions.assertEquals(2, model.size());
+        Assertions.assertSame(context, model.get(WidgetType.EXECUTION_SUMMARY).get("context"));
+        Assertions.assertSame(context, model.get(WidgetType.SUMMARY).get("context"));
+    }
+
+    @Test
+    public void onWidgetModelFactory_generateModel_FailedAndTimedOutWidgetsHaveEmptyModel() {
+        ReflectionTestUtils.setField(widgetModelFactory, "widgetModelTimeoutMs", 100L);
+
+        Map<WidgetType, Map<String, Object>> model = widgetModelFactory.generateModel(createReportParams(),
+                Arrays.asList(WidgetType.EXECUTION_SUMMARY, WidgetType.ENVIRONMENTS_INFO, WidgetType.SUMMARY));
+
+        Assertions.assertEquals(3, model.size());
+        Assertions.assertFalse(model.get(WidgetType.EXECUTION_SUMMARY).isEmpty());
+        Assertions.assertTrue(model.get(WidgetType.ENVIRONMENTS_INFO).isEmpty());
+        Assertions.assertTrue(model.get(WidgetType.SUMMARY).isEmpty());
+    }
+
+    @Test
+    public void onWidgetModelFactory_generateModel_WhenPoolIsShutDown_WidgetsHaveEmptyModelAfterTimeout() {
+        ThreadPoolExecutor shutDownExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(1), new ThreadPoolExecutor.CallerRunsPolicy());
+        shutDownExecutor.shutdown();
+        widgetModelFactory = new WidgetModelFactory(generateListOfBuilders(), reportDataContextLoader,
+                shutDownExecutor);
+        ReflectionTestUtils.setField(widgetModelFactory, "widgetModelTimeoutMs", 100L);
+
+        Map<WidgetType, Map<String, Object>> model = widgetModelFactory.generateModel(createReportParams(),
+                Collections.singletonList(WidgetType.EXECUTION_SUMMARY));
+
+        Assertions.assertTrue(model.get(WidgetType.EXECUTION_SUMMARY).isEmpty(),
+                "Task discarded by the shut down pool does not hang the request");
+    }
 }
@@ -51,11 +51,13 @@ public class ChartsServicesTest {
     public void before() {
         ExecutionRequestService executionRequestService = mock(ExecutionRequestService.class);
         RootCauseService rootCauseService = mock(RootCauseService.class);
-        chartsService = new ChartsService(executionRequestService, rootCauseService);
+        chartsService = new ChartsService(executionRequestService, rootCauseService,
+                mock(ExecutionRequestStatisticsService.class), mock(TestPlanDailyStatisticsService.class));
 
         when(executionRequestService.findPageByTestPlanUuidAndSort(any(), anyInt(), anyInt(), anyString(),
                 anyString())).thenReturn(erMock.findPageByTestPlanUuidAndSort());
         when(executionRequestService.getAllTestRuns(any())).thenReturn(erMock.getAllTestRuns());
+        when(executionRequestService.getChartTestRuns(any())).thenReturn(erMock.getAllTestRuns());
         when(rootCauseService.getAllRootCauses()).thenReturn(rcMock.getAllRootCauses());
     }
 
@@ -38,6 +38,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.modelmapper.ModelMapper;
+import org.qubership.atp.ram.dto.request.UpdateLogRecordContextVariablesRequest;
 import org.qubership.atp.ram.dto.request.UpdateLogRecordExecutionStatusRequest;
 import org.qubership.atp.ram.dto.response.LogRecordShort;
 import org.qubership.atp.ram.entities.ErrorMappingItem;
@@ -47,6 +48,7 @@ import org.qubership.atp.ram.enums.TypeAction;
 import org.qubership.atp.ram.mapper.LogRecordMapper;
 import org.qubership.atp.ram.mapper.Mapper;
 import org.qubership.atp.ram.model.SubstepScreenshotResponse;
+import org.qubership.atp.ram.model.datacontext.LogRecordStepIndex;
 import org.qubership.atp.ram.models.LogRecord;
 import org.qubership.atp.ram.models.LogRecordContextVariable;
 import org.qubership.atp.ram.models.TestRun;
@@ -61,6 +63,7 @@ import org.qubership.atp.ram.repositories.LogRecordMessageParametersRepository;
 import org.qubership.atp.ram.repositories.LogRecordRepository;
 import org.qubership.atp.ram.repositories.LogRecordStepContextVariableRepository;
 import org.qubership.atp.ram.repositories.TestRunRepository;
+import org.qubership.atp.ram.services.failpatterns.FailedMessageDictionaryService;
 import org.qubership.atp.ram.utils.SourceShot;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -114,7 +117,9 @@ public class LogRecordServiceTest {
                 issueRepository,
                 catalogueService,
                 logRecordContextVariableService,
-                browserConsoleLogService);
+                browserConsoleLogService,
+                mock(LogRecordParentsStatusAggregator.class),
+                mock(FailedMessageDictionaryService.class));
     }
 
     @Test
@@ -187,20 +192,17 @@ public class LogRecordServiceTest {
 
     @Test
     public void saveCountScreenshots_ShouldBeValidSaveTestRun() {
-        when(logRecordService.getAllLogRecordsUuidByTestRunId(any()))
-                .thenReturn(Collections.singletonList(new LogRecord()));
-
+        TestRun testRun = new TestRun();
+        testRun.setUuid(UUID.randomUUID());
         int countOfScreenshot = 8;
-        when(gridFsService.getCountScreen(any())).thenReturn(countOfScreenshot);
-
-        TestRun mockTestRun = new TestRun();
-        mockTestRun.setNumberOfScreens(countOfScreenshot);
+        when(gridFsService.getCountScreensByTestRunIds(any()))
+                .thenReturn(Collections.singletonMap(testRun.getUuid(), countOfScreenshot));
 
+        logRecordService.saveCountScreenshots(UUID.randomUUID(), Collections.singletonList(testRun));
 
-        logRecordService.saveCountScreenshots(UUID.randomUUID(), Collections.singletonList(new TestRun()));
-
-        assertEquals(countOfScreenshot, mockTestRun.getNumberOfScreens(),
+        assertEquals(countOfScreenshot, testRun.getNumberOfScreens(),
                 "Count of screenshots of TR is valid");
+        Mockito.verify(testRunRepository).saveAll(Collections.singletonList(testRun));
     }
 
     @Test
@@ -294,6 +296,20 @@ public class LogRecordServiceTest {
         return logRecord;
     }
 
+    @Test
+    public void updateContextVariables_whenDeltaIsDisabled_shouldNotLoadTestRunOfLogRecord() {
+        UUID logRecordId = UUID.randomUUID();
+        UpdateLogRecordContextVariablesRequest request = new UpdateLogRecordContextVariablesRequest();
+        request.setContextVariables(generateRandomContextVariables(3));
+        when(logRecordContextVariableService.isDeltaEnabled()).thenReturn(false);
+
+        logRecordService.updateContextVariables(logRecordId, request);
+
+        Mockito.verify(repository, Mockito.never()).findAllUuidAndTestRunIdByUuidIn(any());
+        Mockito.verify(logRecordContextVariableService).setContextVariables(any(LogRecordContextVariable.class),
+                eq(request.getContextVariables()), eq(null), eq(LogRecordContextVariable.class));
+    }
+
     @Test
     public void findById_givenUiLogRecord_canGenerateBrowserMonitoringLink() {
         UUID logRecordId = UUID.randomUUID();
@@ -364,4 +380,45 @@ public class LogRecordServiceTest {
         List<ContextVariable> result = logRecordService.getContextVariablesByIds(Collections.singletonList(logRecordId));
         assertEquals(result, contextVariables);
     }
+
+    @Test
+    public void getSubtreeStepIndex_firstLevelOnly_countsChildrenByOneProjectedQuery() {
+        LogRecord parent = logRecord(null);
+        LogRecord child1 = logRecord(parent.getUuid());
+        LogRecord child2 = logRecord(parent.getUuid());
+        when(repository.findChildStepsByParentRecordIdIn(Collections.singleton(parent.getUuid())))
+                .thenReturn(Stream.of(child1, child2));
+
+        LogRecordStepIndex index = logRecordService.getSubtreeStepIndex(Collections.singletonList(parent), false);
+
+        assertEquals(2, index.getChildrenCount(parent.getUuid()));
+        Mockito.verify(repository, Mockito.never())
+                .findLogRecordsForTreeByParentRecordIdInOrderByCreatedDateStampAsc(any());
+    }
+
+    @Test
+    public void getSubtreeStepIndex_allLevels_loadsSubtreeLevelByLevel() {
+        LogRecord parent = logRecord(null);
+        LogRecord child = logRecord(parent.getUuid());
+        LogRecord grandChild = logRecord(child.getUuid());
+        when(repository.findLogRecordsForTreeByParentRecordIdInOrderByCreatedDateStampAsc(
+                Collections.singleton(parent.getUuid()))).thenReturn(Collections.singletonList(child));
+        when(repository.findLogRecordsForTreeByParentRecordIdInOrderByCreatedDateStampAsc(
+                Collections.singleton(child.getUuid()))).thenReturn(Collections.singletonList(grandChild));
+        when(repository.findLogRecordsForTreeByParentRecordIdInOrderByCreatedDateStampAsc(
+                Collections.singleton(grandChild.getUuid()))).thenReturn(Collections.emptyList());
+
+        LogRecordStepIndex index = logRecordService.getSubtreeStepIndex(Collections.singletonList(parent), true);
+
+        assertEquals(3, index.size());
+        assertEquals(Collections.singletonList(grandChild), index.getChildren(child.getUuid()));
+        Mockito.verify(repository, Mockito.never()).findStepsByTestRunIdInOrderByCreatedDateStampAsc(any());
+    }
+
+    private LogRecord logRecord(UUID parentId) {
+        LogRecord logRecord = new LogRecord();
+        logRecord.setUuid(UUID.randomUUID());
+        logRecord.setParentRecordId(parentId);
+        return logRecord;
+    }
 }
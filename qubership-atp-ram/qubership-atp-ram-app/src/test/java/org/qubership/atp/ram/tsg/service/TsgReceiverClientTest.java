@@ -0,0 +1,125 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.tsg.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.ram.tsg.model.FdrResponse;
+import org.qubership.atp.ram.tsg.model.TsgConfiguration;
+import org.qubership.atp.ram.tsg.model.TsgFdr;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+public class TsgReceiverClientTest {
+
+    private final TsgConfiguration tsgConfiguration = new TsgConfiguration();
+    private final AtomicInteger receivedRequests = new AtomicInteger();
+    private final List<TsgFdr> fdrs = Collections.singletonList(new TsgFdr());
+    private TsgReceiverClient tsgReceiverClient;
+    private HttpServer tsgReceiver;
+
+    @BeforeEach
+    public void setUp() {
+        tsgReceiverClient = new TsgReceiverClient(tsgConfiguration, 1000, 300, 3, 10);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (tsgReceiver != null) {
+            tsgReceiver.stop(0);
+        }
+    }
+
+    private void startTsgReceiver(int... statuses) throws IOException {
+        tsgReceiver = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        tsgReceiver.createContext("/putJson/testTsg", exchange -> {
+            int request = receivedRequests.getAndIncrement();
+            respond(exchange, statuses[Math.min(request, statuses.length - 1)]);
+        });
+        tsgReceiver.start();
+        tsgConfiguration.setTsgReceiverUrl("http://localhost:" + tsgReceiver.getAddress().getPort());
+    }
+
+    private void respond(HttpExchange exchange, int status) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        byte[] response = "[]".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, response.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(response);
+        }
+    }
+
+    @Test
+    public void sendFdrs_whenServiceUnavailableThenOk_shouldRetryRequest() throws IOException {
+        startTsgReceiver(503, 200);
+
+        List<FdrResponse> fdrResponses = tsgReceiverClient.sendFdrs("testTsg", fdrs);
+
+        Assertions.assertTrue(fdrResponses.isEmpty());
+        Assertions.assertEquals(2, receivedRequests.get());
+    }
+
+    @Test
+    public void sendFdrs_whenOtherServerError_shouldFailWithoutRetry() throws IOException {
+        startTsgReceiver(502, 200);
+
+        Assertions.assertThrows(HttpServerErrorException.class, () -> tsgReceiverClient.sendFdrs("testTsg", fdrs));
+        Assertions.assertEquals(1, receivedRequests.get(), "FDRs could be created before the error");
+    }
+
+    @Test
+    public void sendFdrs_whenStatusIsNotOk_shouldFailWithoutRetry() throws IOException {
+        startTsgReceiver(202);
+
+        Assertions.assertThrows(RestClientException.class, () -> tsgReceiverClient.sendFdrs("testTsg", fdrs));
+        Assertions.assertEquals(1, receivedRequests.get());
+    }
+
+    @Test
+    public void sendFdrs_whenReadTimedOut_shouldFailWithoutRetry() throws IOException {
+        tsgReceiver = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        tsgReceiver.createContext("/putJson/testTsg", exchange -> {
+            receivedRequests.incrementAndGet();
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200);
+        });
+        tsgReceiver.start();
+        tsgConfiguration.setTsgReceiverUrl("http://localhost:" + tsgReceiver.getAddress().getPort());
+
+        Assertions.assertThrows(ResourceAccessException.class, () -> tsgReceiverClient.sendFdrs("testTsg", fdrs));
+        Assertions.assertEquals(1, receivedRequests.get());
+    }
+}
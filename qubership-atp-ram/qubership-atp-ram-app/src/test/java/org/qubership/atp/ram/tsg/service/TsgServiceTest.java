@@ -17,20 +17,38 @@
 package org.qubership.atp.ram.tsg.service;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.qubership.atp.ram.enums.ExecutionStatuses;
 import org.qubership.atp.ram.enums.TestingStatuses;
 import org.qubership.atp.ram.models.ExecutionRequest;
+import org.qubership.atp.ram.models.LogRecord;
 import org.qubership.atp.ram.models.Project;
 import org.qubership.atp.ram.models.TestRun;
 import org.qubership.atp.ram.services.ExecutionRequestService;
@@ -39,9 +57,14 @@ import org.qubership.atp.ram.services.ProjectsService;
 import org.qubership.atp.ram.services.TestRunService;
 import org.qubership.atp.ram.tsg.model.TsgConfiguration;
 import org.qubership.atp.ram.tsg.senders.Sender;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
 
 public class TsgServiceTest {
 
@@ -53,6 +76,10 @@ public class TsgServiceTest {
     private final TsgErService tsgErService = mock(TsgErService.class);
     private final Sender<List<UUID>> sender = mock(Sender.class);
     private final TsgConfiguration tsgConfiguration = new TsgConfiguration();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<JsonNode> receivedRequests = new CopyOnWriteArrayList<>();
+    private ExecutorService fdrExecutor;
+    private HttpServer tsgReceiver;
 
     private Project project;
     private ExecutionRequest er;
@@ -84,6 +111,88 @@ public class TsgServiceTest {
         tr3.setName("TR3");
         tr3.updateTestingStatus(TestingStatuses.UNKNOWN);
         tr3.setExecutionStatus(ExecutionStatuses.IN_PROGRESS);
+        fdrExecutor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        fdrExecutor.shutdownNow();
+        if (tsgReceiver != null) {
+            tsgReceiver.stop(0);
+        }
+    }
+
+    private TsgService createTsgService() {
+        TsgReceiverClient tsgReceiverClient = new TsgReceiverClient(tsgConfiguration, 1000, 5000, 3, 10);
+        TsgService tsgService = new TsgService(executionRequestService, testRunService, logRecordService,
+                projectsService, tsgProjectService, tsgErService, tsgConfiguration, sender, tsgReceiverClient,
+                fdrExecutor);
+        ReflectionTestUtils.setField(tsgService, "ramUrl", "http://ram");
+        ReflectionTestUtils.setField(tsgService, "catalogueUrl", "");
+        return tsgService;
+    }
+
+    private void startTsgReceiver() throws IOException {
+        tsgReceiver = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        tsgReceiver.createContext("/putJson/testTsg", this::receiveFdrs);
+        tsgReceiver.start();
+        tsgConfiguration.setTsgReceiverUrl("http://localhost:" + tsgReceiver.getAddress().getPort());
+    }
+
+    private void receiveFdrs(HttpExchange exchange) throws IOException {
+        JsonNode fdrs = objectMapper.readTree(exchange.getRequestBody());
+        receivedRequests.add(fdrs);
+        List<Map<String, String>> links = new ArrayList<>();
+        fdrs.forEach(fdr -> {
+            String testRunId = fdr.get("Test Run Id").asText();
+            Map<String, String> link = new HashMap<>();
+            link.put("testRunId", testRunId);
+            link.put("fdrLink", "http://tsg/fdr/" + testRunId);
+            links.add(link);
+        });
+        byte[] response = objectMapper.writeValueAsBytes(links);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, response.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(response);
+        }
+    }
+
+    private TestRun createFinishedTestRun(String name) {
+        TestRun testRun = new TestRun();
+        testRun.setUuid(UUID.randomUUID());
+        testRun.setName(name);
+        testRun.setExecutionRequestId(er.getUuid());
+        testRun.updateTestingStatus(TestingStatuses.FAILED);
+        testRun.setStartDate(new Timestamp(System.currentTimeMillis() - 1000));
+        testRun.setFinishDate(new Timestamp(System.currentTimeMillis()));
+        return testRun;
+    }
+
+    private LogRecord createLogRecord(UUID testRunId, UUID parentRecordId, String name, boolean isSection) {
+        LogRecord logRecord = new LogRecord();
+        logRecord.setUuid(UUID.randomUUID());
+        logRecord.setTestRunId(testRunId);
+        logRecord.setParentRecordId(parentRecordId);
+        logRecord.setName(name);
+        logRecord.setSection(isSection);
+        logRecord.setTestingStatusHard(TestingStatuses.FAILED);
+        logRecord.setMessage(name + " message");
+        return logRecord;
+    }
+
+    private List<LogRecord> createLogRecords(Collection<UUID> testRunIds) {
+        List<LogRecord> logRecords = new ArrayList<>();
+        testRunIds.forEach(testRunId -> {
+            LogRecord section = createLogRecord(testRunId, null, "Section", true);
+            LogRecord compound = createLogRecord(testRunId, section.getUuid(), "Compound", false);
+            logRecords.add(section);
+            logRecords.add(compound);
+            logRecords.add(createLogRecord(testRunId, compound.getUuid(), "Step 1", false));
+            logRecords.add(createLogRecord(testRunId, compound.getUuid(), "Step 2", false));
+            logRecords.add(createLogRecord(testRunId, null, "Top level step", false));
+        });
+        return logRecords;
     }
 
     @Test
@@ -92,8 +201,7 @@ public class TsgServiceTest {
         when(executionRequestService.findFinishedErByProjectAndSortByFinishDate(any(), any()))
                 .thenReturn(Collections.singletonList(er));
         when(testRunService.findAllByExecutionRequestId(any())).thenReturn(Arrays.asList(tr1, tr2));
-        TsgService tsgService = new TsgService(executionRequestService, testRunService, logRecordService,
-                projectsService, tsgProjectService, tsgErService, tsgConfiguration, sender);
+        TsgService tsgService = createTsgService();
         JsonArray result = tsgService.getDailyInfo(1);
         Assertions.assertEquals(1, result.size());
         JsonObject projectActaul = result.get(0).getAsJsonObject();
@@ -112,8 +220,7 @@ public class TsgServiceTest {
         when(executionRequestService.findFinishedErByProjectAndSortByFinishDate(any(), any()))
                 .thenReturn(Collections.singletonList(er));
         when(testRunService.findAllByExecutionRequestId(any())).thenReturn(Arrays.asList(tr1, tr2, tr3));
-        TsgService tsgService = new TsgService(executionRequestService, testRunService, logRecordService,
-                projectsService, tsgProjectService, tsgErService, tsgConfiguration, sender);
+        TsgService tsgService = createTsgService();
         JsonArray result = tsgService.getDailyInfo(1);
         JsonObject projectActaul = result.get(0).getAsJsonObject();
         JsonObject erObject = projectActaul.getAsJsonArray("executionRequests").get(0).getAsJsonObject();
@@ -122,4 +229,61 @@ public class TsgServiceTest {
         Assertions.assertTrue(projectActaul.has("projectTestRunsCount"));
         Assertions.assertEquals(2, projectActaul.get("projectTestRunsCount").getAsInt());
     }
+
+    @Test
+    public void sendFdrs_whenManyTestRuns_shouldPostFdrsByBatchesAndMarkTestRunsAsSent() throws IOException {
+        startTsgReceiver();
+        er.setProjectId(UUID.randomUUID());
+        List<TestRun> testRuns = Arrays.asList(createFinishedTestRun("TR1"), createFinishedTestRun("TR2"),
+                createFinishedTestRun("TR3"), createFinishedTestRun("TR4"), createFinishedTestRun("TR5"));
+        when(testRunService.getByIds(any())).thenReturn(testRuns);
+        when(executionRequestService.findById(er.getUuid())).thenReturn(er);
+        when(projectsService.getProjectById(er.getProjectId())).thenReturn(project);
+        when(logRecordService.findLogRecordsForFdrByTestRunIds(anyCollection()))
+                .thenAnswer(invocation -> createLogRecords(invocation.getArgument(0)).stream());
+        TsgService tsgService = createTsgService();
+        ReflectionTestUtils.setField(tsgService, "fdrBatchSize", 2);
+
+        tsgService.sendFdrs(testRuns.stream().map(TestRun::getUuid).collect(Collectors.toList()));
+
+        Assertions.assertEquals(3, receivedRequests.size(), "FDRs are posted by batches");
+        Assertions.assertEquals(5, receivedRequests.stream().mapToInt(JsonNode::size).sum());
+        verify(logRecordService, times(3)).findLogRecordsForFdrByTestRunIds(anyCollection());
+        JsonNode checkPoints = receivedRequests.get(0).get(0).get("Check Points");
+        Assertions.assertEquals(2, checkPoints.size(), "Sections are skipped, steps are grouped by parent");
+        Assertions.assertEquals("Compound", checkPoints.get(0).get("Name").asText());
+        Assertions.assertEquals(2, checkPoints.get(0).get("Check Points").size());
+        Assertions.assertEquals("Top level step", checkPoints.get(1).get("Name").asText());
+
+        ArgumentCaptor<Map<UUID, String>> fdrLinksCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(testRunService, times(3)).updateFdrWasSent(fdrLinksCaptor.capture());
+        Map<UUID, String> fdrLinks = new HashMap<>();
+        fdrLinksCaptor.getAllValues().forEach(fdrLinks::putAll);
+        testRuns.forEach(testRun -> Assertions.assertEquals("http://tsg/fdr/" + testRun.getUuid(),
+                fdrLinks.get(testRun.getUuid())));
+    }
+
+    @Test
+    public void sendFdrs_whenTsgReceiverFails_shouldNotMarkTestRunsAsSent() throws IOException {
+        tsgReceiver = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        tsgReceiver.createContext("/putJson/testTsg", exchange -> {
+            receivedRequests.add(objectMapper.readTree(exchange.getRequestBody()));
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+        });
+        tsgReceiver.start();
+        tsgConfiguration.setTsgReceiverUrl("http://localhost:" + tsgReceiver.getAddress().getPort());
+        er.setProjectId(UUID.randomUUID());
+        List<TestRun> testRuns = Collections.singletonList(createFinishedTestRun("TR1"));
+        when(testRunService.getByIds(any())).thenReturn(testRuns);
+        when(executionRequestService.findById(er.getUuid())).thenReturn(er);
+        when(projectsService.getProjectById(er.getProjectId())).thenReturn(project);
+        when(logRecordService.findLogRecordsForFdrByTestRunIds(anyCollection()))
+                .thenAnswer(invocation -> createLogRecords(invocation.getArgument(0)).stream());
+
+        createTsgService().sendFdrs(Collections.singletonList(testRuns.get(0).getUuid()));
+
+        Assertions.assertEquals(3, receivedRequests.size(), "Request is retried up to max attempts");
+        verify(testRunService, times(0)).updateFdrWasSent(any());
+    }
 }
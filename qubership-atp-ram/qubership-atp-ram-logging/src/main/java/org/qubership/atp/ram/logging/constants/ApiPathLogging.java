@@ -34,6 +34,7 @@ public interface ApiPathLogging {
     String STREAM_PATH = "/stream";
     String WITH_PARENTS = "/withParents";
     String FIND_OR_CREATE_PATH = "/findOrCreate";
+    String BULK_PATH = "/bulk";
     String UPDATE_PATH = "/update";
     String UPDATE_EXECUTION_STATUS = "/updExecutionStatus";
     String STOP_PATH = "/stop";
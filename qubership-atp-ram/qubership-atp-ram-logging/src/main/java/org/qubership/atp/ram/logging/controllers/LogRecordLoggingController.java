@@ -21,6 +21,7 @@ import static org.qubership.atp.ram.logging.constants.ApiPathLogging.LOGGING_PAT
 import static org.qubership.atp.ram.logging.constants.ApiPathLogging.LOG_RECORDS_PATH;
 
 import java.io.InputStream;
+import java.util.List;
 import java.util.UUID;
 
 import org.bson.types.ObjectId;
@@ -90,4 +91,18 @@ public class LogRecordLoggingController {
     public CreatedLogRecordResponse findOrCreate(@RequestBody CreatedLogRecordRequest createdLogRecordRequest) {
         return logRecordLoggingService.findOrCreate(createdLogRecordRequest);
     }
+
+    /**
+     * Find existed or create new log records by info from requests in bulk.
+     * Then update execution status of their test runs and execution requests in the same way
+     * as {@link #findOrCreate(CreatedLogRecordRequest)} does for a single log record.
+     *
+     * @param createdLogRecordRequests info for created new log records
+     * @return IDs of log records in order of requests
+     */
+    @PostMapping(ApiPathLogging.FIND_OR_CREATE_PATH + ApiPathLogging.BULK_PATH)
+    public List<CreatedLogRecordResponse> findOrCreateBulk(
+            @RequestBody List<CreatedLogRecordRequest> createdLogRecordRequests) {
+        return logRecordLoggingService.findOrCreateBulk(createdLogRecordRequests);
+    }
 }
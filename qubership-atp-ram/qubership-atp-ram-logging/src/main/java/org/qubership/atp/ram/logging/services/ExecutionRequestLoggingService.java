@@ -17,6 +17,7 @@
 package org.qubership.atp.ram.logging.services;
 
 import java.sql.Timestamp;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -29,6 +30,7 @@ import org.qubership.atp.ram.models.ExecutionRequest;
 import org.qubership.atp.ram.models.TestPlan;
 import org.qubership.atp.ram.models.TestRun;
 import org.qubership.atp.ram.repositories.ExecutionRequestRepository;
+import org.qubership.atp.ram.services.ExecutionRequestStatisticsService;
 import org.qubership.atp.ram.utils.RateCalculator;
 import org.qubership.atp.ram.utils.TimeUtils;
 import org.springframework.stereotype.Service;
@@ -45,6 +47,7 @@ public class ExecutionRequestLoggingService {
     private final RateCalculator rateCalculator;
     private final LogRecordLoggingService logRecordLoggingService;
     private final TestRunLoggingService testRunLoggingService;
+    private final ExecutionRequestStatisticsService executionRequestStatisticsService;
 
     ExecutionRequest findOrCreateExecutionRequest(CreatedTestRunWithParentsRequest request, TestPlan testPlan) {
         UUID executionRequestId = request.getAtpExecutionRequestId();
@@ -103,6 +106,7 @@ public class ExecutionRequestLoggingService {
         executionRequest.setDuration(
                 TimeUtils.getDuration(executionRequest.getStartDate(), executionRequest.getFinishDate()));
         executionRequestRepository.save(executionRequest);
+        executionRequestStatisticsService.markStale(Collections.singletonList(executionRequest.getUuid()));
 
         log.debug("Execution Request: {} was finished and analyzed.", executionRequest.getUuid());
     }
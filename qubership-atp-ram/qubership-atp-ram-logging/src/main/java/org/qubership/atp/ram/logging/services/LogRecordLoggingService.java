@@ -22,11 +22,16 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.apache.commons.io.IOUtils;
 import org.modelmapper.ModelMapper;
@@ -42,10 +47,14 @@ import org.qubership.atp.ram.models.ExecutionRequest;
 import org.qubership.atp.ram.models.LogRecord;
 import org.qubership.atp.ram.models.TestRun;
 import org.qubership.atp.ram.models.logrecords.RestLogRecord;
+import org.qubership.atp.ram.repositories.CustomExecutionRequestRepository;
+import org.qubership.atp.ram.repositories.CustomLogRecordRepository;
 import org.qubership.atp.ram.repositories.ExecutionRequestRepository;
 import org.qubership.atp.ram.repositories.LogRecordRepository;
 import org.qubership.atp.ram.repositories.TestRunRepository;
+import org.qubership.atp.ram.services.ExecutionRequestStatisticsService;
 import org.qubership.atp.ram.services.GridFsService;
+import org.qubership.atp.ram.utils.StreamUtils;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
@@ -61,6 +70,9 @@ public class LogRecordLoggingService {
     private final LogRecordRepository logRecordRepository;
     private final TestRunRepository testRunRepository;
     private final ExecutionRequestRepository executionRequestRepository;
+    private final CustomLogRecordRepository customLogRecordRepository;
+    private final CustomExecutionRequestRepository customExecutionRequestRepository;
+    private final ExecutionRequestStatisticsService executionRequestStatisticsService;
     @Qualifier(ApiPathLogging.MAPPER_FOR_LOGGING_BEAN_NAME)
     private final ModelMapper modelMapper;
 
@@ -102,6 +114,8 @@ public class LogRecordLoggingService {
             ((RestLogRecord) logRecord).setResponse(request.getResponse());
         }
         logRecordRepository.save(logRecord);
+        testRunRepository.updateLastActivityByIds(Collections.singletonList(logRecord.getTestRunId()),
+                new Timestamp(System.currentTimeMillis()));
         log.debug("LR {} updated. Testing status [{}], message [{}].", logRecordId, request.getTestingStatus(),
                 request.getMessage());
         return new CreatedLogRecordResponse(logRecord.getUuid());
@@ -109,23 +123,16 @@ public class LogRecordLoggingService {
 
     void saveCountScreenshots(UUID executionRequestUuid, List<TestRun> testRuns) {
         if (!testRuns.isEmpty()) {
-            int numberOfScreen = 0;
-            Map<UUID, String> trIdAndNumberOfScreens = new HashMap<>();
-            for (TestRun testRun : testRuns) {
-                UUID uuid = testRun.getUuid();
-                try {
-                    List<LogRecord> logRecords = logRecordRepository.findAllUuidByTestRunId(uuid);
-                    if (!logRecords.isEmpty()) {
-                        numberOfScreen = gridFsService.getCountScreen(logRecords);
-                    }
-                    trIdAndNumberOfScreens.put(uuid, String.valueOf(numberOfScreen));
-                    testRun.setNumberOfScreens(numberOfScreen);
-                } catch (Exception e) {
-                    log.error("Error in calculating screenshots count for Test Run {}.", uuid, e);
-                }
+            try {
+                Map<UUID, Integer> countScreens =
+                        gridFsService.getCountScreensByTestRunIds(StreamUtils.extractIds(testRuns));
+                testRuns.forEach(testRun ->
+                        testRun.setNumberOfScreens(countScreens.getOrDefault(testRun.getUuid(), 0)));
+                log.debug("Number of screens for ER {}: {}", executionRequestUuid, countScreens);
+            } catch (Exception e) {
+                log.error("Error in calculating screenshots count for Execution Request {}.", executionRequestUuid, e);
             }
             testRunRepository.saveAll(testRuns);
-            log.debug("Number of screens for ER {}: {}", executionRequestUuid, trIdAndNumberOfScreens);
         }
     }
 
@@ -147,11 +154,90 @@ public class LogRecordLoggingService {
         return createdLogRecordResponse;
     }
 
+    /**
+     * Find or create log records in bulk.
+     * Missing log records are inserted with one unordered bulk write, then execution status of their
+     * test runs and execution requests is set to 'In Progress' with one update per collection.
+     * Terminated test runs (and their execution requests) are left untouched, as in
+     * {@link #findOrCreate(CreatedLogRecordRequest)}.
+     *
+     * @param createdLogRecordRequests info for created new log records
+     * @return IDs of log records in order of requests, one per request including repeated ids
+     */
+    public List<CreatedLogRecordResponse> findOrCreateBulk(List<CreatedLogRecordRequest> createdLogRecordRequests) {
+        log.trace("Start of bulk search (or creating) of {} Log Records", createdLogRecordRequests.size());
+        Map<UUID, LogRecord> requestedLogRecords = new LinkedHashMap<>();
+        List<CreatedLogRecordResponse> responses = new ArrayList<>(createdLogRecordRequests.size());
+        createdLogRecordRequests.forEach(request -> {
+            LogRecord logRecord = modelMapper.map(request, LogRecord.class);
+            if (Objects.isNull(logRecord.getUuid())) {
+                logRecord.setUuid(UUID.randomUUID());
+            }
+            requestedLogRecords.putIfAbsent(logRecord.getUuid(), logRecord);
+            responses.add(new CreatedLogRecordResponse(logRecord.getUuid()));
+        });
+
+        Map<UUID, UUID> logRecordIdToTestRunId = new HashMap<>();
+        logRecordRepository.findAllUuidAndTestRunIdByUuidIn(requestedLogRecords.keySet())
+                .forEach(existed -> logRecordIdToTestRunId.put(existed.getUuid(), existed.getTestRunId()));
+
+        Timestamp createdDate = new Timestamp(System.currentTimeMillis());
+        List<LogRecord> logRecordsToCreate = requestedLogRecords.values().stream()
+                .filter(logRecord -> !logRecordIdToTestRunId.containsKey(logRecord.getUuid()))
+                .collect(Collectors.toList());
+        logRecordsToCreate.forEach(logRecord -> logRecord.setCreatedDate(createdDate));
+        int insertedCount = customLogRecordRepository.insertAllUnordered(logRecordsToCreate);
+        logRecordsToCreate.forEach(logRecord -> logRecordIdToTestRunId.put(logRecord.getUuid(),
+                logRecord.getTestRunId()));
+        log.debug("Created {} of {} requested Log Records", insertedCount, requestedLogRecords.size());
+
+        Set<UUID> testRunIds = logRecordIdToTestRunId.values().stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        testRunRepository.updateLastActivityByIds(testRunIds, createdDate);
+        updateExecutionStatusOfTestsAndExecutionRequests(testRunIds);
+
+        return responses;
+    }
+
+    private void updateExecutionStatusOfTestsAndExecutionRequests(Set<UUID> testRunIds) {
+        if (testRunIds.isEmpty()) {
+            return;
+        }
+        List<TestRun> testRuns = testRunRepository.findAllExecutionStatusAndExecutionRequestIdByUuidIn(testRunIds);
+        List<TestRun> notTerminatedTestRuns = testRuns.stream()
+                .filter(testRun -> {
+                    boolean isTerminated = ExecutionStatuses.TERMINATED.equals(testRun.getExecutionStatus());
+                    if (isTerminated) {
+                        log.warn("TestRun [{}] is already terminated", testRun.getUuid());
+                    }
+                    return !isTerminated;
+                })
+                .collect(Collectors.toList());
+        if (notTerminatedTestRuns.isEmpty()) {
+            return;
+        }
+        Set<UUID> notTerminatedTestRunIds = notTerminatedTestRuns.stream()
+                .map(TestRun::getUuid)
+                .collect(Collectors.toSet());
+        Set<UUID> executionRequestIds = notTerminatedTestRuns.stream()
+                .map(TestRun::getExecutionRequestId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        testRunRepository.updateExecutionStatusByIdsAndStatusNot(notTerminatedTestRunIds,
+                ExecutionStatuses.IN_PROGRESS, ExecutionStatuses.TERMINATED);
+        executionRequestStatisticsService.markStale(executionRequestIds);
+        customExecutionRequestRepository.updateExecutionStatusByIds(executionRequestIds,
+                ExecutionStatuses.IN_PROGRESS);
+        log.debug("Set In Progress status for TRs {} and ERs {}.", notTerminatedTestRunIds, executionRequestIds);
+    }
+
     private void updateExecutionStatusOfTestAndExecutionRequest(TestRun testRun) {
         if (ExecutionStatuses.TERMINATED.equals(testRun.getExecutionStatus())) {
             log.warn("TestRun [{}] is already terminated", testRun.getUuid());
         } else {
             testRun.setExecutionStatus(ExecutionStatuses.IN_PROGRESS);
+            testRun.setLastActivity(new Timestamp(System.currentTimeMillis()));
             testRunRepository.save(testRun);
 
             ExecutionRequest executionRequest =
@@ -43,6 +43,7 @@ import org.qubership.atp.ram.models.TestPlan;
 import org.qubership.atp.ram.models.TestRun;
 import org.qubership.atp.ram.repositories.TestRunRepository;
 import org.qubership.atp.ram.services.IssueService;
+import org.qubership.atp.ram.services.LogRecordParentsStatusAggregator;
 import org.qubership.atp.ram.utils.TimeUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
@@ -60,6 +61,7 @@ public class TestRunLoggingService {
     private final TestRunRepository testRunRepository;
     private final ModelMapper modelMapper;
     private final IssueService issueService;
+    private final LogRecordParentsStatusAggregator parentsStatusAggregator;
 
     /**
      * Find or create test runs.
@@ -90,6 +92,7 @@ public class TestRunLoggingService {
         if (Objects.nonNull(existedTestRun)) {
             log.debug("Test run was exist, {}", existedTestRun.getUuid());
             updateListParams(existedTestRun, configuredTestRun);
+            existedTestRun.setLastActivity(configuredTestRun.getLastActivity());
             return testRunRepository.save(existedTestRun);
         } else {
             log.debug("Test run will be creating for ER {}", executionRequestId);
@@ -118,6 +121,7 @@ public class TestRunLoggingService {
         testRun.setExecutionRequestId(requestId);
         testRun.setExecutionStatus(ExecutionStatuses.IN_PROGRESS);
         ObjectsFieldsUtils.setField(testRun::setStartDate, new Timestamp(System.currentTimeMillis()));
+        testRun.setLastActivity(new Timestamp(System.currentTimeMillis()));
         testRun.updateTestingStatus(TestingStatuses.UNKNOWN);
         testRun.setName(request.getTestRunName());
         return testRun;
@@ -140,6 +144,7 @@ public class TestRunLoggingService {
         updateListParams(testRun, modelMapper.map(request, TestRun.class));
         ObjectsFieldsUtils.setField(testRun::setUrlToBrowserOrLogs,
                 getUrlToBrowserLog(testRun, request.getUrlToBrowserOrLogs()));
+        testRun.setLastActivity(new Timestamp(System.currentTimeMillis()));
         testRunRepository.save(testRun);
         log.trace("Finish updating TR {}", request.getTestRunId());
         return new CreatedTestRunResponse(testRun.getUuid(), null);
@@ -150,6 +155,7 @@ public class TestRunLoggingService {
      */
     public StopTestRunResponse stop(StopTestRunRequest request) {
         log.info("Start stopping test run {}", request.getTestRunId());
+        parentsStatusAggregator.flush(Collections.singletonList(request.getTestRunId()));
         TestRun testRun = testRunRepository.findByUuid(request.getTestRunId());
         ObjectsFieldsUtils.setField(testRun::setFinishDate, new Timestamp(System.currentTimeMillis()));
         testRun.setDuration(TimeUtils.getDuration(testRun.getStartDate(), testRun.getFinishDate()));
@@ -164,8 +170,8 @@ public class TestRunLoggingService {
                 getUrlToBrowserLog(testRun, request.getUrlToBrowserOrLogs()));
         testRunRepository.save(testRun);
         if (TestingStatuses.FAILED.equals(testRun.getTestingStatus())) {
-            issueService.calculateIssuesForExecution(testRun.getExecutionRequestId(),
-                    Collections.singletonList(testRun.getUuid()));
+            issueService.calculateIssuesForTestRunsIncrementally(testRun.getExecutionRequestId(),
+                    Collections.singletonList(testRun));
         }
         log.trace("Finish stopping test run {}", request.getTestRunId());
         return new StopTestRunResponse(testRun.getExecutionStatus().toString());
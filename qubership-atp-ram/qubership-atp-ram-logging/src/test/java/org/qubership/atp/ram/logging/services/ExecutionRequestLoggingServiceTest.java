@@ -33,6 +33,7 @@ import org.qubership.atp.ram.logging.services.mocks.ModelMocks;
 import org.qubership.atp.ram.models.ExecutionRequest;
 import org.qubership.atp.ram.models.TestPlan;
 import org.qubership.atp.ram.repositories.ExecutionRequestRepository;
+import org.qubership.atp.ram.services.ExecutionRequestStatisticsService;
 import org.qubership.atp.ram.utils.RateCalculator;
 
 public class ExecutionRequestLoggingServiceTest {
@@ -43,7 +44,8 @@ public class ExecutionRequestLoggingServiceTest {
     public void setUp() {
         requestRepository = mock(ExecutionRequestRepository.class);
         executionRequestLoggingService = spy(new ExecutionRequestLoggingService(requestRepository, new ModelMapper(),
-                mock(RateCalculator.class), mock(LogRecordLoggingService.class), mock(TestRunLoggingService.class)));
+                mock(RateCalculator.class), mock(LogRecordLoggingService.class), mock(TestRunLoggingService.class),
+                mock(ExecutionRequestStatisticsService.class)));
     }
 
     @Test
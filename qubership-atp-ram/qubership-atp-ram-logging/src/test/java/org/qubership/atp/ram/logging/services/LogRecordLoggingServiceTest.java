@@ -17,24 +17,39 @@
 package org.qubership.atp.ram.logging.services;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.modelmapper.ModelMapper;
+import org.qubership.atp.ram.enums.ExecutionStatuses;
+import org.qubership.atp.ram.logging.configuration.ModelMapperConfiguration;
 import org.qubership.atp.ram.logging.entities.requests.CreatedLogRecordRequest;
+import org.qubership.atp.ram.logging.entities.responses.CreatedLogRecordResponse;
 import org.qubership.atp.ram.logging.services.mocks.ModelMocks;
 import org.qubership.atp.ram.models.LogRecord;
 import org.qubership.atp.ram.models.TestRun;
+import org.qubership.atp.ram.repositories.CustomExecutionRequestRepository;
+import org.qubership.atp.ram.repositories.CustomLogRecordRepository;
 import org.qubership.atp.ram.repositories.ExecutionRequestRepository;
 import org.qubership.atp.ram.repositories.LogRecordRepository;
 import org.qubership.atp.ram.repositories.TestRunRepository;
+import org.qubership.atp.ram.services.ExecutionRequestStatisticsService;
 import org.qubership.atp.ram.services.GridFsService;
 
 public class LogRecordLoggingServiceTest {
@@ -42,36 +57,40 @@ public class LogRecordLoggingServiceTest {
     private GridFsService gridFsService;
     private LogRecordLoggingService logRecordLoggingService;
     private LogRecordRepository logRecordRepository;
+    private CustomLogRecordRepository customLogRecordRepository;
+    private CustomExecutionRequestRepository customExecutionRequestRepository;
+    private ExecutionRequestStatisticsService executionRequestStatisticsService;
 
     @BeforeEach
     public void setUp() {
         testRunRepository = mock(TestRunRepository.class);
         gridFsService = mock(GridFsService.class);
         logRecordRepository = mock(LogRecordRepository.class);
+        customLogRecordRepository = mock(CustomLogRecordRepository.class);
+        customExecutionRequestRepository = mock(CustomExecutionRequestRepository.class);
+        executionRequestStatisticsService = mock(ExecutionRequestStatisticsService.class);
         ModelMapper modelMapper = new ModelMapper();
         modelMapper.getConfiguration().setAmbiguityIgnored(true);
         logRecordLoggingService = spy(new LogRecordLoggingService(
                 gridFsService, logRecordRepository,
                 testRunRepository, mock(ExecutionRequestRepository.class),
-                modelMapper));
+                customLogRecordRepository, customExecutionRequestRepository,
+                executionRequestStatisticsService, modelMapper));
     }
 
     @Test
     public void saveCountScreenshots_ShouldBeValidSaveTestRun() {
-        when(logRecordRepository.findAllUuidByTestRunId(any()))
-                .thenReturn(Collections.singletonList(new LogRecord()));
-
+        TestRun testRun = new TestRun();
+        testRun.setUuid(UUID.randomUUID());
         int countOfScreenshot = 8;
-        when(gridFsService.getCountScreen(any())).thenReturn(countOfScreenshot);
-
-        TestRun mockTestRun = new TestRun();
-        mockTestRun.setNumberOfScreens(countOfScreenshot);
-
+        when(gridFsService.getCountScreensByTestRunIds(any()))
+                .thenReturn(Collections.singletonMap(testRun.getUuid(), countOfScreenshot));
 
-        logRecordLoggingService.saveCountScreenshots(UUID.randomUUID(), Collections.singletonList(new TestRun()));
+        logRecordLoggingService.saveCountScreenshots(UUID.randomUUID(), Collections.singletonList(testRun));
 
-        Assertions.assertEquals(countOfScreenshot, mockTestRun.getNumberOfScreens(),
+        Assertions.assertEquals(countOfScreenshot, testRun.getNumberOfScreens(),
                 "Count of screenshots of TR is valid");
+        verify(testRunRepository).saveAll(Collections.singletonList(testRun));
     }
 
     @Test
@@ -96,4 +115,60 @@ public class LogRecordLoggingServiceTest {
         Assertions.assertEquals(expLogRecord, actualLogRecord,
                 "Return created log record");
     }
+
+    @Test
+    public void findOrCreateBulk_WhenSomeLogRecordsExist_ShouldInsertOnlyNewAndSkipTerminatedTestRuns() {
+        LogRecordLoggingService service = new LogRecordLoggingService(gridFsService, logRecordRepository,
+                testRunRepository, mock(ExecutionRequestRepository.class), customLogRecordRepository,
+                customExecutionRequestRepository, executionRequestStatisticsService,
+                new ModelMapperConfiguration().initModelMapper());
+        UUID activeTestRunId = UUID.randomUUID();
+        UUID terminatedTestRunId = UUID.randomUUID();
+        UUID executionRequestId = UUID.randomUUID();
+
+        CreatedLogRecordRequest existedRequest = ModelMocks.generatedCreatedLogRecordRequest();
+        existedRequest.setLogRecordUuid(UUID.randomUUID());
+        existedRequest.setTestRunId(activeTestRunId);
+        CreatedLogRecordRequest newRequest = ModelMocks.generatedCreatedLogRecordRequest();
+        newRequest.setLogRecordUuid(UUID.randomUUID());
+        newRequest.setTestRunId(terminatedTestRunId);
+
+        LogRecord existedLogRecord = new LogRecord();
+        existedLogRecord.setUuid(existedRequest.getLogRecordUuid());
+        existedLogRecord.setTestRunId(activeTestRunId);
+        when(logRecordRepository.findAllUuidAndTestRunIdByUuidIn(anyCollection()))
+                .thenReturn(Collections.singletonList(existedLogRecord));
+
+        TestRun activeTestRun = new TestRun();
+        activeTestRun.setUuid(activeTestRunId);
+        activeTestRun.setExecutionRequestId(executionRequestId);
+        activeTestRun.setExecutionStatus(ExecutionStatuses.NOT_STARTED);
+        TestRun terminatedTestRun = new TestRun();
+        terminatedTestRun.setUuid(terminatedTestRunId);
+        terminatedTestRun.setExecutionRequestId(UUID.randomUUID());
+        terminatedTestRun.setExecutionStatus(ExecutionStatuses.TERMINATED);
+        when(testRunRepository.findAllExecutionStatusAndExecutionRequestIdByUuidIn(anyCollection()))
+                .thenReturn(Arrays.asList(activeTestRun, terminatedTestRun));
+
+        List<CreatedLogRecordResponse> responses =
+                service.findOrCreateBulk(Arrays.asList(existedRequest, newRequest, newRequest));
+
+        Assertions.assertEquals(Arrays.asList(new CreatedLogRecordResponse(existedRequest.getLogRecordUuid()),
+                new CreatedLogRecordResponse(newRequest.getLogRecordUuid()),
+                new CreatedLogRecordResponse(newRequest.getLogRecordUuid())), responses,
+                "Responses are returned once per request in order of requests");
+        ArgumentCaptor<Collection<LogRecord>> insertedCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(customLogRecordRepository).insertAllUnordered(insertedCaptor.capture());
+        Collection<LogRecord> inserted = insertedCaptor.getValue();
+        Assertions.assertEquals(1, inserted.size(), "Only not existed log record is inserted");
+        Assertions.assertEquals(newRequest.getLogRecordUuid(), inserted.iterator().next().getUuid());
+        verify(testRunRepository).updateLastActivityByIds(
+                eq(new HashSet<>(Arrays.asList(activeTestRunId, terminatedTestRunId))), any(Timestamp.class));
+        verify(testRunRepository).updateExecutionStatusByIdsAndStatusNot(
+                eq(Collections.singleton(activeTestRunId)), eq(ExecutionStatuses.IN_PROGRESS),
+                eq(ExecutionStatuses.TERMINATED));
+        verify(customExecutionRequestRepository).updateExecutionStatusByIds(
+                eq(Collections.singleton(executionRequestId)), eq(ExecutionStatuses.IN_PROGRESS));
+        verify(executionRequestStatisticsService).markStale(Collections.singleton(executionRequestId));
+    }
 }
@@ -41,6 +41,7 @@ import org.qubership.atp.ram.models.ExecutionRequest;
 import org.qubership.atp.ram.models.TestRun;
 import org.qubership.atp.ram.repositories.TestRunRepository;
 import org.qubership.atp.ram.services.IssueService;
+import org.qubership.atp.ram.services.LogRecordParentsStatusAggregator;
 import org.springframework.util.CollectionUtils;
 
 public class TestRunLoggingServiceTest {
@@ -63,7 +64,7 @@ public class TestRunLoggingServiceTest {
         ModelMapper modelMapper = new ModelMapper();
         testRunLoggingService = spy(new TestRunLoggingService(
                 projectLoggingService, testPlanLoggingService, executionRequestLoggingService,
-                testRunRepository, modelMapper, issueService));
+                testRunRepository, modelMapper, issueService, mock(LogRecordParentsStatusAggregator.class)));
 
         request = ModelMocks.generateCreatedTestRunWithParentsRequest();
         executionRequest = ModelMocks.generateExecutionRequest();
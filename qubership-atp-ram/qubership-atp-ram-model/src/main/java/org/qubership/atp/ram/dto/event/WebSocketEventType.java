@@ -22,6 +22,10 @@ public enum WebSocketEventType {
     EXECUTION_REQUEST_STATUS_UPDATE(
             "/executionRequests",
             "Send events for execution requests"
+    ),
+    EXECUTION_REQUEST_DETAILS_UPDATE(
+            "/executionRequestDetails",
+            "Send events for details of execution requests, e.g. results of sending reports by mail"
     );
 
     @Getter
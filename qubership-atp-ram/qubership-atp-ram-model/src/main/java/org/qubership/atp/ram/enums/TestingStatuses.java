@@ -17,6 +17,9 @@
 package org.qubership.atp.ram.enums;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import lombok.Getter;
 
@@ -69,4 +72,16 @@ public enum TestingStatuses implements Serializable {
     public static TestingStatuses compareAndGetPriority(TestingStatuses first, TestingStatuses second) {
         return first.getId() >= second.getId() ? first : second;
     }
+
+    /**
+     * Get statuses which are replaced by the specified status in {@link #compareAndGetPriority}.
+     *
+     * @param status new status
+     * @return statuses with lower priority than specified one
+     */
+    public static List<TestingStatuses> getLowerPriorityStatuses(TestingStatuses status) {
+        return Arrays.stream(values())
+                .filter(value -> value.getId() < status.getId())
+                .collect(Collectors.toList());
+    }
 }
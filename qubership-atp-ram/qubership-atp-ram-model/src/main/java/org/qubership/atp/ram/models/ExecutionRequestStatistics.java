@@ -0,0 +1,85 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.models;
+
+import static org.qubership.atp.ram.models.RamObject.ID_FIELD;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import lombok.Data;
+
+/**
+ * Rollup of test run statistics of execution request, updated incrementally when test runs are changed
+ * and recalculated from test runs when it is {@link #stale}.
+ * Counters are keyed by names of statuses and by root cause ids, see {@link #NONE_KEY} for absent values.
+ */
+@Data
+@Document(collection = "executionRequestStatistics")
+public class ExecutionRequestStatistics {
+
+    public static final String NONE_KEY = "NONE";
+
+    public static final String TEST_RUNS_COUNT_FIELD = "testRunsCount";
+    public static final String TESTING_STATUSES_FIELD = "testingStatuses";
+    public static final String EXECUTION_STATUSES_FIELD = "executionStatuses";
+    public static final String ROOT_CAUSES_FIELD = "rootCauses";
+    public static final String NOT_PASSED_ROOT_CAUSES_FIELD = "notPassedRootCauses";
+    public static final String DURATIONS_FIELD = "durations";
+    public static final String FAILED_LOG_RECORDS_COUNT_FIELD = "failedLogRecordsCount";
+    public static final String STALE_FIELD = "stale";
+    public static final String VERSION_FIELD = "version";
+
+    @Id
+    @Field(ID_FIELD)
+    private UUID executionRequestId;
+
+    private int testRunsCount;
+
+    private Map<String, Integer> testingStatuses = new HashMap<>();
+
+    private Map<String, Integer> executionStatuses = new HashMap<>();
+
+    private Map<String, Integer> rootCauses = new HashMap<>();
+
+    private Map<String, Integer> notPassedRootCauses = new HashMap<>();
+
+    /**
+     * Histogram of test run durations, keyed by upper bound of bucket in seconds.
+     */
+    private Map<String, Integer> durations = new HashMap<>();
+
+    private long failedLogRecordsCount;
+
+    @Indexed(background = true)
+    private boolean stale;
+
+    /**
+     * Increased on each change of counters and each time statistics are marked stale,
+     * so that recalculation does not overwrite changes of test runs made during it.
+     */
+    private long version;
+
+    private Date reconciledWhen;
+}
@@ -18,6 +18,8 @@ package org.qubership.atp.ram.models;
 
 import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
 
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -29,6 +31,16 @@ import lombok.ToString;
 @ToString(callSuper = true)
 @JsonInclude(NON_NULL)
 @Data
+@CompoundIndexes({
+        @CompoundIndex(name = "testRunId_stepDate",
+                def = "{'testRunId': 1, 'stepDate': -1}", background = true,
+                partialFilter = "{'testRunId': {$exists: true}}"),
+        @CompoundIndex(name = "keyframeId_deltaDepth",
+                def = "{'keyframeId': 1, 'deltaDepth': 1}", background = true,
+                partialFilter = "{'keyframeId': {$exists: true}}"),
+        @CompoundIndex(name = "baseId",
+                def = "{'baseId': 1}", sparse = true, background = true)
+})
 @Document(collection = "logrecordContextVariables")
 public class LogRecordContextVariable extends LogRecordContextVariableObject {
 
@@ -16,13 +16,16 @@
 
 package org.qubership.atp.ram.models;
 
+import static java.util.Objects.nonNull;
 import static org.qubership.atp.ram.models.RamObject.ID_FIELD;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 import org.qubership.atp.ram.models.logrecords.parts.ContextVariable;
+import org.qubership.atp.ram.models.logrecords.parts.ContextVariablesGroup;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Field;
@@ -38,6 +41,14 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public abstract class LogRecordContextVariableObject {
 
+    public static final String NOT_MODIFIED_FIELD = "notModified";
+    public static final String MODIFIED_FIELD = "modified";
+    public static final String TEST_RUN_ID_FIELD = "testRunId";
+    public static final String STEP_DATE_FIELD = "stepDate";
+    public static final String BASE_ID_FIELD = "baseId";
+    public static final String KEYFRAME_ID_FIELD = "keyframeId";
+    public static final String DELTA_DEPTH_FIELD = "deltaDepth";
+
     @Id
     @Field(ID_FIELD)
     protected UUID id;
@@ -47,4 +58,81 @@ public abstract class LogRecordContextVariableObject {
 
     @JsonIgnore
     protected List<ContextVariable> contextVariables;
+
+    /**
+     * Not modified context variables sorted by name, stored instead of {@link #contextVariables}.
+     */
+    @JsonIgnore
+    @Field(NOT_MODIFIED_FIELD)
+    protected ContextVariablesGroup notModified;
+
+    /**
+     * Modified context variables sorted by name, stored instead of {@link #contextVariables}.
+     */
+    @JsonIgnore
+    @Field(MODIFIED_FIELD)
+    protected ContextVariablesGroup modified;
+
+    /**
+     * Test run of log record, set only for documents which take part in delta chains.
+     */
+    protected UUID testRunId;
+
+    /**
+     * Time when variables of step were written, orders documents of test run in delta chains.
+     */
+    protected Timestamp stepDate;
+
+    /**
+     * Document of previous step this document is delta of, null for full document.
+     * Delta document keeps only added or changed variables in {@link #contextVariables}.
+     */
+    protected UUID baseId;
+
+    /**
+     * Full document the chain of deltas starts from, equals to own id for keyframe.
+     */
+    protected UUID keyframeId;
+
+    /**
+     * Number of deltas between keyframe and this document.
+     */
+    protected Integer deltaDepth;
+
+    /**
+     * Names of variables removed relative to base document.
+     */
+    @JsonIgnore
+    protected List<String> removedNames;
+
+    @JsonIgnore
+    public boolean isDelta() {
+        return nonNull(baseId);
+    }
+
+    public boolean hasSplitContextVariables() {
+        return nonNull(notModified) || nonNull(modified);
+    }
+
+    /**
+     * Collect context variables regardless of storage format: not modified ones first, then modified.
+     * For delta document only its own added or changed variables are returned.
+     *
+     * @return all context variables
+     */
+    public List<ContextVariable> collectContextVariables() {
+        if (!hasSplitContextVariables()) {
+            return getContextVariables();
+        }
+        List<ContextVariable> result = new ArrayList<>();
+        addVariables(result, notModified);
+        addVariables(result, modified);
+        return result;
+    }
+
+    private static void addVariables(List<ContextVariable> target, ContextVariablesGroup group) {
+        if (nonNull(group) && nonNull(group.getVariables())) {
+            target.addAll(group.getVariables());
+        }
+    }
 }
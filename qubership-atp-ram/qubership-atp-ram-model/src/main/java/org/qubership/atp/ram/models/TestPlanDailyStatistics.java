@@ -0,0 +1,100 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.models;
+
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.Data;
+
+/**
+ * Daily rollup of test runs of finished execution requests in test plan, used by trend charts.
+ * Test runs are bucketed by UTC day of their finish date. Counters are keyed by names of statuses
+ * and by root cause ids, see {@link ExecutionRequestStatistics#NONE_KEY} for absent values.
+ */
+@Data
+@Document(collection = "testPlanDailyStatistics")
+@CompoundIndexes({
+        @CompoundIndex(name = "testPlanId_day", def = "{'testPlanId': 1, 'day': 1}"),
+        @CompoundIndex(name = "executionRequestIds_dayDesc", def = "{'executionRequestIds': 1, 'day': -1}")
+})
+public class TestPlanDailyStatistics {
+
+    public static final String PROJECT_ID_FIELD = "projectId";
+    public static final String TEST_PLAN_ID_FIELD = "testPlanId";
+    public static final String DAY_FIELD = "day";
+    public static final String EXECUTION_REQUESTS_COUNT_FIELD = "executionRequestsCount";
+    public static final String EXECUTION_REQUEST_IDS_FIELD = "executionRequestIds";
+    public static final String TEST_RUNS_COUNT_FIELD = "testRunsCount";
+    public static final String TESTING_STATUSES_FIELD = "testingStatuses";
+    public static final String ROOT_CAUSES_FIELD = "rootCauses";
+    public static final String DURATIONS_FIELD = "durations";
+    public static final String DURATIONS_SUM_FIELD = "durationsSum";
+
+    /**
+     * Test plan id and day, see {@link #buildId(UUID, Date)}.
+     */
+    @Id
+    private String id;
+
+    private UUID projectId;
+
+    private UUID testPlanId;
+
+    private Date day;
+
+    private int executionRequestsCount;
+
+    /**
+     * Execution requests which test runs are counted, so that execution request is not counted twice.
+     */
+    private Set<UUID> executionRequestIds = new HashSet<>();
+
+    private int testRunsCount;
+
+    private Map<String, Integer> testingStatuses = new HashMap<>();
+
+    private Map<String, Integer> rootCauses = new HashMap<>();
+
+    /**
+     * Histogram of test run durations, keyed by upper bound of bucket in seconds.
+     */
+    private Map<String, Integer> durations = new HashMap<>();
+
+    private long durationsSum;
+
+    /**
+     * Build id of statistics from test plan id and day, e.g. '{testPlanId}_2024-01-31'.
+     *
+     * @param testPlanId test plan id
+     * @param day        start of UTC day
+     * @return statistics id
+     */
+    public static String buildId(UUID testPlanId, Date day) {
+        return testPlanId + "_" + day.toInstant().atOffset(ZoneOffset.UTC).toLocalDate();
+    }
+}
@@ -50,11 +50,14 @@ import lombok.EqualsAndHashCode;
         @CompoundIndex(name = "_id_parentTestRunId",
                 def = "{'_id': 1, 'parentTestRunId': 1}"),
         @CompoundIndex(name = "testCaseId_startDateDesc",
-                def = "{ 'testCaseId': 1, 'startDate': -1 }")
+                def = "{ 'testCaseId': 1, 'startDate': -1 }"),
+        @CompoundIndex(name = "executionStatus_lastActivity",
+                def = "{'executionStatus': 1, 'lastActivity': 1}")
 })
 public class TestRun extends RamObject {
 
     public static final String TEST_RUN_JSON_FILTER_NAME = "Test run Json Filter";
+    public static final String LAST_ACTIVITY_FIELD = "lastActivity";
 
     private UUID parentTestRunId;
     private boolean isGroupedTestRun;
@@ -71,12 +74,14 @@ public class TestRun extends RamObject {
     @CreatedDate
     private Timestamp createdDate;
     private long duration;
+    private Timestamp lastActivity;
     private String executor;
     private String jiraTicket;
     private List<String> taHost = new ArrayList<>();
     private List<String> qaHost = new ArrayList<>();
     private List<String> solutionBuild = new ArrayList<>();
     private UUID rootCauseId;
+    private Timestamp issuesCalculatedDate;
     private String dataSetUrl;
     private List<Flags> flags;
     private String dataSetListUrl;
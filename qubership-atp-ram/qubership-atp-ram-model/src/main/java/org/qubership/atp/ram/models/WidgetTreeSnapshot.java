@@ -0,0 +1,59 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.models;
+
+import static org.qubership.atp.ram.models.RamObject.ID_FIELD;
+
+import java.util.Date;
+import java.util.UUID;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import lombok.Data;
+
+/**
+ * Serialized widget tree of finished execution request, stored GZIP-compressed.
+ * Snapshot is valid while {@link #executionRequestVersion} equals to finish date of execution request,
+ * {@link #templatesVersion} equals to hash of current widget config, label and validation templates
+ * and {@link #formatVersion} equals to current format of tree.
+ */
+@Data
+@Document(collection = "widgetTreeSnapshots")
+public class WidgetTreeSnapshot {
+
+    @Id
+    @Field(ID_FIELD)
+    private UUID id;
+
+    @Indexed(background = true)
+    private UUID executionRequestId;
+
+    private UUID widgetId;
+
+    private long executionRequestVersion;
+
+    private String templatesVersion;
+
+    private int formatVersion;
+
+    private byte[] tree;
+
+    private Date createdWhen;
+}
@@ -0,0 +1,43 @@
+/*
+ * # Copyright 2024-2026 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.ram.models.logrecords.parts;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Context variables of one group (modified or not modified) sorted by name.
+ * Count is stored separately from variables so it can be read without the array.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ContextVariablesGroup {
+
+    public static final String COUNT_FIELD = "count";
+    public static final String VARIABLES_FIELD = "variables";
+
+    private int count;
+    private List<ContextVariable> variables;
+
+    public ContextVariablesGroup(List<ContextVariable> variables) {
+        this(variables.size(), variables);
+    }
+}